@@ -0,0 +1,67 @@
+package com.myce.auth.security.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 토큰 재발급/로그아웃 1건당 JWT 검증 비용 비교
+ * - 일반 요청의 인증은 게이트웨이가 처리하므로(JwtAuthenticationFilter 는 X-Internal-* 헤더만 읽음) 요청마다의 비용과는 무관
+ * - legacyPerClaimParsing: 클레임 getter 마다 서명 검증/디코딩을 반복하던 기존 재발급 흐름 (검증, category, loginType, memberId, 만료 확인)
+ * - parse: JwtUtil.parse - 서명 검증 1회로 ParsedToken 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+
+    private JwtUtil jwtUtil;
+    private JwtParser jwtParser;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        jwtUtil = new JwtUtil(SECRET);
+        Field accessTokenTime = JwtUtil.class.getDeclaredField("ACCESS_TOKEN_TIME");
+        accessTokenTime.setAccessible(true);
+        accessTokenTime.setLong(jwtUtil, TimeUnit.HOURS.toMillis(5));
+
+        token = jwtUtil.substringToken(jwtUtil.createToken(JwtUtil.ACCESS_TOKEN, "MEMBER", 1L, "USER"));
+        jwtParser = Jwts.parser()
+                .verifyWith(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"))
+                .build();
+    }
+
+    @Benchmark
+    public void legacyPerClaimParsing(Blackhole blackhole) {
+        blackhole.consume(claims());
+        blackhole.consume(claims().get("category", String.class));
+        blackhole.consume(claims().get("loginType", String.class));
+        blackhole.consume(claims().get("memberId", Long.class));
+        blackhole.consume(claims().getExpiration().before(new Date()));
+    }
+
+    @Benchmark
+    public ParsedToken parse() {
+        return jwtUtil.parse(token);
+    }
+
+    private Claims claims() {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+}
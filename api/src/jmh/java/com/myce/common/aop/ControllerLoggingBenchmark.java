@@ -0,0 +1,80 @@
+package com.myce.common.aop;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.env.StandardEnvironment;
+
+/**
+ * 컨트롤러 응답 로깅의 요청당 직렬화 비용 비교
+ * - legacyFullSerialization: 기존 방식 - 매 요청 응답 전체를 writeValueAsString
+ * - boundedSummarize: 본문을 기록하는 요청 - 최대 길이(1000자)에서 직렬화 중단
+ * - sampledSummarize: 운영 기본값 - 1% 샘플링된 요청만 제한 직렬화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ControllerLoggingBenchmark {
+
+    private static final double BODY_SAMPLE_RATE = 0.01;
+
+    // 응답 본문의 항목 수 (박람회 상세/통계 응답 크기 수준)
+    @Param({"10", "1000"})
+    private int entries;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ControllerLoggingAspect aspect;
+    private Map<String, Object> response;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        aspect = new ControllerLoggingAspect(new StandardEnvironment(), new SimpleMeterRegistry());
+        Field bodyMaxLength = ControllerLoggingAspect.class.getDeclaredField("bodyMaxLength");
+        bodyMaxLength.setAccessible(true);
+        bodyMaxLength.setInt(aspect, 1000);
+        aspect.init();
+
+        response = new LinkedHashMap<>();
+        for (int i = 0; i < entries; i++) {
+            response.put("item" + i, Map.of(
+                    "id", i,
+                    "title", "박람회 " + i,
+                    "location", "서울 코엑스 A홀",
+                    "createdAt", LocalDateTime.of(2026, 10, 18, 10, 0)));
+        }
+    }
+
+    @Benchmark
+    public String legacyFullSerialization() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(response);
+    }
+
+    @Benchmark
+    public String boundedSummarize() {
+        return aspect.summarize(response);
+    }
+
+    @Benchmark
+    public String sampledSummarize() {
+        return ThreadLocalRandom.current().nextDouble() < BODY_SAMPLE_RATE ? aspect.summarize(response) : "-";
+    }
+}
@@ -0,0 +1,56 @@
+package com.myce.reservation.service.Impl;
+
+import java.lang.reflect.Field;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 예매 코드 생성 비용 비교
+ * - generate: Redis 블록 할당(100개 단위)을 메모리 카운터로 대체한 현재 방식, 8 스레드 동시 발급
+ * - legacyRandomCode: 기존 SecureRandom 코드 생성 (실제로는 여기에 existsByReservationCode DB 왕복이 최소 1회 추가됨)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReservationCodeBenchmark {
+
+    private static final char[] ALPHANUM_BASE36 = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+    private final SecureRandom random = new SecureRandom();
+    private final AtomicLong sequence = new AtomicLong();
+    private ReservationCodeServiceImpl service;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        service = new ReservationCodeServiceImpl((date, blockSize) -> sequence.addAndGet(blockSize));
+        Field secret = ReservationCodeServiceImpl.class.getDeclaredField("secret");
+        secret.setAccessible(true);
+        secret.set(service, "benchmark-secret");
+        service.init();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String generate() {
+        return service.generate(1L);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String legacyRandomCode() {
+        char[] buf = new char[6];
+        for (int i = 0; i < buf.length; i++) {
+            buf[i] = ALPHANUM_BASE36[random.nextInt(ALPHANUM_BASE36.length)];
+        }
+        return "RES001-20261018-" + new String(buf);
+    }
+}
@@ -1,9 +1,20 @@
 package com.myce.auth.repository;
 
+import java.util.Map;
+
 public interface TokenBlackListRepository {
 
-    void save(String accessToken, long limitTime);
+    // 토큰 원문 대신 SHA-256 다이제스트를 키로 저장 (만료 시각 색인 포함)
+    void save(String tokenDigest, long limitTime);
+
+    // 게이트웨이가 다이제스트 키로 전환하기 전까지 기존 원문 키도 함께 기록
+    void saveLegacy(String accessToken, long limitTime);
+
+    boolean containsByDigest(String tokenDigest);
+
+    // 아직 만료되지 않은 블랙리스트 (다이제스트 -> 만료 시각 millis)
+    Map<String, Long> findActive(long nowMillis);
 
-    boolean containsByAccessToken(String accessToken);
+    void deleteExpired(long nowMillis);
 
 }
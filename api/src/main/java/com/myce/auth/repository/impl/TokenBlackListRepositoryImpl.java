@@ -1,9 +1,14 @@
 package com.myce.auth.repository.impl;
 
 import com.myce.auth.repository.TokenBlackListRepository;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -12,19 +17,50 @@ public class TokenBlackListRepositoryImpl implements TokenBlackListRepository {
 
     private static final String TOKEN_BLACKLIST = "TOKEN_BLACKLIST";
     private static final String KEY_FORMAT = "token:blacklist:%s";
+    private static final String DIGEST_KEY_FORMAT = "token:blacklist:sha256:%s";
+    // 서버 기동/재동기화 시 로컬 필터를 채우기 위한 색인 (score = 만료 시각 millis)
+    private static final String INDEX_KEY = "token:blacklist:index";
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
 
     @Override
-    public void save(String accessToken, long limitTime) {
+    public void save(String tokenDigest, long limitTime) {
+        long expireAt = System.currentTimeMillis() + limitTime;
+        stringRedisTemplate.opsForValue()
+                .set(String.format(DIGEST_KEY_FORMAT, tokenDigest), TOKEN_BLACKLIST, limitTime, TimeUnit.MILLISECONDS);
+        stringRedisTemplate.opsForZSet().add(INDEX_KEY, tokenDigest, expireAt);
+    }
+
+    @Override
+    public void saveLegacy(String accessToken, long limitTime) {
         String key = String.format(KEY_FORMAT, accessToken);
         redisTemplate.opsForValue().set(key, TOKEN_BLACKLIST, limitTime, TimeUnit.MILLISECONDS);
     }
 
     @Override
-    public boolean containsByAccessToken(String accessToken) {
-        String key = String.format(KEY_FORMAT, accessToken);
-        Object result = redisTemplate.opsForValue().get(key);
-        return result != null;
+    public boolean containsByDigest(String tokenDigest) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(String.format(DIGEST_KEY_FORMAT, tokenDigest)));
+    }
+
+    @Override
+    public Map<String, Long> findActive(long nowMillis) {
+        Set<TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+                .rangeByScoreWithScores(INDEX_KEY, nowMillis, Double.POSITIVE_INFINITY);
+        Map<String, Long> active = new HashMap<>();
+        if (tuples == null) {
+            return active;
+        }
+        for (TypedTuple<String> tuple : tuples) {
+            if (tuple.getValue() != null && tuple.getScore() != null) {
+                active.put(tuple.getValue(), tuple.getScore().longValue());
+            }
+        }
+        return active;
+    }
+
+    @Override
+    public void deleteExpired(long nowMillis) {
+        stringRedisTemplate.opsForZSet().removeRangeByScore(INDEX_KEY, Double.NEGATIVE_INFINITY, nowMillis);
     }
 }
@@ -2,7 +2,6 @@ package com.myce.auth.security.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.myce.auth.repository.RefreshTokenRepository;
-import com.myce.auth.repository.TokenBlackListRepository;
 import com.myce.auth.repository.impl.OAuth2AuthorizationRequestRepositoryImpl;
 import com.myce.auth.security.filter.CustomLogoutFilter;
 import com.myce.auth.security.filter.JwtAuthenticationFilter;
@@ -13,6 +12,7 @@ import com.myce.auth.security.provider.AdminAuthenticationProvider;
 import com.myce.auth.security.provider.MemberAuthenticationProvider;
 import com.myce.auth.security.provider.TokenCookieProvider;
 import com.myce.auth.security.util.JwtUtil;
+import com.myce.auth.service.TokenRevocationService;
 import com.myce.common.exception.ErrorResponse;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -44,7 +44,7 @@ public class SecurityConfig {
     private final MemberAuthenticationProvider memberAuthenticationProvider;
     private final AdminAuthenticationProvider adminAuthenticationProvider;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final TokenBlackListRepository tokenBlackListRepository;
+    private final TokenRevocationService tokenRevocationService;
     private final OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler;
     private final OAuth2LoginFailureHandler oAuth2LoginFailureHandler;
     private final OAuth2AuthorizationRequestRepositoryImpl oauth2AuthorizationRequestRepository;
@@ -67,10 +67,10 @@ public class SecurityConfig {
                 (jwtUtil, tokenCookieProvider, authenticationManager(), refreshTokenRepository);
         loginFilter.setFilterProcessesUrl("/api/auth/login");
 
-        JwtAuthenticationFilter jwtFilter = new JwtAuthenticationFilter(GATEWAY_AUTH_VALUE);
+        JwtAuthenticationFilter jwtFilter = new JwtAuthenticationFilter(GATEWAY_AUTH_VALUE, tokenRevocationService);
 
         CustomLogoutFilter logoutFilter = new CustomLogoutFilter
-                (jwtUtil, refreshTokenRepository, tokenBlackListRepository, tokenCookieProvider);
+                (jwtUtil, refreshTokenRepository, tokenRevocationService, tokenCookieProvider);
 
 
         http.cors(cors ->
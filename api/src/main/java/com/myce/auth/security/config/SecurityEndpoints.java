@@ -25,6 +25,7 @@ public final class SecurityEndpoints {
             "/api/auth/**",
             "/api/categories",
             "/api/expos",
+            "/api/expos/facets",
             "/api/expos/*/congestion",
             "/api/expos/*/tickets/reservations",
             "/api/expos/*/basic",
@@ -36,6 +37,7 @@ public final class SecurityEndpoints {
             "/api/reservations/*/pending",
             "/api/reservations/payment-summary",
             "/api/reservations/guest",
+            "/api/reservations/waiting-room/*",
             "/api/reviews/expo/*",
             "/api/reviews/*/",
             "/api/reviews/best",
@@ -45,6 +47,7 @@ public final class SecurityEndpoints {
             "/api/settings/ad-fee/active",
             "/api/settings/expo-fee/active",
             "/api/ad-position/dropdown",
+            "/api/qrcodes/image/*",
     };
 
     // ===== PATCH 요청 허용 엔드포인트 =====
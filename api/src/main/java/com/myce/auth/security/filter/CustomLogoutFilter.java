@@ -2,9 +2,9 @@ package com.myce.auth.security.filter;
 
 import com.myce.auth.dto.type.LoginType;
 import com.myce.auth.repository.RefreshTokenRepository;
-import com.myce.auth.repository.TokenBlackListRepository;
 import com.myce.auth.security.provider.TokenCookieProvider;
 import com.myce.auth.security.util.JwtUtil;
+import com.myce.auth.service.TokenRevocationService;
 import com.myce.common.exception.CustomErrorCode;
 import com.myce.common.exception.CustomException;
 import jakarta.servlet.FilterChain;
@@ -27,7 +27,7 @@ public class CustomLogoutFilter extends GenericFilterBean {
 
     private final JwtUtil jwtUtil;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final TokenBlackListRepository tokenBlackListRepository;
+    private final TokenRevocationService tokenRevocationService;
     private final TokenCookieProvider tokenCookieProvider;
 
     @Override
@@ -56,8 +56,8 @@ public class CustomLogoutFilter extends GenericFilterBean {
         LoginType loginType = LoginType.fromString(loginTypeStr);
         Long memberId = Long.valueOf(memberIdStr);
 
-        long time = jwtUtil.getRemainingTimeForExpiration(accessToken);
-        tokenBlackListRepository.save(accessToken, time);
+        long time = jwtUtil.parse(accessToken).remainingMillis();
+        tokenRevocationService.revoke(accessToken, time);
 
         // refreshToken 삭제
         String refreshToken = getRefreshToken(request.getCookies());
@@ -2,6 +2,7 @@ package com.myce.auth.security.filter;
 
 import com.myce.auth.dto.CustomUserDetails;
 import com.myce.auth.dto.type.LoginType;
+import com.myce.auth.service.TokenRevocationService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,6 +20,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final String INTERNAL_AUTH_VALUE;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -51,6 +53,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        // 로그아웃으로 폐기된 토큰 차단 (대부분 로컬 필터에서 판별, 필터 적중 시에만 Redis 확인)
+        String accessToken = request.getHeader(InternalHeaderKey.INTERNAL_ACCESS_TOKEN);
+        if (accessToken != null && tokenRevocationService.isRevoked(accessToken)) {
+            log.info("Revoked access token. memberId={}, loginType={}", memberIdStr, loginTypeStr);
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
         // 사용자 정보 확인
         LoginType loginType = LoginType.fromString(loginTypeStr);
         Long memberId = Long.valueOf(memberIdStr);
@@ -0,0 +1,74 @@
+package com.myce.auth.security.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+
+/**
+ * SHA-256 다이제스트 전용 카운팅 블룸 필터
+ * - 카운터는 1바이트 (최대 255), 포화된 카운터는 이후 감소하지 않음 (오탐만 늘고 미탐은 생기지 않음)
+ * - 해시 인덱스는 다이제스트 앞 16바이트를 두 개의 long 으로 나눠 double hashing 으로 계산
+ * - 추가/삭제는 드물기 때문에 동기화하고, 조회는 락 없이 volatile 읽기로 처리
+ */
+public class CountingBloomFilter {
+
+    private static final VarHandle COUNTERS = MethodHandles.arrayElementVarHandle(byte[].class);
+    private static final int MAX_COUNT = 0xFF;
+
+    private final byte[] counters;
+    private final int hashCount;
+
+    public CountingBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long size = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.counters = new byte[(int) Math.min(Math.max(size, 64), Integer.MAX_VALUE - 8)];
+        this.hashCount = (int) Math.max(1, Math.round((double) counters.length / expectedInsertions * Math.log(2)));
+    }
+
+    public synchronized void add(byte[] digest) {
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(digest, i);
+            int count = count(index);
+            if (count < MAX_COUNT) {
+                COUNTERS.setVolatile(counters, index, (byte) (count + 1));
+            }
+        }
+    }
+
+    public synchronized void remove(byte[] digest) {
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(digest, i);
+            int count = count(index);
+            if (count > 0 && count < MAX_COUNT) {
+                COUNTERS.setVolatile(counters, index, (byte) (count - 1));
+            }
+        }
+    }
+
+    public boolean mightContain(byte[] digest) {
+        for (int i = 0; i < hashCount; i++) {
+            if (count(index(digest, i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        return counters.length;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private int count(int index) {
+        return Byte.toUnsignedInt((byte) COUNTERS.getVolatile(counters, index));
+    }
+
+    private int index(byte[] digest, int i) {
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        long h1 = buffer.getLong(0);
+        long h2 = buffer.getLong(8);
+        return (int) Math.floorMod(h1 + i * h2, (long) counters.length);
+    }
+}
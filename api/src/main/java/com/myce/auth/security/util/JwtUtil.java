@@ -1,8 +1,9 @@
 package com.myce.auth.security.util;
 
 import com.myce.auth.dto.type.LoginType;
+import com.myce.common.exception.CustomErrorCode;
+import com.myce.common.exception.CustomException;
 import io.jsonwebtoken.*;
-import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -13,6 +14,11 @@ import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
 
+/**
+ * JWT 발급/검증
+ * - 검증은 parse 한 곳에서만 수행하고, 필요한 클레임은 결과(ParsedToken)에서 꺼내 사용 (토큰당 HMAC 검증 1회)
+ * - 요청마다의 인증은 게이트웨이가 검증 후 X-Internal-* 헤더로 전달하므로, 여기서 parse 하는 것은 재발급/로그아웃뿐
+ */
 @Slf4j
 @Component
 public class JwtUtil {
@@ -46,33 +52,31 @@ public class JwtUtil {
         throw new IllegalArgumentException("Not Found Token");
     }
 
-    public boolean validateToken(String token) {
+    // 서명/만료 검증 후 클레임 반환 (만료: EXPIRED_TOKEN, 그 외 검증 실패: INVALID_TOKEN)
+    public ParsedToken parse(String token) {
+        if (!StringUtils.hasText(token)) {
+            throw new CustomException(CustomErrorCode.INVALID_TOKEN);
+        }
+
         try {
-            jwtParser.parseSignedClaims(token);
-            return true;
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            return new ParsedToken(
+                    claims.get("category", String.class),
+                    LoginType.fromString(claims.get("loginType", String.class)),
+                    claims.get("memberId", Long.class),
+                    claims.get("role", String.class),
+                    claims.getIssuedAt().toInstant(),
+                    claims.getExpiration().toInstant());
+        } catch (ExpiredJwtException e) {
+            throw new CustomException(CustomErrorCode.EXPIRED_TOKEN);
         } catch (SecurityException | MalformedJwtException e) {
             log.error("Invalid JWT signature.", e);
         } catch (UnsupportedJwtException e) {
             log.error("Unsupported JWT token.", e);
-        } catch (IllegalArgumentException e) {
-            log.error("JWT claims string is empty.", e);
+        } catch (JwtException | IllegalArgumentException | NullPointerException e) {
+            log.error("Invalid JWT token.", e);
         }
-
-        return false;
-    }
-
-    public boolean isExpired(String token) {
-        return getExpirationTime(token).before(new Date());
-    }
-
-    public long getRemainingTimeForExpiration(String token) {
-        return getExpirationTime(token).getTime() - System.currentTimeMillis();
-    }
-
-    private Date getExpirationTime(String token) {
-        return jwtParser.parseSignedClaims(token)
-                .getPayload()
-                .getExpiration();
+        throw new CustomException(CustomErrorCode.INVALID_TOKEN);
     }
 
     public String createToken(String category, String loginType, Long id, String role) {
@@ -94,34 +98,6 @@ public class JwtUtil {
         return category.equals(ACCESS_TOKEN) ? BEARER_PREFIX + jwt : jwt;
     }
 
-    public String getLoginIdFromToken(String token) {
-        return jwtParser.parseSignedClaims(token)
-                .getPayload()
-                .get("loginId", String.class);
-    }
-
-    public Long getMemberIdFromToken(String token) {
-        return jwtParser.parseSignedClaims(token)
-                .getPayload()
-                .get("memberId", Long.class);
-    }
-
-    public LoginType getLoginTypeFromToken(String token) {
-        return jwtParser.parseSignedClaims(token)
-                .getPayload()
-                .get("loginType", LoginType.class);
-    }
-
-    public boolean isRefreshToken(String token) {
-        return getCategoryFromToken(token).equals(REFRESH_TOKEN);
-    }
-
-    private String getCategoryFromToken(String token) {
-        return jwtParser.parseSignedClaims(token)
-                .getPayload()
-                .get("category", String.class);
-    }
-
     public long getRefreshTokenTime() {
         return REFRESH_TOKEN_TIME;
     }
@@ -0,0 +1,28 @@
+package com.myce.auth.security.util;
+
+import com.myce.auth.dto.type.LoginType;
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 JWT 클레임 (토큰당 한 번만 파싱)
+ */
+public record ParsedToken(String category,
+                          LoginType loginType,
+                          Long memberId,
+                          String role,
+                          Instant issuedAt,
+                          Instant expiresAt) {
+
+    public boolean isAccessToken() {
+        return JwtUtil.ACCESS_TOKEN.equals(category);
+    }
+
+    public boolean isRefreshToken() {
+        return JwtUtil.REFRESH_TOKEN.equals(category);
+    }
+
+    // 만료까지 남은 시간 (ms), 이미 만료되었으면 0
+    public long remainingMillis() {
+        return Math.max(0, expiresAt.toEpochMilli() - System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,12 @@
+package com.myce.auth.service;
+
+public interface TokenRevocationService {
+
+    void revoke(String accessToken, long remainingMillis);
+
+    boolean isRevoked(String accessToken);
+
+    // 만료된 로컬 항목 정리 및 주기적 전체 재동기화
+    void maintain();
+
+}
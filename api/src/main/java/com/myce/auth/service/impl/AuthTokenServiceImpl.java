@@ -4,6 +4,7 @@ import com.myce.auth.dto.type.LoginType;
 import com.myce.auth.repository.RefreshTokenRepository;
 import com.myce.auth.security.provider.TokenCookieProvider;
 import com.myce.auth.security.util.JwtUtil;
+import com.myce.auth.security.util.ParsedToken;
 import com.myce.auth.service.AuthTokenService;
 import com.myce.common.exception.CustomErrorCode;
 import com.myce.common.exception.CustomException;
@@ -33,19 +34,16 @@ public class AuthTokenServiceImpl implements AuthTokenService {
     @Override
     public void reissueToken(HttpServletRequest request, HttpServletResponse response) {
         String refreshToken = getRefreshToken(request.getCookies());
-        if (jwtUtil.isExpired(refreshToken)) {
-            throw new CustomException(CustomErrorCode.EXPIRED_TOKEN);
-        }
-
-        jwtUtil.validateToken(refreshToken);
+        // 서명/만료 검증 (만료 시 EXPIRED_TOKEN)
+        ParsedToken parsedToken = jwtUtil.parse(refreshToken);
 
         // 리프레쉬 토큰 여부 확인
-        if (!jwtUtil.isRefreshToken(refreshToken)) {
+        if (!parsedToken.isRefreshToken()) {
             throw new CustomException(CustomErrorCode.INVALID_TOKEN);
         }
 
-        LoginType loginType = jwtUtil.getLoginTypeFromToken(refreshToken);
-        Long memberId = jwtUtil.getMemberIdFromToken(refreshToken);
+        LoginType loginType = parsedToken.loginType();
+        Long memberId = parsedToken.memberId();
 
         if(!checkValidRefreshToken(refreshToken, loginType.name(), memberId)) {
             throw new CustomException(CustomErrorCode.INVALID_TOKEN);
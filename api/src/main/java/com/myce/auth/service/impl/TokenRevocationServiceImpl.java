@@ -0,0 +1,220 @@
+package com.myce.auth.service.impl;
+
+import com.myce.auth.repository.TokenBlackListRepository;
+import com.myce.auth.security.util.CountingBloomFilter;
+import com.myce.auth.security.util.TokenDigests;
+import com.myce.auth.service.TokenRevocationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그아웃 등으로 폐기된 access token 확인
+ * - Redis 에는 토큰 원문 대신 SHA-256 다이제스트만 저장
+ * - 서버마다 카운팅 블룸 필터를 두고, 필터에 걸린 경우에만 Redis 로 최종 확인 (폐기되지 않은 대부분의 요청은 네트워크 호출 없음)
+ * - 폐기 이벤트는 Redis pub/sub 으로 전파하고, 메시지 유실은 주기적인 색인 전체 재동기화로 보정
+ * - 필터 항목은 토큰 만료 시각이 지나면 카운터를 감소시켜 제거
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationServiceImpl implements TokenRevocationService, MessageListener {
+
+    private static final String REVOKED_CHANNEL = "token:blacklist:revoked";
+    private static final String METRIC_PREFIX = "token.revocation";
+
+    private final TokenBlackListRepository tokenBlackListRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${token-revocation.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${token-revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${token-revocation.resync-minutes:10}")
+    private long resyncMinutes;
+
+    @Value("${token-revocation.write-legacy-key:true}")
+    private boolean writeLegacyKey;
+
+    // 자신이 보낸 메시지는 이미 반영했으므로 무시하기 위한 서버 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile CountingBloomFilter filter;
+    private PriorityQueue<Entry> expiryQueue;
+    private volatile boolean synced;
+    private long lastSyncedAt;
+
+    private Counter filterMissCounter;
+    private Counter revokedCounter;
+    private Counter falsePositiveCounter;
+
+    @PostConstruct
+    public void init() {
+        filter = new CountingBloomFilter(expectedInsertions, falsePositiveRate);
+        expiryQueue = new PriorityQueue<>(Comparator.comparingLong(Entry::expireAt));
+
+        filterMissCounter = Counter.builder(METRIC_PREFIX + ".checks")
+                .tag("result", "filter_miss")
+                .register(meterRegistry);
+        revokedCounter = Counter.builder(METRIC_PREFIX + ".checks")
+                .tag("result", "revoked")
+                .register(meterRegistry);
+        falsePositiveCounter = Counter.builder(METRIC_PREFIX + ".checks")
+                .tag("result", "false_positive")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".entries", this, service -> service.expiryQueueSize())
+                .register(meterRegistry);
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REVOKED_CHANNEL));
+        resync(System.currentTimeMillis());
+        log.info("토큰 폐기 필터 초기화 - 카운터 {}개, 해시 {}개, 동기화 여부: {}",
+                filter.size(), filter.hashCount(), synced);
+    }
+
+    @Override
+    public void revoke(String accessToken, long remainingMillis) {
+        if (remainingMillis <= 0) {
+            return;
+        }
+        byte[] digest = TokenDigests.sha256(accessToken);
+        String encoded = TokenDigests.encode(digest);
+        long expireAt = System.currentTimeMillis() + remainingMillis;
+
+        tokenBlackListRepository.save(encoded, remainingMillis);
+        if (writeLegacyKey) {
+            tokenBlackListRepository.saveLegacy(accessToken, remainingMillis);
+        }
+
+        addLocal(digest, expireAt);
+        try {
+            stringRedisTemplate.convertAndSend(REVOKED_CHANNEL, nodeId + ":" + encoded + ":" + expireAt);
+        } catch (Exception e) {
+            // 다른 서버는 다음 재동기화 때 반영
+            log.warn("토큰 폐기 전파 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isRevoked(String accessToken) {
+        byte[] digest = TokenDigests.sha256(accessToken);
+
+        // 초기 적재 전(Redis 장애 등)에는 필터를 믿을 수 없으므로 바로 Redis 확인
+        if (synced && !filter.mightContain(digest)) {
+            filterMissCounter.increment();
+            return false;
+        }
+
+        boolean revoked = tokenBlackListRepository.containsByDigest(TokenDigests.encode(digest));
+        if (revoked) {
+            revokedCounter.increment();
+        } else if (synced) {
+            falsePositiveCounter.increment();
+        }
+        return revoked;
+    }
+
+    @Override
+    public void maintain() {
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            Entry head;
+            while ((head = expiryQueue.peek()) != null && head.expireAt() <= now) {
+                expiryQueue.poll();
+                filter.remove(head.digest());
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (!synced || now - lastSyncedAt >= resyncMinutes * 60_000) {
+            resync(now);
+        }
+        tokenBlackListRepository.deleteExpired(now);
+    }
+
+    // 다른 서버에서 폐기한 토큰을 로컬 필터에 반영 (메시지: 서버ID:다이제스트:만료시각)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            String[] parts = body.split(":");
+            if (nodeId.equals(parts[0])) {
+                return;
+            }
+            addLocal(TokenDigests.decode(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            log.warn("토큰 폐기 메시지 처리 실패 - 메시지: {}, 오류: {}", body, e.getMessage());
+        }
+    }
+
+    // Redis 색인 기준으로 필터를 새로 만들어 교체 (재구성 중 도착한 메시지는 락 해제 후 새 필터에 반영)
+    private void resync(long now) {
+        lock.lock();
+        try {
+            Map<String, Long> active = tokenBlackListRepository.findActive(now);
+            CountingBloomFilter rebuilt = new CountingBloomFilter(expectedInsertions, falsePositiveRate);
+            PriorityQueue<Entry> queue = new PriorityQueue<>(Comparator.comparingLong(Entry::expireAt));
+            for (Map.Entry<String, Long> entry : active.entrySet()) {
+                byte[] digest = TokenDigests.decode(entry.getKey());
+                rebuilt.add(digest);
+                queue.add(new Entry(digest, entry.getValue()));
+            }
+            filter = rebuilt;
+            expiryQueue = queue;
+            synced = true;
+            lastSyncedAt = now;
+            log.debug("토큰 폐기 필터 재동기화 - {}건", active.size());
+        } catch (Exception e) {
+            log.warn("토큰 폐기 필터 재동기화 실패 - 오류: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void addLocal(byte[] digest, long expireAt) {
+        if (expireAt <= System.currentTimeMillis()) {
+            return;
+        }
+        lock.lock();
+        try {
+            filter.add(digest);
+            expiryQueue.add(new Entry(digest, expireAt));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int expiryQueueSize() {
+        lock.lock();
+        try {
+            return expiryQueue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry(byte[] digest, long expireAt) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.myce.client.notification.dto;
 
+import com.myce.expo.entity.Expo;
 import com.myce.expo.entity.type.ExpoStatus;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,4 +13,14 @@ public class ExpoStatusChangeCommand {
         String expoTitle;
         ExpoStatus oldStatus;
         ExpoStatus newStatus;
+
+        public static ExpoStatusChangeCommand of(Expo expo, ExpoStatus oldStatus, ExpoStatus newStatus) {
+                return ExpoStatusChangeCommand.builder()
+                        .memberId(expo.getMember().getId())
+                        .expoId(expo.getId())
+                        .expoTitle(expo.getTitle())
+                        .oldStatus(oldStatus)
+                        .newStatus(newStatus)
+                        .build();
+        }
 }
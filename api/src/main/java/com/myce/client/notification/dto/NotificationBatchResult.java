@@ -0,0 +1,16 @@
+package com.myce.client.notification.dto;
+
+import java.util.Set;
+
+/**
+ * 일괄 전송 결과 (배치 단위 성공/실패 집계)
+ * - 성공/실패 key 는 NotificationCommand.key 기준
+ */
+public record NotificationBatchResult(int batchCount, int failedBatchCount,
+                                      int commandCount, int failedCommandCount,
+                                      Set<String> succeededKeys, Set<String> failedKeys) {
+
+    public boolean hasFailures() {
+        return failedBatchCount > 0;
+    }
+}
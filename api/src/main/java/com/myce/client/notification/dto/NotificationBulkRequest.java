@@ -0,0 +1,11 @@
+package com.myce.client.notification.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NotificationBulkRequest {
+    private List<NotificationCommand> notifications;
+}
@@ -0,0 +1,59 @@
+package com.myce.client.notification.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.List;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * bulk 알림 API 로 보내는 개별 알림 명령
+ * - type 은 단건 API 경로의 마지막 구간과 같고, payload 는 단건 API 요청 본문과 같음
+ * - key 는 전송 결과를 호출한 쪽에서 구분하기 위한 값 (전송되지 않음)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class NotificationCommand {
+
+    private final String type;
+    private final Object payload;
+
+    @JsonIgnore
+    private final String key;
+
+    public static NotificationCommand expoStarted(List<Long> memberIds, Long expoId, String expoTitle) {
+        Map<String, Object> payload = Map.of(
+                "memberIds", memberIds,
+                "expoId", expoId,
+                "expoTitle", expoTitle
+        );
+        return new NotificationCommand("expo-started", payload, "expo:" + expoId);
+    }
+
+    public static NotificationCommand eventReminder(List<Long> memberIds, Long expoId, String expoTitle,
+                                                    String eventName, String startTime) {
+        Map<String, Object> payload = Map.of(
+                "memberIds", memberIds,
+                "expoId", expoId,
+                "expoTitle", expoTitle,
+                "eventName", eventName,
+                "startTime", startTime
+        );
+        return new NotificationCommand("event-reminder", payload, "expo:" + expoId);
+    }
+
+    public static NotificationCommand qrIssued(Long memberId, Long reservationId, String expoTitle, boolean reissue) {
+        Map<String, Object> payload = Map.of(
+                "memberId", memberId,
+                "reservationId", reservationId,
+                "expoTitle", expoTitle,
+                "reissue", reissue
+        );
+        return new NotificationCommand("qr-issued", payload, reservationId.toString());
+    }
+
+    public static NotificationCommand expoStatusChanged(ExpoStatusChangeCommand command) {
+        return new NotificationCommand("expo-status-changed", command, "expo:" + command.getExpoId());
+    }
+}
@@ -14,5 +14,8 @@ public class NotificationEndPoints {
     public static final String RESET_MAIL_SEND = "/internal/notifications/mail/reset-password";
     public static final String RESERVATION_CONFIRM_MAIL_SEND = "/internal/notifications/mail/reservation-confirm";
     public static final String AD_STATUS_CHANGED = "/internal/notifications/ad-status-changed";
+    public static final String BULK = "/internal/notifications/bulk";
+    // 알림 유형별 단건 API 경로 (뒤에 NotificationCommand.type 을 붙임)
+    public static final String TYPE_PREFIX = "/internal/notifications/";
 
 }
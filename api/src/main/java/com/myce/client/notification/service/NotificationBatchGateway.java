@@ -0,0 +1,195 @@
+package com.myce.client.notification.service;
+
+import com.myce.client.notification.NotificationInternalClient;
+import com.myce.client.notification.dto.NotificationBulkRequest;
+import com.myce.client.notification.dto.NotificationCommand;
+import com.myce.client.notification.dto.NotificationEndPoints;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 일괄 전송 게이트웨이
+ * - 알림 명령을 모아 batch-size 개가 차거나 linger-millis 가 지나면 bulk API 로 한 번에 전송
+ * - 전송은 가상 스레드에서 실행하고, 동시 요청 수는 max-concurrency 로 제한
+ * - 실패한 배치는 max-retries 번까지 재시도하고 배치별 성공/실패를 집계
+ * - bulk API 는 bulk-enabled 일 때만 사용하고, 알림 서버가 404/501 로 응답하면 단건 API 로 전환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationBatchGateway {
+
+    private final NotificationInternalClient notificationInternalClient;
+
+    @Value("${notification-batch.batch-size:500}")
+    private int batchSize;
+
+    @Value("${notification-batch.linger-millis:200}")
+    private long lingerMillis;
+
+    @Value("${notification-batch.max-concurrency:8}")
+    private int maxConcurrency;
+
+    @Value("${notification-batch.max-retries:2}")
+    private int maxRetries;
+
+    @Value("${notification-batch.retry-backoff-millis:500}")
+    private long retryBackoffMillis;
+
+    @Value("${notification-batch.member-chunk-size:1000}")
+    private int memberChunkSize;
+
+    @Value("${notification-batch.bulk-enabled:false}")
+    private boolean bulkEnabled;
+
+    private final Set<NotificationBatcher> openBatchers = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean bulkAvailable = new AtomicBoolean();
+    private ExecutorService senderExecutor;
+    private ScheduledExecutorService lingerScheduler;
+    private Semaphore sendPermits;
+
+    @PostConstruct
+    public void init() {
+        senderExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        sendPermits = new Semaphore(maxConcurrency);
+        lingerScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-batch-linger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lingerScheduler.scheduleAtFixedRate(this::flushLingering, lingerMillis, lingerMillis, TimeUnit.MILLISECONDS);
+        bulkAvailable.set(bulkEnabled);
+        log.info("알림 일괄 전송 초기화 - 배치 크기: {}, 대기 시간: {}ms, 동시 요청: {}, bulk API: {}",
+                batchSize, lingerMillis, maxConcurrency, bulkEnabled);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lingerScheduler.shutdownNow();
+        openBatchers.forEach(NotificationBatcher::close);
+        senderExecutor.shutdown();
+    }
+
+    // 작업 단위(스케줄러 실행 1회 등)로 배처를 열고, 끝나면 finish() 로 결과 수집
+    public NotificationBatcher open(String name) {
+        NotificationBatcher batcher = new NotificationBatcher(this, name, batchSize, memberChunkSize);
+        openBatchers.add(batcher);
+        return batcher;
+    }
+
+    void unregister(NotificationBatcher batcher) {
+        openBatchers.remove(batcher);
+    }
+
+    CompletableFuture<Boolean> submit(String name, List<NotificationCommand> commands) {
+        return CompletableFuture.supplyAsync(() -> sendWithRetry(name, commands), senderExecutor);
+    }
+
+    private boolean sendWithRetry(String name, List<NotificationCommand> commands) {
+        List<NotificationCommand> pending = commands;
+        for (int attempt = 0; attempt <= maxRetries; attempt++) {
+            if (attempt > 0 && !sleep(retryBackoffMillis * attempt)) {
+                return false;
+            }
+            pending = bulkAvailable.get() ? sendBulk(name, pending, attempt) : sendEach(name, pending, attempt);
+            if (pending.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 전송하지 못한 알림 반환
+    private List<NotificationCommand> sendBulk(String name, List<NotificationCommand> commands, int attempt) {
+        HttpStatusCode status;
+        sendPermits.acquireUninterruptibly();
+        try {
+            status = notificationInternalClient.send(NotificationEndPoints.BULK, new NotificationBulkRequest(commands))
+                    .getStatusCode();
+            if (status.is2xxSuccessful()) {
+                return List.of();
+            }
+            log.warn("알림 일괄 전송 실패 - 작업: {}, 건수: {}, 시도: {}, 상태: {}",
+                    name, commands.size(), attempt + 1, status);
+        } catch (Exception e) {
+            log.warn("알림 일괄 전송 실패 - 작업: {}, 건수: {}, 시도: {}, 오류: {}",
+                    name, commands.size(), attempt + 1, e.getMessage());
+            return commands;
+        } finally {
+            sendPermits.release();
+        }
+
+        // 알림 서버에 bulk API 가 없으면 이후 전송은 모두 단건 API 로 처리
+        if (status.value() == HttpStatus.NOT_FOUND.value() || status.value() == HttpStatus.NOT_IMPLEMENTED.value()) {
+            if (bulkAvailable.compareAndSet(true, false)) {
+                log.warn("알림 서버가 bulk API 를 지원하지 않아 단건 API 로 전환 - 상태: {}", status);
+            }
+            return sendEach(name, commands, attempt);
+        }
+        return commands;
+    }
+
+    // 알림 유형별 단건 API 로 전송하고 실패한 알림 반환
+    private List<NotificationCommand> sendEach(String name, List<NotificationCommand> commands, int attempt) {
+        List<NotificationCommand> failed = new ArrayList<>();
+        for (NotificationCommand command : commands) {
+            sendPermits.acquireUninterruptibly();
+            try {
+                ResponseEntity<Void> res = notificationInternalClient.send(
+                        NotificationEndPoints.TYPE_PREFIX + command.getType(), command.getPayload());
+                if (!res.getStatusCode().is2xxSuccessful()) {
+                    failed.add(command);
+                }
+            } catch (Exception e) {
+                failed.add(command);
+            } finally {
+                sendPermits.release();
+            }
+        }
+        if (!failed.isEmpty()) {
+            log.warn("알림 단건 전송 실패 - 작업: {}, 실패: {}/{}, 시도: {}",
+                    name, failed.size(), commands.size(), attempt + 1);
+        }
+        return failed;
+    }
+
+    // 오래 모이지 않는 배치도 linger-millis 안에 전송
+    private void flushLingering() {
+        long now = System.currentTimeMillis();
+        for (NotificationBatcher batcher : openBatchers) {
+            try {
+                batcher.flushIfLingering(now, lingerMillis);
+            } catch (Exception e) {
+                log.warn("알림 배치 대기분 전송 실패 - 작업: {}, 오류: {}", batcher.getName(), e.getMessage());
+            }
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
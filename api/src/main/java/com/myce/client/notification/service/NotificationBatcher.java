@@ -0,0 +1,127 @@
+package com.myce.client.notification.service;
+
+import com.myce.client.notification.dto.NotificationBatchResult;
+import com.myce.client.notification.dto.NotificationCommand;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 한 작업에서 보내는 알림을 모아 배치로 전송
+ * - add 로 쌓다가 배치 크기가 차면 바로 전송, 나머지는 finish() 또는 linger 시간 경과 시 전송
+ * - finish() 는 전송 중인 배치가 모두 끝날 때까지 기다린 뒤 결과 반환
+ */
+@Slf4j
+public class NotificationBatcher implements AutoCloseable {
+
+    private final NotificationBatchGateway gateway;
+    @Getter
+    private final String name;
+    private final int batchSize;
+    private final int memberChunkSize;
+
+    private List<NotificationCommand> buffer = new ArrayList<>();
+    private long bufferStartedAt;
+    private final List<InFlightBatch> inFlight = new ArrayList<>();
+    private boolean finished;
+
+    NotificationBatcher(NotificationBatchGateway gateway, String name, int batchSize, int memberChunkSize) {
+        this.gateway = gateway;
+        this.name = name;
+        this.batchSize = batchSize;
+        this.memberChunkSize = memberChunkSize;
+    }
+
+    public synchronized void add(NotificationCommand command) {
+        if (finished) {
+            throw new IllegalStateException("이미 종료된 알림 배치입니다: " + name);
+        }
+        if (buffer.isEmpty()) {
+            bufferStartedAt = System.currentTimeMillis();
+        }
+        buffer.add(command);
+        if (buffer.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    // 수신 회원이 많은 알림은 member-chunk-size 단위로 나눠서 추가 (요청 본문 크기 제한)
+    public void addPerMemberChunk(List<Long> memberIds, Function<List<Long>, NotificationCommand> commandFactory) {
+        for (int from = 0; from < memberIds.size(); from += memberChunkSize) {
+            int to = Math.min(from + memberChunkSize, memberIds.size());
+            add(commandFactory.apply(List.copyOf(memberIds.subList(from, to))));
+        }
+    }
+
+    public NotificationBatchResult finish() {
+        List<InFlightBatch> batches;
+        synchronized (this) {
+            flush();
+            finished = true;
+            batches = List.copyOf(inFlight);
+        }
+        gateway.unregister(this);
+
+        int failedBatchCount = 0;
+        int commandCount = 0;
+        int failedCommandCount = 0;
+        Set<String> succeededKeys = new HashSet<>();
+        Set<String> failedKeys = new HashSet<>();
+        for (InFlightBatch batch : batches) {
+            boolean success = batch.result().join();
+            commandCount += batch.commands().size();
+            if (!success) {
+                failedBatchCount++;
+                failedCommandCount += batch.commands().size();
+            }
+            for (NotificationCommand command : batch.commands()) {
+                (success ? succeededKeys : failedKeys).add(command.getKey());
+            }
+        }
+        // 여러 배치로 나뉜 key 는 하나라도 실패하면 실패로 판단
+        succeededKeys.removeAll(failedKeys);
+
+        NotificationBatchResult result = new NotificationBatchResult(batches.size(), failedBatchCount,
+                commandCount, failedCommandCount, succeededKeys, failedKeys);
+        if (result.hasFailures()) {
+            log.warn("알림 일괄 전송 완료 (일부 실패) - 작업: {}, 배치: {}/{}, 알림: {}/{}", name,
+                    batches.size() - failedBatchCount, batches.size(), commandCount - failedCommandCount, commandCount);
+        } else if (commandCount > 0) {
+            log.info("알림 일괄 전송 완료 - 작업: {}, 배치: {}, 알림: {}", name, batches.size(), commandCount);
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+        }
+        finish();
+    }
+
+    synchronized void flushIfLingering(long now, long lingerMillis) {
+        if (!finished && !buffer.isEmpty() && now - bufferStartedAt >= lingerMillis) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        List<NotificationCommand> commands = buffer;
+        buffer = new ArrayList<>();
+        inFlight.add(new InFlightBatch(commands, gateway.submit(name, commands)));
+    }
+
+    private record InFlightBatch(List<NotificationCommand> commands, CompletableFuture<Boolean> result) {
+    }
+}
@@ -80,13 +80,7 @@ public class NotificationService {
 
     private ExpoStatusChangeCommand commandGenerator(Expo expo, ExpoStatus oldStatus, ExpoStatus newStatus){
 
-        return ExpoStatusChangeCommand.builder()
-                .memberId(expo.getMember().getId())
-                .expoId(expo.getId())
-                .expoTitle(expo.getTitle())
-                .oldStatus(oldStatus)
-                .newStatus(newStatus)
-                .build();
+        return ExpoStatusChangeCommand.of(expo, oldStatus, newStatus);
     }
 
     public void notifyEventHourReminder(List<Long> memberIds, Long expoId, String expoTitle,
@@ -4,19 +4,29 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.myce.common.exception.CustomException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.Writer;
 import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -24,96 +34,139 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+/**
+ * 컨트롤러 호출 로깅 및 응답 시간 측정
+ * - 엔드포인트별 응답 시간은 api.controller 타이머(히스토그램/백분위)로 기록, 로그 레벨과 무관하게 항상 측정
+ * - 응답 본문은 DEBUG 이거나 샘플링된 요청만 직렬화하고, 최대 길이에 도달하면 직렬화를 중단
+ * - 프로필/메서드 정보는 최초 1회만 계산
+ */
 @Slf4j
 @Aspect
 @Component
+@RequiredArgsConstructor
 public class ControllerLoggingAspect {
-    
+
     private static final Set<String> EXCLUDED_METHODS = Set.of(
         "health", "actuator", "metrics", "prometheus"
     );
-    
-    private static final int MAX_RESPONSE_LENGTH = 1000;
+
+    private static final String METRIC_NAME = "api.controller";
+    private static final String TRUNCATED = "... (truncated)";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Method, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    @Value("${api-logging.body-sample-rate:0.01}")
+    private double bodySampleRate;
+
+    @Value("${api-logging.body-max-length:1000}")
+    private int bodyMaxLength;
+
+    @Value("${api-logging.slow-threshold-millis:3000}")
+    private long slowThresholdMillis;
+
+    private boolean production;
 
     @PostConstruct
     public void init() {
         objectMapper.registerModule(new JavaTimeModule());//Java의 LocalDateTime 변환 설정
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        production = environment.acceptsProfiles(Profiles.of("prod"));
     }
-    
-    @Autowired
-    private Environment environment;
 
     @Around("@within(org.springframework.web.bind.annotation.RestController)")
     public Object logControllerMethod(ProceedingJoinPoint joinPoint) throws Throwable {
-        if (!shouldLog(joinPoint)) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Endpoint endpoint = endpoints.computeIfAbsent(method, key -> createEndpoint(key, joinPoint));
+        if (endpoint.excluded()) {
             return joinPoint.proceed();
         }
 
-        long startTime = System.currentTimeMillis();
-        String apiInfo = getApiInfo();
-        
+        long startTime = System.nanoTime();
         try {
             Object result = joinPoint.proceed();
-            long executionTime = System.currentTimeMillis() - startTime;
-            
-            logSuccessResponse(apiInfo, result, executionTime);
-            
+            long elapsedNanos = System.nanoTime() - startTime;
+            endpoint.successTimer().record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+            logSuccessResponse(endpoint, result, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
             return result;
         } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            logErrorResponse(apiInfo, e, executionTime);
+            long elapsedNanos = System.nanoTime() - startTime;
+            timer(endpoint, e.getClass().getSimpleName()).record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+            logErrorResponse(e, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
             throw e;
         }
     }
-    
-    private boolean shouldLog(ProceedingJoinPoint joinPoint) {
-        String methodName = joinPoint.getSignature().getName().toLowerCase();
-        String className = joinPoint.getTarget().getClass().getSimpleName().toLowerCase();
-        
-        if (EXCLUDED_METHODS.stream().anyMatch(excluded -> 
-            methodName.contains(excluded) || className.contains(excluded))) {
-            return false;
-        }
-        
-        if (!log.isInfoEnabled() && !log.isDebugEnabled()) {
+
+    private Endpoint createEndpoint(Method method, ProceedingJoinPoint joinPoint) {
+        String className = joinPoint.getTarget().getClass().getSimpleName();
+        String methodName = method.getName();
+        boolean excluded = EXCLUDED_METHODS.stream().anyMatch(excludedName ->
+                methodName.toLowerCase().contains(excludedName) || className.toLowerCase().contains(excludedName));
+        Endpoint endpoint = new Endpoint(className, methodName, excluded, method.isAnnotationPresent(GetMapping.class),
+                null);
+        return excluded ? endpoint : endpoint.withSuccessTimer(timer(endpoint, "none"));
+    }
+
+    // 예외 태그별 타이머는 레지스트리에서 재사용 (실패는 드물어 매번 조회)
+    private Timer timer(Endpoint endpoint, String exception) {
+        return Timer.builder(METRIC_NAME)
+                .tag("controller", endpoint.className())
+                .tag("method", endpoint.methodName())
+                .tag("exception", exception)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+    }
+
+    private boolean shouldLog(Endpoint endpoint) {
+        if (!log.isInfoEnabled()) {
             return false;
         }
+        // 배포 환경에서 Get 로깅은 Debug일때만으로 제한 - 로그 볼륨 조절 때문
+        return !(production && endpoint.get()) || log.isDebugEnabled();
+    }
 
-        // 배포 환경에서 Get 로깅은 Debug일때만으로 제한 - 로급 볼륨 조절 때문
-        if (isProductionEnvironment() && isGetRequest(joinPoint)) {
-            return log.isDebugEnabled();
+    private void logSuccessResponse(Endpoint endpoint, Object result, long executionTime) {
+        boolean slow = executionTime > slowThresholdMillis;
+        if (!slow && !shouldLog(endpoint)) {
+            return;
         }
-        
-        return true;
-    }
-    
-    private void logSuccessResponse(String apiInfo, Object result, long executionTime) {
+
         try {
-            if (result instanceof ResponseEntity) {
-                ResponseEntity<?> response = (ResponseEntity<?>) result;
-                Object body = response.getBody();
-                
-                String sanitizedBody = sanitizeAndTruncateResponse(body);
-                
-                if (executionTime > 3000) {
+            String apiInfo = getApiInfo();
+            boolean withBody = log.isDebugEnabled() || ThreadLocalRandom.current().nextDouble() < bodySampleRate;
+
+            if (result instanceof ResponseEntity<?> response) {
+                String body = withBody ? summarize(response.getBody()) : "-";
+                if (slow) {
                     log.warn("[API-SLOW] {} - {}ms - Status: {} - Body: {}",
-                            apiInfo, executionTime, response.getStatusCode(), sanitizedBody);
+                            apiInfo, executionTime, response.getStatusCode(), body);
                 } else {
                     log.info("[API-SUCCESS] {} - {}ms - Status: {} - Body: {}",
-                            apiInfo, executionTime, response.getStatusCode(), sanitizedBody);
+                            apiInfo, executionTime, response.getStatusCode(), body);
                 }
             } else {
-                String sanitizedResult = sanitizeAndTruncateResponse(result);
-                log.info("[API-SUCCESS] {} - {}ms - Response: {}", apiInfo, executionTime, sanitizedResult);
+                String body = withBody ? summarize(result) : "-";
+                if (slow) {
+                    log.warn("[API-SLOW] {} - {}ms - Response: {}", apiInfo, executionTime, body);
+                } else {
+                    log.info("[API-SUCCESS] {} - {}ms - Response: {}", apiInfo, executionTime, body);
+                }
             }
         } catch (Exception e) {
-            log.warn("[LOG-ERROR] Failed to log success response for {}: {}", apiInfo, e.getMessage());
+            log.warn("[LOG-ERROR] Failed to log success response for {}.{}: {}",
+                    endpoint.className(), endpoint.methodName(), e.getMessage());
         }
     }
-    
-    private void logErrorResponse(String apiInfo, Exception e, long executionTime) {
+
+    private void logErrorResponse(Exception e, long executionTime) {
+        String apiInfo = getApiInfo();
         if (e instanceof CustomException customException) {
             log.warn("[API-CUSTOM-ERROR] {} - {}ms - Code: {} - Message: {}",
                     apiInfo, executionTime, customException.getErrorCode(), customException.getMessage());
@@ -122,36 +175,33 @@ public class ControllerLoggingAspect {
                     apiInfo, executionTime, e.getClass().getSimpleName(), e.getMessage());
         }
     }
-    
-    private String sanitizeAndTruncateResponse(Object response) {
+
+    // 벤치마크에서 직접 호출하기 위해 package-private
+    String summarize(Object response) {
         if (response == null) {
             return "null";
         }
-        
-        try {
-            String jsonString;
-            
-            if (response instanceof Collection<?> collection) {
-                jsonString = String.format("[Collection size: %d]", collection.size());
-            } else if (response instanceof Page<?> page) {
-                jsonString = String.format("[Page: %d/%d, size: %d]",
+        if (response instanceof Collection<?> collection) {
+            return String.format("[Collection size: %d]", collection.size());
+        }
+        if (response instanceof Page<?> page) {
+            return String.format("[Page: %d/%d, size: %d]",
                     page.getNumber() + 1, page.getTotalPages(), page.getSize());
-            } else {
-                jsonString = objectMapper.writeValueAsString(response);
-            }
+        }
 
-            if (jsonString.length() > MAX_RESPONSE_LENGTH) {
-                return jsonString.substring(0, MAX_RESPONSE_LENGTH) + "... (truncated)";
-            }
-            
-            return jsonString;
-            
+        // 최대 길이까지만 기록하고 이후 직렬화는 중단
+        BoundedWriter writer = new BoundedWriter(bodyMaxLength);
+        try {
+            objectMapper.writeValue(writer, response);
+            return writer.toString();
         } catch (Exception e) {
-//            log.error("Serialization failed: {}", e.getMessage(), e);
+            if (writer.isTruncated()) {
+                return writer + TRUNCATED;
+            }
             return response.getClass().getSimpleName() + " (serialization failed)";
         }
     }
-    
+
     private String getApiInfo() {
         try {
             ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
@@ -165,12 +215,50 @@ public class ControllerLoggingAspect {
         return "UNKNOWN API";
     }
 
-    private boolean isProductionEnvironment() {
-        return Arrays.asList(environment.getActiveProfiles()).contains("prod");
+    private record Endpoint(String className, String methodName, boolean excluded, boolean get, Timer successTimer) {
+
+        private Endpoint withSuccessTimer(Timer timer) {
+            return new Endpoint(className, methodName, excluded, get, timer);
+        }
     }
-    
-    private boolean isGetRequest(ProceedingJoinPoint joinPoint) {
-        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
-        return method.isAnnotationPresent(GetMapping.class);
+
+    // 최대 길이를 넘으면 예외로 직렬화를 멈추는 Writer
+    private static class BoundedWriter extends Writer {
+
+        private final StringBuilder buffer = new StringBuilder();
+        private final int maxLength;
+        private boolean truncated;
+
+        private BoundedWriter(int maxLength) {
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            int remaining = maxLength - buffer.length();
+            if (length > remaining) {
+                buffer.append(chars, offset, Math.max(remaining, 0));
+                truncated = true;
+                throw new IOException("response body exceeds " + maxLength + " chars");
+            }
+            buffer.append(chars, offset, length);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private boolean isTruncated() {
+            return truncated;
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
     }
-}
\ No newline at end of file
+}
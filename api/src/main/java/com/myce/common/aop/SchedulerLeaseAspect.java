@@ -0,0 +1,206 @@
+package com.myce.common.aop;
+
+import com.myce.schedule.RunOnEveryNode;
+import com.myce.schedule.repository.SchedulerLockRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스케줄러를 클러스터에서 한 서버만 실행하도록 Redis 임대(lease)로 조정
+ * - 실행 전 임대를 획득한 서버만 실행하고, 실행 중에는 heartbeat 로 임대를 연장
+ * - 서버가 실행 도중 죽으면 임대가 만료되어 다음 주기에 다른 서버가 이어서 실행
+ * - 실행이 끝나도 임대를 바로 풀지 않고 다음 cron 실행 시각 직전까지 유지해, 늦게 깨어나거나 시계가 어긋난
+ *   서버가 같은 주기를 다시 실행하지 않게 함
+ * - 임대마다 발급하는 token 은 이전 보유자가 새 보유자의 임대를 연장/해제하지 못하게 하는 용도일 뿐,
+ *   임대를 잃은 실행을 중단하거나 DB 쓰기를 막지는 않음 (lease_lost 로 기록, 작업은 재실행에 안전해야 함)
+ * - 실행 시간은 scheduler.runs 타이머, 실행 이력은 Redis 목록(scheduler:history:{이름})에 기록
+ * - @RunOnEveryNode 스케줄러는 임대 없이 모든 서버에서 실행
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class SchedulerLeaseAspect {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    @Value("${scheduler-lock.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${scheduler-lock.history-size:50}")
+    private int historySize;
+
+    @Value("${scheduler-lock.clock-skew-millis:2000}")
+    private long clockSkewMillis;
+
+    // 스케줄러별 cron (cron 이 아닌 스케줄러는 Optional.empty)
+    private final Map<Class<?>, Optional<CronExpression>> cronExpressions = new ConcurrentHashMap<>();
+
+    // 임대 보유자 식별자 (pid@host + 재기동 구분용 난수)
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName()
+            + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    private ScheduledExecutorService heartbeatExecutor;
+
+    @PostConstruct
+    public void init() {
+        heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("scheduler-lease-", 0).daemon(true).factory());
+        log.info("스케줄러 분산 임대 초기화 - 보유자: {}, 임대 {}초", owner, leaseSeconds);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+    }
+
+    @Around("execution(* com.myce.schedule.TaskScheduler+.run())")
+    public Object runOnce(ProceedingJoinPoint joinPoint) throws Throwable {
+        Class<?> targetClass = AopUtils.getTargetClass(joinPoint.getTarget());
+        String jobName = targetClass.getSimpleName();
+        if (targetClass.isAnnotationPresent(RunOnEveryNode.class)) {
+            return joinPoint.proceed();
+        }
+
+        long leaseMillis = TimeUnit.SECONDS.toMillis(leaseSeconds);
+        long leaseToken;
+        try {
+            leaseToken = schedulerLockRepository.tryAcquire(jobName, owner, leaseMillis);
+        } catch (Exception e) {
+            // 임대 확인이 안 되면 중복 실행을 막기 위해 이번 주기는 건너뜀
+            log.warn("[SchedulerLease] {} 임대 획득 실패 - 이번 주기 건너뜀, 오류: {}", jobName, e.getMessage());
+            record(jobName, "lock_error", 0);
+            return null;
+        }
+        if (leaseToken == 0) {
+            log.debug("[SchedulerLease] {} 다른 서버에서 실행 중이거나 이번 주기 실행 완료 - 건너뜀", jobName);
+            record(jobName, "skipped", 0);
+            return null;
+        }
+
+        AtomicBoolean leaseLost = new AtomicBoolean(false);
+        long heartbeatMillis = Math.max(leaseMillis / 3, 1000);
+        ScheduledFuture<?> heartbeat = heartbeatExecutor.scheduleAtFixedRate(
+                () -> renew(jobName, leaseToken, leaseMillis, leaseLost),
+                heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+
+        Instant startedAt = Instant.now();
+        long startNanos = System.nanoTime();
+        String outcome = "completed";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = "failed";
+            throw e;
+        } finally {
+            heartbeat.cancel(false);
+            long elapsedNanos = System.nanoTime() - startNanos;
+            if (leaseLost.get()) {
+                outcome = "lease_lost";
+            }
+            record(jobName, outcome, elapsedNanos);
+            finish(jobName, targetClass, joinPoint, leaseToken, startedAt, outcome, elapsedNanos);
+        }
+    }
+
+    private void renew(String jobName, long leaseToken, long leaseMillis, AtomicBoolean leaseLost) {
+        try {
+            if (!schedulerLockRepository.renew(jobName, owner, leaseToken, leaseMillis)
+                    && leaseLost.compareAndSet(false, true)) {
+                log.warn("[SchedulerLease] {} 실행 중 임대 상실 - 다른 서버와 중복 실행될 수 있음, token: {}",
+                        jobName, leaseToken);
+            }
+        } catch (Exception e) {
+            log.warn("[SchedulerLease] {} 임대 연장 실패 - 오류: {}", jobName, e.getMessage());
+        }
+    }
+
+    private void finish(String jobName, Class<?> targetClass, ProceedingJoinPoint joinPoint, long leaseToken,
+                        Instant startedAt, String outcome, long elapsedNanos) {
+        try {
+            // 이번 주기가 끝날 때까지 임대를 유지 (다음 실행 시각보다 시계 오차만큼 먼저 만료)
+            long holdMillis = holdUntilNextFire(targetClass, joinPoint);
+            if (holdMillis > 0) {
+                schedulerLockRepository.renew(jobName, owner, leaseToken, holdMillis);
+            } else {
+                schedulerLockRepository.release(jobName, owner, leaseToken);
+            }
+            schedulerLockRepository.saveHistory(jobName, String.join("|", startedAt.toString(), owner,
+                    String.valueOf(leaseToken), outcome,
+                    String.valueOf(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))), historySize);
+        } catch (Exception e) {
+            // 해제하지 못한 임대는 만료 시간이 지나면 자동으로 풀림
+            log.warn("[SchedulerLease] {} 임대 해제/이력 기록 실패 - 오류: {}", jobName, e.getMessage());
+        }
+    }
+
+    private long holdUntilNextFire(Class<?> targetClass, ProceedingJoinPoint joinPoint) {
+        Optional<CronExpression> cron = cronExpressions.computeIfAbsent(targetClass, key -> resolveCron(key, joinPoint));
+        if (cron.isEmpty()) {
+            return 0;
+        }
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime nextFire = cron.get().next(now);
+        if (nextFire == null) {
+            return 0;
+        }
+        return Duration.between(now, nextFire).toMillis() - clockSkewMillis;
+    }
+
+    private Optional<CronExpression> resolveCron(Class<?> targetClass, ProceedingJoinPoint joinPoint) {
+        Method method = AopUtils.getMostSpecificMethod(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), targetClass);
+        Scheduled scheduled = AnnotatedElementUtils.findMergedAnnotation(method, Scheduled.class);
+        if (scheduled == null || scheduled.cron().isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(CronExpression.parse(environment.resolvePlaceholders(scheduled.cron()).trim()));
+        } catch (IllegalArgumentException e) {
+            log.warn("[SchedulerLease] {} cron 해석 실패 - 실행 후 바로 임대 해제, 오류: {}",
+                    targetClass.getSimpleName(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void record(String jobName, String outcome, long elapsedNanos) {
+        Timer.builder("scheduler.runs")
+                .tag("job", jobName)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
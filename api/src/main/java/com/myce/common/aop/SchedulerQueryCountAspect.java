@@ -0,0 +1,27 @@
+package com.myce.common.aop;
+
+import com.myce.common.telemetry.QueryTelemetry;
+import com.myce.common.telemetry.QueryTelemetry.Scope;
+import com.myce.common.telemetry.QueryTelemetry.ScopeType;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스케줄러 1회 실행에서 실행된 쿼리 수 집계
+ * - 임대를 얻지 못해 건너뛴 실행은 집계하지 않도록 SchedulerLeaseAspect 안쪽에서 동작
+ */
+@Aspect
+@Component
+@Order(1)
+public class SchedulerQueryCountAspect {
+
+    @Around("execution(* com.myce.schedule.TaskScheduler+.run())")
+    public Object countQueries(ProceedingJoinPoint joinPoint) throws Throwable {
+        try (Scope scope = QueryTelemetry.open(ScopeType.SCHEDULER, joinPoint.getTarget().getClass().getSimpleName())) {
+            return joinPoint.proceed();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.myce.common.controller;
+
+import com.myce.auth.dto.CustomUserDetails;
+import com.myce.common.dto.ExportJobResponse;
+import com.myce.common.service.ExportJobService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+public class ExportJobController {
+
+    private final ExportJobService exportJobService;
+
+    // 내보내기 작업 상태/진행 행 수 조회
+    @GetMapping("/{jobId}")
+    public ExportJobResponse getJob(
+            @PathVariable String jobId,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        return exportJobService.getJob(jobId, customUserDetails.getMemberId(), customUserDetails.getLoginType());
+    }
+
+    // 완료된 내보내기 파일 다운로드
+    @GetMapping("/{jobId}/file")
+    public void download(
+            @PathVariable String jobId,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            HttpServletResponse httpResponse) throws IOException {
+        Long memberId = customUserDetails.getMemberId();
+        ExportJobResponse job = exportJobService.getJob(jobId, memberId, customUserDetails.getLoginType());
+
+        String encoded = URLEncoder.encode(job.getFileName(), StandardCharsets.UTF_8).replace("+", "%20");
+        httpResponse.setContentType("application/octet-stream");
+        httpResponse.setHeader("Content-Disposition", "attachment; filename*=UTF-8''" + encoded);
+
+        exportJobService.download(jobId, memberId, customUserDetails.getLoginType(), httpResponse.getOutputStream());
+    }
+}
@@ -0,0 +1,30 @@
+package com.myce.common.dto;
+
+import com.myce.common.repository.ExportJobRepository.ExportJob;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ExportJobResponse {
+    private String jobId;
+    private String status;
+    private String fileName;
+    private long rowCount;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+
+    public static ExportJobResponse from(ExportJob job) {
+        return ExportJobResponse.builder()
+                .jobId(job.id())
+                .status(job.status().name())
+                .fileName(job.fileName())
+                .rowCount(job.rowCount())
+                .error(job.error())
+                .createdAt(job.createdAt())
+                .finishedAt(job.finishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.myce.common.export;
+
+public enum ExportCellType {
+    ROW_NUMBER, // 1부터 시작하는 행 번호 (값 추출 함수 사용 안 함)
+    TEXT,
+    NUMBER,
+    CURRENCY, // #,##0.00
+    DATE, // yyyy-mm-dd
+    DATE_TIME // yyyy-mm-dd hh:mm:ss
+}
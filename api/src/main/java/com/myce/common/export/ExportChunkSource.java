@@ -0,0 +1,14 @@
+package com.myce.common.export;
+
+import java.util.List;
+
+/**
+ * keyset 청크 조회
+ * - last 는 직전 청크의 마지막 행 (첫 청크는 null), size 보다 적게 반환하면 마지막 청크
+ * - 청크마다 짧은 조회로 끝나야 하며, 긴 트랜잭션이나 커서를 잡고 있으면 안 됨
+ */
+@FunctionalInterface
+public interface ExportChunkSource<T> {
+
+    List<T> next(T last, int size);
+}
@@ -0,0 +1,34 @@
+package com.myce.common.export;
+
+import java.util.function.Function;
+
+/**
+ * 내보내기 컬럼 정의 (헤더, 고정 폭, 셀 타입, 값 추출)
+ * - 폭은 글자 수 기준, 자동 폭 계산은 모든 셀을 추적하므로 사용하지 않음
+ */
+public record ExportColumn<T>(String header, int width, ExportCellType type, Function<T, ?> value) {
+
+    public static <T> ExportColumn<T> rowNumber(String header, int width) {
+        return new ExportColumn<>(header, width, ExportCellType.ROW_NUMBER, row -> null);
+    }
+
+    public static <T> ExportColumn<T> text(String header, int width, Function<T, ?> value) {
+        return new ExportColumn<>(header, width, ExportCellType.TEXT, value);
+    }
+
+    public static <T> ExportColumn<T> number(String header, int width, Function<T, ? extends Number> value) {
+        return new ExportColumn<>(header, width, ExportCellType.NUMBER, value);
+    }
+
+    public static <T> ExportColumn<T> currency(String header, int width, Function<T, ? extends Number> value) {
+        return new ExportColumn<>(header, width, ExportCellType.CURRENCY, value);
+    }
+
+    public static <T> ExportColumn<T> date(String header, int width, Function<T, ?> value) {
+        return new ExportColumn<>(header, width, ExportCellType.DATE, value);
+    }
+
+    public static <T> ExportColumn<T> dateTime(String header, int width, Function<T, ?> value) {
+        return new ExportColumn<>(header, width, ExportCellType.DATE_TIME, value);
+    }
+}
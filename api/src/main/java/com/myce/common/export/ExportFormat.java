@@ -0,0 +1,41 @@
+package com.myce.common.export;
+
+import com.myce.common.exception.CustomErrorCode;
+import com.myce.common.exception.CustomException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", ".xlsx"),
+    CSV("text/csv; charset=UTF-8", ".csv"),
+    CSV_GZIP("application/gzip", ".csv.gz");
+
+    private final String contentType;
+    private final String extension;
+
+    public static ExportFormat fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return XLSX;
+        }
+        for (ExportFormat format : ExportFormat.values()) {
+            if (format.name().equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        throw new CustomException(CustomErrorCode.INVALID_EXPORT_FORMAT);
+    }
+
+    public String fileName(String baseName) {
+        return baseName + extension;
+    }
+
+    // 한글 파일명이 깨지지 않도록 RFC 5987 형식도 함께 지정
+    public String contentDisposition(String baseName) {
+        String encoded = URLEncoder.encode(fileName(baseName), StandardCharsets.UTF_8).replace("+", "%20");
+        return "attachment; filename=\"export" + extension + "\"; filename*=UTF-8''" + encoded;
+    }
+}
@@ -0,0 +1,10 @@
+package com.myce.common.export;
+
+import java.util.List;
+
+/**
+ * 내보내기 정의
+ * - name: 시트 이름이자 파일 기본 이름
+ */
+public record ExportSpec<T>(String name, List<ExportColumn<T>> columns, ExportChunkSource<T> source) {
+}
@@ -0,0 +1,313 @@
+package com.myce.common.export;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * XLSX/CSV 스트리밍 내보내기
+ * - 조회는 전용 스레드에서 청크 단위로 수행하고, 현재 청크를 쓰는 동안 다음 청크를 미리 조회
+ * - 요청 스레드에 묶인 영속성 컨텍스트를 쓰지 않으므로 청크 조회가 끝나면 DB 커넥션 즉시 반환
+ * - XLSX 는 SXSSF 로 메모리에 window-size 행만 유지, CSV 는 바로 출력 스트림에 기록
+ * - CSV 의 문자열 값이 수식 시작 문자로 시작하면 ' 를 붙여 스프레드시트에서 수식으로 실행되지 않게 함
+ */
+@Slf4j
+@Component
+public class ExportWriter {
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final char UTF8_BOM = '\uFEFF';
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    @Value("${export.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${export.reader-threads:4}")
+    private int readerThreads;
+
+    @Value("${export.xlsx-window-size:100}")
+    private int xlsxWindowSize;
+
+    private ExecutorService readerExecutor;
+
+    @PostConstruct
+    public void init() {
+        readerExecutor = Executors.newFixedThreadPool(readerThreads,
+                Thread.ofPlatform().name("export-reader-", 0).daemon(true).factory());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        readerExecutor.shutdown();
+        readerExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    public <T> long write(ExportSpec<T> spec, ExportFormat format, OutputStream outputStream) throws IOException {
+        return write(spec, format, outputStream, rows -> { });
+    }
+
+    // 기록한 행 수 반환, onProgress 는 청크마다 누적 행 수로 호출
+    public <T> long write(ExportSpec<T> spec, ExportFormat format, OutputStream outputStream,
+                          LongConsumer onProgress) throws IOException {
+        try (RowSink<T> sink = format == ExportFormat.XLSX
+                ? new XlsxSink<>(spec, outputStream, xlsxWindowSize)
+                : new CsvSink<>(spec, outputStream, format == ExportFormat.CSV_GZIP)) {
+            long written = 0;
+            CompletableFuture<List<T>> next = read(spec, null);
+            while (true) {
+                List<T> chunk = await(next);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                boolean lastChunk = chunk.size() < chunkSize;
+                if (!lastChunk) {
+                    next = read(spec, chunk.get(chunk.size() - 1));
+                }
+                for (T row : chunk) {
+                    sink.write(row, ++written);
+                }
+                onProgress.accept(written);
+                if (lastChunk) {
+                    break;
+                }
+            }
+            sink.finish();
+            return written;
+        }
+    }
+
+    private <T> CompletableFuture<List<T>> read(ExportSpec<T> spec, T last) {
+        return CompletableFuture.supplyAsync(() -> spec.source().next(last, chunkSize), readerExecutor);
+    }
+
+    private <T> List<T> await(CompletableFuture<List<T>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private interface RowSink<T> extends AutoCloseable {
+        void write(T row, long rowNum) throws IOException;
+
+        void finish() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private static class XlsxSink<T> implements RowSink<T> {
+        private final List<ExportColumn<T>> columns;
+        private final OutputStream outputStream;
+        private final SXSSFWorkbook workbook;
+        private final SXSSFSheet sheet;
+        private final Map<ExportCellType, CellStyle> styles = new EnumMap<>(ExportCellType.class);
+
+        private XlsxSink(ExportSpec<T> spec, OutputStream outputStream, int windowSize) {
+            this.columns = spec.columns();
+            this.outputStream = outputStream;
+            this.workbook = new SXSSFWorkbook(windowSize);
+            this.workbook.setCompressTempFiles(true);
+            this.sheet = workbook.createSheet(spec.name());
+            createStyles();
+
+            Row headerRow = sheet.createRow(0);
+            CellStyle headerStyle = createHeaderStyle();
+            for (int i = 0; i < columns.size(); i++) {
+                ExportColumn<T> column = columns.get(i);
+                Cell cell = headerRow.createCell(i);
+                cell.setCellValue(column.header());
+                cell.setCellStyle(headerStyle);
+                sheet.setColumnWidth(i, Math.min((column.width() + 2) * 256, 255 * 256));
+            }
+            sheet.createFreezePane(0, 1);
+            sheet.setAutoFilter(new CellRangeAddress(0, 0, 0, columns.size() - 1));
+        }
+
+        @Override
+        public void write(T row, long rowNum) {
+            Row sheetRow = sheet.createRow((int) rowNum);
+            for (int i = 0; i < columns.size(); i++) {
+                ExportColumn<T> column = columns.get(i);
+                Cell cell = sheetRow.createCell(i);
+                cell.setCellStyle(styles.get(column.type()));
+                if (column.type() == ExportCellType.ROW_NUMBER) {
+                    cell.setCellValue(rowNum);
+                    continue;
+                }
+                Object value = column.value().apply(row);
+                if (value == null) {
+                    continue;
+                }
+                switch (value) {
+                    case Number number -> cell.setCellValue(number.doubleValue());
+                    case LocalDateTime dateTime -> cell.setCellValue(dateTime);
+                    case LocalDate date -> cell.setCellValue(date);
+                    default -> cell.setCellValue(value.toString());
+                }
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            workbook.write(outputStream);
+            outputStream.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            workbook.dispose();
+            workbook.close();
+        }
+
+        private void createStyles() {
+            for (ExportCellType type : ExportCellType.values()) {
+                CellStyle style = workbook.createCellStyle();
+                style.setAlignment(HorizontalAlignment.CENTER);
+                String format = switch (type) {
+                    case CURRENCY -> "#,##0.00";
+                    case DATE -> "yyyy-mm-dd";
+                    case DATE_TIME -> "yyyy-mm-dd hh:mm:ss";
+                    default -> null;
+                };
+                if (format != null) {
+                    style.setDataFormat(workbook.createDataFormat().getFormat(format));
+                }
+                styles.put(type, style);
+            }
+        }
+
+        private CellStyle createHeaderStyle() {
+            CellStyle style = workbook.createCellStyle();
+            style.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
+            style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+            style.setAlignment(HorizontalAlignment.CENTER);
+
+            Font font = workbook.createFont();
+            font.setBold(true);
+            style.setFont(font);
+            return style;
+        }
+    }
+
+    private static class CsvSink<T> implements RowSink<T> {
+        private final List<ExportColumn<T>> columns;
+        private final GZIPOutputStream gzipStream;
+        private final Writer writer;
+
+        private CsvSink(ExportSpec<T> spec, OutputStream outputStream, boolean gzip) throws IOException {
+            this.columns = spec.columns();
+            this.gzipStream = gzip ? new GZIPOutputStream(outputStream, 8192) : null;
+            this.writer = new BufferedWriter(new OutputStreamWriter(
+                    gzip ? gzipStream : outputStream, StandardCharsets.UTF_8), 64 * 1024);
+
+            // 엑셀에서 열었을 때 한글이 깨지지 않도록 BOM 추가
+            writer.write(UTF8_BOM);
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeField(columns.get(i).header());
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(T row, long rowNum) throws IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                ExportColumn<T> column = columns.get(i);
+                if (column.type() == ExportCellType.ROW_NUMBER) {
+                    writer.write(Long.toString(rowNum));
+                    continue;
+                }
+                Object value = column.value().apply(row);
+                if (value instanceof Number) {
+                    // 음수도 숫자로 읽혀야 하므로 수식 방지 대상에서 제외
+                    writer.write(format(value));
+                } else if (value != null) {
+                    writeField(neutralizeFormula(format(value)));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+            if (gzipStream != null) {
+                gzipStream.finish();
+            }
+        }
+
+        // 호출한 쪽의 출력 스트림은 닫지 않음
+        @Override
+        public void close() {
+        }
+
+        private String format(Object value) {
+            return switch (value) {
+                case BigDecimal decimal -> decimal.toPlainString();
+                case LocalDateTime dateTime -> dateTime.format(DATE_TIME_FORMAT);
+                default -> value.toString();
+            };
+        }
+
+        // 사용자가 입력한 값(이름, 제목 등)이 =, +, -, @, 탭, CR 로 시작하면 엑셀이 수식으로 실행하므로 텍스트로 고정
+        private String neutralizeFormula(String value) {
+            if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+                return "'" + value;
+            }
+            return value;
+        }
+
+        private void writeField(String value) throws IOException {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.myce.common.permission;
+
+import com.myce.expo.entity.AdminPermission;
+import com.myce.expo.entity.type.ExpoStatus;
+
+/**
+ * (박람회, 요청 주체) 별 권한 검증에 필요한 최소 정보
+ * - granted: 박람회 소유자이거나 해당 박람회의 관리 코드인지 여부
+ * - permissionBits: ExpoAdminPermission ordinal 기준 비트셋 (소유자는 전체 권한)
+ */
+public record ExpoAccessSnapshot(Long ownerId, ExpoStatus status, boolean granted, int permissionBits) {
+
+    private static final int ALL_PERMISSIONS = (1 << ExpoAdminPermission.values().length) - 1;
+
+    public static ExpoAccessSnapshot ofMember(Long ownerId, ExpoStatus status, Long memberId) {
+        boolean owner = ownerId.equals(memberId);
+        return new ExpoAccessSnapshot(ownerId, status, owner, owner ? ALL_PERMISSIONS : 0);
+    }
+
+    public static ExpoAccessSnapshot ofAdminCode(Long ownerId, ExpoStatus status, AdminPermission permission) {
+        if (permission == null) {
+            return new ExpoAccessSnapshot(ownerId, status, false, 0);
+        }
+        int bits = 0;
+        bits |= bit(ExpoAdminPermission.EXPO_DETAIL_UPDATE, permission.getIsExpoDetailUpdate());
+        bits |= bit(ExpoAdminPermission.BOOTH_INFO_UPDATE, permission.getIsBoothInfoUpdate());
+        bits |= bit(ExpoAdminPermission.SCHEDULE_UPDATE, permission.getIsScheduleUpdate());
+        bits |= bit(ExpoAdminPermission.PAYMENT_VIEW, permission.getIsPaymentView());
+        bits |= bit(ExpoAdminPermission.RESERVER_LIST_VIEW, permission.getIsReserverListView());
+        bits |= bit(ExpoAdminPermission.EMAIL_LOG_VIEW, permission.getIsEmailLogView());
+        bits |= bit(ExpoAdminPermission.OPERATIONS_CONFIG_UPDATE, permission.getIsOperationsConfigUpdate());
+        bits |= bit(ExpoAdminPermission.INQUIRY_VIEW, permission.getIsInquiryView());
+        return new ExpoAccessSnapshot(ownerId, status, true, bits);
+    }
+
+    public boolean has(ExpoAdminPermission permission) {
+        return (permissionBits & (1 << permission.ordinal())) != 0;
+    }
+
+    private static int bit(ExpoAdminPermission permission, Boolean allowed) {
+        return Boolean.TRUE.equals(allowed) ? 1 << permission.ordinal() : 0;
+    }
+}
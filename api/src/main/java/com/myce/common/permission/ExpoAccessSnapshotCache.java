@@ -0,0 +1,143 @@
+package com.myce.common.permission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.myce.auth.dto.type.LoginType;
+import com.myce.common.exception.CustomErrorCode;
+import com.myce.common.exception.CustomException;
+import com.myce.expo.entity.AdminPermission;
+import com.myce.expo.entity.Expo;
+import com.myce.expo.event.ExpoChangedEvent;
+import com.myce.expo.repository.AdminPermissionRepository;
+import com.myce.expo.repository.ExpoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 박람회 관리자 권한 스냅샷 로컬 캐시
+ * - 키: 박람회 ID + 로그인 타입 + 회원/관리 코드 ID, 값: 소유자 ID/상태/권한 비트셋
+ * - 박람회 상태 변경(게시/종료/취소 승인 등)과 관리 코드 권한 수정 시 박람회 단위로 무효화
+ * - 무효화는 Redis pub/sub 으로 다른 서버의 로컬 캐시까지 전파
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpoAccessSnapshotCache implements MessageListener {
+
+    private static final String INVALIDATE_CHANNEL = "expo:access:invalidate";
+
+    private final ExpoRepository expoRepository;
+    private final AdminPermissionRepository adminPermissionRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${expo-access-cache.max-size:20000}")
+    private long maxSize;
+
+    @Value("${expo-access-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private Cache<String, ExpoAccessSnapshot> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "expoAccess");
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+        log.info("박람회 관리자 권한 캐시 초기화 - 최대 {}건/{}초", maxSize, ttlSeconds);
+    }
+
+    public ExpoAccessSnapshot get(Long expoId, Long principalId, LoginType loginType) {
+        return cache.get(cacheKey(expoId, loginType, principalId), key -> load(expoId, principalId, loginType));
+    }
+
+    // 관리 코드 권한 수정 등 박람회 엔티티 변경 없이 권한이 바뀌는 경우 호출
+    public void evict(Long expoId) {
+        if (expoId == null) {
+            return;
+        }
+
+        // 롤백된 변경으로 캐시를 비우지 않도록 커밋 이후에 처리
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(expoId);
+                }
+            });
+            return;
+        }
+        evictNow(expoId);
+    }
+
+    // 박람회 상태/소유자 변경 시 무효화 (publish, complete, approveCancellation 등 더티 체킹 변경 포함)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExpoChanged(ExpoChangedEvent event) {
+        evictNow(event.expoId());
+    }
+
+    // 다른 서버(자신 포함)에서 보낸 무효화 메시지로 로컬 캐시 제거
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evictLocal(Long.valueOf(body));
+        } catch (RuntimeException e) {
+            log.warn("박람회 관리자 권한 캐시 무효화 메시지 처리 실패 - 메시지: {}, 오류: {}", body, e.getMessage());
+        }
+    }
+
+    private ExpoAccessSnapshot load(Long expoId, Long principalId, LoginType loginType) {
+        Expo expo = expoRepository.findById(expoId)
+                .orElseThrow(() -> new CustomException(CustomErrorCode.EXPO_NOT_EXIST));
+        Long ownerId = expo.getMember().getId();
+
+        if (loginType == LoginType.ADMIN_CODE) {
+            AdminPermission permission = adminPermissionRepository
+                    .findByAdminCodeIdAndAdminCodeExpoId(principalId, expoId)
+                    .orElse(null);
+            return ExpoAccessSnapshot.ofAdminCode(ownerId, expo.getStatus(), permission);
+        }
+        return ExpoAccessSnapshot.ofMember(ownerId, expo.getStatus(), principalId);
+    }
+
+    private void evictNow(Long expoId) {
+        evictLocal(expoId);
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(expoId));
+        } catch (Exception e) {
+            // Redis 장애 시 다른 서버의 로컬 캐시는 TTL 이 지나면 자연 만료
+            log.warn("박람회 관리자 권한 캐시 무효화 전파 실패 - expoId: {}, 오류: {}", expoId, e.getMessage());
+        }
+    }
+
+    private void evictLocal(Long expoId) {
+        String prefix = expoId + ":";
+        cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private String cacheKey(Long expoId, LoginType loginType, Long principalId) {
+        return expoId + ":" + loginType.name() + ":" + principalId;
+    }
+}
@@ -3,15 +3,13 @@ package com.myce.common.permission;
 import com.myce.auth.dto.type.LoginType;
 import com.myce.common.exception.CustomErrorCode;
 import com.myce.common.exception.CustomException;
-import com.myce.expo.entity.AdminPermission;
-import com.myce.expo.entity.Expo;
 import com.myce.expo.entity.type.ExpoStatus;
-import com.myce.expo.repository.AdminPermissionRepository;
-import com.myce.expo.repository.ExpoRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /*
     박람회 관리자의 api 요청에 대한 페이지별 조회/편집 권한 검증 메소드입니다.
@@ -20,8 +18,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ExpoAdminAccessValidate {
 
-    private final ExpoRepository expoRepository;
-    private final AdminPermissionRepository adminPermissionRepository;
+    // 관리 코드 로그인에서 검증하는 페이지 권한
+    private static final Set<ExpoAdminPermission> ADMIN_CODE_PERMISSIONS = EnumSet.of(
+            ExpoAdminPermission.RESERVER_LIST_VIEW, ExpoAdminPermission.PAYMENT_VIEW,
+            ExpoAdminPermission.EMAIL_LOG_VIEW, ExpoAdminPermission.INQUIRY_VIEW,
+            ExpoAdminPermission.EXPO_DETAIL_UPDATE);
+
+    private final ExpoAccessSnapshotCache expoAccessSnapshotCache;
 
     public void ensureViewable(Long expoId, Long memberId, LoginType loginType, ExpoAdminPermission permission) {
         ensureExpoStatus(expoId, memberId, loginType, permission,
@@ -46,42 +49,33 @@ public class ExpoAdminAccessValidate {
             throw new CustomException(CustomErrorCode.INVALID_EXPO_ADMIN_PERMISSION_TYPE);
         }
 
-        Expo expo = expoRepository.findById(expoId)
-                .orElseThrow(() -> new CustomException(CustomErrorCode.EXPO_NOT_EXIST));
-
-        Long ownerId = expo.getMember().getId();
+        //박람회 소유자/상태/권한은 스냅샷 캐시에서 조회 (미스일 때만 DB 조회)
+        ExpoAccessSnapshot snapshot = expoAccessSnapshotCache.get(expoId, memberId, loginType);
 
         //해당 엑스포의 상태가 조회 가능한 상태인지 확인
-        ExpoStatus status = expo.getStatus();
-
-        if(!allowedStatuses.contains(status)) {
+        if (!allowedStatuses.contains(snapshot.status())) {
             throw new CustomException(Code);
         }
 
         //박람회 관리자가 해당 엑스포 페이지에 대한 권한이 있는지 확인
-        expoAdminValidate(ownerId, expoId, memberId, loginType, permission);
+        expoAdminValidate(snapshot, loginType, permission);
     }
 
-    private void expoAdminValidate(Long ownerId, Long expoId, Long memberId, LoginType loginType, ExpoAdminPermission permission) {
+    private void expoAdminValidate(ExpoAccessSnapshot snapshot, LoginType loginType, ExpoAdminPermission permission) {
 
         if (loginType == LoginType.MEMBER) {
-            if (!memberId.equals(ownerId)) {
+            if (!snapshot.granted()) {
                 throw new CustomException(CustomErrorCode.EXPO_ACCESS_DENIED);
             }
         }
         else if (loginType == LoginType.ADMIN_CODE) {
-            AdminPermission adminPermission = adminPermissionRepository.findByAdminCodeIdAndAdminCodeExpoId(memberId, expoId)
-                    .orElseThrow(()-> new CustomException(CustomErrorCode.EXPO_ADMIN_PERMISSION_DENIED));
-
-            boolean allowed = switch (permission) {
-                case RESERVER_LIST_VIEW -> adminPermission.getIsReserverListView();
-                case PAYMENT_VIEW -> adminPermission.getIsPaymentView();
-                case EMAIL_LOG_VIEW -> adminPermission.getIsEmailLogView();
-                case INQUIRY_VIEW -> adminPermission.getIsInquiryView();
-                case EXPO_DETAIL_UPDATE -> adminPermission.getIsExpoDetailUpdate();
-                default -> throw new CustomException(CustomErrorCode.INVALID_EXPO_ADMIN_PERMISSION_TYPE);
-            };
-            if (!allowed) {
+            if (!snapshot.granted()) {
+                throw new CustomException(CustomErrorCode.EXPO_ADMIN_PERMISSION_DENIED);
+            }
+            if (!ADMIN_CODE_PERMISSIONS.contains(permission)) {
+                throw new CustomException(CustomErrorCode.INVALID_EXPO_ADMIN_PERMISSION_TYPE);
+            }
+            if (!snapshot.has(permission)) {
                 throw new CustomException(CustomErrorCode.EXPO_ADMIN_PERMISSION_DENIED);
             }
         }
@@ -96,27 +90,16 @@ public class ExpoAdminAccessValidate {
             throw new CustomException(CustomErrorCode.MEMBER_NOT_EXIST);
         }
 
-        // 해당 박람회의 상태가 조회 가능한 상태인지 확인
-        ExpoStatus status = expoRepository.findStatusById(expoId)
-                .orElseThrow(() -> new CustomException(CustomErrorCode.EXPO_NOT_EXIST));
+        ExpoAccessSnapshot snapshot = expoAccessSnapshotCache.get(expoId, memberId, loginType);
 
-        if (!ExpoStatus.ADMIN_VIEWABLE_STATUSES.contains(status)) {
+        // 해당 박람회의 상태가 조회 가능한 상태인지 확인
+        if (!ExpoStatus.ADMIN_VIEWABLE_STATUSES.contains(snapshot.status())) {
             throw new CustomException(CustomErrorCode.EXPO_ACCESS_DENIED);
         }
 
         // 박람회 관리자인지만 간단히 확인
-        switch (loginType) {
-            case MEMBER -> {
-                if (!expoRepository.existsByIdAndMemberId(expoId, memberId)) {
-                    throw new CustomException(CustomErrorCode.EXPO_ACCESS_DENIED);
-                }
-            }
-            case ADMIN_CODE -> {
-                if (!adminPermissionRepository.existsByAdminCodeIdAndAdminCodeExpoId(memberId, expoId)) {
-                    throw new CustomException(CustomErrorCode.EXPO_ACCESS_DENIED);
-                }
-            }
-            default -> throw new CustomException(CustomErrorCode.INVALID_LOGIN_TYPE);
+        if (!snapshot.granted()) {
+            throw new CustomException(CustomErrorCode.EXPO_ACCESS_DENIED);
         }
     }
 }
@@ -0,0 +1,18 @@
+package com.myce.common.service;
+
+import com.myce.auth.dto.type.LoginType;
+import com.myce.common.dto.ExportJobResponse;
+import com.myce.common.export.ExportFormat;
+import com.myce.common.export.ExportSpec;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportJobService {
+
+    // 백그라운드 내보내기 등록, 요청한 사용자만 상태 조회/다운로드 가능
+    <T> ExportJobResponse submit(Long memberId, LoginType loginType, ExportSpec<T> spec, ExportFormat format);
+
+    ExportJobResponse getJob(String jobId, Long memberId, LoginType loginType);
+
+    void download(String jobId, Long memberId, LoginType loginType, OutputStream outputStream) throws IOException;
+}
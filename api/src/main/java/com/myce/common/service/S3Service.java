@@ -8,8 +8,15 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -50,4 +57,34 @@ public class S3Service {
         String key = "qr-codes/" + token + ".png";
         return uploadFile(qrImageData, key, "image/png");
     }
-}
\ No newline at end of file
+
+    // 큰 파일은 메모리에 올리지 않고 파일에서 바로 업로드
+    public void uploadFile(Path file, String key, String contentType) {
+        try {
+            long size = Files.size(file);
+            log.info("S3 파일 업로드 시작 - 키: {}, 크기: {} bytes", key, size);
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(contentType)
+                    .build();
+
+            s3Client.putObject(putObjectRequest, RequestBody.fromFile(file));
+            log.info("S3 파일 업로드 완료 - 키: {}", key);
+        } catch (Exception e) {
+            log.error("S3 파일 업로드 실패 - 키: {}, 오류: {}", key, e.getMessage(), e);
+            throw new CustomException(CustomErrorCode.S3_UPLOAD_FAILED);
+        }
+    }
+
+    // CDN 주소를 노출하지 않고 서버를 거쳐 내려주는 파일 (내보내기 결과 등)
+    public void download(String key, OutputStream outputStream) throws IOException {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+        try (InputStream inputStream = s3Client.getObject(getObjectRequest)) {
+            inputStream.transferTo(outputStream);
+        }
+    }
+}
@@ -12,6 +12,8 @@ import com.myce.common.permission.ExpoAdminPermission;
 import com.myce.common.repository.BusinessProfileRepository;
 import com.myce.common.service.ExpoAdminBusinessProfileService;
 import com.myce.common.service.mapper.ExpoAdminBusinessProfileMapper;
+import com.myce.expo.service.cache.ExpoDetailCacheService;
+import com.myce.expo.service.cache.ExpoDetailCacheService.Section;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +25,7 @@ public class ExpoAdminBusinessProfileServiceImpl implements ExpoAdminBusinessPro
     private final ExpoAdminAccessValidate expoAdminAccessValidate;
     private final BusinessProfileRepository businessProfileRepository;
     private final ExpoAdminBusinessProfileMapper mapper;
+    private final ExpoDetailCacheService expoDetailCacheService;
 
     @Override
     public ExpoAdminBusinessProfileResponseDto getMyBusinessProfile(Long expoId, Long memberId, LoginType loginType) {
@@ -50,6 +53,8 @@ public class ExpoAdminBusinessProfileServiceImpl implements ExpoAdminBusinessPro
                 dto.getContactPhone(),
                 dto.getBusinessRegistrationNumber()
         );
+        // 상세 화면 주최자 정보 갱신
+        expoDetailCacheService.evict(expoId, Section.BASIC);
 
         return mapper.toDto(profile);
     }
@@ -0,0 +1,160 @@
+package com.myce.common.service.impl;
+
+import com.myce.auth.dto.type.LoginType;
+import com.myce.common.dto.ExportJobResponse;
+import com.myce.common.exception.CustomErrorCode;
+import com.myce.common.exception.CustomException;
+import com.myce.common.export.ExportFormat;
+import com.myce.common.export.ExportSpec;
+import com.myce.common.export.ExportWriter;
+import com.myce.common.repository.ExportJobRepository;
+import com.myce.common.repository.ExportJobRepository.ExportJob;
+import com.myce.common.service.ExportJobService;
+import com.myce.common.service.S3Service;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 백그라운드 내보내기 작업
+ * - 임시 파일에 기록한 뒤 S3 에 업로드하고, 작업 상태/진행 행 수는 Redis 에 저장 (서버 간 공유)
+ * - 동시 실행 수와 대기열 크기를 제한하여 대량 내보내기가 DB 커넥션 풀을 점유하지 않도록 함
+ * - 결과 파일은 CDN 주소 대신 요청자 확인 후 서버를 거쳐 내려줌 (예약자 개인정보 포함)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportJobServiceImpl implements ExportJobService {
+
+    private static final String ARTIFACT_PREFIX = "exports/";
+
+    private final ExportWriter exportWriter;
+    private final ExportJobRepository exportJobRepository;
+    private final S3Service s3Service;
+
+    @Value("${export.job-threads:2}")
+    private int jobThreads;
+
+    @Value("${export.job-queue-size:20}")
+    private int jobQueueSize;
+
+    @Value("${export.job-ttl-hours:24}")
+    private long jobTtlHours;
+
+    private ThreadPoolExecutor jobExecutor;
+
+    @PostConstruct
+    public void init() {
+        jobExecutor = new ThreadPoolExecutor(jobThreads, jobThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(jobQueueSize),
+                Thread.ofPlatform().name("export-job-", 0).daemon(true).factory());
+        log.info("내보내기 작업 실행기 초기화 - 동시 실행: {}, 대기열: {}", jobThreads, jobQueueSize);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        jobExecutor.shutdown();
+        jobExecutor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public <T> ExportJobResponse submit(Long memberId, LoginType loginType, ExportSpec<T> spec, ExportFormat format) {
+        ExportJob job = new ExportJob(UUID.randomUUID().toString(), ownerKey(memberId, loginType),
+                format.fileName(spec.name()), format.getContentType(), ExportJobRepository.Status.QUEUED,
+                0, null, null, LocalDateTime.now(), null);
+        exportJobRepository.create(job, Duration.ofHours(jobTtlHours));
+
+        try {
+            jobExecutor.execute(() -> run(job, spec, format));
+        } catch (RejectedExecutionException e) {
+            exportJobRepository.fail(job.id(), "대기열 초과");
+            throw new CustomException(CustomErrorCode.EXPORT_JOB_QUEUE_FULL);
+        }
+        log.info("내보내기 작업 등록 - jobId: {}, 파일: {}", job.id(), job.fileName());
+        return ExportJobResponse.from(job);
+    }
+
+    @Override
+    public ExportJobResponse getJob(String jobId, Long memberId, LoginType loginType) {
+        return ExportJobResponse.from(findOwnedJob(jobId, memberId, loginType));
+    }
+
+    @Override
+    public void download(String jobId, Long memberId, LoginType loginType, OutputStream outputStream)
+            throws IOException {
+        ExportJob job = findOwnedJob(jobId, memberId, loginType);
+        if (job.status() != ExportJobRepository.Status.DONE) {
+            throw new CustomException(CustomErrorCode.EXPORT_JOB_NOT_READY);
+        }
+        s3Service.download(job.artifactKey(), outputStream);
+    }
+
+    private <T> void run(ExportJob job, ExportSpec<T> spec, ExportFormat format) {
+        long startedAt = System.nanoTime();
+        Path tempFile = null;
+        try {
+            exportJobRepository.markRunning(job.id());
+            tempFile = Files.createTempFile("export-", format.getExtension());
+
+            long rowCount;
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                rowCount = exportWriter.write(spec, format, outputStream,
+                        rows -> exportJobRepository.updateProgress(job.id(), rows));
+            }
+
+            String artifactKey = ARTIFACT_PREFIX + job.id() + "/" + job.fileName();
+            s3Service.uploadFile(tempFile, artifactKey, format.getContentType());
+            exportJobRepository.complete(job.id(), rowCount, artifactKey);
+            log.info("내보내기 작업 완료 - jobId: {}, 행 수: {}, 소요: {}ms", job.id(), rowCount,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (Exception e) {
+            log.error("내보내기 작업 실패 - jobId: {}", job.id(), e);
+            exportJobRepository.fail(job.id(), e.getMessage());
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    private ExportJob findOwnedJob(String jobId, Long memberId, LoginType loginType) {
+        ExportJob job = exportJobRepository.findById(jobId)
+                .orElseThrow(() -> new CustomException(CustomErrorCode.EXPORT_JOB_NOT_FOUND));
+        // 다른 사용자의 작업은 존재 여부도 노출하지 않음
+        if (!job.ownerKey().equals(ownerKey(memberId, loginType))) {
+            throw new CustomException(CustomErrorCode.EXPORT_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    private String ownerKey(Long memberId, LoginType loginType) {
+        if (memberId == null || loginType == null) {
+            throw new CustomException(CustomErrorCode.MEMBER_NOT_EXIST);
+        }
+        return loginType.name() + ":" + memberId;
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("내보내기 임시 파일 삭제 실패 - 경로: {}", file);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.myce.common.telemetry;
+
+import com.myce.common.telemetry.QueryTelemetry.Scope;
+import com.myce.common.telemetry.QueryTelemetry.ScopeType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * HTTP 요청 1건에서 실행된 쿼리 수 집계 (보안 필터에서 실행되는 쿼리 포함)
+ * - 요청 이름은 매핑된 URI 패턴 기준이라 경로 변수 값에 따라 메트릭이 늘어나지 않음
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Scope scope = QueryTelemetry.open(ScopeType.REQUEST, request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            scope.rename(request.getMethod() + " " + (pattern == null ? "UNMAPPED" : pattern));
+            scope.close();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return uri != null && uri.startsWith("/actuator/");
+    }
+}
@@ -0,0 +1,78 @@
+package com.myce.common.telemetry;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션에서 준비/실행되는 SQL 을 집계하는 DataSource 래퍼
+ * - Hibernate 와 JdbcTemplate 이 같은 DataSource 를 쓰므로 두 경로의 쿼리가 모두 집계됨
+ * - PreparedStatement/CallableStatement 는 준비 시 1건, 일반 Statement 는 SQL 실행 시 1건 (배치는 준비 1건으로 집계)
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> PREPARE_METHODS = Set.of("prepareStatement", "prepareCall");
+    private static final Set<String> EXECUTE_METHODS =
+            Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate");
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, super.getConnection(username, password));
+    }
+
+    private static <T> T proxy(Class<T> type, T target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                }
+            }
+            if (hasSql(args) && (type == Connection.class
+                    ? PREPARE_METHODS.contains(method.getName())
+                    : EXECUTE_METHODS.contains(method.getName()))) {
+                QueryTelemetry.onStatement((String) args[0]);
+            }
+
+            Object result = invoke(method, target, args);
+            if (type == Connection.class && "createStatement".equals(method.getName())) {
+                return proxy(Statement.class, (Statement) result);
+            }
+            return result;
+        };
+        return type.cast(Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, handler));
+    }
+
+    private static boolean hasSql(Object[] args) {
+        return args != null && args.length > 0 && args[0] instanceof String;
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.myce.common.telemetry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실행 쿼리 수/시간 집계
+ * - 쿼리 수: HTTP 요청, 스케줄러 실행 등 스레드 단위 범위(scope)로 집계하고 임계치 초과 시 경고
+ *   (DataSource 래퍼에서 집계하므로 Hibernate 와 JdbcTemplate 쿼리 모두 포함)
+ * - 실행 시간: Hibernate 세션 리스너로 측정해 db.statements 타이머로 기록 (JdbcTemplate 쿼리는 시간 미측정),
+ *   느린 쿼리는 정규화한 SQL 기준으로 로그/카운터 기록
+ * - Hibernate 가 직접 생성하는 세션 리스너에서도 접근할 수 있도록 인스턴스를 정적으로 보관
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryTelemetry {
+
+    private static final ThreadLocal<Scope> CURRENT_SCOPE = new ThreadLocal<>();
+    private static final ThreadLocal<String> LAST_SQL = new ThreadLocal<>();
+    private static volatile QueryTelemetry instance;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${query-telemetry.request-threshold:30}")
+    private int requestThreshold;
+
+    @Value("${query-telemetry.scheduler-threshold:500}")
+    private int schedulerThreshold;
+
+    @Value("${query-telemetry.slow-query-millis:200}")
+    private long slowQueryMillis;
+
+    @PostConstruct
+    public void init() {
+        instance = this;
+    }
+
+    static QueryTelemetry current() {
+        return instance;
+    }
+
+    // 현재 스레드에서 실행되는 쿼리 수 집계 시작 (중첩 가능, 바깥 범위에도 함께 집계)
+    public static Scope open(ScopeType type, String name) {
+        Scope scope = new Scope(type, name, CURRENT_SCOPE.get());
+        CURRENT_SCOPE.set(scope);
+        return scope;
+    }
+
+    // QueryCountingDataSource 에서 호출 - 준비되는 쿼리 1건
+    static void onStatement(String sql) {
+        LAST_SQL.set(sql);
+        for (Scope scope = CURRENT_SCOPE.get(); scope != null; scope = scope.parent) {
+            scope.count++;
+        }
+    }
+
+    // 세션 리스너에서 호출 - 직전에 준비된 쿼리의 실행 시간
+    void onExecuted(long elapsedNanos) {
+        String sql = LAST_SQL.get();
+        String type = sql == null ? "unknown" : statementType(sql);
+        Timer.builder("db.statements")
+                .tag("type", type)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (sql == null || elapsedMillis < slowQueryMillis) {
+            return;
+        }
+        String fingerprint = SqlFingerprint.of(sql);
+        String fingerprintId = SqlFingerprint.id(fingerprint);
+        Counter.builder("db.statements.slow")
+                .tag("type", type)
+                .tag("fingerprint", fingerprintId)
+                .register(meterRegistry)
+                .increment();
+        Scope scope = CURRENT_SCOPE.get();
+        log.warn("[SLOW-QUERY] {}ms - {} {} - fingerprint: {} - {}", elapsedMillis,
+                scope == null ? "-" : scope.type, scope == null ? "-" : scope.name, fingerprintId, fingerprint);
+    }
+
+    private void onClosed(Scope scope) {
+        if (scope.type == ScopeType.MANUAL) {
+            return;
+        }
+        DistributionSummary.builder("db.queries." + scope.type.name().toLowerCase(Locale.ROOT))
+                .tag("name", scope.name)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(scope.count);
+
+        int threshold = scope.type == ScopeType.REQUEST ? requestThreshold : schedulerThreshold;
+        if (scope.count > threshold) {
+            Counter.builder("db.queries.budget.exceeded")
+                    .tag("scope", scope.type.name().toLowerCase(Locale.ROOT))
+                    .tag("name", scope.name)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("[QUERY-BUDGET] {} {} - {} queries (threshold: {})",
+                    scope.type, scope.name, scope.count, threshold);
+        }
+    }
+
+    private static String statementType(String sql) {
+        String head = sql.stripLeading();
+        int end = 0;
+        while (end < head.length() && end < 8 && Character.isLetter(head.charAt(end))) {
+            end++;
+        }
+        return switch (head.substring(0, end).toLowerCase(Locale.ROOT)) {
+            case "select", "with" -> "select";
+            case "insert" -> "insert";
+            case "update" -> "update";
+            case "delete" -> "delete";
+            default -> "other";
+        };
+    }
+
+    public enum ScopeType {
+        REQUEST, SCHEDULER, MANUAL
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final ScopeType type;
+        private final Scope parent;
+        private String name;
+        private int count;
+
+        private Scope(ScopeType type, String name, Scope parent) {
+            this.type = type;
+            this.name = name;
+            this.parent = parent;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        // 요청 처리 후 확정되는 이름(URI 패턴 등)으로 변경
+        void rename(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void close() {
+            if (parent == null) {
+                CURRENT_SCOPE.remove();
+            } else {
+                CURRENT_SCOPE.set(parent);
+            }
+            if (instance != null) {
+                instance.onClosed(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.myce.common.telemetry;
+
+import org.hibernate.engine.spi.SessionEventListener;
+
+/**
+ * 세션마다 Hibernate 가 생성하는 JDBC 실행 시간 측정 리스너
+ * - 세션은 한 스레드에서만 사용되므로 시작 시각을 필드로 보관
+ */
+public class QueryTimingListener implements SessionEventListener {
+
+    private long startNanos;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        QueryTelemetry telemetry = QueryTelemetry.current();
+        if (telemetry != null && startNanos > 0) {
+            telemetry.onExecuted(System.nanoTime() - startNanos);
+        }
+        startNanos = 0;
+    }
+}
@@ -0,0 +1,32 @@
+package com.myce.common.telemetry;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL 을 리터럴 값과 무관한 형태로 정규화 (느린 쿼리 묶음 기준)
+ * - 문자열/숫자 리터럴은 ?, IN 목록은 (?...) 로 치환하고 공백은 하나로 축소
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^'\\\\]|\\\\.|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern VALUES_LIST = Pattern.compile("(?i)\\bvalues\\s*(\\([^()]*\\))(?:\\s*,\\s*\\([^()]*\\))+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("in (?...)");
+        normalized = VALUES_LIST.matcher(normalized).replaceAll("values $1...");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim().toLowerCase();
+    }
+
+    // 메트릭 태그용 짧은 식별자
+    public static String id(String fingerprint) {
+        return String.format("%08x", fingerprint.hashCode());
+    }
+}
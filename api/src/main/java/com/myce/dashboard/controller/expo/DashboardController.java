@@ -8,11 +8,14 @@ import com.myce.dashboard.dto.expo.WeeklyReservationResponse;
 import com.myce.dashboard.dto.expo.HourlyCheckin;
 import com.myce.dashboard.service.expo.ExpoDashboardService;
 import com.myce.dashboard.service.expo.CheckinStatsService;
+import com.myce.dashboard.service.expo.CheckinStreamService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -24,6 +27,7 @@ public class DashboardController {
 
     private final ExpoDashboardService expoDashboardService;
     private final CheckinStatsService checkinStatsService;
+    private final CheckinStreamService checkinStreamService;
     private final ExpoAdminAccessValidate expoAdminAccessValidate;
 
     @GetMapping
@@ -89,4 +93,16 @@ public class DashboardController {
         List<HourlyCheckin> hourlyCheckins = checkinStatsService.getHourlyCheckinsByDate(expoId, date);
         return ResponseEntity.ok(hourlyCheckins);
     }
+
+    // 체크인/혼잡도 실시간 스트림 (폴링 대신 SSE 로 변경분만 수신)
+    @GetMapping(value = "/checkins/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamCheckins(
+            @PathVariable Long expoId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        expoAdminAccessValidate.ensureAdmin(expoId, userDetails.getMemberId(), userDetails.getLoginType());
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no") // 프록시 버퍼링 비활성화
+                .body(checkinStreamService.subscribe(expoId));
+    }
 }
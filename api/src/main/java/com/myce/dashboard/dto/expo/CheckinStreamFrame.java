@@ -0,0 +1,20 @@
+package com.myce.dashboard.dto.expo;
+
+import com.myce.expo.dto.CongestionResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 체크인 실시간 스트림 프레임 (직전 프레임 이후 체크인 수 + 현재 누적값)
+ */
+@Getter
+@Builder
+public class CheckinStreamFrame {
+    private Long expoId;
+    private long checkinDelta;          // 직전 프레임 이후 체크인 수
+    private long qrCheckinSuccess;      // 누적 체크인 수
+    private long reservedTickets;       // 누적 판매 수량
+    private float checkinProgress;      // 체크인 진행률 (%)
+    private CongestionResponse congestion;
+    private String sentAt;
+}
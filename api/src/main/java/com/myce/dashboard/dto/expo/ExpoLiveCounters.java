@@ -0,0 +1,86 @@
+package com.myce.dashboard.dto.expo;
+
+import com.myce.member.entity.type.Gender;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 박람회 대시보드 실시간 집계 카운터 스냅샷
+ * - Redis 해시 필드 이름 규칙과 조회 메서드를 함께 관리
+ */
+public class ExpoLiveCounters {
+
+    public static final String SOLD = "sold";
+    public static final String CHECKIN = "checkin";
+    private static final String SALES_PREFIX = "sales:";
+    private static final String CHECKIN_PREFIX = "checkin:";
+    private static final String GENDER_PREFIX = "gender:";
+    private static final String BIRTH_PREFIX = "birth:";
+
+    private final Map<String, Long> counters;
+
+    public ExpoLiveCounters(Map<String, Long> counters) {
+        this.counters = counters;
+    }
+
+    public static String salesField(LocalDate date) {
+        return SALES_PREFIX + date;
+    }
+
+    public static String checkinField(LocalDate date, int hour) {
+        return CHECKIN_PREFIX + date + ":" + hour;
+    }
+
+    public static String genderField(Gender gender) {
+        return GENDER_PREFIX + gender.name();
+    }
+
+    public static String birthField(int birthYear) {
+        return BIRTH_PREFIX + birthYear;
+    }
+
+    // 누적 판매 수량 (확정 예약 수량 합계)
+    public long getSold() {
+        return get(SOLD);
+    }
+
+    // 예약일 기준 판매 수량
+    public long getSalesOn(LocalDate date) {
+        return get(salesField(date));
+    }
+
+    // 누적 체크인 수
+    public long getCheckins() {
+        return get(CHECKIN);
+    }
+
+    public long getCheckinsOn(LocalDate date, int hour) {
+        return get(checkinField(date, hour));
+    }
+
+    public Map<Gender, Long> getGenderCounts() {
+        Map<Gender, Long> result = new EnumMap<>(Gender.class);
+        counters.forEach((field, count) -> {
+            if (field.startsWith(GENDER_PREFIX) && count > 0) {
+                result.put(Gender.valueOf(field.substring(GENDER_PREFIX.length())), count);
+            }
+        });
+        return result;
+    }
+
+    public Map<Integer, Long> getBirthYearCounts() {
+        Map<Integer, Long> result = new TreeMap<>();
+        counters.forEach((field, count) -> {
+            if (field.startsWith(BIRTH_PREFIX) && count > 0) {
+                result.put(Integer.valueOf(field.substring(BIRTH_PREFIX.length())), count);
+            }
+        });
+        return result;
+    }
+
+    private long get(String field) {
+        return Math.max(counters.getOrDefault(field, 0L), 0L);
+    }
+}
@@ -0,0 +1,14 @@
+package com.myce.dashboard.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * QR 체크인이 커밋되고 실시간 집계에 반영된 뒤 발행 (대시보드 스트림 전송용)
+ * - 일괄 체크인은 한 번에 count 건으로 발행
+ */
+public record CheckinRecordedEvent(Long expoId, LocalDateTime usedAt, int count) {
+
+    public CheckinRecordedEvent(Long expoId, LocalDateTime usedAt) {
+        this(expoId, usedAt, 1);
+    }
+}
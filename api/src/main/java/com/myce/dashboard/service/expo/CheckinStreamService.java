@@ -0,0 +1,9 @@
+package com.myce.dashboard.service.expo;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface CheckinStreamService {
+
+    // 박람회 체크인/혼잡도 실시간 스트림 구독
+    SseEmitter subscribe(Long expoId);
+}
@@ -0,0 +1,25 @@
+package com.myce.dashboard.service.expo;
+
+import com.myce.dashboard.dto.expo.ExpoLiveCounters;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ExpoStatsCounterService {
+
+    // 실시간 집계 조회 (미적재 시 DB 기준으로 적재 후 반환)
+    ExpoLiveCounters getCounters(Long expoId);
+
+    // QR 체크인 반영 (트랜잭션 안이면 커밋 후 반영)
+    void recordCheckin(Long expoId, LocalDateTime usedAt);
+
+    // 일괄 체크인 반영 (카운터 증감과 스트림 이벤트를 한 번씩만 처리)
+    void recordCheckins(Long expoId, List<LocalDateTime> usedAts);
+
+    // DB 기준으로 다시 적재
+    void refresh(Long expoId);
+
+    void evict(Long expoId);
+
+    // 적재된 전체 박람회 DB 기준 재계산
+    int reconcileAll();
+}
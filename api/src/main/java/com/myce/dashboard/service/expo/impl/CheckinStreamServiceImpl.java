@@ -0,0 +1,250 @@
+package com.myce.dashboard.service.expo.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myce.dashboard.dto.expo.CheckinStreamFrame;
+import com.myce.dashboard.dto.expo.ExpoLiveCounters;
+import com.myce.dashboard.event.CheckinRecordedEvent;
+import com.myce.dashboard.service.expo.CheckinStreamService;
+import com.myce.dashboard.service.expo.ExpoStatsCounterService;
+import com.myce.expo.dto.CongestionResponse;
+import com.myce.expo.service.info.ExpoInfoService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 박람회 체크인 실시간 스트림 서비스
+ * - 체크인은 Redis pub/sub 으로 모든 서버에 전달되고, 서버별로 박람회당 스트림 하나가 구독자 전체에 전송
+ * - 체크인이 몰려도 flush 주기마다 한 프레임으로 묶어서 전송 (프레임은 박람회당 한 번만 만들고 직렬화)
+ * - 혼잡도는 주기적으로 DB 기준 값을 맞추고 그 사이에는 체크인 수만큼 더해서 계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CheckinStreamServiceImpl implements CheckinStreamService, MessageListener {
+
+    private static final String CHECKIN_CHANNEL = "expo:checkin:stream";
+    private static final String FRAME_EVENT_NAME = "checkin";
+
+    private final ExpoStatsCounterService expoStatsCounterService;
+    private final ExpoInfoService expoInfoService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+
+    @Value("${checkin-stream.flush-interval-millis:1000}")
+    private long flushIntervalMillis;
+
+    @Value("${checkin-stream.heartbeat-seconds:30}")
+    private long heartbeatSeconds;
+
+    @Value("${checkin-stream.emitter-timeout-minutes:30}")
+    private long emitterTimeoutMinutes;
+
+    @Value("${checkin-stream.congestion-sync-seconds:60}")
+    private long congestionSyncSeconds;
+
+    private final Map<Long, ExpoStream> streams = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flusher;
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHECKIN_CHANNEL));
+
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "checkin-stream-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleAtFixedRate(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("체크인 스트림 초기화 - 전송 주기: {}ms, heartbeat: {}초", flushIntervalMillis, heartbeatSeconds);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+        streams.values().forEach(stream -> stream.emitters.forEach(SseEmitter::complete));
+        streams.clear();
+    }
+
+    @Override
+    public SseEmitter subscribe(Long expoId) {
+        SseEmitter emitter = new SseEmitter(TimeUnit.MINUTES.toMillis(emitterTimeoutMinutes));
+        ExpoStream stream = streams.compute(expoId, (id, current) -> {
+            ExpoStream target = current != null ? current : new ExpoStream(id);
+            target.emitters.add(emitter);
+            return target;
+        });
+        emitter.onCompletion(() -> unsubscribe(expoId, emitter));
+        emitter.onTimeout(() -> unsubscribe(expoId, emitter));
+        emitter.onError(e -> unsubscribe(expoId, emitter));
+
+        // 접속 직후 현재 값 전송
+        try {
+            emitter.send(SseEmitter.event().name(FRAME_EVENT_NAME).data(toJson(buildFrame(stream, 0))));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        log.info("체크인 스트림 구독 - expoId: {}, 구독자 수: {}", expoId, stream.emitters.size());
+        return emitter;
+    }
+
+    // 체크인 커밋 후 모든 서버로 전달
+    @EventListener
+    public void onCheckinRecorded(CheckinRecordedEvent event) {
+        try {
+            stringRedisTemplate.convertAndSend(CHECKIN_CHANNEL, event.expoId() + ":" + event.count());
+        } catch (Exception e) {
+            log.warn("체크인 스트림 발행 실패 - expoId: {}, 오류: {}", event.expoId(), e.getMessage());
+        }
+    }
+
+    // 구독자가 있는 박람회만 다음 프레임에 반영
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            // 형식: expoId:체크인 수
+            String[] parts = body.split(":");
+            ExpoStream stream = streams.get(Long.valueOf(parts[0]));
+            if (stream != null) {
+                long count = parts.length > 1 ? Long.parseLong(parts[1]) : 1L;
+                stream.pendingCheckins.addAndGet(count);
+                stream.checkinsSinceSync.addAndGet(count);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("체크인 스트림 메시지 형식 오류 - 메시지: {}", body);
+        }
+    }
+
+    private void flush() {
+        long now = System.currentTimeMillis();
+        for (ExpoStream stream : streams.values()) {
+            try {
+                long delta = stream.pendingCheckins.getAndSet(0);
+                if (delta > 0) {
+                    broadcast(stream, toJson(buildFrame(stream, delta)));
+                } else if (now - stream.lastSentAt >= TimeUnit.SECONDS.toMillis(heartbeatSeconds)) {
+                    heartbeat(stream);
+                }
+            } catch (Exception e) {
+                // 예외가 전파되면 주기 작업이 중단되므로 박람회 단위로 처리
+                log.warn("체크인 스트림 전송 실패 - expoId: {}, 오류: {}", stream.expoId, e.getMessage());
+            }
+        }
+    }
+
+    private CheckinStreamFrame buildFrame(ExpoStream stream, long delta) {
+        syncCongestionIfStale(stream);
+
+        ExpoLiveCounters counters = expoStatsCounterService.getCounters(stream.expoId);
+        long reservedTickets = counters.getSold();
+        long checkins = counters.getCheckins();
+        float checkinProgress = reservedTickets > 0 ? (float) checkins / reservedTickets * 100 : 0f;
+
+        CongestionResponse congestion = CongestionResponse.of(stream.expoId, stream.expoTitle,
+                stream.hourlyVisitorsAtSync + stream.checkinsSinceSync.get(), stream.hourlyCapacity);
+
+        return CheckinStreamFrame.builder()
+                .expoId(stream.expoId)
+                .checkinDelta(delta)
+                .qrCheckinSuccess(checkins)
+                .reservedTickets(reservedTickets)
+                .checkinProgress(checkinProgress)
+                .congestion(congestion)
+                .sentAt(LocalDateTime.now().toString())
+                .build();
+    }
+
+    private void syncCongestionIfStale(ExpoStream stream) {
+        long now = System.currentTimeMillis();
+        if (now - stream.congestionSyncedAt < TimeUnit.SECONDS.toMillis(congestionSyncSeconds)) {
+            return;
+        }
+        CongestionResponse congestion = expoInfoService.getCongestionLevel(stream.expoId);
+        stream.expoTitle = congestion.getExpoTitle();
+        stream.hourlyCapacity = congestion.getHourlyCapacity();
+        stream.hourlyVisitorsAtSync = congestion.getHourlyVisitors();
+        stream.checkinsSinceSync.set(0);
+        stream.congestionSyncedAt = now;
+    }
+
+    private void broadcast(ExpoStream stream, String json) {
+        for (SseEmitter emitter : stream.emitters) {
+            try {
+                emitter.send(SseEmitter.event().name(FRAME_EVENT_NAME).data(json));
+            } catch (IOException | IllegalStateException e) {
+                // 연결이 끊긴 구독자 정리
+                emitter.completeWithError(e);
+                unsubscribe(stream.expoId, emitter);
+            }
+        }
+        stream.lastSentAt = System.currentTimeMillis();
+    }
+
+    private void heartbeat(ExpoStream stream) {
+        for (SseEmitter emitter : stream.emitters) {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+                unsubscribe(stream.expoId, emitter);
+            }
+        }
+        stream.lastSentAt = System.currentTimeMillis();
+    }
+
+    private void unsubscribe(Long expoId, SseEmitter emitter) {
+        streams.computeIfPresent(expoId, (id, stream) -> {
+            stream.emitters.remove(emitter);
+            return stream.emitters.isEmpty() ? null : stream;
+        });
+    }
+
+    private String toJson(CheckinStreamFrame frame) {
+        try {
+            return objectMapper.writeValueAsString(frame);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("체크인 스트림 프레임 직렬화 실패", e);
+        }
+    }
+
+    // 서버별 박람회 스트림 상태
+    private static class ExpoStream {
+        private final Long expoId;
+        private final Set<SseEmitter> emitters = new CopyOnWriteArraySet<>();
+        private final AtomicLong pendingCheckins = new AtomicLong();
+        private final AtomicLong checkinsSinceSync = new AtomicLong();
+        private volatile String expoTitle;
+        private volatile long hourlyVisitorsAtSync;
+        private volatile int hourlyCapacity;
+        private volatile long congestionSyncedAt;
+        private volatile long lastSentAt = System.currentTimeMillis();
+
+        private ExpoStream(Long expoId) {
+            this.expoId = expoId;
+        }
+    }
+}
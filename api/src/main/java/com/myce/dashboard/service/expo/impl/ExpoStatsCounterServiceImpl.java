@@ -0,0 +1,204 @@
+package com.myce.dashboard.service.expo.impl;
+
+import com.myce.dashboard.dto.expo.ExpoLiveCounters;
+import com.myce.dashboard.event.CheckinRecordedEvent;
+import com.myce.dashboard.service.expo.ExpoStatsCounterService;
+import com.myce.expo.repository.ExpoStatsCounterRepository;
+import com.myce.member.entity.type.Gender;
+import com.myce.qrcode.repository.QrCodeRepository;
+import com.myce.reservation.entity.Reserver;
+import com.myce.reservation.entity.code.ReservationStatus;
+import com.myce.reservation.event.ReservationStatusChangedEvent;
+import com.myce.reservation.repository.ReservationRepository;
+import com.myce.reservation.repository.ReserverRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 박람회 대시보드 실시간 집계 서비스
+ * - 예약 확정/취소(엔티티 이벤트)와 QR 체크인 시 Redis 카운터를 증감
+ * - 대시보드 조회는 해시 한 번 조회로 처리하고, DB 집계는 최초 적재/재계산 때만 실행
+ * - 카운터는 확정(CONFIRMED) 예약 기준
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExpoStatsCounterServiceImpl implements ExpoStatsCounterService {
+
+    // 조회가 없는 박람회 카운터는 하루 뒤 만료 (다음 조회 시 다시 적재)
+    private static final long COUNTER_TTL_SECONDS = TimeUnit.DAYS.toSeconds(1);
+
+    // 일별 판매 수량을 DB 기준으로 적재하는 기간 (주간 차트 범위)
+    private static final int DAILY_SALES_DAYS = 7;
+
+    private final ExpoStatsCounterRepository expoStatsCounterRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReserverRepository reserverRepository;
+    private final QrCodeRepository qrCodeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public ExpoLiveCounters getCounters(Long expoId) {
+        Map<String, Long> counters = expoStatsCounterRepository.findAll(expoId);
+        if (counters == null) {
+            counters = computeFromDb(expoId);
+            expoStatsCounterRepository.load(expoId, counters, COUNTER_TTL_SECONDS);
+        }
+        return new ExpoLiveCounters(counters);
+    }
+
+    @Override
+    public void recordCheckin(Long expoId, LocalDateTime usedAt) {
+        recordCheckins(expoId, List.of(usedAt));
+    }
+
+    @Override
+    public void recordCheckins(Long expoId, List<LocalDateTime> usedAts) {
+        if (usedAts.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> deltas = new HashMap<>();
+        deltas.put(ExpoLiveCounters.CHECKIN, (long) usedAts.size());
+        LocalDateTime lastUsedAt = usedAts.get(0);
+        for (LocalDateTime usedAt : usedAts) {
+            deltas.merge(ExpoLiveCounters.checkinField(usedAt.toLocalDate(), usedAt.getHour()), 1L, Long::sum);
+            if (usedAt.isAfter(lastUsedAt)) {
+                lastUsedAt = usedAt;
+            }
+        }
+        CheckinRecordedEvent event = new CheckinRecordedEvent(expoId, lastUsedAt, usedAts.size());
+
+        // 롤백된 체크인이 집계되지 않도록 커밋 이후에 반영
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyCheckin(event, deltas);
+                }
+            });
+            return;
+        }
+        applyCheckin(event, deltas);
+    }
+
+    @Override
+    public void refresh(Long expoId) {
+        expoStatsCounterRepository.load(expoId, computeFromDb(expoId), COUNTER_TTL_SECONDS);
+    }
+
+    @Override
+    public void evict(Long expoId) {
+        expoStatsCounterRepository.evict(expoId);
+    }
+
+    @Override
+    public int reconcileAll() {
+        Set<Long> expoIds = expoStatsCounterRepository.findLoadedExpoIds();
+
+        int reconciledCount = 0;
+        for (Long expoId : expoIds) {
+            try {
+                if (expoStatsCounterRepository.reconcile(expoId, computeFromDb(expoId))) {
+                    reconciledCount++;
+                } else {
+                    // 만료된 카운터는 추적 대상에서 제외
+                    expoStatsCounterRepository.evict(expoId);
+                }
+            } catch (Exception e) {
+                log.warn("대시보드 집계 재계산 실패 - expoId: {}, 오류: {}", expoId, e.getMessage());
+            }
+        }
+        return reconciledCount;
+    }
+
+    // 확정 상태로 들어오거나 나갈 때만 증감
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onReservationStatusChanged(ReservationStatusChangedEvent event) {
+        boolean wasConfirmed = event.before() == ReservationStatus.CONFIRMED;
+        boolean isConfirmed = event.after() == ReservationStatus.CONFIRMED;
+        if (wasConfirmed == isConfirmed || !expoStatsCounterRepository.exists(event.expoId())) {
+            return;
+        }
+
+        long sign = isConfirmed ? 1 : -1;
+        Map<String, Long> deltas = new HashMap<>();
+        deltas.put(ExpoLiveCounters.SOLD, sign * event.quantity());
+        deltas.put(ExpoLiveCounters.salesField(event.reservedDate()), sign * event.quantity());
+
+        // 삭제된 예약은 예약자 정보가 없으므로 성별/연령은 재계산에서 맞춤
+        List<Reserver> reservers = reserverRepository.findByReservationId(event.reservationId());
+        for (Reserver reserver : reservers) {
+            deltas.merge(ExpoLiveCounters.genderField(reserver.getGender()), sign, Long::sum);
+            deltas.merge(ExpoLiveCounters.birthField(reserver.getBirth().getYear()), sign, Long::sum);
+        }
+        increment(event.expoId(), deltas);
+    }
+
+    // 카운터 반영 후 이벤트 발행 (스트림 프레임에 방금 체크인이 포함되도록 순서 유지)
+    private void applyCheckin(CheckinRecordedEvent event, Map<String, Long> deltas) {
+        increment(event.expoId(), deltas);
+        eventPublisher.publishEvent(event);
+    }
+
+    private void increment(Long expoId, Map<String, Long> deltas) {
+        try {
+            expoStatsCounterRepository.increment(expoId, deltas);
+        } catch (Exception e) {
+            // 다음 재계산에서 DB 기준으로 맞춰지므로 예외 전파하지 않음
+            log.warn("대시보드 집계 반영 실패 - expoId: {}, 오류: {}", expoId, e.getMessage());
+        }
+    }
+
+    private Map<String, Long> computeFromDb(Long expoId) {
+        Map<String, Long> counters = new HashMap<>();
+        LocalDate today = LocalDate.now();
+
+        counters.put(ExpoLiveCounters.SOLD, reservationRepository.countTotalReservationsByExpoId(expoId));
+
+        LocalDate salesFrom = today.minusDays(DAILY_SALES_DAYS - 1);
+        for (Object[] row : reservationRepository.countReservationsByDateRange(
+                expoId, salesFrom.atStartOfDay(), today.atTime(23, 59, 59))) {
+            counters.put(ExpoLiveCounters.salesField(toLocalDate(row[0])), ((Number) row[1]).longValue());
+        }
+
+        for (Object[] row : reserverRepository.countConfirmedReserversByGender(expoId)) {
+            counters.put(ExpoLiveCounters.genderField((Gender) row[0]), ((Number) row[1]).longValue());
+        }
+        for (Object[] row : reserverRepository.countConfirmedReserversByBirthYear(expoId)) {
+            counters.put(ExpoLiveCounters.birthField(((Number) row[0]).intValue()), ((Number) row[1]).longValue());
+        }
+
+        counters.put(ExpoLiveCounters.CHECKIN, qrCodeRepository.countSuccessfulCheckinsByExpoId(expoId));
+        for (Object[] row : qrCodeRepository.countHourlyCheckinsByExpoIdAndDate(expoId, today)) {
+            counters.put(ExpoLiveCounters.checkinField(today, ((Number) row[0]).intValue()),
+                    ((Number) row[1]).longValue());
+        }
+        return counters;
+    }
+
+    private LocalDate toLocalDate(Object value) {
+        if (value instanceof java.sql.Date sqlDate) {
+            return sqlDate.toLocalDate();
+        }
+        if (value instanceof LocalDate localDate) {
+            return localDate;
+        }
+        return LocalDate.parse(value.toString());
+    }
+}
@@ -1,89 +1,49 @@
 package com.myce.dashboard.service.expo.impl;
 
 import com.myce.dashboard.dto.expo.*;
+import com.myce.dashboard.service.expo.ExpoStatsCounterService;
 import com.myce.dashboard.service.expo.ReservationStatsService;
 import com.myce.dashboard.service.expo.mapper.DailyReservationMapper;
 import com.myce.dashboard.service.expo.mapper.GenderStatsMapper;
 import com.myce.dashboard.service.expo.mapper.AgeGroupStatsMapper;
 import com.myce.reservation.repository.ReservationRepository;
-import com.myce.reservation.repository.ReserverRepository;
 import com.myce.expo.repository.ExpoRepository;
 import com.myce.expo.entity.Expo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReservationStatsServiceImpl implements ReservationStatsService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final ExpoStatsCounterService expoStatsCounterService;
     private final ReservationRepository reservationRepository;
-    private final ReserverRepository reserverRepository;
     private final ExpoRepository expoRepository;
     private final DailyReservationMapper dailyReservationMapper;
     private final GenderStatsMapper genderStatsMapper;
     private final AgeGroupStatsMapper ageGroupStatsMapper;
 
-    private static final String REDIS_KEY_PREFIX = "expo:stats:";
-    private static final int CACHE_TTL_MINUTES = 3;         // 실시간 데이터용
-    private static final int HEAVY_CACHE_TTL_MINUTES = 10;  // 무거운 쿼리용
-
     @Override
     public ReservationStats getReservationStats(Long expoId) {
-        // Redis 우선 조회 후 없으면 DB 조회 + 캐시 저장 (실시간성 중요)
-        Long todayReservations = getCachedValueOrCompute(
-                expoId + ":reservations:today:v3",
-                () -> {
-                    LocalDate today = LocalDate.now();
-                    LocalDateTime startOfDay = today.atStartOfDay();
-                    LocalDateTime startOfNextDay = today.plusDays(1).atStartOfDay();
-                    return reservationRepository.countTodayReservationsByExpoId(expoId, startOfDay, startOfNextDay);
-                },
-                Long.class,
-                CACHE_TTL_MINUTES
-        );
-
-        List<DailyReservation> weeklyReservations = getWeeklyReservations(expoId);
-
-        // RDB에서 직접 조회할 데이터 (정확성 중요) - 캐싱 적용
-        Long totalReservations = getCachedValueOrCompute(
-                expoId + ":total_reservations:v5",
-                () -> reservationRepository.countTotalReservationsByExpoId(expoId),
-                Long.class,
-                HEAVY_CACHE_TTL_MINUTES
-        );
-
-        GenderStats genderStats = getCachedValueOrCompute(
-                expoId + ":gender_stats",
-                () -> getGenderStats(expoId),
-                GenderStats.class,
-                HEAVY_CACHE_TTL_MINUTES
-        );
-
-        AgeGroupStats ageGroupStats = getCachedValueOrCompute(
-                expoId + ":age_stats",
-                () -> getAgeGroupStats(expoId),
-                AgeGroupStats.class,
-                HEAVY_CACHE_TTL_MINUTES
-        );
+        // 예약 확정/취소 시 증감되는 실시간 카운터에서 조회
+        ExpoLiveCounters counters = expoStatsCounterService.getCounters(expoId);
 
         return ReservationStats.builder()
-                .todayReservations(todayReservations)
-                .weeklyReservations(weeklyReservations)
-                .totalReservations(totalReservations)
-                .genderStats(genderStats)
-                .ageGroupStats(ageGroupStats)
-                .dataSource("mixed")
+                .todayReservations(counters.getSalesOn(LocalDate.now()))
+                .weeklyReservations(getWeeklyReservations(expoId, counters))
+                .totalReservations(counters.getSold())
+                .genderStats(getGenderStats(counters))
+                .ageGroupStats(getAgeGroupStats(counters))
+                .dataSource("redis")
                 .build();
     }
 
@@ -100,16 +60,8 @@ public class ReservationStatsServiceImpl implements ReservationStatsService {
     public void refreshReservationCache(Long expoId) {
         log.info("예약 통계 캐시 갱신 시작 - ExpoId: {}", expoId);
 
-        // 캐시 키 삭제 후 다음 조회 시 자동으로 갱신되도록 함
-        String todayKey = REDIS_KEY_PREFIX + expoId + ":reservations:today:v3";
-        String totalKey = REDIS_KEY_PREFIX + expoId + ":total_reservations:v5";
-        String genderKey = REDIS_KEY_PREFIX + expoId + ":gender_stats";
-        String ageKey = REDIS_KEY_PREFIX + expoId + ":age_stats";
-
-        redisTemplate.delete(todayKey);
-        redisTemplate.delete(totalKey);
-        redisTemplate.delete(genderKey);
-        redisTemplate.delete(ageKey);
+        // DB 기준으로 실시간 카운터 다시 적재
+        expoStatsCounterService.refresh(expoId);
 
         log.info("예약 통계 캐시 갱신 완료 - ExpoId: {}", expoId);
     }
@@ -118,16 +70,8 @@ public class ReservationStatsServiceImpl implements ReservationStatsService {
     public void clearReservationCache(Long expoId) {
         log.info("예약 통계 캐시 완전 삭제 시작 - ExpoId: {}", expoId);
 
-        // 모든 예약 관련 캐시 키 삭제
-        String todayKey = REDIS_KEY_PREFIX + expoId + ":reservations:today:v3";
-        String totalKey = REDIS_KEY_PREFIX + expoId + ":total_reservations:v5";
-        String genderKey = REDIS_KEY_PREFIX + expoId + ":gender_stats:v2";
-        String ageKey = REDIS_KEY_PREFIX + expoId + ":age_stats:v2";
-
-        redisTemplate.delete(todayKey);
-        redisTemplate.delete(totalKey);
-        redisTemplate.delete(genderKey);
-        redisTemplate.delete(ageKey);
+        // 실시간 카운터 삭제 (다음 조회 시 DB 기준으로 적재)
+        expoStatsCounterService.evict(expoId);
 
         log.info("예약 통계 캐시 완전 삭제 완료 - ExpoId: {}", expoId);
     }
@@ -142,7 +86,7 @@ public class ReservationStatsServiceImpl implements ReservationStatsService {
 
     // === 헬퍼 메서드들 ===
 
-    private List<DailyReservation> getWeeklyReservations(Long expoId) {
+    private List<DailyReservation> getWeeklyReservations(Long expoId, ExpoLiveCounters counters) {
         // 박람회 게시 기간 조회
         Expo expo = expoRepository.findById(expoId)
                 .orElseThrow(() -> new RuntimeException("박람회를 찾을 수 없습니다."));
@@ -164,81 +108,47 @@ public class ReservationStatsServiceImpl implements ReservationStatsService {
             }
         }
 
-        // 실제 데이터 조회
+        // 최근 7일은 카운터에 일별 판매 수량이 있으므로 DB 조회 없이 구성
+        if (endDate.equals(today)) {
+            List<DailyReservation> result = new ArrayList<>();
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                result.add(dailyReservationMapper.mapFromDateAndCount(date, counters.getSalesOn(date)));
+            }
+            return result;
+        }
+
+        // 게시가 끝난 박람회는 기간 조회
         return getWeeklyReservationsByDateRange(expoId, startDate, endDate);
     }
 
-    private GenderStats getGenderStats(Long expoId) {
-        List<Object[]> genderResults = reserverRepository.countReserversByGender(expoId);
+    private GenderStats getGenderStats(ExpoLiveCounters counters) {
+        List<Object[]> genderResults = new ArrayList<>();
+        counters.getGenderCounts().forEach((gender, count) -> genderResults.add(new Object[]{gender, count}));
         return genderStatsMapper.mapFromQueryResults(genderResults);
     }
 
-    private AgeGroupStats getAgeGroupStats(Long expoId) {
-        List<Object[]> ageResults = reserverRepository.countReserversByAgeGroup(expoId);
-        return ageGroupStatsMapper.mapFromQueryResults(ageResults);
-    }
-
-    /**
-     * 캐시에서 값 조회
-     */
-    @SuppressWarnings("unchecked")
-    private <T> T getCachedValue(String key, Class<T> type) {
-        try {
-            Object value = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + key);
-            if (value == null) {
-                return null;
-            }
-
-            if (type == Long.class && value instanceof Number) {
-                return (T) Long.valueOf(((Number) value).longValue());
-            } else if (type == Integer.class && value instanceof Number) {
-                return (T) Integer.valueOf(((Number) value).intValue());
-            } else if (type == BigDecimal.class && value instanceof Number) {
-                return (T) new BigDecimal(value.toString());
-            } else if (value instanceof LinkedHashMap) {
-                // Redis에서 복합 객체가 LinkedHashMap으로 역직렬화되는 경우
-                // 복합 객체는 캐시 미스로 처리하여 재계산하도록 함
-                return null;
-            }
+    private AgeGroupStats getAgeGroupStats(ExpoLiveCounters counters) {
+        // 출생 연도별 카운터를 현재 연도 기준 연령대로 묶음 (연도가 바뀌어도 카운터는 그대로 사용)
+        int currentYear = LocalDate.now().getYear();
+        Map<String, Long> ageGroups = new TreeMap<>();
+        counters.getBirthYearCounts().forEach((birthYear, count) ->
+                ageGroups.merge(toAgeGroup(currentYear - birthYear), count, Long::sum));
 
-            return (T) value;
-        } catch (Exception e) {
-            log.warn("Redis 조회 실패: {}", key, e);
-            return null;
-        }
+        List<Object[]> ageResults = new ArrayList<>();
+        ageGroups.forEach((ageGroup, count) -> ageResults.add(new Object[]{ageGroup, count}));
+        return ageGroupStatsMapper.mapFromQueryResults(ageResults);
     }
 
-    /**
-     * 캐시에서 값을 조회하고, 없으면 supplier로 계산한 후 캐시에 저장
-     */
-    @SuppressWarnings("unchecked")
-    private <T> T getCachedValueOrCompute(String key, java.util.function.Supplier<T> supplier,
-                                          Class<T> type, int ttlMinutes) {
-        try {
-            // 1. 캐시에서 조회
-            T cachedValue = getCachedValue(key, type);
-            if (cachedValue != null) {
-                return cachedValue;
-            }
-
-            // 2. 캐시 미스 시 실제 데이터 조회
-            T computedValue = supplier.get();
-
-            // 3. 캐시에 저장
-            if (computedValue != null) {
-                redisTemplate.opsForValue().set(
-                        REDIS_KEY_PREFIX + key,
-                        computedValue,
-                        ttlMinutes,
-                        TimeUnit.MINUTES
-                );
-            }
-
-            return computedValue;
-        } catch (Exception e) {
-            log.warn("캐시 조회/저장 실패: {}", key, e);
-            // 캐시 실패 시 직접 조회
-            return supplier.get();
+    private String toAgeGroup(int age) {
+        if (age < 20) {
+            return "10-19";
+        } else if (age < 30) {
+            return "20-29";
+        } else if (age < 40) {
+            return "30-39";
+        } else if (age < 50) {
+            return "40-49";
         }
+        return "50+";
     }
-}
\ No newline at end of file
+}
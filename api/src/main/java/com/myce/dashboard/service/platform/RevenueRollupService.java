@@ -0,0 +1,15 @@
+package com.myce.dashboard.service.platform;
+
+import java.time.LocalDate;
+
+public interface RevenueRollupService {
+
+    // 하루치 수익/환불/정산 건수를 원본 테이블과 결제 서비스에서 다시 집계하여 저장
+    void rollup(LocalDate date);
+
+    // 야간 배치 - 최근 며칠 재집계 + 누락된 과거 날짜 백필, 처리한 날짜 수 반환
+    int refreshClosedDays();
+
+    // 당일 집계 갱신
+    void refreshToday();
+}
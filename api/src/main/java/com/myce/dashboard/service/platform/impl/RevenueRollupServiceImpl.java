@@ -0,0 +1,152 @@
+package com.myce.dashboard.service.platform.impl;
+
+import com.myce.advertisement.entity.type.AdvertisementStatus;
+import com.myce.client.payment.service.RefundInternalService;
+import com.myce.dashboard.service.platform.RevenueRollupService;
+import com.myce.expo.entity.type.ExpoStatus;
+import com.myce.payment.entity.type.PaymentTargetType;
+import com.myce.payment.repository.AdPaymentInfoRepository;
+import com.myce.payment.repository.ExpoPaymentInfoRepository;
+import com.myce.settlement.entity.code.SettlementStatus;
+import com.myce.settlement.repository.RevenueDailyRollupRepository;
+import com.myce.settlement.repository.SettlementRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 플랫폼 수익 일별 집계 구현체
+ * - 날짜 기준은 바뀌지 않는 시각 사용 (정산/결제 createdAt, 환불 refundedAt, 정산 settlementAt)
+ *   수정 시각 기준이면 행이 수정될 때 다른 날짜로 옮겨가 이전 날짜 집계가 맞지 않게 됨
+ * - 박람회/광고 상태 조건은 집계 시점 기준이므로 최근 recompute-days 일은 매일 다시 집계하고,
+ *   그 기간에 결제/정산 또는 박람회/광고 상태가 바뀐 행이 속한 과거 날짜도 다시 집계
+ * - 과거 날짜 백필은 한 번에 backfill-batch-days 일씩 나눠서 진행 (결제 서비스 호출량 제한)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RevenueRollupServiceImpl implements RevenueRollupService {
+
+    private final RevenueDailyRollupRepository revenueDailyRollupRepository;
+    private final SettlementRepository settlementRepository;
+    private final ExpoPaymentInfoRepository expoPaymentInfoRepository;
+    private final AdPaymentInfoRepository adPaymentInfoRepository;
+    private final RefundInternalService refundInternalService;
+
+    @Value("${revenue-rollup.recompute-days:7}")
+    private int recomputeDays;
+
+    @Value("${revenue-rollup.backfill-days:1095}")
+    private int backfillDays;
+
+    @Value("${revenue-rollup.backfill-batch-days:120}")
+    private int backfillBatchDays;
+
+    @Override
+    public void rollup(LocalDate date) {
+        LocalDateTime from = date.atStartOfDay();
+        LocalDateTime to = date.atTime(LocalTime.MAX);
+
+        long ticketRevenue = orZero(settlementRepository
+                .sumRevenueByStatusAndCreatedAtBetween(ExpoStatus.ACTIVE_STATUSES, from, to));
+        long expoDeposit = orZero(expoPaymentInfoRepository
+                .sumTotalAmountByStatusesAndCreatedAtBetween(ExpoStatus.ACTIVE_STATUSES, from, to));
+        long adRevenue = orZero(adPaymentInfoRepository
+                .sumTotalAmountByStatusAndCreatedAtBetween(AdvertisementStatus.ADMIN_VIEWABLE_STATUSES, from, to));
+        long settlementCount = orZero(settlementRepository
+                .countSettlementBySettlementAtBetweenAndSettlementStatus(from, to, SettlementStatus.APPROVED));
+        long expoRefund = sumRefund(PaymentTargetType.EXPO, date);
+        long adRefund = sumRefund(PaymentTargetType.AD, date);
+
+        revenueDailyRollupRepository.upsert(date, ticketRevenue + expoDeposit, adRevenue,
+                expoRefund, adRefund, settlementCount);
+    }
+
+    @Override
+    public int refreshClosedDays() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        int processed = 0;
+
+        // 1. 상태 변경이 늦게 반영될 수 있는 최근 날짜는 항상 재집계
+        LocalDate recomputeFrom = yesterday.minusDays(recomputeDays - 1L);
+        for (LocalDate date = yesterday; !date.isBefore(recomputeFrom); date = date.minusDays(1)) {
+            processed += rollupSafely(date);
+        }
+
+        // 2. 최근 변경된 행이 속한 과거 날짜 재집계
+        int changed = 0;
+        for (LocalDate date : findChangedDatesBefore(recomputeFrom, recomputeFrom.atStartOfDay())) {
+            changed += rollupSafely(date);
+        }
+        if (changed > 0) {
+            log.info("수익 일별 집계 변경분 재집계 - {}일", changed);
+        }
+        processed += changed;
+
+        // 3. 집계 행이 없는 과거 날짜 백필 (최근 날짜부터)
+        LocalDate backfillFrom = yesterday.minusDays(backfillDays - 1L);
+        LocalDate backfillTo = yesterday.minusDays(recomputeDays);
+        if (backfillTo.isBefore(backfillFrom)) {
+            return processed;
+        }
+        Set<LocalDate> existing = new HashSet<>(
+                revenueDailyRollupRepository.findStatDatesBetween(backfillFrom, backfillTo));
+        int backfilled = 0;
+        for (LocalDate date = backfillTo; !date.isBefore(backfillFrom) && backfilled < backfillBatchDays;
+             date = date.minusDays(1)) {
+            if (!existing.contains(date)) {
+                backfilled += rollupSafely(date);
+            }
+        }
+        if (backfilled > 0) {
+            log.info("수익 일별 집계 백필 - {}일", backfilled);
+        }
+        return processed + backfilled;
+    }
+
+    @Override
+    public void refreshToday() {
+        rollupSafely(LocalDate.now());
+    }
+
+    private int rollupSafely(LocalDate date) {
+        try {
+            rollup(date);
+            return 1;
+        } catch (Exception e) {
+            // 실패한 날짜는 다음 실행에서 다시 집계
+            log.warn("수익 일별 집계 실패 - 날짜: {}, 오류: {}", date, e.getMessage());
+            return 0;
+        }
+    }
+
+    private Set<LocalDate> findChangedDatesBefore(LocalDate before, LocalDateTime since) {
+        Set<LocalDate> dates = new TreeSet<>();
+        Stream.of(settlementRepository.findCreatedAtChangedSince(since),
+                        expoPaymentInfoRepository.findCreatedAtChangedSince(since),
+                        adPaymentInfoRepository.findCreatedAtChangedSince(since))
+                .flatMap(List::stream)
+                .map(LocalDateTime::toLocalDate)
+                .filter(date -> date.isBefore(before))
+                .forEach(dates::add);
+        return dates;
+    }
+
+    private long sumRefund(PaymentTargetType targetType, LocalDate date) {
+        return orZero(refundInternalService.sumRefundAmount(targetType, date, date).getTotalAmount());
+    }
+
+    private long orZero(Long value) {
+        return Optional.ofNullable(value).orElse(0L);
+    }
+}
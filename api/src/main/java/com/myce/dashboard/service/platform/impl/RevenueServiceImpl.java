@@ -1,7 +1,5 @@
 package com.myce.dashboard.service.platform.impl;
 
-import com.myce.advertisement.entity.type.AdvertisementStatus;
-import com.myce.client.payment.service.RefundInternalService;
 import com.myce.dashboard.dto.platform.DashboardChartData;
 import com.myce.dashboard.dto.platform.DashboardSummary;
 import com.myce.dashboard.dto.platform.RevenueDashboardResponse;
@@ -10,37 +8,42 @@ import com.myce.dashboard.record.CheckDivideZero;
 import com.myce.dashboard.service.platform.RevenueService;
 import com.myce.dashboard.service.platform.mapper.PlatformDashboardMapper;
 import com.myce.dashboard.util.ChartUtil;
-import com.myce.expo.entity.type.ExpoStatus;
-import com.myce.payment.entity.type.PaymentTargetType;
-import com.myce.payment.repository.AdPaymentInfoRepository;
-import com.myce.payment.repository.ExpoPaymentInfoRepository;
-import com.myce.settlement.entity.code.SettlementStatus;
-import com.myce.settlement.repository.SettlementRepository;
+import com.myce.settlement.entity.RevenueDailyRollup;
+import com.myce.settlement.repository.RevenueDailyRollupRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
 
 import static com.myce.dashboard.util.ComparisonUtil.getCheckDivideZero;
 
+/**
+ * 플랫폼 수익 대시보드
+ * - revenue_daily_rollup 을 한 번 범위 조회한 뒤 요약/차트를 모두 메모리에서 합산
+ * - 기간 N일은 오늘을 포함한 최근 N일, 집계 행이 없는 날짜는 0으로 계산
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RevenueServiceImpl implements RevenueService {
-    private final SettlementRepository settlementRepository;
-    private final ExpoPaymentInfoRepository expoPaymentInfoRepository;
-    private final AdPaymentInfoRepository adPaymentInfoRepository;
-    private final RefundInternalService refundInternalService;
+    private final RevenueDailyRollupRepository revenueDailyRollupRepository;
 
     public RevenueDashboardResponse getSettlementDashboard(PeriodType period, Long size) {
         Long periodTime = PeriodType.getNumberOfDays(period);
 
-        List<DashboardSummary> settlementSummaries = gatherSummary(periodTime);
-        DashboardChartData chartData = getChartData(periodTime, size);
+        LocalDate today = LocalDate.now();
+        long spanDays = Math.max(periodTime * 2, periodTime * size);
+        DailyRollups rollups = new DailyRollups(revenueDailyRollupRepository
+                .findByStatDateBetween(today.minusDays(spanDays), today));
+
+        List<DashboardSummary> settlementSummaries = gatherSummary(rollups, today, periodTime);
+        DashboardChartData chartData = getChartData(rollups, today, periodTime, size);
 
         return RevenueDashboardResponse.builder()
                 .summaryItems(settlementSummaries)
@@ -48,148 +51,59 @@ public class RevenueServiceImpl implements RevenueService {
                 .build();
     }
 
-    public List<DashboardSummary> gatherSummary(Long periodTime) {
+    private List<DashboardSummary> gatherSummary(DailyRollups rollups, LocalDate today, Long period) {
         return List.of(
-                getExpoBenefit(periodTime),
-                getAdBenefit(periodTime),
-                getTotalExpoRefund(periodTime),
-                getTotalAdRefund(periodTime),
-                getTotalSettlement(periodTime),
-                getTotalBenefit(periodTime)
+                toSummary("박람회 수익", rollups, today, period, period, RevenueDailyRollup::getExpoRevenue),
+                toSummary("광고 수익", rollups, today, period, period, RevenueDailyRollup::getAdRevenue),
+                toSummary("박람회 환불", rollups, today, period, 1L, RevenueDailyRollup::getExpoRefund),
+                toSummary("광고 환불", rollups, today, period, 1L, RevenueDailyRollup::getAdRefund),
+                toSummary("총 정산 수", rollups, today, period, period, RevenueDailyRollup::getSettlementCount),
+                toSummary("총 수익", rollups, today, period, period, RevenueDailyRollup::getTotalBenefit)
         );
     }
 
-    public DashboardSummary getTotalSettlement(Long period) {
-        LocalDateTime endDate = LocalDateTime.now();
-        LocalDateTime startDate = endDate.minusDays(period);
-        log.info("getTotalSettlement: startDate: {}, endDate: {}", startDate, endDate);
-        Long currentResult = settlementRepository
-                .countSettlementBySettlementAtBetweenAndSettlementStatus(startDate, endDate,
-                        SettlementStatus.APPROVED);
-        Long pastResult = settlementRepository
-                .countSettlementBySettlementAtBetweenAndSettlementStatus(startDate.minusDays(period),
-                        endDate.minusDays(period), SettlementStatus.APPROVED);
+    // 현재 기간과 compareOffset 일 전 기간을 비교 (환불은 기존과 동일하게 하루 전 기간과 비교)
+    private DashboardSummary toSummary(String label, DailyRollups rollups, LocalDate today, Long period,
+                                       Long compareOffset, ToLongFunction<RevenueDailyRollup> metric) {
+        long currentResult = rollups.sum(today, period, metric);
+        long pastResult = rollups.sum(today.minusDays(compareOffset), period, metric);
 
         CheckDivideZero comparisonInfo = getCheckDivideZero(pastResult, currentResult);
 
-        return PlatformDashboardMapper.toSummary("총 정산 수", currentResult,
+        return PlatformDashboardMapper.toSummary(label, currentResult,
                 comparisonInfo.compareRatio(), comparisonInfo.isTrending());
     }
 
-    public DashboardSummary getExpoBenefit(Long period) {
-        LocalDateTime endDate = LocalDateTime.now();
-        LocalDateTime startDate = endDate.minusDays(period);
-
-        long currentResult = getTotalExpoBenefitInPeriod(startDate, endDate);
-        long pastResult = getTotalExpoBenefitInPeriod(startDate.minusDays(period), endDate.minusDays(period));
-
-        CheckDivideZero comparisonInfo = getCheckDivideZero(pastResult, currentResult);
-
-        return PlatformDashboardMapper.toSummary("박람회 수익", currentResult,
-                comparisonInfo.compareRatio(), comparisonInfo.isTrending());
-    }
-
-    public DashboardSummary getAdBenefit(Long period) {
-        LocalDateTime endDate = LocalDateTime.now();
-        LocalDateTime startDate = endDate.minusDays(period);
-
-        long currentResult = getTotalAdBenefitInPeriod(startDate, endDate);
-        long pastResult = getTotalAdBenefitInPeriod(startDate.minusDays(period), endDate.minusDays(period));
-
-        CheckDivideZero comparisonInfo = getCheckDivideZero(pastResult, currentResult);
-
-        return PlatformDashboardMapper.toSummary("광고 수익", currentResult,
-                comparisonInfo.compareRatio(), comparisonInfo.isTrending());
-    }
-
-    public DashboardSummary getTotalExpoRefund(Long period) {
-        LocalDateTime endDate = LocalDateTime.now();
-        LocalDateTime startDate = endDate.minusDays(period);
-
-        long currentResult = getTotalExpoRefundInPeriod(startDate, endDate);
-        long pastResult = getTotalExpoRefundInPeriod(startDate.minusDays(1), endDate.minusDays(1));
-
-        CheckDivideZero comparisonInfo = getCheckDivideZero(pastResult, currentResult);
-
-        return PlatformDashboardMapper.toSummary("박람회 환불", currentResult, comparisonInfo.compareRatio(), comparisonInfo.isTrending());
-    }
-
-    public DashboardSummary getTotalAdRefund(Long period) {
-        LocalDateTime endDate = LocalDateTime.now();
-        LocalDateTime startDate = endDate.minusDays(period);
-
-        long currentResult = getTotalAdRefundInPeriod(startDate, endDate);
-        long pastResult = getTotalAdRefundInPeriod(startDate.minusDays(1), endDate.minusDays(1));
-
-        CheckDivideZero comparisonInfo = getCheckDivideZero(pastResult,currentResult);
-
-        return PlatformDashboardMapper.toSummary("광고 환불", currentResult, comparisonInfo.compareRatio(), comparisonInfo.isTrending());
-    }
-
-    public DashboardSummary getTotalBenefit(Long period) {
-        LocalDateTime endDate = LocalDateTime.now();
-        LocalDateTime startDate = endDate.minusDays(period);
-
-        long currentResult = getTotalBenefitInPeriod(startDate, endDate);
-        long pastResult = getTotalBenefitInPeriod(startDate.minusDays(period), endDate.minusDays(period));
-
-        CheckDivideZero comparisonInfo = getCheckDivideZero(pastResult, currentResult);
-
-        return PlatformDashboardMapper.toSummary("총 수익", currentResult, comparisonInfo.compareRatio(), comparisonInfo.isTrending());
-    }
-
-    public DashboardChartData getChartData(Long period, Long size) {
+    private DashboardChartData getChartData(DailyRollups rollups, LocalDate today, Long period, Long size) {
         List<Long> data = new ArrayList<>();
-        LocalDateTime endDate = LocalDateTime.now();
+        LocalDate endDate = today;
 
         for (int i = 0; i < size; i++) {
-            LocalDateTime startDate = endDate.minusDays(period);
-            long totalBenefit = getTotalBenefitInPeriod(startDate, endDate);
-            data.add(totalBenefit);
-            endDate = startDate;
+            data.add(rollups.sum(endDate, period, RevenueDailyRollup::getTotalBenefit));
+            endDate = endDate.minusDays(period);
         }
 
         return ChartUtil.getDashboardChartData(period, size, data);
     }
 
-    private long getTotalExpoRefundInPeriod(LocalDateTime startDate, LocalDateTime endDate) {
-        return Optional.ofNullable(refundInternalService
-                .sumRefundAmount(PaymentTargetType.EXPO, startDate.toLocalDate(), endDate.toLocalDate())
-                .getTotalAmount())
-                .orElse(0L);
-    }
-
-    private long getTotalAdRefundInPeriod(LocalDateTime startDate, LocalDateTime endDate) {
-        return Optional.ofNullable(refundInternalService
-                .sumRefundAmount(PaymentTargetType.AD, startDate.toLocalDate(), endDate.toLocalDate())
-                .getTotalAmount())
-                .orElse(0L);
-    }
-
-    private long getTotalBenefitInPeriod(LocalDateTime startDate, LocalDateTime endDate) {
-        long expoBenefit = getTotalExpoBenefitInPeriod(startDate, endDate);
-        long adBenefit = getTotalAdBenefitInPeriod(startDate, endDate);
-        long expoRefund = getTotalExpoRefundInPeriod(startDate, endDate);
-        long adRefund = getTotalAdRefundInPeriod(startDate, endDate);
-        return expoBenefit + adBenefit - expoRefund - adRefund;
-    }
+    private static class DailyRollups {
+        private final Map<LocalDate, RevenueDailyRollup> byDate;
 
-    private long getTotalExpoBenefitInPeriod(LocalDateTime startDate, LocalDateTime endDate) {
-        Long ticketBenefit = Optional.ofNullable(settlementRepository
-                        .sumRevenueByStatusAndUpdatedAtBetween(ExpoStatus.ACTIVE_STATUSES, startDate, endDate))
-                .orElse(0L);
-        Long applyDeposit = Optional.ofNullable(expoPaymentInfoRepository
-                        .sumTotalAmountByStatusesAndUpdatedAtBetween(ExpoStatus.ACTIVE_STATUSES, startDate, endDate))
-                .orElse(0L);
-
-        return ticketBenefit + applyDeposit;
-    }
-
-    private long getTotalAdBenefitInPeriod(LocalDateTime startDate, LocalDateTime endDate) {
-        Long adBenefit = Optional.ofNullable(adPaymentInfoRepository
-                        .sumTotalAmountByStatusAndUpdatedAtBetween(AdvertisementStatus.ADMIN_VIEWABLE_STATUSES, startDate, endDate))
-                .orElse(0L);
+        private DailyRollups(List<RevenueDailyRollup> rollups) {
+            this.byDate = rollups.stream()
+                    .collect(Collectors.toMap(RevenueDailyRollup::getStatDate, rollup -> rollup));
+        }
 
-        return adBenefit;
+        // endDate 를 포함한 최근 days 일 합계
+        private long sum(LocalDate endDate, long days, ToLongFunction<RevenueDailyRollup> metric) {
+            long total = 0;
+            for (long i = 0; i < days; i++) {
+                RevenueDailyRollup rollup = byDate.get(endDate.minusDays(i));
+                if (rollup != null) {
+                    total += metric.applyAsLong(rollup);
+                }
+            }
+            return total;
+        }
     }
-}
\ No newline at end of file
+}
@@ -71,17 +71,33 @@ public class InformationController {
 
         // 기간 from/to 자동 계산 (from/to 없을 때만)
         if (period != null && from == null && to == null) {
-            int months = switch (period) { case 1,3,6,12 -> period; default -> 3; };
-            LocalDate start = LocalDate.now(ZoneId.of("Asia/Seoul")); // Today
-            LocalDate end = start.plusMonths(months); // Future date
-            from = start;
-            to   = end;
+            from = periodStart();
+            to = periodEnd(period);
         }
 
         Page<ExpoCardResponse> expoCardsPage = expoInfoService.getExpoCardsFiltered(memberId, category, status, from, to, keyword, pageable);
         return ResponseEntity.ok(expoCardsPage);
     }
 
+    // 박람회 검색 패싯 (카테고리/월별 건수)
+    @GetMapping("/facets")
+    public ResponseEntity<ExpoSearchFacetResponse> getExpoSearchFacets(
+        @RequestParam(required=false) String keyword,
+        @RequestParam(required=false) String category,
+        @RequestParam(required=false) String status,
+        @RequestParam(required=false) Integer period,
+        @RequestParam(required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        if (period != null && from == null && to == null) {
+            from = periodStart();
+            to = periodEnd(period);
+        }
+        return ResponseEntity.ok(expoInfoService.getExpoSearchFacets(category, status, from, to, keyword));
+    }
+
     // 박람회 기본 정보 조회
     @GetMapping("/{expoId}/basic")
     public ResponseEntity<ExpoBasicResponse> getExpoBasicInfo(@PathVariable Long expoId) {
@@ -121,6 +137,15 @@ public class InformationController {
         return ResponseEntity.ok(booths);
     }
 
+    private LocalDate periodStart() {
+        return LocalDate.now(ZoneId.of("Asia/Seoul")); // Today
+    }
+
+    private LocalDate periodEnd(int period) {
+        int months = switch (period) { case 1,3,6,12 -> period; default -> 3; };
+        return periodStart().plusMonths(months); // Future date
+    }
+
     private Long getCurrentMemberIdOrNull(){
         try {
             var auth = SecurityContextHolder.getContext().getAuthentication();
@@ -11,6 +11,9 @@ import com.myce.expo.entity.Expo;
 import com.myce.expo.repository.ExpoRepository;
 import com.myce.common.exception.CustomErrorCode;
 import com.myce.common.exception.CustomException;
+import com.myce.payment.dto.ExpoRefundJobResponse;
+import com.myce.payment.service.refund.ExpoRefundJobService;
+import com.myce.reservation.service.WaitingRoomService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -32,6 +35,8 @@ public class ExpoPlatformController {
     private final PlatformExpoManageService platformExpoManageService;
     private final MemberExpoService memberExpoService;
     private final ExpoRepository expoRepository;
+    private final WaitingRoomService waitingRoomService;
+    private final ExpoRefundJobService expoRefundJobService;
 
     /**
      * 박람회 신청 목록 조회
@@ -186,6 +191,22 @@ public class ExpoPlatformController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 박람회 취소 예약자 환불 진행 현황 조회
+     */
+    @GetMapping("/{expoId}/refund-job")
+    public ResponseEntity<ExpoRefundJobResponse> getRefundJob(@PathVariable Long expoId) {
+        return ResponseEntity.ok(expoRefundJobService.getJob(expoId));
+    }
+
+    /**
+     * 박람회 취소 예약자 환불 실패 건 재시도
+     */
+    @PostMapping("/{expoId}/refund-job/retry")
+    public ResponseEntity<ExpoRefundJobResponse> retryRefundJob(@PathVariable Long expoId) {
+        return ResponseEntity.ok(expoRefundJobService.retryFailed(expoId));
+    }
+
     /**
      * 박람회 정산 승인
      */
@@ -224,4 +245,22 @@ public class ExpoPlatformController {
 
         return ResponseEntity.ok(platformExpoQueryService.getExpoAdminInfo(expoId));
     }
-}
\ No newline at end of file
+
+    /**
+     * 박람회 예매 대기열 시작 (인기 박람회 오픈 시)
+     */
+    @PostMapping("/{expoId}/waiting-room")
+    public ResponseEntity<Void> openWaitingRoom(@PathVariable Long expoId) {
+        waitingRoomService.open(expoId);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 박람회 예매 대기열 종료
+     */
+    @DeleteMapping("/{expoId}/waiting-room")
+    public ResponseEntity<Void> closeWaitingRoom(@PathVariable Long expoId) {
+        waitingRoomService.close(expoId);
+        return ResponseEntity.noContent().build();
+    }
+}
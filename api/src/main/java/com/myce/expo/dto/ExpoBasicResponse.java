@@ -3,13 +3,15 @@ package com.myce.expo.dto;
 import com.myce.expo.entity.type.ExpoStatus;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@Jacksonized
 public class ExpoBasicResponse {
     private Long expoId;
     private String title;
@@ -43,6 +45,7 @@ public class ExpoBasicResponse {
     
     @Getter
     @Builder
+    @Jacksonized
     public static class OrganizerInfo {
         private String companyName;
         private String ceoName;
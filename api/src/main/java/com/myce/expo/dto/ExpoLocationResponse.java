@@ -2,11 +2,13 @@ package com.myce.expo.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.math.BigDecimal;
 
 @Getter
 @Builder
+@Jacksonized
 public class ExpoLocationResponse {
     private Long expoId;
     private String expoTitle;
@@ -2,12 +2,14 @@ package com.myce.expo.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
 @Builder
+@Jacksonized
 public class ExpoReviewsResponse {
     private Long expoId;
     private String expoTitle;
@@ -18,6 +20,7 @@ public class ExpoReviewsResponse {
     
     @Getter
     @Builder
+    @Jacksonized
     public static class RatingSummary {
         private Integer fiveStars;
         private Integer fourStars;
@@ -28,6 +31,7 @@ public class ExpoReviewsResponse {
     
     @Getter
     @Builder
+    @Jacksonized
     public static class ReviewInfo {
         private Long reviewId;
         private String memberName;
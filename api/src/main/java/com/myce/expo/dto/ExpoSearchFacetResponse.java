@@ -0,0 +1,28 @@
+package com.myce.expo.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ExpoSearchFacetResponse {
+    private List<CategoryFacet> categories;
+    private List<MonthFacet> months;
+
+    @Getter
+    @AllArgsConstructor
+    public static class CategoryFacet {
+        private Long categoryId;
+        private String name;
+        private long count;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class MonthFacet {
+        private String month; // yyyy-MM
+        private long count;
+    }
+}
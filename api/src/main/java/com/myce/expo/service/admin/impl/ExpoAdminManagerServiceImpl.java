@@ -3,6 +3,7 @@ package com.myce.expo.service.admin.impl;
 import com.myce.auth.dto.type.LoginType;
 import com.myce.common.exception.CustomErrorCode;
 import com.myce.common.exception.CustomException;
+import com.myce.common.permission.ExpoAccessSnapshotCache;
 import com.myce.common.permission.ExpoAdminAccessValidate;
 import com.myce.common.permission.ExpoAdminPermission;
 import com.myce.expo.dto.ExpoAdminManagerRequest;
@@ -25,6 +26,7 @@ import java.util.stream.Collectors;
 public class ExpoAdminManagerServiceImpl implements ExpoAdminManagerService {
 
     private final ExpoAdminAccessValidate expoAdminAccessValidate;
+    private final ExpoAccessSnapshotCache expoAccessSnapshotCache;
     private final AdminCodeRepository adminCodeRepository;
     private final ExpoAdminMangerMapper mapper;
 
@@ -71,6 +73,9 @@ public class ExpoAdminManagerServiceImpl implements ExpoAdminManagerService {
             }
         });
 
+        // 관리 코드 권한이 바뀌었으므로 커밋 이후 권한 스냅샷 무효화
+        expoAccessSnapshotCache.evict(expoId);
+
         return adminCodes.stream()
                 .map(mapper::toDto)
                 .toList();
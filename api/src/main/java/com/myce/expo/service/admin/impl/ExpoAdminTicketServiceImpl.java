@@ -14,6 +14,9 @@ import com.myce.expo.repository.ExpoRepository;
 import com.myce.expo.repository.TicketRepository;
 import com.myce.expo.service.admin.ExpoAdminTicketService;
 import com.myce.expo.service.admin.mapper.ExpoAdminTicketMapper;
+import com.myce.expo.service.cache.ExpoDetailCacheService;
+import com.myce.expo.service.cache.ExpoDetailCacheService.Section;
+import com.myce.expo.service.info.TicketInventoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +33,8 @@ public class ExpoAdminTicketServiceImpl implements ExpoAdminTicketService {
     private final TicketRepository ticketRepository;
     private final ExpoRepository expoRepository;
     private final ExpoAdminTicketMapper mapper;
+    private final TicketInventoryService ticketInventoryService;
+    private final ExpoDetailCacheService expoDetailCacheService;
     private static final ZoneId APP_ZONE = ZoneId.of("Asia/Seoul");
 
     @Override
@@ -56,6 +61,8 @@ public class ExpoAdminTicketServiceImpl implements ExpoAdminTicketService {
         ensureTicketEditable(ticket);
 
         ticketRepository.delete(ticket);
+        ticketInventoryService.evict(ticketId);
+        expoDetailCacheService.evict(expoId, Section.BASIC);
     }
 
     @Override
@@ -69,6 +76,7 @@ public class ExpoAdminTicketServiceImpl implements ExpoAdminTicketService {
         Expo expo =  getMyExpo(expoId);
         Ticket ticket = mapper.toEntity(dto,expo);
         Ticket saved = ticketRepository.save(ticket);
+        expoDetailCacheService.evict(expoId, Section.BASIC);
 
         return mapper.toDto(saved);
     }
@@ -103,6 +111,8 @@ public class ExpoAdminTicketServiceImpl implements ExpoAdminTicketService {
                 dto.getUseStartDate(),
                 dto.getUseEndDate()
         );
+        ticketInventoryService.evict(ticketId);
+        expoDetailCacheService.evict(expoId, Section.BASIC);
 
        return mapper.toDto(ticket);
     }
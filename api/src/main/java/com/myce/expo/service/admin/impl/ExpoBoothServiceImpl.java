@@ -13,6 +13,8 @@ import com.myce.expo.repository.BoothRepository;
 import com.myce.expo.repository.ExpoRepository;
 import com.myce.expo.service.admin.ExpoBoothService;
 import com.myce.expo.service.admin.mapper.BoothMapper;
+import com.myce.expo.service.cache.ExpoDetailCacheService;
+import com.myce.expo.service.cache.ExpoDetailCacheService.Section;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,6 +31,7 @@ public class ExpoBoothServiceImpl implements ExpoBoothService {
     private final ExpoRepository expoRepository;
     private final BoothMapper boothMapper;
     private final ExpoAdminAccessValidate expoAdminAccessValidate;
+    private final ExpoDetailCacheService expoDetailCacheService;
 
     @Override
     public BoothResponse saveBooth(Long expoId, BoothRequest request, LoginType loginType, Long principalId) {
@@ -40,6 +43,7 @@ public class ExpoBoothServiceImpl implements ExpoBoothService {
 
         Booth booth = boothMapper.toEntity(request, expo);
         Booth savedBooth = boothRepository.save(booth);
+        expoDetailCacheService.evict(expoId, Section.BOOTHS);
         return boothMapper.toResponse(savedBooth);
     }
 
@@ -71,6 +75,7 @@ public class ExpoBoothServiceImpl implements ExpoBoothService {
                 request.getIsPremium(),
                 request.getDisplayRank()
         );
+        expoDetailCacheService.evict(expoId, Section.BOOTHS);
 
         return boothMapper.toResponse(booth);
     }
@@ -80,6 +85,7 @@ public class ExpoBoothServiceImpl implements ExpoBoothService {
         expoAdminAccessValidate.ensureEditable(expoId, principalId, loginType, ExpoAdminPermission.BOOTH_INFO_UPDATE);
         Booth booth = getBoothAndValidate(expoId, boothId);
         boothRepository.delete(booth);
+        expoDetailCacheService.evict(expoId, Section.BOOTHS);
     }
 
 
@@ -5,6 +5,7 @@ import com.myce.common.entity.BusinessProfile;
 import com.myce.common.entity.type.TargetType;
 import com.myce.common.exception.CustomErrorCode;
 import com.myce.common.exception.CustomException;
+import com.myce.common.permission.ExpoAccessSnapshotCache;
 import com.myce.common.repository.BusinessProfileRepository;
 import com.myce.expo.entity.AdminCode;
 import com.myce.expo.entity.AdminPermission;
@@ -68,6 +69,7 @@ public class ExpoLifeCycleServiceImpl implements ExpoLifeCycleService {
     private final MemberRepository memberRepository;
     private final AdminPermissionRepository adminPermissionRepository;
     private final ReservationRepository reservationRepository;
+    private final ExpoAccessSnapshotCache expoAccessSnapshotCache;
 
 
     private final NotificationService notificationService;
@@ -349,6 +351,8 @@ public class ExpoLifeCycleServiceImpl implements ExpoLifeCycleService {
             adminPermissions.add(permission);
         }
         adminPermissionRepository.saveAll(adminPermissions);
+        // 새 관리 코드로 접근할 때 권한 없음으로 캐시된 스냅샷이 남지 않도록 커밋 이후 무효화
+        expoAccessSnapshotCache.evict(expoId);
 
         ExpoStatus newStatus = expo.getStatus();
 
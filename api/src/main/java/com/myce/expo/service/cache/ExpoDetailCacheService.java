@@ -0,0 +1,22 @@
+package com.myce.expo.service.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.util.function.Supplier;
+
+public interface ExpoDetailCacheService {
+
+    // 박람회 상세 화면 구역 (구역 단위로 캐시/무효화)
+    enum Section {
+        BASIC, LOCATION, BOOTHS, REVIEWS
+    }
+
+    // 로컬 캐시 -> Redis -> loader(읽기 전용 트랜잭션) 순서로 조회
+    <T> T getOrLoad(Long expoId, Section section, String variant,
+                    TypeReference<T> type, Supplier<T> loader);
+
+    // 구역 무효화 (트랜잭션 안이면 커밋 후 처리, 다른 서버에도 전파)
+    void evict(Long expoId, Section... sections);
+
+    // 전체 구역 무효화
+    void evictAll(Long expoId);
+}
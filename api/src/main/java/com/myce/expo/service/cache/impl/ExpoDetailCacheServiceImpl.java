@@ -0,0 +1,240 @@
+package com.myce.expo.service.cache.impl;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.myce.expo.event.ExpoChangedEvent;
+import com.myce.expo.service.cache.ExpoDetailCacheService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 박람회 상세 2단 캐시 구현체
+ * - 1단: 서버별 Caffeine 로컬 캐시 (짧은 TTL), 2단: 서버 간 공유 Redis 캐시
+ * - 무효화는 Redis 키 삭제 후 pub/sub 으로 다른 서버의 로컬 캐시까지 제거
+ * - 캐시 적중 시 DB 커넥션을 잡지 않도록 loader 만 읽기 전용 트랜잭션으로 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExpoDetailCacheServiceImpl implements ExpoDetailCacheService, MessageListener {
+
+    private static final String INVALIDATE_CHANNEL = "expo:detail:invalidate";
+    private static final String KEY_PREFIX = "expo:detail:";
+    private static final String INDEX_SUFFIX = ":keys";
+    private static final String METRIC_PREFIX = "expo.detail.cache";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${expo-detail-cache.near-max-size:2000}")
+    private long nearMaxSize;
+
+    @Value("${expo-detail-cache.near-ttl-seconds:30}")
+    private long nearTtlSeconds;
+
+    @Value("${expo-detail-cache.redis-ttl-minutes:10}")
+    private long redisTtlMinutes;
+
+    private Cache<String, Object> nearCache;
+    private TransactionTemplate readOnlyTransaction;
+    private Counter redisHitCounter;
+    private Counter redisMissCounter;
+    private final Map<Section, Counter> invalidationCounters = new EnumMap<>(Section.class);
+
+    @PostConstruct
+    public void init() {
+        nearCache = Caffeine.newBuilder()
+                .maximumSize(nearMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(nearTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, "expoDetail");
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        redisHitCounter = Counter.builder(METRIC_PREFIX + ".redis")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        redisMissCounter = Counter.builder(METRIC_PREFIX + ".redis")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        for (Section section : Section.values()) {
+            invalidationCounters.put(section, Counter.builder(METRIC_PREFIX + ".invalidations")
+                    .tag("section", section.name())
+                    .register(meterRegistry));
+        }
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+        log.info("박람회 상세 캐시 초기화 - 로컬 최대 {}건/{}초, Redis {}분",
+                nearMaxSize, nearTtlSeconds, redisTtlMinutes);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getOrLoad(Long expoId, Section section, String variant,
+                           TypeReference<T> type, Supplier<T> loader) {
+        String key = cacheKey(expoId, section, variant);
+        // 같은 키의 동시 미스는 한 요청만 Redis/DB 를 조회
+        return (T) nearCache.get(key, k -> {
+            T cached = readRedis(k, type);
+            if (cached != null) {
+                return cached;
+            }
+            T loaded = readOnlyTransaction.execute(status -> loader.get());
+            if (loaded != null) {
+                writeRedis(expoId, section, k, loaded);
+            }
+            return loaded;
+        });
+    }
+
+    @Override
+    public void evict(Long expoId, Section... sections) {
+        if (expoId == null || sections.length == 0) {
+            return;
+        }
+        Set<Section> targets = EnumSet.copyOf(Arrays.asList(sections));
+
+        // 롤백된 변경으로 캐시를 비우지 않도록 커밋 이후에 처리
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(expoId, targets);
+                }
+            });
+            return;
+        }
+        evictNow(expoId, targets);
+    }
+
+    @Override
+    public void evictAll(Long expoId) {
+        evict(expoId, Section.values());
+    }
+
+    // 박람회 정보/상태/카테고리 변경 시 전체 구역 무효화 (커밋 이후 호출됨)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExpoChanged(ExpoChangedEvent event) {
+        evictNow(event.expoId(), EnumSet.allOf(Section.class));
+    }
+
+    // 다른 서버(자신 포함)에서 보낸 무효화 메시지로 로컬 캐시 제거
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            String[] parts = body.split(":", 2);
+            Long expoId = Long.valueOf(parts[0]);
+            Set<Section> sections = Arrays.stream(parts[1].split(","))
+                    .map(Section::valueOf)
+                    .collect(Collectors.toCollection(() -> EnumSet.noneOf(Section.class)));
+            evictNear(expoId, sections);
+        } catch (RuntimeException e) {
+            log.warn("박람회 상세 캐시 무효화 메시지 처리 실패 - 메시지: {}, 오류: {}", body, e.getMessage());
+        }
+    }
+
+    private void evictNow(Long expoId, Set<Section> sections) {
+        evictNear(expoId, sections);
+        try {
+            for (Section section : sections) {
+                String indexKey = indexKey(expoId, section);
+                Set<String> keys = stringRedisTemplate.opsForSet().members(indexKey);
+                List<String> targets = new ArrayList<>();
+                if (keys != null) {
+                    targets.addAll(keys);
+                }
+                targets.add(indexKey);
+                stringRedisTemplate.delete(targets);
+                invalidationCounters.get(section).increment();
+            }
+            String sectionNames = sections.stream().map(Section::name).collect(Collectors.joining(","));
+            stringRedisTemplate.convertAndSend(INVALIDATE_CHANNEL, expoId + ":" + sectionNames);
+        } catch (Exception e) {
+            // Redis 장애 시 Redis TTL 과 로컬 캐시 TTL 이 지나면 자연 만료
+            log.warn("박람회 상세 캐시 무효화 실패 - expoId: {}, 구역: {}, 오류: {}", expoId, sections, e.getMessage());
+        }
+    }
+
+    private void evictNear(Long expoId, Set<Section> sections) {
+        for (Section section : sections) {
+            String prefix = sectionKey(expoId, section);
+            nearCache.asMap().keySet().removeIf(key -> key.equals(prefix) || key.startsWith(prefix + ":"));
+        }
+    }
+
+    private <T> T readRedis(String key, TypeReference<T> type) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(key);
+            if (json == null) {
+                redisMissCounter.increment();
+                return null;
+            }
+            redisHitCounter.increment();
+            return objectMapper.readValue(json, type);
+        } catch (Exception e) {
+            // Redis 장애/역직렬화 실패는 미스로 처리하고 DB 에서 조회
+            log.warn("박람회 상세 캐시 조회 실패 - key: {}, 오류: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(Long expoId, Section section, String key, Object value) {
+        try {
+            Duration ttl = Duration.ofMinutes(redisTtlMinutes);
+            String indexKey = indexKey(expoId, section);
+            stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), ttl);
+            stringRedisTemplate.opsForSet().add(indexKey, key);
+            stringRedisTemplate.expire(indexKey, ttl);
+        } catch (Exception e) {
+            log.warn("박람회 상세 캐시 저장 실패 - key: {}, 오류: {}", key, e.getMessage());
+        }
+    }
+
+    private String cacheKey(Long expoId, Section section, String variant) {
+        String sectionKey = sectionKey(expoId, section);
+        return variant == null ? sectionKey : sectionKey + ":" + variant;
+    }
+
+    private String sectionKey(Long expoId, Section section) {
+        return KEY_PREFIX + expoId + ":" + section.name();
+    }
+
+    private String indexKey(Long expoId, Section section) {
+        return sectionKey(expoId, section) + INDEX_SUFFIX;
+    }
+}
@@ -30,5 +30,9 @@ public interface ExpoInfoService {
     // 박람회 카드 리스트 조회
     Page<ExpoCardResponse> getExpoCardsFiltered(
             Long memberId, String categoryName, String status, LocalDate from, LocalDate to, String keyword, Pageable pageable);
+
+    // 박람회 검색 결과 카테고리/월별 건수
+    ExpoSearchFacetResponse getExpoSearchFacets(
+            String categoryName, String status, LocalDate from, LocalDate to, String keyword);
 }
 
@@ -1,7 +1,9 @@
 package com.myce.expo.service.info;
 
 import com.myce.expo.dto.TicketSummaryResponse;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public interface ExpoTicketService {
   // 엑스포 티켓 정보 가져오기
@@ -12,4 +14,10 @@ public interface ExpoTicketService {
   
   // 티켓 수량 복구 (가상계좌 만료 시)
   void restoreTicketQuantity(Long ticketId, Integer quantity);
+
+  // 재고 카운터에서 확정된 판매 수량 일괄 반영 (ticketId -> 판매 수량), 이미 반영한 flush 면 false
+  boolean applySoldQuantities(String flushId, Map<Long, Integer> soldQuantities);
+
+  // 오래된 flush 반영 기록 정리
+  int deleteAppliedFlushesBefore(LocalDateTime before);
 }
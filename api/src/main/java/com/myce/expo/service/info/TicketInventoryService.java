@@ -0,0 +1,25 @@
+package com.myce.expo.service.info;
+
+public interface TicketInventoryService {
+
+  // 사전 예약 시 재고 선점 (매진이면 TICKET_SOLD_OUT)
+  void claim(Long ticketId, String holdId, int quantity, int holdMinutes);
+
+  // 사전 예약 취소 시 선점 해제
+  void release(Long ticketId, String holdId);
+
+  // 결제 완료 시 선점 확정 (커밋 후 판매 수량으로 전환, 롤백 시 선점 해제, DB 반영은 배치로 처리)
+  void confirm(Long ticketId, String holdId, int quantity);
+
+  // 티켓 정보 수정/삭제 시 카운터 제거
+  void evict(Long ticketId);
+
+  // 만료된 선점 해제
+  int releaseExpiredHolds();
+
+  // 확정 판매 수량 DB 반영
+  int flushSoldQuantities();
+
+  // DB 기준 카운터 재계산
+  int reconcile();
+}
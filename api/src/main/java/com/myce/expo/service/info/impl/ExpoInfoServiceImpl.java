@@ -1,5 +1,6 @@
 package com.myce.expo.service.info.impl;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.myce.common.dto.RegistrationCompanyRequest;
 import com.myce.common.entity.BusinessProfile;
 import com.myce.common.entity.type.TargetType;
@@ -7,6 +8,8 @@ import com.myce.common.exception.CustomErrorCode;
 import com.myce.common.exception.CustomException;
 import com.myce.common.repository.BusinessProfileRepository;
 import com.myce.common.service.mapper.BusinessProfileMapper;
+import com.myce.dashboard.dto.expo.ExpoLiveCounters;
+import com.myce.dashboard.service.expo.ExpoStatsCounterService;
 import com.myce.expo.dto.*;
 import com.myce.expo.dto.CongestionResponse;
 import com.myce.expo.dto.ExpoCardResponse;
@@ -24,26 +27,31 @@ import com.myce.expo.repository.CategoryRepository;
 import com.myce.expo.repository.ExpoRepository;
 import com.myce.expo.repository.ReviewRepository;
 import com.myce.expo.repository.TicketRepository;
+import com.myce.expo.service.cache.ExpoDetailCacheService;
+import com.myce.expo.service.cache.ExpoDetailCacheService.Section;
 import com.myce.expo.service.info.ExpoInfoService;
 import com.myce.expo.service.info.mapper.ExpoMapper;
+import com.myce.expo.service.search.ExpoSearchService;
 import com.myce.member.entity.Member;
 import com.myce.member.repository.FavoriteRepository;
 import com.myce.member.repository.MemberRepository;
-import com.myce.qrcode.repository.QrCodeRepository;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -59,12 +67,14 @@ public class ExpoInfoServiceImpl implements ExpoInfoService {
     private final ExpoRepository expoRepository;
     private final CategoryRepository categoryRepository;
     private final BusinessProfileRepository businessProfileRepository;
-    private final QrCodeRepository qrCodeRepository;
+    private final ExpoStatsCounterService expoStatsCounterService;
     private final TicketRepository ticketRepository;
     private final FavoriteRepository favoriteRepository;
+    private final ExpoSearchService expoSearchService;
     private final BoothRepository boothRepository;
     private final ReviewRepository reviewRepository;
     private final BoothMapper boothMapper;
+    private final ExpoDetailCacheService expoDetailCacheService;
 
     @Override
     public void saveExpo(Long memberId, ExpoRegistrationRequest request) {
@@ -108,11 +118,8 @@ public class ExpoInfoServiceImpl implements ExpoInfoService {
         Expo expo = expoRepository.findById(expoId)
                 .orElseThrow(() -> new CustomException(CustomErrorCode.EXPO_NOT_FOUND));
         
-        // 현재 시간 기준 1시간 전부터 현재까지 입장한 인원 수 조회
-        LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(1);
-        
-        long hourlyVisitors = qrCodeRepository.countByReserverReservationExpoIdAndUsedAtAfter(
-                expoId, oneHourAgo);
+        // 최근 1시간 입장 인원 (게이트/일괄 체크인이 바로 반영되는 시간대별 실시간 카운터 기준)
+        long hourlyVisitors = countRecentHourVisitors(expoId);
         
         // 시간당 수용 인원 계산
         int hourlyCapacity = calculateHourlyCapacityByTicketsToday(expo.getId());
@@ -124,6 +131,21 @@ public class ExpoInfoServiceImpl implements ExpoInfoService {
                 hourlyVisitors, hourlyCapacity);
     }
 
+    /**
+     * 최근 1시간 입장 인원 (슬라이딩 윈도우 근사)
+     * = 현재 시간대 입장 수 + 이전 시간대 입장 수 * 이전 시간대 중 최근 1시간에 걸친 비율
+     */
+    private long countRecentHourVisitors(Long expoId) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime previousHour = now.minusHours(1);
+        ExpoLiveCounters counters = expoStatsCounterService.getCounters(expoId);
+
+        long currentHourCount = counters.getCheckinsOn(now.toLocalDate(), now.getHour());
+        long previousHourCount = counters.getCheckinsOn(previousHour.toLocalDate(), previousHour.getHour());
+        double previousHourWeight = (3600 - (now.getMinute() * 60 + now.getSecond())) / 3600.0;
+        return currentHourCount + Math.round(previousHourCount * previousHourWeight);
+    }
+
     /**
      * 시간당 수용 인원 계산
      * = 총 수용인원 / 박람회 기간(일) / 하루 운영시간
@@ -192,63 +214,89 @@ public class ExpoInfoServiceImpl implements ExpoInfoService {
         String keyword,
         Pageable pageable) {
 
-        Long categoryId = null;
-        if (categoryName != null && !categoryName.isBlank()) {
-            Category category = categoryRepository.findByName(categoryName)
-                .orElseThrow(()-> new CustomException(CustomErrorCode.CATEGORY_NOT_EXIST));
-            if (category != null) {
-                categoryId = category.getId();
-            }
-        }
-
-        String keyWord = (keyword != null && !keyword.isBlank()) ? keyword.trim() : null;
-        
-        // status 파라미터 처리 - null이면 PUBLISHED와 PENDING_PUBLISH 모두 조회
-        ExpoStatus expoStatus = null;
-        if (status != null && !status.isBlank()) {
-            try {
-                expoStatus = ExpoStatus.valueOf(status.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                log.warn("Invalid status parameter: {}, using null for all statuses", status);
-                expoStatus = null;
-            }
-        }
-
-        Page<Expo> exposPage = expoRepository.findPublishedExposFiltered(
-            expoStatus,
-            categoryId,
-            keyWord,
+        Page<Expo> exposPage = expoSearchService.search(
+            resolveStatus(status),
+            resolveCategoryId(categoryName),
+            resolveKeyword(keyword),
             from,
             to,
             pageable
         );
 
-        final List<Long> finalBookmarkedExpoIds; // Declare as final
-        if (memberId != null) {
-            finalBookmarkedExpoIds = favoriteRepository.findExpoIdsByMemberId(memberId);
-        } else {
-            finalBookmarkedExpoIds = new ArrayList<>(); // Initialize if memberId is null
+        List<Long> expoIds = exposPage.getContent().stream().map(Expo::getId).toList();
+        if (expoIds.isEmpty()) {
+            return exposPage.map(expo -> ExpoMapper.toCards(expo, 0, false));
         }
 
-        return exposPage.map(expo -> {
-            // 남은 티켓 수 합산
-            List<Ticket> tickets = ticketRepository.findByExpoId(expo.getId());
-            int remainingTickets = 0;
-            for(Ticket ticket : tickets) {
-                remainingTickets += ticket.getRemainingQuantity();
-            }
+        // 남은 티켓 수 합산 (페이지 단위 1회 조회)
+        Map<Long, Integer> remainingTicketsByExpoId = new HashMap<>();
+        for (Object[] row : ticketRepository.sumRemainingQuantityByExpoIds(expoIds)) {
+            remainingTicketsByExpoId.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+
+        // 페이지에 포함된 박람회 중 북마크된 박람회
+        Set<Long> bookmarkedExpoIds = memberId != null
+            ? favoriteRepository.findExpoIdsByMemberIdAndExpoIdIn(memberId, expoIds)
+            : Set.of();
 
-            // 북마크된 엑스포 중에 있는지 확인
-            boolean isBookmark = finalBookmarkedExpoIds.contains(expo.getId());
+        return exposPage.map(expo -> {
+            int remainingTickets = remainingTicketsByExpoId.getOrDefault(expo.getId(), 0);
+            boolean isBookmark = bookmarkedExpoIds.contains(expo.getId());
             return ExpoMapper.toCards(expo, remainingTickets, isBookmark);
         });
     }
 
-    @Override
     @Transactional(readOnly = true)
+    @Override
+    public ExpoSearchFacetResponse getExpoSearchFacets(String categoryName, String status,
+        LocalDate from, LocalDate to, String keyword) {
+        return expoSearchService.getFacets(
+            resolveStatus(status), resolveCategoryId(categoryName), resolveKeyword(keyword), from, to);
+    }
+
+    private Long resolveCategoryId(String categoryName) {
+        if (categoryName == null || categoryName.isBlank()) {
+            return null;
+        }
+        Category category = categoryRepository.findByName(categoryName)
+            .orElseThrow(()-> new CustomException(CustomErrorCode.CATEGORY_NOT_EXIST));
+        return category.getId();
+    }
+
+    // status 파라미터 처리 - null이면 PUBLISHED와 PENDING_PUBLISH 모두 조회
+    private ExpoStatus resolveStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return ExpoStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid status parameter: {}, using null for all statuses", status);
+            return null;
+        }
+    }
+
+    private String resolveKeyword(String keyword) {
+        return (keyword != null && !keyword.isBlank()) ? keyword.trim() : null;
+    }
+
+    // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 진입 (미스일 때만 캐시 서비스가 읽기 전용 트랜잭션으로 조회)
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ExpoBasicResponse getExpoBasicInfo(Long expoId) {
         log.info("박람회 기본 정보 조회 - 박람회 ID: {}", expoId);
 
+        ExpoBasicResponse cached = expoDetailCacheService.getOrLoad(expoId, Section.BASIC, null,
+                new TypeReference<ExpoBasicResponse>() {}, () -> loadExpoBasicInfo(expoId));
+
+        // 현재 예약자 수는 판매에 따라 계속 바뀌므로 캐시하지 않고 집계 쿼리로 조회
+        Long currentReservationCount = ticketRepository.sumReservedQuantityByExpoId(expoId);
+        return cached.toBuilder()
+                .currentReservationCount(currentReservationCount.intValue())
+                .build();
+    }
+
+    private ExpoBasicResponse loadExpoBasicInfo(Long expoId) {
         Expo expo = expoRepository.findById(expoId)
                 .orElseThrow(() -> new CustomException(CustomErrorCode.EXPO_NOT_FOUND));
 
@@ -267,12 +315,6 @@ public class ExpoInfoServiceImpl implements ExpoInfoService {
                 .map(expoCategory -> expoCategory.getCategory().getName())
                 .collect(Collectors.toList());
 
-        // 현재 예약자 수 계산 (총 발행 수량 - 남은 티켓 수)
-        List<Ticket> tickets = ticketRepository.findByExpoIdOrderByCreatedAtAsc(expoId);
-        int currentReservationCount = tickets.stream()
-                .mapToInt(ticket -> ticket.getTotalQuantity() - ticket.getRemainingQuantity())
-                .sum();
-
         // 주최자 상세 정보 빌드
         ExpoBasicResponse.OrganizerInfo organizerInfo = null;
         if (businessProfile != null) {
@@ -301,7 +343,6 @@ public class ExpoInfoServiceImpl implements ExpoInfoService {
                 .location(expo.getLocation())
                 .locationDetail(expo.getLocationDetail())
                 .maxReserverCount(expo.getMaxReserverCount())
-                .currentReservationCount(currentReservationCount)
                 .organizerName(businessProfile != null ? businessProfile.getCeoName() : "정보 없음")
                 .organizerContact(businessProfile != null ? businessProfile.getContactPhone() : "정보 없음")
                 .organizerInfo(organizerInfo)
@@ -336,10 +377,15 @@ public class ExpoInfoServiceImpl implements ExpoInfoService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ExpoReviewsResponse getExpoReviews(Long expoId, int page, int size) {
         log.info("박람회 리뷰 정보 조회 - 박람회 ID: {}, 페이지: {}", expoId, page);
 
+        return expoDetailCacheService.getOrLoad(expoId, Section.REVIEWS, page + ":" + size,
+                new TypeReference<ExpoReviewsResponse>() {}, () -> loadExpoReviews(expoId, page, size));
+    }
+
+    private ExpoReviewsResponse loadExpoReviews(Long expoId, int page, int size) {
         Expo expo = expoRepository.findById(expoId)
                 .orElseThrow(() -> new CustomException(CustomErrorCode.EXPO_NOT_FOUND));
 
@@ -409,10 +455,15 @@ public class ExpoInfoServiceImpl implements ExpoInfoService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ExpoLocationResponse getExpoLocation(Long expoId) {
         log.info("박람회 위치 정보 조회 - 박람회 ID: {}", expoId);
 
+        return expoDetailCacheService.getOrLoad(expoId, Section.LOCATION, null,
+                new TypeReference<ExpoLocationResponse>() {}, () -> loadExpoLocation(expoId));
+    }
+
+    private ExpoLocationResponse loadExpoLocation(Long expoId) {
         Expo expo = expoRepository.findById(expoId)
                 .orElseThrow(() -> new CustomException(CustomErrorCode.EXPO_NOT_FOUND));
 
@@ -431,10 +482,15 @@ public class ExpoInfoServiceImpl implements ExpoInfoService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<BoothResponse> getExpoBooths(Long expoId) {
         log.info("박람회 부스 정보 조회 - 박람회 ID: {}", expoId);
 
+        return expoDetailCacheService.getOrLoad(expoId, Section.BOOTHS, null,
+                new TypeReference<List<BoothResponse>>() {}, () -> loadExpoBooths(expoId));
+    }
+
+    private List<BoothResponse> loadExpoBooths(Long expoId) {
         Expo expo = expoRepository.findById(expoId)
                 .orElseThrow(() -> new CustomException(CustomErrorCode.EXPO_NOT_FOUND));
 
@@ -442,7 +498,7 @@ public class ExpoInfoServiceImpl implements ExpoInfoService {
             throw new CustomException(CustomErrorCode.EXPO_NOT_PUBLISHED);
         }
 
-                List<Booth> booths = boothRepository.findByExpoIdSorted(expoId);
+        List<Booth> booths = boothRepository.findByExpoIdSorted(expoId);
 
         return booths.stream()
                 .map(boothMapper::toResponse)
@@ -7,6 +7,8 @@ import com.myce.expo.entity.Expo;
 import com.myce.expo.entity.Review;
 import com.myce.expo.repository.ExpoRepository;
 import com.myce.expo.repository.ReviewRepository;
+import com.myce.expo.service.cache.ExpoDetailCacheService;
+import com.myce.expo.service.cache.ExpoDetailCacheService.Section;
 import com.myce.expo.service.info.ExpoReviewService;
 import com.myce.member.entity.Member;
 import com.myce.member.repository.MemberRepository;
@@ -28,6 +30,7 @@ public class ExpoReviewServiceImpl implements ExpoReviewService {
     private final MemberRepository memberRepository;
     private final ReservationRepository reservationRepository;
     private final QrCodeRepository qrCodeRepository;
+    private final ExpoDetailCacheService expoDetailCacheService;
     
     @Override
     @Transactional
@@ -52,6 +55,7 @@ public class ExpoReviewServiceImpl implements ExpoReviewService {
         
         Review review = new Review(expo, member, request.getTitle(), request.getContent(), request.getRating());
         Review savedReview = reviewRepository.save(review);
+        expoDetailCacheService.evict(expo.getId(), Section.REVIEWS);
         
         return new ReviewResponse(savedReview);
     }
@@ -117,6 +121,7 @@ public class ExpoReviewServiceImpl implements ExpoReviewService {
         }
         
         review.updateReview(request.getTitle(), request.getContent(), request.getRating());
+        expoDetailCacheService.evict(review.getExpo().getId(), Section.REVIEWS);
         
         return new ReviewResponse(review);
     }
@@ -133,6 +138,7 @@ public class ExpoReviewServiceImpl implements ExpoReviewService {
         }
         
         reviewRepository.delete(review);
+        expoDetailCacheService.evict(review.getExpo().getId(), Section.REVIEWS);
     }
     
     @Override
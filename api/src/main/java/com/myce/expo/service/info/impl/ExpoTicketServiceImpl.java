@@ -5,17 +5,27 @@ import com.myce.common.exception.CustomException;
 import com.myce.expo.dto.TicketSummaryResponse;
 import com.myce.expo.entity.Ticket;
 import com.myce.expo.repository.TicketRepository;
+import com.myce.expo.repository.TicketStockFlushRepository;
+import com.myce.expo.repository.TicketStockRepository;
 import com.myce.expo.service.info.ExpoTicketService;
 import com.myce.expo.service.info.mapper.TicketMapper;
 import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ExpoTicketServiceImpl implements ExpoTicketService {
   private final TicketRepository ticketRepository;
+  private final TicketStockRepository ticketStockRepository;
+  private final TicketStockFlushRepository ticketStockFlushRepository;
 
   @Override
   public List<TicketSummaryResponse> getTickets(Long expoId) {
@@ -25,22 +35,66 @@ public class ExpoTicketServiceImpl implements ExpoTicketService {
     return TicketMapper.toSummaryResponses(tickets);
   }
 
-  // 티켓 수량 동시성 확인 및 restore과 동일하게 ticketId와 quantity로 인자값 처리
+  // 엔티티 조회 없이 조건부 UPDATE 한 번으로 차감 (남은 수량이 부족하면 매진)
   @Transactional
   @Override
   public void updateRemainingQuantity(Long ticketId, Integer quantity) {
-    Ticket ticket = ticketRepository.findById(ticketId)
-        .orElseThrow(() -> new CustomException(CustomErrorCode.TICKET_NOT_EXIST));
-
-    ticket.updateRemainingQuantity(ticket.getRemainingQuantity() - quantity);
+    int updated = ticketRepository.decreaseRemainingQuantity(ticketId, quantity);
+    if (updated == 0) {
+      if (!ticketRepository.existsById(ticketId)) {
+        throw new CustomException(CustomErrorCode.TICKET_NOT_EXIST);
+      }
+      throw new CustomException(CustomErrorCode.TICKET_SOLD_OUT);
+    }
+    adjustStockAfterCommit(ticketId, -quantity);
   }
   
   @Transactional
   @Override
   public void restoreTicketQuantity(Long ticketId, Integer quantity) {
-    Ticket ticket = ticketRepository.findById(ticketId)
-        .orElseThrow(() -> new CustomException(CustomErrorCode.TICKET_NOT_EXIST));
+    int updated = ticketRepository.addRemainingQuantity(ticketId, quantity);
+    if (updated == 0) {
+      throw new CustomException(CustomErrorCode.TICKET_NOT_EXIST);
+    }
+    adjustStockAfterCommit(ticketId, quantity);
+  }
+
+  @Transactional
+  @Override
+  public boolean applySoldQuantities(String flushId, Map<Long, Integer> soldQuantities) {
+    // flush 기록과 수량 반영을 같은 트랜잭션으로 처리해 같은 flush 를 두 번 반영하지 않음
+    if (ticketStockFlushRepository.insertIfAbsent(flushId, LocalDateTime.now()) == 0) {
+      return false;
+    }
+    soldQuantities.forEach((ticketId, sold) -> ticketRepository.addRemainingQuantity(ticketId, -sold));
+    return true;
+  }
+
+  @Transactional
+  @Override
+  public int deleteAppliedFlushesBefore(LocalDateTime before) {
+    return ticketStockFlushRepository.deleteAppliedBefore(before);
+  }
+
+  // 재고 카운터는 DB 커밋 이후에만 반영 (롤백 시 카운터만 바뀌는 것을 방지, 실패 분은 정합성 점검에서 보정)
+  private void adjustStockAfterCommit(Long ticketId, int delta) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      adjustStock(ticketId, delta);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        adjustStock(ticketId, delta);
+      }
+    });
+  }
 
-    ticket.updateRemainingQuantity(ticket.getRemainingQuantity() + quantity);
+  private void adjustStock(Long ticketId, int delta) {
+    try {
+      ticketStockRepository.adjust(ticketId, delta);
+    } catch (Exception e) {
+      log.warn("재고 카운터 반영 실패 - ticketId: {}, delta: {}, error: {}", ticketId, delta, e.getMessage());
+    }
   }
 }
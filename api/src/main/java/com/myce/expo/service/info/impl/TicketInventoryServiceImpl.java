@@ -0,0 +1,205 @@
+package com.myce.expo.service.info.impl;
+
+import com.myce.common.exception.CustomErrorCode;
+import com.myce.common.exception.CustomException;
+import com.myce.expo.repository.TicketRepository;
+import com.myce.expo.repository.TicketStockRepository;
+import com.myce.expo.repository.TicketStockRepository.SoldFlush;
+import com.myce.expo.service.info.ExpoTicketService;
+import com.myce.expo.service.info.TicketInventoryService;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 티켓 재고 선점 서비스
+ * - 사전 예약 시 Redis 카운터에서 원자적으로 선점 (오버셀 방지)
+ * - 결제 완료 시 확정 (트랜잭션 커밋 이후 판매 수량으로 전환, 롤백 시 선점 해제), 사전 예약 만료/취소 시 해제
+ * - 확정 판매분은 스케줄러가 모아서 MySQL 에 반영하고, 주기적으로 MySQL 기준으로 카운터를 재계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketInventoryServiceImpl implements TicketInventoryService {
+
+    private static final int EXPIRED_HOLD_BATCH_SIZE = 500;
+    // 결제 트랜잭션 동안 선점을 유지하는 시간 (커밋 전 서버 장애 시 이후 만료 처리로 해제)
+    private static final int CONFIRM_PIN_MINUTES = 10;
+    // flush 반영 기록 보관 기간
+    private static final int FLUSH_HISTORY_DAYS = 1;
+    // DB 조회 중 flush 가 끝나 적재가 무시된 경우 다시 조회하는 횟수
+    private static final int LOAD_ATTEMPTS = 3;
+
+    private final TicketStockRepository ticketStockRepository;
+    private final TicketRepository ticketRepository;
+    private final ExpoTicketService expoTicketService;
+
+    @Override
+    public void claim(Long ticketId, String holdId, int quantity, int holdMinutes) {
+        long expireAt = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(holdMinutes);
+        long result = executeWithLoad(ticketId,
+                () -> ticketStockRepository.claim(ticketId, holdId, quantity, expireAt));
+
+        if (result == TicketStockRepository.SOLD_OUT) {
+            throw new CustomException(CustomErrorCode.TICKET_SOLD_OUT);
+        }
+        log.debug("티켓 재고 선점 - ticketId: {}, holdId: {}, 수량: {}, 남은 수량: {}", ticketId, holdId, quantity, result);
+    }
+
+    @Override
+    public void release(Long ticketId, String holdId) {
+        int released = ticketStockRepository.release(ticketId, holdId);
+        if (released > 0) {
+            log.debug("티켓 재고 선점 해제 - ticketId: {}, holdId: {}, 수량: {}", ticketId, holdId, released);
+        }
+    }
+
+    @Override
+    public void confirm(Long ticketId, String holdId, int quantity) {
+        // 트랜잭션 동안은 선점 상태로 유지 (재계산 시에도 선점 수량으로 집계되어 카운터가 어긋나지 않음)
+        long expireAt = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(CONFIRM_PIN_MINUTES);
+        long result = executeWithLoad(ticketId,
+                () -> ticketStockRepository.pin(ticketId, holdId, quantity, expireAt));
+
+        if (result == TicketStockRepository.SOLD_OUT) {
+            throw new CustomException(CustomErrorCode.TICKET_SOLD_OUT);
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyConfirm(ticketId, holdId, quantity);
+            return;
+        }
+        // 판매 수량 전환은 커밋 이후에만, 롤백되면 선점 해제로 재고 복구
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyConfirm(ticketId, holdId, quantity);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    ticketStockRepository.release(ticketId, holdId);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void evict(Long ticketId) {
+        ticketStockRepository.evict(ticketId);
+    }
+
+    @Override
+    public int releaseExpiredHolds() {
+        List<String> holdIds =
+                ticketStockRepository.findExpiredHoldIds(System.currentTimeMillis(), EXPIRED_HOLD_BATCH_SIZE);
+
+        int releasedCount = 0;
+        for (String holdId : holdIds) {
+            Long ticketId = ticketStockRepository.findHoldTicketId(holdId);
+            if (ticketId == null) {
+                ticketStockRepository.removeExpiredHold(holdId);
+                continue;
+            }
+            if (ticketStockRepository.release(ticketId, holdId) > 0) {
+                releasedCount++;
+            }
+        }
+        return releasedCount;
+    }
+
+    @Override
+    public int flushSoldQuantities() {
+        SoldFlush flush = ticketStockRepository.beginFlush();
+        if (flush == null) {
+            return 0;
+        }
+        if (flush.soldQuantities().isEmpty()) {
+            ticketStockRepository.completeFlush();
+            return 0;
+        }
+
+        // DB 반영 실패 시 flushing 영역을 그대로 두고 다음 실행에서 재시도
+        // DB 반영 후 Redis 정리 전에 실패한 경우 다음 실행에서 같은 flush id 로 확인하고 정리만 수행
+        if (!expoTicketService.applySoldQuantities(flush.flushId(), flush.soldQuantities())) {
+            log.warn("이미 DB 에 반영된 판매 수량 flush - flushId: {}", flush.flushId());
+            ticketStockRepository.completeFlush();
+            return 0;
+        }
+        ticketStockRepository.completeFlush();
+        return flush.soldQuantities().size();
+    }
+
+    @Override
+    public int reconcile() {
+        flushSoldQuantities();
+        expoTicketService.deleteAppliedFlushesBefore(LocalDateTime.now().minusDays(FLUSH_HISTORY_DAYS));
+
+        Set<Long> ticketIds = ticketStockRepository.findLoadedTicketIds();
+        if (ticketIds.isEmpty()) {
+            return 0;
+        }
+
+        // DB 조회 이후 flush 가 끝나면 Lua 에서 재계산을 건너뜀 (다음 재계산에서 다시 시도)
+        long flushGeneration = ticketStockRepository.flushGeneration();
+        Map<Long, Integer> remainingQuantities = new HashMap<>();
+        for (Object[] row : ticketRepository.findRemainingQuantitiesByIdIn(ticketIds)) {
+            Integer remaining = (Integer) row[1];
+            remainingQuantities.put((Long) row[0], remaining == null ? 0 : remaining);
+        }
+
+        int reconciledCount = 0;
+        for (Long ticketId : ticketIds) {
+            Integer remaining = remainingQuantities.get(ticketId);
+            if (remaining == null) {
+                // 삭제된 티켓
+                ticketStockRepository.evict(ticketId);
+                continue;
+            }
+            if (ticketStockRepository.reconcile(ticketId, remaining, flushGeneration)) {
+                reconciledCount++;
+            }
+        }
+        return reconciledCount;
+    }
+
+    private void applyConfirm(Long ticketId, String holdId, int quantity) {
+        try {
+            ticketStockRepository.confirm(ticketId, holdId, quantity);
+        } catch (Exception e) {
+            // 선점이 만료되면 재고가 복구되므로 DB 판매 수량이 반영되지 않음 - 수동 확인 필요
+            log.error("티켓 판매 확정 반영 실패 - ticketId: {}, holdId: {}, 수량: {}", ticketId, holdId, quantity, e);
+        }
+    }
+
+    private long executeWithLoad(Long ticketId, LongSupplier operation) {
+        long result = operation.getAsLong();
+        if (result != TicketStockRepository.NOT_LOADED) {
+            return result;
+        }
+
+        for (int attempt = 0; attempt < LOAD_ATTEMPTS; attempt++) {
+            long flushGeneration = ticketStockRepository.flushGeneration();
+            Integer remaining = ticketRepository.findRemainingQuantityById(ticketId)
+                    .orElseThrow(() -> new CustomException(CustomErrorCode.TICKET_NOT_EXIST));
+            ticketStockRepository.load(ticketId, remaining, flushGeneration);
+
+            result = operation.getAsLong();
+            if (result != TicketStockRepository.NOT_LOADED) {
+                return result;
+            }
+        }
+        log.error("티켓 재고 카운터 적재 실패 - ticketId: {}", ticketId);
+        throw new CustomException(CustomErrorCode.INTERNAL_SERVER_ERROR);
+    }
+}
@@ -22,6 +22,7 @@ import com.myce.payment.entity.type.PaymentStatus;
 import com.myce.payment.entity.type.PaymentTargetType;
 import com.myce.payment.entity.type.RefundStatus;
 import com.myce.payment.repository.ExpoPaymentInfoRepository;
+import com.myce.payment.service.refund.ExpoRefundJobService;
 import com.myce.payment.service.refund.PaymentRefundService;
 import com.myce.payment.dto.PaymentRefundRequest;
 import com.myce.expo.dto.ExpoPaymentPreviewResponse;
@@ -29,20 +30,12 @@ import com.myce.expo.service.platform.mapper.ExpoPaymentPreviewMapper;
 import com.myce.settlement.service.SettlementPlatformAdminService;
 import com.myce.system.entity.ExpoFeeSetting;
 import com.myce.system.repository.ExpoFeeSettingRepository;
-import com.myce.reservation.entity.Reservation;
-import com.myce.reservation.entity.code.ReservationStatus;
-import com.myce.reservation.repository.ReservationRepository;
-import com.myce.payment.entity.ReservationPaymentInfo;
-import com.myce.payment.repository.ReservationPaymentInfoRepository;
-import com.myce.expo.entity.Ticket;
-import com.myce.expo.repository.TicketRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.temporal.ChronoUnit;
-import java.util.List;
 
 /**
  * 플랫폼 관리자용 박람회 신청 관리 서비스 구현체
@@ -56,7 +49,6 @@ public class PlatformExpoManageServiceImpl implements PlatformExpoManageService
 
     // 상수 정의
     private static final String CANCELLATION_REFUND_REASON = "박람회 취소 승인으로 인한 전액 환불";
-    private static final String INDIVIDUAL_RESERVATION_REFUND_REASON = "박람회 취소로 인한 개인 예약 환불";
     
     // 의존성 주입
     private final ExpoRepository expoRepository;
@@ -71,9 +63,7 @@ public class PlatformExpoManageServiceImpl implements PlatformExpoManageService
     private final PaymentRefundService paymentRefundService;
     
     // 개인 예약자 환불 관련 의존성
-    private final ReservationRepository reservationRepository;
-    private final ReservationPaymentInfoRepository reservationPaymentInfoRepository;
-    private final TicketRepository ticketRepository;
+    private final ExpoRefundJobService expoRefundJobService;
     private final ExpoStatusService expoStatusService;
 
     private final NotificationService notificationService;
@@ -194,8 +184,8 @@ public class PlatformExpoManageServiceImpl implements PlatformExpoManageService
             // 5-1. PUBLISHED 상태였던 경우: 개별 예약자 환불 + 부분 환불
             log.info("PUBLISHED 상태 박람회 취소 승인 처리 - expoId: {}", expoId);
             
-            // 개별 예약자들 환불 처리 (선처리)
-            processIndividualReservationRefunds(expoId);
+            // 개별 예약자 환불 작업 등록 (커밋 이후 예약별로 병렬 처리, 진행 현황은 환불 작업 조회로 확인)
+            expoRefundJobService.createJob(expoId);
             
             // 박람회 주최자 부분 환불 처리
             processRefundViaPaymentInternal(expoId, paymentInfo);
@@ -393,114 +383,6 @@ public class PlatformExpoManageServiceImpl implements PlatformExpoManageService
         return ExpoPaymentPreviewMapper.toDto(expo, businessProfile, feeSetting, totalDays, totalAmount);
     }
     
-    /**
-     * 게시중 박람회 취소 시 개인 예약자들 환불 처리
-     * PUBLISHED 상태 박람회 취소 승인 시 모든 예약자에게 개별 환불 처리
-     * 
-     * @param expoId 취소 승인할 박람회 ID
-     */
-    private void processIndividualReservationRefunds(Long expoId) {
-        log.info("개인 예약자 환불 처리 시작 - expoId: {}", expoId);
-        
-        // 1. 해당 박람회의 모든 예약 조회 후 CONFIRMED 상태만 필터링
-        List<Reservation> allReservations = reservationRepository.findByExpoId(expoId);
-        List<Reservation> confirmedReservations = allReservations.stream()
-                .filter(reservation -> reservation.getStatus() == ReservationStatus.CONFIRMED)
-                .toList();
-        
-        if (confirmedReservations.isEmpty()) {
-            log.info("환불 처리할 예약이 없음 - expoId: {}", expoId);
-            return;
-        }
-        
-        log.info("환불 처리 대상 예약 수: {} - expoId: {}", confirmedReservations.size(), expoId);
-        
-        // 2. 각 예약별 환불 처리
-        for (Reservation reservation : confirmedReservations) {
-            try {
-                refundIndividualReservation(reservation);
-                log.debug("개별 예약 환불 완료 - reservationId: {}, expoId: {}", 
-                        reservation.getId(), expoId);
-            } catch (Exception e) {
-                log.error("개별 예약 환불 실패 - reservationId: {}, expoId: {}, error: {}", 
-                        reservation.getId(), expoId, e.getMessage());
-                throw new CustomException(CustomErrorCode.PORTONE_REFUND_FAILED);
-            }
-        }
-        
-        log.info("개인 예약자 환불 처리 완료 - expoId: {}, 처리된 예약 수: {}", 
-                expoId, confirmedReservations.size());
-    }
-    
-    /**
-     * 개별 예약자 환불 처리
-     * 예약 상태 변경, 결제 정보 환불 처리, payment internal 환불 실행, 티켓 재고 복구
-     * 
-     * @param reservation 환불 처리할 예약 정보
-     */
-    private void refundIndividualReservation(Reservation reservation) {
-        Long reservationId = reservation.getId();
-        reservation.updateStatus(ReservationStatus.CANCELLED);
-        log.debug("예약 상태 변경 완료 - reservationId: {}, status: CANCELLED", reservationId);
-        
-        // 2. 예약 결제 정보 조회 및 상태 변경
-        ReservationPaymentInfo paymentInfo = reservationPaymentInfoRepository
-                .findByReservationId(reservationId)
-                .orElseThrow(() -> new CustomException(CustomErrorCode.PAYMENT_INFO_NOT_FOUND));;
-        
-        // 3. 결제 정보 상태를 REFUNDED로 변경
-        paymentInfo.setStatus(PaymentStatus.REFUNDED);
-        log.debug("예약 결제 정보 상태 변경 완료 - reservationId: {}, status: REFUNDED", reservationId);
-
-        // 3) impUid 조회 (payment internal)
-        String impUid = refundInternalService.getImpUid(PaymentTargetType.RESERVATION, reservationId);
-        
-        // 6. payment internal 환불 실행
-        PaymentRefundRequest refundRequest = PaymentRefundRequest.builder()
-                .impUid(impUid)
-                .cancelAmount(null) // null = 전액 환불
-                .reason(INDIVIDUAL_RESERVATION_REFUND_REASON)
-                .build();
-
-        paymentRefundService.refundPayment(refundRequest);
-
-        // 7. 티켓 재고 복구
-        restoreTicketInventory(reservation);
-        
-        log.debug("개별 예약 환불 처리 완료 - reservationId: {}", reservationId);
-    }
-    
-    /**
-     * 티켓 재고 복구 처리
-     * 예약 취소로 인해 판매된 티켓 수량을 다시 판매 가능 재고로 복구
-     * 
-     * @param reservation 취소된 예약 정보
-     */
-    private void restoreTicketInventory(Reservation reservation) {
-        Long reservationId = reservation.getId();
-        Long ticketId = reservation.getTicket().getId();
-        Integer reservedQuantity = reservation.getQuantity();
-        
-        log.debug("티켓 재고 복구 시작 - reservationId: {}, ticketId: {}, quantity: {}", 
-                reservationId, ticketId, reservedQuantity);
-        
-        // 1. 티켓 엔티티 조회
-        Ticket ticket = ticketRepository.findById(ticketId)
-                .orElseThrow(() -> {
-                    log.error("티켓 정보 없음 - ticketId: {}", ticketId);
-                    return new CustomException(CustomErrorCode.TICKET_NOT_EXIST);
-                });
-        
-        // 2. 재고 복구 실행
-        Integer beforeQuantity = ticket.getRemainingQuantity();
-        ticket.restoreQuantity(reservedQuantity);
-        Integer afterQuantity = ticket.getRemainingQuantity();
-        
-        log.debug("티켓 재고 복구 완료 - reservationId: {}, ticketId: {}, " +
-                "복구 수량: {}, 복구 전: {}, 복구 후: {}", 
-                reservationId, ticketId, reservedQuantity, beforeQuantity, afterQuantity);
-    }
-    
     /**
      * 박람회 원래 상태 확인
      * Refund 테이블의 isPartial 필드로 원래 PUBLISHED였는지 PENDING_PUBLISH였는지 확인
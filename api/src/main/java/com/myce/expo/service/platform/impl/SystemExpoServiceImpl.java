@@ -5,8 +5,12 @@ import com.myce.common.exception.CustomException;
 import com.myce.expo.entity.Expo;
 import com.myce.expo.entity.type.ExpoStatus;
 import com.myce.expo.repository.ExpoRepository;
+import com.myce.expo.service.cache.ExpoDetailCacheService;
 import com.myce.expo.service.platform.SystemExpoService;
-import com.myce.client.notification.service.NotificationService;
+import com.myce.client.notification.dto.ExpoStatusChangeCommand;
+import com.myce.client.notification.dto.NotificationCommand;
+import com.myce.client.notification.service.NotificationBatchGateway;
+import com.myce.client.notification.service.NotificationBatcher;
 import com.myce.settlement.service.SettlementSystemService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -24,7 +28,8 @@ public class SystemExpoServiceImpl implements SystemExpoService {
     
     private final ExpoRepository expoRepository;
     private final SettlementSystemService settlementSystemService;
-    private final NotificationService notificationService;
+    private final NotificationBatchGateway notificationBatchGateway;
+    private final ExpoDetailCacheService expoDetailCacheService;
     
     private static final List<ExpoStatus> ACTIVE_STATUSES = List.of(
             ExpoStatus.PUBLISHED,
@@ -57,11 +62,16 @@ public class SystemExpoServiceImpl implements SystemExpoService {
                         ExpoStatus.PENDING_PUBLISH);
         
         
-        for (Expo expo : pendingExpos) {
-            ExpoStatus oldStatus = expo.getStatus();
-            expo.publish();
-            ExpoStatus newStatus = expo.getStatus();
-            notificationService.notifyExpoStatusChange(expo, oldStatus, newStatus);
+        // 상태 변경 알림은 bulk API 로 모아서 전송 (알림 실패로 게시 처리가 롤백되지 않음)
+        try (NotificationBatcher batcher = notificationBatchGateway.open("expo-publish")) {
+            for (Expo expo : pendingExpos) {
+                ExpoStatus oldStatus = expo.getStatus();
+                expo.publish();
+                ExpoStatus newStatus = expo.getStatus();
+                batcher.add(NotificationCommand.expoStatusChanged(
+                        ExpoStatusChangeCommand.of(expo, oldStatus, newStatus)));
+            }
+            batcher.finish();
         }
         
         if (!pendingExpos.isEmpty()) {
@@ -82,14 +92,18 @@ public class SystemExpoServiceImpl implements SystemExpoService {
                         ExpoStatus.PUBLISHED);
         
         
-        for (Expo expo : endedExpos) {
-            ExpoStatus oldStatus = expo.getStatus();
-            expo.complete(); // PUBLISHED → PUBLISH_ENDED
-            ExpoStatus newStatus = expo.getStatus();
-            notificationService.notifyExpoStatusChange(expo, oldStatus, newStatus);
-            
-            // Settlement 자동 생성 (SettlementSystemService로 위임)
-            settlementSystemService.createInitialSettlement(expo);
+        try (NotificationBatcher batcher = notificationBatchGateway.open("expo-close")) {
+            for (Expo expo : endedExpos) {
+                ExpoStatus oldStatus = expo.getStatus();
+                expo.complete(); // PUBLISHED → PUBLISH_ENDED
+                ExpoStatus newStatus = expo.getStatus();
+                batcher.add(NotificationCommand.expoStatusChanged(
+                        ExpoStatusChangeCommand.of(expo, oldStatus, newStatus)));
+
+                // Settlement 자동 생성 (SettlementSystemService로 위임)
+                settlementSystemService.createInitialSettlement(expo);
+            }
+            batcher.finish();
         }
         
         if (!endedExpos.isEmpty()) {
@@ -102,10 +116,12 @@ public class SystemExpoServiceImpl implements SystemExpoService {
 
     @Override
     public void refreshExpoCache() {
-        
-        // Redis 캐시 갱신 로직이 필요한 경우 구현
-        // 현재는 박람회에서 Redis 캐시를 사용하지 않으므로 빈 구현
-        
+        // 상태 전환된 박람회는 변경 이벤트로도 무효화되지만, 게시 경계에 걸린 박람회를 한 번 더 정리
+        // (evictAll 은 트랜잭션 커밋 이후 실행)
+        LocalDate today = LocalDate.now();
+        List<Long> expoIds = expoRepository.findIdsByDisplayBoundary(today, today.minusDays(1));
+        expoIds.forEach(expoDetailCacheService::evictAll);
+        log.info("박람회 상세 캐시 갱신 - 대상 박람회 수: {}", expoIds.size());
     }
     
 }
\ No newline at end of file
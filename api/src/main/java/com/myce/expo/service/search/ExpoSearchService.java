@@ -0,0 +1,25 @@
+package com.myce.expo.service.search;
+
+import com.myce.expo.dto.ExpoSearchFacetResponse;
+import com.myce.expo.entity.Expo;
+import com.myce.expo.entity.type.ExpoStatus;
+import java.time.LocalDate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface ExpoSearchService {
+
+    // 박람회 목록 검색 (색인 준비 전에는 DB 쿼리로 대체)
+    Page<Expo> search(ExpoStatus status, Long categoryId, String keyword,
+                      LocalDate from, LocalDate to, Pageable pageable);
+
+    // 검색 결과의 카테고리/월별 건수
+    ExpoSearchFacetResponse getFacets(ExpoStatus status, Long categoryId, String keyword,
+                                      LocalDate from, LocalDate to);
+
+    // 전체 색인 재생성
+    int rebuild();
+
+    // 마지막 동기화 이후 변경된 박람회 반영 (다른 서버에서 변경된 박람회 포함)
+    int syncChanges();
+}
@@ -0,0 +1,188 @@
+package com.myce.expo.service.search.impl;
+
+import com.myce.expo.dto.ExpoSearchFacetResponse;
+import com.myce.expo.entity.Category;
+import com.myce.expo.entity.Expo;
+import com.myce.expo.entity.type.ExpoStatus;
+import com.myce.expo.event.ExpoChangedEvent;
+import com.myce.expo.repository.CategoryRepository;
+import com.myce.expo.repository.ExpoCategoryRepository;
+import com.myce.expo.repository.ExpoRepository;
+import com.myce.expo.service.search.ExpoSearchService;
+import com.myce.expo.service.search.index.ExpoSearchIndex;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 박람회 검색 서비스
+ * - 인메모리 n-gram 색인으로 검색/정렬/패싯 처리, 본문은 페이지 단위로만 DB 조회
+ * - 변경 이벤트(커밋 후)로 즉시 반영하고, 다른 서버의 변경은 updatedAt 기준 동기화로 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExpoSearchServiceImpl implements ExpoSearchService {
+
+    // 기본 목록 노출 상태
+    private static final Set<ExpoStatus> LISTED_STATUSES =
+            EnumSet.of(ExpoStatus.PUBLISHED, ExpoStatus.PENDING_PUBLISH);
+
+    // 동기화 조회 시 커밋 지연을 고려해 겹쳐서 조회하는 시간
+    private static final long SYNC_OVERLAP_SECONDS = 30;
+
+    private final ExpoRepository expoRepository;
+    private final ExpoCategoryRepository expoCategoryRepository;
+    private final CategoryRepository categoryRepository;
+
+    private final ExpoSearchIndex expoSearchIndex = new ExpoSearchIndex();
+    private volatile boolean ready = false;
+    private volatile LocalDateTime lastSyncedAt;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Expo> search(ExpoStatus status, Long categoryId, String keyword,
+                             LocalDate from, LocalDate to, Pageable pageable) {
+        if (!ready) {
+            return expoRepository.findPublishedExposFiltered(status, categoryId, keyword, from, to, pageable);
+        }
+
+        ExpoSearchIndex.Result result = expoSearchIndex.search(
+                toQuery(status, categoryId, keyword, from, to), (int) pageable.getOffset(), pageable.getPageSize());
+
+        Map<Long, Expo> exposById = expoRepository.findAllById(result.expoIds()).stream()
+                .collect(Collectors.toMap(Expo::getId, Function.identity()));
+        List<Expo> content = result.expoIds().stream()
+                .map(exposById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, result.total());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ExpoSearchFacetResponse getFacets(ExpoStatus status, Long categoryId, String keyword,
+                                             LocalDate from, LocalDate to) {
+        if (!ready) {
+            return ExpoSearchFacetResponse.builder().categories(List.of()).months(List.of()).build();
+        }
+
+        ExpoSearchIndex.Facets facets = expoSearchIndex.facets(toQuery(status, categoryId, keyword, from, to));
+        Map<Long, String> categoryNames = categoryRepository.findAllById(facets.categoryCounts().keySet()).stream()
+                .collect(Collectors.toMap(Category::getId, Category::getName));
+
+        List<ExpoSearchFacetResponse.CategoryFacet> categories = facets.categoryCounts().entrySet().stream()
+                .filter(entry -> categoryNames.containsKey(entry.getKey()))
+                .map(entry -> new ExpoSearchFacetResponse.CategoryFacet(
+                        entry.getKey(), categoryNames.get(entry.getKey()), entry.getValue()))
+                .toList();
+        List<ExpoSearchFacetResponse.MonthFacet> months = facets.monthCounts().entrySet().stream()
+                .map(entry -> new ExpoSearchFacetResponse.MonthFacet(entry.getKey().toString(), entry.getValue()))
+                .toList();
+
+        return ExpoSearchFacetResponse.builder()
+                .categories(categories)
+                .months(months)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<Expo> expos = expoRepository.findAll();
+        Map<Long, Set<Long>> categoryIds = groupCategoryIds(expoCategoryRepository.findAllExpoCategoryIds());
+
+        expoSearchIndex.replaceAll(expos.stream()
+                .map(expo -> toDocument(expo, categoryIds.getOrDefault(expo.getId(), Set.of())))
+                .toList());
+        lastSyncedAt = startedAt;
+        ready = true;
+        return expoSearchIndex.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int syncChanges() {
+        if (!ready) {
+            return rebuild();
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<Expo> changed = expoRepository.findByUpdatedAtAfter(lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS));
+        upsert(changed);
+        lastSyncedAt = startedAt;
+        return changed.size();
+    }
+
+    // 커밋된 변경만 반영 (트랜잭션 밖에서 발생한 이벤트는 즉시 반영)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onExpoChanged(ExpoChangedEvent event) {
+        if (!ready) {
+            return;
+        }
+        try {
+            expoRepository.findById(event.expoId()).ifPresentOrElse(
+                    expo -> upsert(List.of(expo)),
+                    () -> expoSearchIndex.remove(event.expoId()));
+        } catch (Exception e) {
+            // 다음 동기화에서 반영되므로 예외 전파하지 않음
+            log.warn("박람회 검색 색인 갱신 실패 - expoId: {}, 오류: {}", event.expoId(), e.getMessage());
+        }
+    }
+
+    private void upsert(Collection<Expo> expos) {
+        if (expos.isEmpty()) {
+            return;
+        }
+        Map<Long, Set<Long>> categoryIds = groupCategoryIds(expoCategoryRepository.findExpoCategoryIdsByExpoIdIn(
+                expos.stream().map(Expo::getId).toList()));
+        for (Expo expo : expos) {
+            Set<Long> expoCategoryIds = categoryIds.getOrDefault(expo.getId(), Set.of());
+            if (expoCategoryIds.isEmpty()) {
+                expoSearchIndex.remove(expo.getId());
+                continue;
+            }
+            expoSearchIndex.upsert(toDocument(expo, expoCategoryIds));
+        }
+    }
+
+    private ExpoSearchIndex.Query toQuery(ExpoStatus status, Long categoryId, String keyword,
+                                          LocalDate from, LocalDate to) {
+        Set<ExpoStatus> statuses = status != null ? EnumSet.of(status) : LISTED_STATUSES;
+        return new ExpoSearchIndex.Query(statuses, categoryId, keyword, from, to);
+    }
+
+    private ExpoSearchIndex.Document toDocument(Expo expo, Set<Long> categoryIds) {
+        return ExpoSearchIndex.Document.of(expo.getId(), expo.getStatus(), categoryIds,
+                expo.getStartDate(), expo.getEndDate(), expo.getDisplayStartDate(),
+                expo.getTitle(), expo.getLocation(), expo.getDescription());
+    }
+
+    private Map<Long, Set<Long>> groupCategoryIds(List<Object[]> rows) {
+        Map<Long, Set<Long>> categoryIds = new HashMap<>();
+        for (Object[] row : rows) {
+            categoryIds.computeIfAbsent((Long) row[0], key -> new HashSet<>()).add((Long) row[1]);
+        }
+        return categoryIds;
+    }
+}
@@ -0,0 +1,230 @@
+package com.myce.expo.service.search.index;
+
+import com.myce.expo.entity.type.ExpoStatus;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 박람회 인메모리 역색인
+ * - n-gram -> (박람회 ID -> 필드 가중치 반영 빈도) 포스팅 목록
+ * - 검색어의 모든 n-gram 을 포함하는 박람회만 후보로 삼고, 가장 짧은 포스팅 목록부터 교집합
+ * - 점수는 필드 가중치 * 포화 빈도 * idf 합
+ */
+public class ExpoSearchIndex {
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float LOCATION_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public record Document(Long expoId, ExpoStatus status, Set<Long> categoryIds,
+                           LocalDate startDate, LocalDate endDate, LocalDate sortDate,
+                           Map<String, Float> grams) {
+
+        public static Document of(Long expoId, ExpoStatus status, Set<Long> categoryIds,
+                                  LocalDate startDate, LocalDate endDate, LocalDate displayStartDate,
+                                  String title, String location, String description) {
+            Map<String, Float> grams = new HashMap<>();
+            addField(grams, title, TITLE_WEIGHT);
+            addField(grams, location, LOCATION_WEIGHT);
+            addField(grams, description, DESCRIPTION_WEIGHT);
+            // 게시 대기 박람회는 게시 시작일 기준으로 정렬 (기존 목록 정렬과 동일)
+            LocalDate sortDate = status == ExpoStatus.PENDING_PUBLISH ? displayStartDate : startDate;
+            return new Document(expoId, status, Set.copyOf(categoryIds), startDate, endDate, sortDate, grams);
+        }
+
+        private static void addField(Map<String, Float> grams, String text, float weight) {
+            NGramTokenizer.indexGrams(text).forEach((gram, count) ->
+                    grams.merge(gram, weight * count / (count + 1.0f), Float::sum));
+        }
+    }
+
+    // null 인 조건은 적용하지 않음
+    public record Query(Set<ExpoStatus> statuses, Long categoryId, String keyword,
+                        LocalDate from, LocalDate to) {
+    }
+
+    public record Result(List<Long> expoIds, long total) {
+    }
+
+    public record Facets(Map<Long, Long> categoryCounts, Map<YearMonth, Long> monthCounts) {
+    }
+
+    private record Hit(Document document, double score) {
+    }
+
+    public void replaceAll(Collection<Document> newDocuments) {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            newDocuments.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(Document document) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.expoId());
+            put(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long expoId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(expoId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Result search(Query query, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Hit> hits = new ArrayList<>();
+            for (Hit hit : match(query.keyword())) {
+                Document document = hit.document();
+                if (matchesStatus(query, document) && matchesCategory(query, document) && matchesPeriod(query, document)) {
+                    hits.add(hit);
+                }
+            }
+
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                    .thenComparing(hit -> hit.document().sortDate())
+                    .thenComparing(hit -> hit.document().startDate())
+                    .thenComparing(hit -> hit.document().expoId()));
+
+            List<Long> expoIds = hits.stream()
+                    .skip(offset)
+                    .limit(limit)
+                    .map(hit -> hit.document().expoId())
+                    .toList();
+            return new Result(expoIds, hits.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 카테고리 패싯은 카테고리 조건을, 월별 패싯은 기간 조건을 제외하고 집계
+    public Facets facets(Query query) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Long> categoryCounts = new TreeMap<>();
+            Map<YearMonth, Long> monthCounts = new TreeMap<>();
+            for (Hit hit : match(query.keyword())) {
+                Document document = hit.document();
+                if (!matchesStatus(query, document)) {
+                    continue;
+                }
+                if (matchesPeriod(query, document)) {
+                    document.categoryIds().forEach(categoryId -> categoryCounts.merge(categoryId, 1L, Long::sum));
+                }
+                if (matchesCategory(query, document)) {
+                    monthCounts.merge(YearMonth.from(document.startDate()), 1L, Long::sum);
+                }
+            }
+            return new Facets(categoryCounts, monthCounts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Hit> match(String keyword) {
+        Set<String> grams = NGramTokenizer.queryGrams(keyword);
+        if (grams.isEmpty()) {
+            return documents.values().stream().map(document -> new Hit(document, 0)).toList();
+        }
+
+        List<Map<Long, Float>> lists = new ArrayList<>();
+        for (String gram : grams) {
+            Map<Long, Float> posting = postings.get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Map::size));
+
+        int total = documents.size();
+        List<Hit> hits = new ArrayList<>();
+        candidates:
+        for (Long expoId : lists.get(0).keySet()) {
+            double score = 0;
+            for (Map<Long, Float> posting : lists) {
+                Float weight = posting.get(expoId);
+                if (weight == null) {
+                    continue candidates;
+                }
+                score += weight * Math.log(1 + (double) total / posting.size());
+            }
+            hits.add(new Hit(documents.get(expoId), score));
+        }
+        return hits;
+    }
+
+    private boolean matchesStatus(Query query, Document document) {
+        return query.statuses() == null || query.statuses().contains(document.status());
+    }
+
+    private boolean matchesCategory(Query query, Document document) {
+        return query.categoryId() == null || document.categoryIds().contains(query.categoryId());
+    }
+
+    private boolean matchesPeriod(Query query, Document document) {
+        return (query.from() == null || !document.startDate().isBefore(query.from()))
+                && (query.to() == null || !document.endDate().isAfter(query.to()));
+    }
+
+    private void put(Document document) {
+        // 카테고리가 없는 박람회는 기존 목록 쿼리(카테고리 조인)와 동일하게 제외
+        if (document.categoryIds().isEmpty()) {
+            return;
+        }
+        documents.put(document.expoId(), document);
+        document.grams().forEach((gram, weight) ->
+                postings.computeIfAbsent(gram, key -> new HashMap<>()).put(document.expoId(), weight));
+    }
+
+    private void removeInternal(Long expoId) {
+        Document previous = documents.remove(expoId);
+        if (previous == null) {
+            return;
+        }
+        previous.grams().keySet().forEach(gram -> {
+            Map<Long, Float> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(expoId);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,88 @@
+package com.myce.expo.service.search.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 검색 색인용 n-gram 토크나이저
+ * - 한글은 형태소 분석 없이 음절 bigram 으로 부분 문자열 검색을 지원
+ * - 공백/기호 및 한글과 영문/숫자 경계에서 토큰 분리 ("2025서울" -> "2025", "서울")
+ */
+public final class NGramTokenizer {
+
+    private NGramTokenizer() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    // 색인용 - 음절 unigram + bigram 빈도
+    public static Map<String, Integer> indexGrams(String text) {
+        Map<String, Integer> grams = new HashMap<>();
+        for (String token : tokenize(text)) {
+            int[] codePoints = token.codePoints().toArray();
+            for (int i = 0; i < codePoints.length; i++) {
+                grams.merge(new String(codePoints, i, 1), 1, Integer::sum);
+                if (i + 1 < codePoints.length) {
+                    grams.merge(new String(codePoints, i, 2), 1, Integer::sum);
+                }
+            }
+        }
+        return grams;
+    }
+
+    // 검색어용 - 한 글자 토큰은 unigram, 그 외는 bigram
+    public static Set<String> queryGrams(String keyword) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String token : tokenize(keyword)) {
+            int[] codePoints = token.codePoints().toArray();
+            if (codePoints.length == 1) {
+                grams.add(token);
+                continue;
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                grams.add(new String(codePoints, i, 2));
+            }
+        }
+        return grams;
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder current = new StringBuilder();
+        boolean currentHangul = false;
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (!Character.isLetterOrDigit(codePoint)) {
+                flush(current, tokens);
+                continue;
+            }
+            boolean hangul = Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+            if (!current.isEmpty() && hangul != currentHangul) {
+                flush(current, tokens);
+            }
+            current.appendCodePoint(codePoint);
+            currentHangul = hangul;
+        }
+        flush(current, tokens);
+        return tokens;
+    }
+
+    private static void flush(StringBuilder current, List<String> tokens) {
+        if (!current.isEmpty()) {
+            tokens.add(current.toString());
+            current.setLength(0);
+        }
+    }
+}
@@ -1,18 +1,21 @@
 package com.myce.payment.controller;
 
+import com.myce.auth.dto.CustomUserDetails;
+import com.myce.common.dto.ExportJobResponse;
+import com.myce.common.export.ExportFormat;
 import com.myce.payment.service.PaymentInfoPlatformExcelDownloadService;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.io.IOException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 
 @Slf4j
@@ -21,26 +24,36 @@ import java.time.LocalDate;
 @RequiredArgsConstructor
 public class PaymentInfoPlatformExcelDownloadController {
     private final PaymentInfoPlatformExcelDownloadService service;
-    private final String EXCEL_FILE_NAME = "payment_info_xlsx";
+    private final String EXCEL_FILE_NAME = "payment_info";
 
     @GetMapping
     public void downloadExcel(
             HttpServletResponse response,
+            @RequestParam(required = false) String format,
             @RequestParam(required = false) String type,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate)
             throws IOException {
 
-        response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
-        response.setHeader("Content-Disposition", "attachment; filename=\"" + EXCEL_FILE_NAME + "\"");
+        ExportFormat exportFormat = ExportFormat.fromValue(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader("Content-Disposition", exportFormat.contentDisposition(EXCEL_FILE_NAME));
 
-        try {
-            service.downloadExcel(response.getOutputStream(), type, keyword, startDate, endDate);
-        } catch (IOException e) {
-            log.error("Failed to write to OutputStream", e);
-            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            response.getWriter().write("Failed to generate and download file.");
-        }
+        service.downloadExcel(response.getOutputStream(), exportFormat, type, keyword, startDate, endDate);
+    }
+
+    // 대량 내역은 백그라운드로 생성 후 /api/exports/{jobId} 로 진행 상태 확인 및 다운로드
+    @PostMapping("/jobs")
+    public ExportJobResponse requestExport(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate) {
+
+        return service.requestExport(customUserDetails.getMemberId(), customUserDetails.getLoginType(),
+                ExportFormat.fromValue(format), type, keyword, startDate, endDate);
     }
 }
@@ -0,0 +1,38 @@
+package com.myce.payment.dto;
+
+import com.myce.payment.entity.type.ExpoRefundJobStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 박람회 취소 환불 작업 진행 현황 (플랫폼 관리자 조회용)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpoRefundJobResponse {
+    private Long expoId;
+    private ExpoRefundJobStatus status;
+    private Integer totalCount;
+    private Long pendingCount;
+    private Long doneCount;
+    private Long failedCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+    private List<FailedItem> failedItems;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FailedItem {
+        private Long reservationId;
+        private Integer attemptCount;
+        private String lastError;
+    }
+}
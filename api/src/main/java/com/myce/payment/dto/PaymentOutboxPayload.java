@@ -0,0 +1,46 @@
+package com.myce.payment.dto;
+
+import com.myce.reservation.dto.ReserverBulkSaveRequest;
+import com.myce.reservation.entity.Reservation;
+import com.myce.reservation.entity.code.UserType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결제 후속 작업 처리에 필요한 값
+ * - 디스패처가 DB 조회 없이 알림/메일을 보낼 수 있도록 등록 시점에 필요한 값을 모두 담음
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentOutboxPayload {
+    private Long userId;
+    private UserType userType;
+    private String expoTitle;
+    private String reservationCode;
+    private Integer quantity;
+    private Integer paidAmount;
+    private Integer usedMileage;
+    private Integer savedMileage;
+    private String reserverName;
+    private String reserverEmail;
+
+    public static PaymentOutboxPayload of(Reservation reservation, int paidAmount, int usedMileage,
+                                          int savedMileage, ReserverBulkSaveRequest.ReserverSaveInfo reserver) {
+        return PaymentOutboxPayload.builder()
+                .userId(reservation.getUserId())
+                .userType(reservation.getUserType())
+                .expoTitle(reservation.getExpo().getTitle())
+                .reservationCode(reservation.getReservationCode())
+                .quantity(reservation.getQuantity())
+                .paidAmount(paidAmount)
+                .usedMileage(usedMileage)
+                .savedMileage(savedMileage)
+                .reserverName(reserver == null ? null : reserver.getName())
+                .reserverEmail(reserver == null ? null : reserver.getEmail())
+                .build();
+    }
+}
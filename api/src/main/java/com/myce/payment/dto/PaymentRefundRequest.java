@@ -20,4 +20,7 @@ public class PaymentRefundRequest {
     private String refundBank;
     private String refundAccount;
     private String refundTel;
+
+    // 같은 키의 환불 요청은 payment 서비스에서 한 번만 처리 (재시도 시 중복 환불 방지)
+    private String idempotencyKey;
 }
@@ -1,10 +1,16 @@
 package com.myce.payment.service;
 
 
+import com.myce.auth.dto.type.LoginType;
+import com.myce.common.dto.ExportJobResponse;
+import com.myce.common.export.ExportFormat;
 import java.io.OutputStream;
 import java.time.LocalDate;
 
 public interface PaymentInfoPlatformExcelDownloadService {
-    void downloadExcel(OutputStream outputStream, String type, String keyword,
+    void downloadExcel(OutputStream outputStream, ExportFormat format, String type, String keyword,
                        LocalDate startDate, LocalDate endDate);
+
+    ExportJobResponse requestExport(Long memberId, LoginType loginType, ExportFormat format, String type,
+                                    String keyword, LocalDate startDate, LocalDate endDate);
 }
@@ -2,18 +2,18 @@ package com.myce.payment.service;
 
 import com.myce.common.dto.PageResponse;
 import com.myce.payment.dto.PaymentInfoResponse;
+import com.myce.payment.dto.PaymentLedgerFilter;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.function.Predicate;
 
 public interface PaymentInfoPlatformService {
     PageResponse<PaymentInfoResponse> getPaymentInfoPage(Integer page, Integer size,
                                                          boolean latestFirst);
 
     PageResponse<PaymentInfoResponse> filterPaymentInfoPage(Integer page, Integer size,
-                                                            boolean latestFirst, String status, String keyword, LocalDate startDate, LocalDate endDate);
+                                                            boolean latestFirst, String keyword, String type, LocalDate startDate, LocalDate endDate);
 
-    List<PaymentInfoResponse> fetchAndSortAllPayments(boolean latestFirst,
-                                                      Predicate<PaymentInfoResponse> filterPredicate);
-}
\ No newline at end of file
+    // 최신순으로 after 다음 size 건 조회, after 가 null 이면 처음부터 (엑셀 다운로드 등 전체 순회용)
+    List<PaymentInfoResponse> findPaymentChunk(PaymentLedgerFilter filter, PaymentInfoResponse after, int size);
+}
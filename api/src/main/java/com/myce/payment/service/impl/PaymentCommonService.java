@@ -6,9 +6,8 @@ import com.myce.member.service.MemberMileageService;
 import com.myce.client.notification.service.MailSendService;
 import com.myce.client.notification.service.NotificationService;
 import com.myce.qrcode.service.QrCodeService;
-import com.myce.reservation.dto.ReserverBulkSaveRequest;
-import com.myce.reservation.entity.Reservation;
 import com.myce.client.notification.dto.PaymentCompleteRequest;
+import com.myce.payment.dto.PaymentOutboxPayload;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -39,58 +38,42 @@ public class PaymentCommonService {
         // 회원 등급 업데이트
         memberGradeService.udpateGrade(userId);
     }
-    // QR 생성
-    public void issueQrForReservation(Reservation reservation) {
-        try {
-            qrCodeService.issueQrForReservation(reservation.getId());
-            log.info("QR 코드 생성 완료 - reservationId: {}", reservation.getId());
-        } catch (Exception qrError) {
-            log.warn("QR 코드 생성 실패 (스케줄러에서 재시도) - reservationId: {}, 오류: {}",
-                    reservation.getId(), qrError.getMessage());
-        }
+    // QR 생성 (실패 시 예외를 던져 outbox 에서 재시도, 이미 QR 이 있는 예약자는 건너뜀)
+    public void issueQrForReservation(Long reservationId) {
+        qrCodeService.issueQrForReservation(reservationId);
+        log.info("QR 코드 생성 완료 - reservationId: {}", reservationId);
     }
-    // 알림 전송
-    public void sendAlert(Reservation reservation, int paidAmount) {
-        long reservationId = reservation.getId();
-        long userId = reservation.getUserId();
-        String expoTitle = reservation.getExpo().getTitle();
 
-        try {
-            String payAmountMessage = PAY_AMOUNT_MESSAGE_FORMAT.formatted(paidAmount);
+    // 알림 전송
+    public void sendAlert(Long reservationId, PaymentOutboxPayload payload) {
+        String payAmountMessage = PAY_AMOUNT_MESSAGE_FORMAT.formatted(payload.getPaidAmount());
 
-            PaymentCompleteRequest req = PaymentCompleteRequest.builder()
-                    .userId(userId)
-                    .reservationId(reservationId)
-                    .expoTitle(expoTitle)
-                    .payAmountMessage(payAmountMessage)
-                    .build();
+        PaymentCompleteRequest req = PaymentCompleteRequest.builder()
+                .userId(payload.getUserId())
+                .reservationId(reservationId)
+                .expoTitle(payload.getExpoTitle())
+                .payAmountMessage(payAmountMessage)
+                .build();
 
-            notificationService.sendPaymentComplete(req);
+        notificationService.sendPaymentComplete(req);
 
-            log.info("가상계좌 결제 완료 알림 발송 - 예약 ID: {}, 회원 ID: {}, 금액: {}",
-                                                        reservationId, userId, payAmountMessage);
-        } catch (Exception e) {
-            log.error("가상계좌 결제 완료 알림 발송 실패 - 예약 ID: {}", reservationId, e);
-        }
+        log.info("결제 완료 알림 발송 - 예약 ID: {}, 회원 ID: {}, 금액: {}",
+                reservationId, payload.getUserId(), payAmountMessage);
     }
 
     // 이메일 전송
-    public void sendEmail(Reservation reservation, ReserverBulkSaveRequest.ReserverSaveInfo reserverInfo, int paidAmount) {
-        String payAmountMessage = PAY_AMOUNT_MESSAGE_FORMAT.formatted(paidAmount);
+    public void sendEmail(Long reservationId, PaymentOutboxPayload payload) {
+        String payAmountMessage = PAY_AMOUNT_MESSAGE_FORMAT.formatted(payload.getPaidAmount());
 
-        try {
-            mailSendService.sendConfirmMail(reserverInfo.getEmail(),
-                    reserverInfo.getName(),
-                    reservation.getExpo().getTitle(),
-                    reservation.getReservationCode(),
-                    reservation.getQuantity(),
-                    payAmountMessage,
-                    reservation.getUserType());
+        mailSendService.sendConfirmMail(payload.getReserverEmail(),
+                payload.getReserverName(),
+                payload.getExpoTitle(),
+                payload.getReservationCode(),
+                payload.getQuantity(),
+                payAmountMessage,
+                payload.getUserType());
 
-            log.info("예매 완료 이메일 전송 완료 - 예약 ID: {}, 사용자 유형: {}, 이메일: {}",
-                    reservation.getId(), reservation.getUserType(), reserverInfo.getEmail());
-        } catch (Exception e) {
-            log.error("예매 완료 이메일 전송 실패 - 예약 ID: {}, 오류: {}", reservation.getId(), e.getMessage());
-        }
+        log.info("예매 완료 이메일 전송 완료 - 예약 ID: {}, 사용자 유형: {}, 이메일: {}",
+                reservationId, payload.getUserType(), payload.getReserverEmail());
     }
 }
@@ -1,42 +1,43 @@
 package com.myce.payment.service.impl;
 
 import com.myce.common.dto.PageResponse;
-import com.myce.expo.entity.Expo;
 import com.myce.payment.dto.PaymentInfoResponse;
-import com.myce.payment.repository.AdPaymentInfoRepository;
-import com.myce.payment.repository.ExpoPaymentInfoRepository;
+import com.myce.payment.dto.PaymentLedgerCursor;
+import com.myce.payment.dto.PaymentLedgerFilter;
+import com.myce.payment.dto.PaymentLedgerRow;
+import com.myce.payment.entity.type.PaymentTargetType;
+import com.myce.payment.repository.PaymentLedgerRepository;
 import com.myce.payment.service.PaymentInfoPlatformService;
 import com.myce.payment.service.mapper.PaymentInfoMapper;
 import com.myce.reservation.repository.ReservationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Map;
 
+/**
+ * 플랫폼 결제 내역 조회
+ * - 검색 조건/정렬/페이지 처리는 PaymentLedgerRepository 에서 DB 로 처리
+ * - 박람회 티켓 수익은 현재 페이지에 포함된 박람회만 한 번의 GROUP BY 로 집계
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PaymentInfoPlatformServiceImpl implements PaymentInfoPlatformService {
-    private final ExpoPaymentInfoRepository expoPaymentInfoRepository;
+    private final PaymentLedgerRepository paymentLedgerRepository;
     private final ReservationRepository reservationRepository;
-    private final AdPaymentInfoRepository adPaymentInfoRepository;
 
     @Override
     public PageResponse<PaymentInfoResponse> getPaymentInfoPage(Integer page, Integer size, boolean latestFirst) {
-        List<PaymentInfoResponse> allPayments = fetchAndSortAllPayments(latestFirst, null);
-        return paginatePayments(allPayments, page, size);
+        return findPage(PaymentLedgerFilter.NONE, page, size, latestFirst);
     }
 
     @Override
@@ -44,60 +45,67 @@ public class PaymentInfoPlatformServiceImpl implements PaymentInfoPlatformServic
             boolean latestFirst,
             String keyword, String type,
             LocalDate startDate, LocalDate endDate) {
-        Predicate<PaymentInfoResponse> filterPredicate = paymentInfo ->
-                (keyword == null || paymentInfo.getTitle().contains(keyword)) &&
-                (type == null || paymentInfo.getType().equalsIgnoreCase(type)) &&
-                (startDate == null || !paymentInfo.getCreatedAt().toLocalDate().isBefore(startDate)) &&
-                (endDate == null || !paymentInfo.getCreatedAt().toLocalDate().isAfter(endDate));
-        List<PaymentInfoResponse> allPayments = fetchAndSortAllPayments(latestFirst, filterPredicate);
-        return paginatePayments(allPayments, page, size);
+        PaymentLedgerFilter filter = new PaymentLedgerFilter(keyword, type, startDate, endDate);
+        return findPage(filter, page, size, latestFirst);
     }
 
-    public List<PaymentInfoResponse> fetchAndSortAllPayments(boolean latestFirst, Predicate<PaymentInfoResponse> filterPredicate) {
-        List<PaymentInfoResponse> expoPayments = expoPaymentInfoRepository.findAll()
-                .stream()
-                .map(paymentInfo -> {
-                    Expo expo = paymentInfo.getExpo();
-                    BigDecimal commissionRate = paymentInfo.getCommissionRate();
-                    BigDecimal totalRevenue = reservationRepository.sumTotalRevenueByExpoId(expo.getId());
-                    BigDecimal platformRevenue = totalRevenue.multiply(commissionRate)
-                            .divide(new BigDecimal("100"), 2, RoundingMode.HALF_UP);
-                    return PaymentInfoMapper.expoPaymentInfoToResponse(paymentInfo, platformRevenue);
-                })
-                .toList();
-
-        List<PaymentInfoResponse> adPayments = adPaymentInfoRepository.findAll()
-                .stream()
-                .map(PaymentInfoMapper::adPaymentInfoToResponse)
-                .toList();
+    @Override
+    public List<PaymentInfoResponse> findPaymentChunk(PaymentLedgerFilter filter, PaymentInfoResponse after,
+                                                      int size) {
+        PaymentLedgerCursor cursor = after == null ? null : new PaymentLedgerCursor(
+                after.getCreatedAt(), PaymentTargetType.valueOf(after.getType()), after.getId());
+        return toResponses(paymentLedgerRepository.findAfter(filter, true, cursor, size));
+    }
 
-        Comparator<PaymentInfoResponse> comparator = Comparator.comparing(PaymentInfoResponse::getCreatedAt);
-        if (latestFirst) {
-            comparator = comparator.reversed();
+    private PageResponse<PaymentInfoResponse> findPage(PaymentLedgerFilter filter, Integer page, Integer size,
+                                                       boolean latestFirst) {
+        PageRequest pageable = PageRequest.of(page, size);
+        long total = paymentLedgerRepository.count(filter);
+        if (pageable.getOffset() >= total) {
+            return PageResponse.from(new PageImpl<>(List.of(), pageable, total));
         }
 
-        Stream<PaymentInfoResponse> combinedStream = Stream.concat(expoPayments.stream(), adPayments.stream())
-                .sorted(comparator);
-
-        if (filterPredicate != null) {
-            combinedStream = combinedStream.filter(filterPredicate);
-        }
+        List<PaymentLedgerRow> rows = paymentLedgerRepository.findPage(
+                filter, latestFirst, (int) pageable.getOffset(), size);
+        return PageResponse.from(new PageImpl<>(toResponses(rows), pageable, total));
+    }
 
-        return combinedStream.collect(Collectors.toList());
+    private List<PaymentInfoResponse> toResponses(List<PaymentLedgerRow> rows) {
+        Map<Long, BigDecimal> revenueByExpoId = sumRevenueByExpoId(rows);
+        return rows.stream()
+                .map(row -> row.type() == PaymentTargetType.EXPO
+                        ? PaymentInfoMapper.expoLedgerRowToResponse(row, platformRevenue(row,
+                                revenueByExpoId.getOrDefault(row.targetId(), BigDecimal.ZERO)))
+                        : PaymentInfoMapper.adLedgerRowToResponse(row))
+                .toList();
     }
 
-    private PageResponse<PaymentInfoResponse> paginatePayments(List<PaymentInfoResponse> allPayments, Integer page, Integer size) {
-        int start = page * size;
-        int end = Math.min(start + size, allPayments.size());
+    // 박람회 티켓 총 수익 중 플랫폼 수수료
+    private BigDecimal platformRevenue(PaymentLedgerRow row, BigDecimal totalRevenue) {
+        return totalRevenue.multiply(row.commissionRate())
+                .divide(new BigDecimal("100"), 2, RoundingMode.HALF_UP);
+    }
 
-        if (start > allPayments.size()) {
-            return PageResponse.from(Page.empty(PageRequest.of(page, size)));
+    private Map<Long, BigDecimal> sumRevenueByExpoId(List<PaymentLedgerRow> rows) {
+        List<Long> expoIds = rows.stream()
+                .filter(row -> row.type() == PaymentTargetType.EXPO)
+                .map(PaymentLedgerRow::targetId)
+                .distinct()
+                .toList();
+        Map<Long, BigDecimal> revenueByExpoId = new HashMap<>();
+        if (expoIds.isEmpty()) {
+            return revenueByExpoId;
         }
+        for (Object[] result : reservationRepository.sumTotalRevenueByExpoIds(expoIds)) {
+            revenueByExpoId.put((Long) result[0], toBigDecimal(result[1]));
+        }
+        return revenueByExpoId;
+    }
 
-        List<PaymentInfoResponse> pagedPayments = allPayments.subList(start, end);
-        Pageable pageable = PageRequest.of(page, size);
-        Page<PaymentInfoResponse> paymentPage = new PageImpl<>(pagedPayments, pageable, allPayments.size());
-
-        return PageResponse.from(paymentPage);
+    private BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        return value == null ? BigDecimal.ZERO : new BigDecimal(value.toString());
     }
-}
\ No newline at end of file
+}
@@ -7,14 +7,16 @@ import com.myce.expo.entity.Expo;
 import com.myce.expo.entity.Ticket;
 import com.myce.expo.repository.ExpoRepository;
 import com.myce.expo.repository.TicketRepository;
-import com.myce.expo.service.info.ExpoTicketService;
+import com.myce.expo.service.info.TicketInventoryService;
 import com.myce.payment.dto.*;
 import com.myce.payment.entity.ReservationPaymentInfo;
+import com.myce.payment.entity.type.PaymentOutboxType;
 import com.myce.payment.entity.type.PaymentStatus;
 import com.myce.payment.entity.type.PaymentTargetType;
 import com.myce.payment.repository.ReservationPaymentInfoRepository;
 import com.myce.payment.service.ReservationPaymentService;
 import com.myce.payment.service.mapper.PaymentMapper;
+import com.myce.payment.service.outbox.PaymentOutboxService;
 import com.myce.reservation.dto.GuestReservationRequest;
 import com.myce.reservation.dto.PreReservationCacheDto;
 import com.myce.reservation.dto.ReserverBulkSaveRequest;
@@ -46,8 +48,8 @@ public class ReservationPaymentServiceImpl implements ReservationPaymentService
     private final PaymentMapper paymentMapper;
     private final ReservationService reservationService;
     private final ReserverService reserverService;
-    private final ExpoTicketService expoTicketService;
-    private final PaymentCommonService paymentCommonService;
+    private final TicketInventoryService ticketInventoryService;
+    private final PaymentOutboxService paymentOutboxService;
     private final ReservationGuestService reservationGuestService;
     private final PaymentInternalService paymentInternalClient;
 
@@ -61,6 +63,9 @@ public class ReservationPaymentServiceImpl implements ReservationPaymentService
         // 2. Redis에서 결제 세션 검증 및 DB 저장 => Redis에서 결제 세션 검증 (세션 ID 필수)
         //String sessionId = request.getSessionId(); -> sessionId 안써요~~
         Reservation reservation = saveReservation(cacheDto); // sessionId -> cacheDto
+
+        // 사전 예약 시 선점한 재고 확정 (커밋 이후 판매 수량 반영, 롤백 시 선점 해제, 매진이면 예약 저장도 롤백)
+        confirmTicketStock(cacheDto);
         UserType userType = reservation.getUserType();
         long reservationId = reservation.getId();
         int paidAmount = request.getAmount();
@@ -87,8 +92,8 @@ public class ReservationPaymentServiceImpl implements ReservationPaymentService
             ReservationPaymentInfo paymentInfo =
                     saveReservationPayment(verifyInfo, reservation, paidAmount, PaymentStatus.SUCCESS);
 
-            // 6. 예약 상태를 CONFIRMED로 변경
-            reservationService.updateStatusToConfirm(reservationId);
+            // 6. 예약 상태를 CONFIRMED로 변경 (QR 발급은 outbox QR_ISSUE 에서 커밋 이후 1회만 처리)
+            reservationService.updateStatusOnlyToConfirm(reservationId);
 
 
             // 7. 예약자 정보 저장 및 비회원 Guest ID 생성
@@ -96,35 +101,9 @@ public class ReservationPaymentServiceImpl implements ReservationPaymentService
                 saveReservers(reservationId, request.getReserverInfos(), userType);
             }
 
-            // 8. 티켓 수량 감소
-            if (request.getTicketId() != null && request.getQuantity() != null) {
-                expoTicketService.updateRemainingQuantity(request.getTicketId(), request.getQuantity());
-            }
-
-            // 9. 마일리지 처리 & 회원 등급 업데이트(회원만)
-            Long userId = reservation.getUserId();
-            if (userType.equals(UserType.MEMBER)) {
-                // 가상계좌 입금 완료 시 마일리지 및 등급 업데이트 (회원만)
-                int usedMileage = Objects.requireNonNullElse(request.getUsedMileage(), 0);
-                int savedMileage = Objects.requireNonNullElse(request.getSavedMileage(), 0);
-                paymentCommonService.processMileage(usedMileage, savedMileage, userId);
-            }
-
-            // 11. QR 코드 생성 시도 (실패해도 계속 진행)
-            paymentCommonService.issueQrForReservation(reservation);
-
-            // 12. 결제 완료 알림 발송
-            // 회원: 기존 사이트 내 알림도 유지
-
-            if (userType.equals(UserType.MEMBER)) {
-                paymentCommonService.sendAlert(reservation, paidAmount);
-            }
-
-            // 회원/비회원 공통: 이메일 알림 (첫 번째 예약자에게만 발송)
-            if (request.getReserverInfos() != null && !request.getReserverInfos().isEmpty()) {
-                ReserverBulkSaveRequest.ReserverSaveInfo reserverInfo = request.getReserverInfos().getFirst();
-                paymentCommonService.sendEmail(reservation, reserverInfo, paidAmount);
-            }
+            // 9~12. 마일리지/등급, QR 발급, 결제 완료 알림, 이메일은 outbox 에 등록하고 커밋 이후 비동기 처리
+            // (외부 호출 지연/실패가 DB 커넥션을 잡거나 결제 완료 예약을 롤백하지 않도록)
+            enqueuePaymentSideEffects(reservation, request, paidAmount);
 
             // 13. Redis에서 결제 세션 정리 -> 삭제!
 
@@ -153,6 +132,9 @@ public class ReservationPaymentServiceImpl implements ReservationPaymentService
 
         // 1) Redis에 있던 사전 예약 데이터를 DB에 저장 -> 실제 reservationId 생성
         Reservation reservation = saveReservation(cacheDto);
+
+        // 사전 예약 시 선점한 재고 확정 (입금 기한 만료 시 가상계좌 만료 처리에서 복구)
+        confirmTicketStock(cacheDto);
         long reservationId = reservation.getId();
 
         // 2) 결제 금액 (요청 기준)
@@ -186,11 +168,6 @@ public class ReservationPaymentServiceImpl implements ReservationPaymentService
                 saveReservers(reservationId, request.getReserverInfos(), reservation.getUserType());
             }
 
-            // 8) 티켓 수량 감소
-            if (request.getTicketId() != null && request.getQuantity() != null) {
-                expoTicketService.updateRemainingQuantity(request.getTicketId(), request.getQuantity());
-            }
-
             // 9) vbank는 입금 완료 시 웹훅에서 후속 처리됨
             log.info("박람회 가상계좌 결제 처리 완료 - reservationId: {}", reservationId);
 
@@ -209,6 +186,37 @@ public class ReservationPaymentServiceImpl implements ReservationPaymentService
         }
     }
 
+    private void enqueuePaymentSideEffects(Reservation reservation, ReservationPaymentVerifyRequest request,
+                                           int paidAmount) {
+        long reservationId = reservation.getId();
+        boolean isMember = reservation.getUserType().equals(UserType.MEMBER);
+        int usedMileage = Objects.requireNonNullElse(request.getUsedMileage(), 0);
+        int savedMileage = Objects.requireNonNullElse(request.getSavedMileage(), 0);
+
+        // 이메일은 첫 번째 예약자에게만 발송
+        ReserverBulkSaveRequest.ReserverSaveInfo firstReserver =
+                request.getReserverInfos() != null && !request.getReserverInfos().isEmpty()
+                        ? request.getReserverInfos().getFirst() : null;
+        PaymentOutboxPayload payload =
+                PaymentOutboxPayload.of(reservation, paidAmount, usedMileage, savedMileage, firstReserver);
+
+        if (isMember) {
+            paymentOutboxService.enqueue(PaymentOutboxType.MILEAGE, reservationId, payload);
+        }
+        paymentOutboxService.enqueue(PaymentOutboxType.QR_ISSUE, reservationId, payload);
+        if (isMember) {
+            paymentOutboxService.enqueue(PaymentOutboxType.PAYMENT_ALERT, reservationId, payload);
+        }
+        if (firstReserver != null) {
+            paymentOutboxService.enqueue(PaymentOutboxType.CONFIRM_MAIL, reservationId, payload);
+        }
+    }
+
+    private void confirmTicketStock(PreReservationCacheDto cacheDto) {
+        ticketInventoryService.confirm(
+                cacheDto.getTicketId(), cacheDto.getReservationCode(), cacheDto.getQuantity());
+    }
+
     private PaymentVerifyInfo convertToPaymentVerifyInfo(
             ReservationPaymentVerifyRequest request, Long actualReservationId) {
         PaymentVerifyInfo verifyInfo = new PaymentVerifyInfo();
@@ -1,41 +1,38 @@
 package com.myce.payment.service.mapper;
 
 import com.myce.payment.dto.PaymentInfoResponse;
-import com.myce.payment.entity.AdPaymentInfo;
-import com.myce.payment.entity.ExpoPaymentInfo;
+import com.myce.payment.dto.PaymentLedgerRow;
 import com.myce.payment.entity.type.PaymentTargetType;
 
 import java.math.BigDecimal;
 
 public class PaymentInfoMapper {
-    public static PaymentInfoResponse expoPaymentInfoToResponse(ExpoPaymentInfo paymentInfo,
-                                                                BigDecimal ticketBenefit) {
+    public static PaymentInfoResponse expoLedgerRowToResponse(PaymentLedgerRow row, BigDecimal ticketBenefit) {
         return PaymentInfoResponse.builder()
-                .id(paymentInfo.getId())
-                .title(paymentInfo.getExpo().getTitle())
+                .id(row.id())
+                .title(row.title())
                 .type(PaymentTargetType.EXPO.name())
-                .serviceStartAt(paymentInfo.getExpo().getDisplayStartDate())
-                .serviceEndAt(paymentInfo.getExpo().getDisplayEndDate())
-                .createdAt(paymentInfo.getCreatedAt())
-                .deposit(paymentInfo.getDeposit() + paymentInfo.getPremiumDeposit())
+                .serviceStartAt(row.serviceStartAt())
+                .serviceEndAt(row.serviceEndAt())
+                .createdAt(row.createdAt())
+                .deposit(row.deposit())
                 .ticketBenefit(ticketBenefit)
-                .totalBenefit(BigDecimal.valueOf(paymentInfo.getTotalAmount() + ticketBenefit.doubleValue()))
-                .status(paymentInfo.getStatus().name())
+                .totalBenefit(BigDecimal.valueOf(row.totalAmount() + ticketBenefit.doubleValue()))
+                .status(row.status())
                 .build();
     }
 
-    public static PaymentInfoResponse adPaymentInfoToResponse(AdPaymentInfo paymentInfo){
-
+    public static PaymentInfoResponse adLedgerRowToResponse(PaymentLedgerRow row) {
         return PaymentInfoResponse.builder()
-                .id(paymentInfo.getId())
-                .title(paymentInfo.getAdvertisement().getTitle())
+                .id(row.id())
+                .title(row.title())
                 .type(PaymentTargetType.AD.name())
-                .serviceStartAt(paymentInfo.getAdvertisement().getDisplayStartDate())
-                .serviceEndAt(paymentInfo.getAdvertisement().getDisplayEndDate())
-                .createdAt(paymentInfo.getCreatedAt())
-                .deposit(paymentInfo.getTotalAmount())
-                .totalBenefit(BigDecimal.valueOf(paymentInfo.getTotalAmount()))
-                .status(paymentInfo.getStatus().name())
+                .serviceStartAt(row.serviceStartAt())
+                .serviceEndAt(row.serviceEndAt())
+                .createdAt(row.createdAt())
+                .deposit(row.deposit())
+                .totalBenefit(BigDecimal.valueOf(row.totalAmount()))
+                .status(row.status())
                 .build();
     }
 }
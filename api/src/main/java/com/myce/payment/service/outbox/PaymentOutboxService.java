@@ -0,0 +1,13 @@
+package com.myce.payment.service.outbox;
+
+import com.myce.payment.dto.PaymentOutboxPayload;
+import com.myce.payment.entity.type.PaymentOutboxType;
+
+public interface PaymentOutboxService {
+
+    // 결제 트랜잭션 안에서 후속 작업 등록 (같은 예약의 같은 작업은 한 번만 등록)
+    void enqueue(PaymentOutboxType type, Long reservationId, PaymentOutboxPayload payload);
+
+    // 처리 시각이 된 후속 작업 실행 (처리 완료 건수 반환)
+    int dispatchDue();
+}
@@ -0,0 +1,244 @@
+package com.myce.payment.service.outbox.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myce.common.exception.CustomErrorCode;
+import com.myce.common.exception.CustomException;
+import com.myce.payment.dto.PaymentOutboxPayload;
+import com.myce.payment.entity.PaymentOutbox;
+import com.myce.payment.entity.type.PaymentOutboxStatus;
+import com.myce.payment.entity.type.PaymentOutboxType;
+import com.myce.payment.repository.PaymentOutboxRepository;
+import com.myce.payment.service.impl.PaymentCommonService;
+import com.myce.payment.service.outbox.PaymentOutboxService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 결제 후속 작업 outbox 서비스
+ * - 결제 트랜잭션에서는 outbox 행만 저장하고, 커밋 직후 별도 스레드에서 바로 처리 시도
+ * - 실패/누락 분은 스케줄러가 지수 백오프로 재시도 (최대 횟수 초과 시 FAILED)
+ * - 작업 선점은 next_attempt_at 을 lease 만료 시각으로 미루는 조건부 UPDATE 로 처리해 서버 간 중복 실행 방지
+ * - 완료/재시도 표시는 선점 당시 시도 횟수가 그대로일 때만 반영 (lease 만료 후 재선점된 이전 실행은 무시)
+ * - 마일리지 처리는 완료 표시와 같은 트랜잭션에서 실행되고, 완료 표시가 0건이면 롤백되어 중복 적립되지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentOutboxServiceImpl implements PaymentOutboxService {
+
+    private static final int LAST_ERROR_MAX_LENGTH = 500;
+
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final PaymentCommonService paymentCommonService;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${payment-outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${payment-outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${payment-outbox.base-backoff-seconds:10}")
+    private long baseBackoffSeconds;
+
+    @Value("${payment-outbox.max-backoff-minutes:30}")
+    private long maxBackoffMinutes;
+
+    @Value("${payment-outbox.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${payment-outbox.dispatch-threads:4}")
+    private int dispatchThreads;
+
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService dispatchExecutor;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        dispatchExecutor = Executors.newFixedThreadPool(dispatchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "payment-outbox-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("결제 후속 작업 outbox 초기화 - 처리 스레드: {}, 최대 시도: {}회", dispatchThreads, maxAttempts);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 처리 중이던 작업은 lease 만료 후 다른 서버/다음 실행에서 재시도
+        dispatchExecutor.shutdown();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(PaymentOutboxType type, Long reservationId, PaymentOutboxPayload payload) {
+        String idempotencyKey = idempotencyKey(type, reservationId);
+        if (paymentOutboxRepository.existsByIdempotencyKey(idempotencyKey)) {
+            log.info("이미 등록된 결제 후속 작업 - key: {}", idempotencyKey);
+            return;
+        }
+
+        PaymentOutbox outbox = paymentOutboxRepository.save(PaymentOutbox.builder()
+                .idempotencyKey(idempotencyKey)
+                .type(type)
+                .reservationId(reservationId)
+                .payload(toJson(payload))
+                .build());
+
+        Long outboxId = outbox.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    dispatchExecutor.execute(() -> dispatch(outboxId));
+                } catch (RejectedExecutionException e) {
+                    log.warn("결제 후속 작업 즉시 처리 실패 (스케줄러에서 재시도) - outboxId: {}", outboxId);
+                }
+            }
+        });
+    }
+
+    @Override
+    public int dispatchDue() {
+        List<Long> outboxIds = paymentOutboxRepository.findDueIds(
+                PaymentOutboxStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize));
+
+        int processedCount = 0;
+        for (Long outboxId : outboxIds) {
+            if (dispatch(outboxId)) {
+                processedCount++;
+            }
+        }
+        return processedCount;
+    }
+
+    private boolean dispatch(Long outboxId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status ->
+                paymentOutboxRepository.claim(outboxId, now, now.plusSeconds(leaseSeconds)));
+        if (claimed == null || claimed == 0) {
+            // 다른 서버/스레드가 처리 중이거나 이미 처리됨
+            return false;
+        }
+
+        PaymentOutbox outbox = paymentOutboxRepository.findById(outboxId).orElse(null);
+        if (outbox == null) {
+            return false;
+        }
+
+        try {
+            if (!handle(outbox, fromJson(outbox.getPayload()))) {
+                log.warn("결제 후속 작업 lease 만료로 다른 실행이 선점 - outboxId: {}, 유형: {}, 시도: {}회",
+                        outboxId, outbox.getType(), outbox.getAttemptCount());
+                return false;
+            }
+            log.info("결제 후속 작업 처리 완료 - outboxId: {}, 유형: {}, reservationId: {}, 시도: {}회",
+                    outboxId, outbox.getType(), outbox.getReservationId(), outbox.getAttemptCount());
+            return true;
+        } catch (Exception e) {
+            scheduleRetry(outbox, e);
+            return false;
+        }
+    }
+
+    // 완료 표시에 성공하면 true, lease 가 만료되어 다른 실행이 선점했으면 false
+    private boolean handle(PaymentOutbox outbox, PaymentOutboxPayload payload) {
+        Long reservationId = outbox.getReservationId();
+        switch (outbox.getType()) {
+            case MILEAGE -> {
+                // 완료 표시를 먼저 해 행 잠금을 잡고, 0건이면 적립하지 않고 롤백
+                Boolean done = transactionTemplate.execute(status -> {
+                    if (!markDone(outbox)) {
+                        status.setRollbackOnly();
+                        return false;
+                    }
+                    paymentCommonService.processMileage(
+                            payload.getUsedMileage(), payload.getSavedMileage(), payload.getUserId());
+                    return true;
+                });
+                return Boolean.TRUE.equals(done);
+            }
+            case QR_ISSUE -> paymentCommonService.issueQrForReservation(reservationId);
+            case PAYMENT_ALERT -> paymentCommonService.sendAlert(reservationId, payload);
+            case CONFIRM_MAIL -> paymentCommonService.sendEmail(reservationId, payload);
+        }
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> markDone(outbox)));
+    }
+
+    private boolean markDone(PaymentOutbox outbox) {
+        return paymentOutboxRepository.markDone(outbox.getId(), outbox.getAttemptCount(), LocalDateTime.now()) == 1;
+    }
+
+    private void scheduleRetry(PaymentOutbox outbox, Exception e) {
+        int attemptCount = outbox.getAttemptCount();
+        String lastError = truncate(e.getClass().getSimpleName() + ": " + e.getMessage());
+
+        if (attemptCount >= maxAttempts) {
+            transactionTemplate.executeWithoutResult(status -> paymentOutboxRepository.markRetry(
+                    outbox.getId(), attemptCount, PaymentOutboxStatus.FAILED, LocalDateTime.now(), lastError));
+            log.error("결제 후속 작업 최종 실패 - outboxId: {}, 유형: {}, reservationId: {}, 시도: {}회",
+                    outbox.getId(), outbox.getType(), outbox.getReservationId(), attemptCount, e);
+            return;
+        }
+
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plusSeconds(backoffSeconds(attemptCount));
+        transactionTemplate.executeWithoutResult(status -> paymentOutboxRepository.markRetry(
+                outbox.getId(), attemptCount, PaymentOutboxStatus.PENDING, nextAttemptAt, lastError));
+        log.warn("결제 후속 작업 실패 (재시도 예정) - outboxId: {}, 유형: {}, 시도: {}회, 다음 시도: {}, 오류: {}",
+                outbox.getId(), outbox.getType(), attemptCount, nextAttemptAt, e.getMessage());
+    }
+
+    // 10초, 20초, 40초 ... 최대 max-backoff-minutes
+    private long backoffSeconds(int attemptCount) {
+        long maxBackoffSeconds = maxBackoffMinutes * 60;
+        int exponent = Math.min(Math.max(attemptCount - 1, 0), 20);
+        return Math.min(baseBackoffSeconds << exponent, maxBackoffSeconds);
+    }
+
+    private String idempotencyKey(PaymentOutboxType type, Long reservationId) {
+        return "reservation:" + reservationId + ":" + type.name();
+    }
+
+    private String truncate(String message) {
+        return message.length() <= LAST_ERROR_MAX_LENGTH ? message : message.substring(0, LAST_ERROR_MAX_LENGTH);
+    }
+
+    private String toJson(PaymentOutboxPayload payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("결제 후속 작업 직렬화 실패 - 오류: {}", e.getMessage());
+            throw new CustomException(CustomErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private PaymentOutboxPayload fromJson(String payload) {
+        try {
+            return objectMapper.readValue(payload, PaymentOutboxPayload.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("결제 후속 작업 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.myce.payment.service.refund;
+
+import com.myce.payment.dto.ExpoRefundJobResponse;
+
+public interface ExpoRefundJobService {
+
+    // 박람회 취소 승인 트랜잭션 안에서 호출, 커밋 이후 환불 처리 시작
+    void createJob(Long expoId);
+
+    // 처리 시각이 된 환불 항목 처리 (처리 완료 건수 반환)
+    int processDue();
+
+    ExpoRefundJobResponse getJob(Long expoId);
+
+    // 최종 실패 항목을 다시 대기 상태로 변경
+    ExpoRefundJobResponse retryFailed(Long expoId);
+}
@@ -0,0 +1,397 @@
+package com.myce.payment.service.refund.impl;
+
+import com.myce.client.payment.service.RefundInternalService;
+import com.myce.common.exception.CustomErrorCode;
+import com.myce.common.exception.CustomException;
+import com.myce.expo.service.info.ExpoTicketService;
+import com.myce.payment.dto.ExpoRefundJobResponse;
+import com.myce.payment.dto.PaymentRefundRequest;
+import com.myce.payment.dto.RefundInternalResponse;
+import com.myce.payment.entity.ExpoRefundItem;
+import com.myce.payment.entity.ExpoRefundJob;
+import com.myce.payment.entity.ReservationPaymentInfo;
+import com.myce.payment.entity.type.ExpoRefundItemStatus;
+import com.myce.payment.entity.type.ExpoRefundJobStatus;
+import com.myce.payment.entity.type.PaymentStatus;
+import com.myce.payment.entity.type.PaymentTargetType;
+import com.myce.payment.entity.type.RefundStatus;
+import com.myce.payment.repository.ExpoRefundItemRepository;
+import com.myce.payment.repository.ExpoRefundJobRepository;
+import com.myce.payment.repository.ReservationPaymentInfoRepository;
+import com.myce.payment.service.refund.ExpoRefundJobService;
+import com.myce.payment.service.refund.PaymentRefundService;
+import com.myce.reservation.entity.Reservation;
+import com.myce.reservation.entity.code.ReservationStatus;
+import com.myce.reservation.repository.ReservationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 박람회 취소 예약자 일괄 환불 작업
+ * - 취소 승인 트랜잭션에서는 작업과 예약별 항목만 저장하고, 커밋 이후 별도 스레드에서 처리
+ * - 예약별로 결제 서비스 환불 → 예약 취소/재고 복구를 각각 짧은 트랜잭션으로 처리 (한 건 실패가 전체를 되돌리지 않음)
+ * - 결제 서비스 호출은 refund-concurrency 만큼만 동시에 실행
+ * - 항목 선점은 next_attempt_at 을 lease 만료 시각으로 미루는 조건부 UPDATE 로 처리해 서버 간 중복 환불 방지
+ *   (결제 서비스 호출 중에는 lease 를 주기적으로 연장하고, 환불 요청에 항목의 멱등 키를 함께 전달)
+ * - 실패 항목은 지수 백오프로 재시도하고, 서버 재시작 후에도 스케줄러가 남은 항목을 이어서 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExpoRefundJobServiceImpl implements ExpoRefundJobService {
+
+    private static final String REFUND_REASON = "박람회 취소로 인한 개인 예약 환불";
+    private static final int LAST_ERROR_MAX_LENGTH = 500;
+    private static final int FAILED_ITEM_PREVIEW_SIZE = 20;
+
+    private final ExpoRefundJobRepository expoRefundJobRepository;
+    private final ExpoRefundItemRepository expoRefundItemRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationPaymentInfoRepository reservationPaymentInfoRepository;
+    private final RefundInternalService refundInternalService;
+    private final PaymentRefundService paymentRefundService;
+    private final ExpoTicketService expoTicketService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${expo-refund.batch-size:200}")
+    private int batchSize;
+
+    @Value("${expo-refund.refund-concurrency:8}")
+    private int refundConcurrency;
+
+    @Value("${expo-refund.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${expo-refund.base-backoff-seconds:30}")
+    private long baseBackoffSeconds;
+
+    @Value("${expo-refund.max-backoff-minutes:30}")
+    private long maxBackoffMinutes;
+
+    @Value("${expo-refund.lease-seconds:120}")
+    private long leaseSeconds;
+
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService refundExecutor;
+    private ExecutorService driverExecutor;
+    private ScheduledExecutorService leaseRenewer;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        refundExecutor = Executors.newFixedThreadPool(refundConcurrency,
+                Thread.ofPlatform().name("expo-refund-", 0).daemon(true).factory());
+        driverExecutor = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("expo-refund-driver-", 0).daemon(true).factory());
+        leaseRenewer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("expo-refund-lease-", 0).daemon(true).factory());
+        log.info("박람회 취소 환불 작업 초기화 - 동시 환불: {}, 최대 시도: {}회", refundConcurrency, maxAttempts);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 처리 중이던 항목은 lease 만료 후 다른 서버/다음 실행에서 재시도
+        driverExecutor.shutdown();
+        refundExecutor.shutdown();
+        leaseRenewer.shutdown();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void createJob(Long expoId) {
+        if (expoRefundJobRepository.findByExpoId(expoId).isPresent()) {
+            log.info("이미 등록된 박람회 취소 환불 작업 - expoId: {}", expoId);
+            return;
+        }
+
+        ExpoRefundJob job = expoRefundJobRepository.save(ExpoRefundJob.builder().expoId(expoId).build());
+        int itemCount = expoRefundItemRepository.insertConfirmedReservations(
+                job.getId(), expoId, LocalDateTime.now());
+        job.updateTotalCount(itemCount);
+
+        startAfterCommit();
+        log.info("박람회 취소 환불 작업 등록 - expoId: {}, jobId: {}, 환불 대상 예약 수: {}",
+                expoId, job.getId(), itemCount);
+    }
+
+    @Override
+    public int processDue() {
+        int processedCount = 0;
+        while (true) {
+            List<Long> itemIds = expoRefundItemRepository.findDueIds(
+                    LocalDateTime.now(), PageRequest.of(0, batchSize));
+            if (itemIds.isEmpty()) {
+                break;
+            }
+
+            List<CompletableFuture<Boolean>> futures = itemIds.stream()
+                    .map(itemId -> CompletableFuture.supplyAsync(() -> process(itemId), refundExecutor))
+                    .toList();
+            int batchProcessed = (int) futures.stream()
+                    .map(CompletableFuture::join)
+                    .filter(Boolean::booleanValue)
+                    .count();
+            processedCount += batchProcessed;
+
+            // 다른 서버가 모두 선점했거나 마지막 묶음이면 종료
+            if (batchProcessed == 0 || itemIds.size() < batchSize) {
+                break;
+            }
+        }
+
+        completeFinishedJobs();
+        return processedCount;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ExpoRefundJobResponse getJob(Long expoId) {
+        ExpoRefundJob job = expoRefundJobRepository.findByExpoId(expoId)
+                .orElseThrow(() -> new CustomException(CustomErrorCode.EXPO_REFUND_JOB_NOT_FOUND));
+        Map<ExpoRefundItemStatus, Long> counts = countByStatus(job.getId());
+
+        List<ExpoRefundJobResponse.FailedItem> failedItems = expoRefundItemRepository
+                .findByJobIdAndStatusOrderByIdAsc(job.getId(), ExpoRefundItemStatus.FAILED,
+                        PageRequest.of(0, FAILED_ITEM_PREVIEW_SIZE))
+                .stream()
+                .map(item -> ExpoRefundJobResponse.FailedItem.builder()
+                        .reservationId(item.getReservationId())
+                        .attemptCount(item.getAttemptCount())
+                        .lastError(item.getLastError())
+                        .build())
+                .toList();
+
+        return ExpoRefundJobResponse.builder()
+                .expoId(job.getExpoId())
+                .status(job.getStatus())
+                .totalCount(job.getTotalCount())
+                .pendingCount(counts.getOrDefault(ExpoRefundItemStatus.PENDING, 0L))
+                .doneCount(counts.getOrDefault(ExpoRefundItemStatus.DONE, 0L))
+                .failedCount(counts.getOrDefault(ExpoRefundItemStatus.FAILED, 0L))
+                .createdAt(job.getCreatedAt())
+                .completedAt(job.getCompletedAt())
+                .failedItems(failedItems)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public ExpoRefundJobResponse retryFailed(Long expoId) {
+        ExpoRefundJob job = expoRefundJobRepository.findByExpoId(expoId)
+                .orElseThrow(() -> new CustomException(CustomErrorCode.EXPO_REFUND_JOB_NOT_FOUND));
+
+        int resetCount = expoRefundItemRepository.resetFailed(job.getId(), LocalDateTime.now());
+        if (resetCount > 0) {
+            expoRefundJobRepository.reopen(job.getId());
+            startAfterCommit();
+        }
+        log.info("박람회 취소 환불 실패 항목 재시도 요청 - expoId: {}, 재시도 항목 수: {}", expoId, resetCount);
+        return getJob(expoId);
+    }
+
+    private void startAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    driverExecutor.execute(() -> {
+                        try {
+                            processDue();
+                        } catch (Exception e) {
+                            log.error("박람회 취소 환불 즉시 처리 중 오류 (스케줄러에서 재시도)", e);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    log.warn("박람회 취소 환불 즉시 처리 실패 (스케줄러에서 재시도)");
+                }
+            }
+        });
+    }
+
+    private boolean process(Long itemId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status ->
+                expoRefundItemRepository.claim(itemId, now, now.plusSeconds(leaseSeconds)));
+        if (claimed == null || claimed == 0) {
+            // 다른 서버/스레드가 처리 중이거나 이미 처리됨
+            return false;
+        }
+
+        ExpoRefundItem item = expoRefundItemRepository.findById(itemId).orElse(null);
+        if (item == null) {
+            return false;
+        }
+
+        try {
+            if (item.getRefundedAt() == null) {
+                refundWithLease(item);
+                transactionTemplate.executeWithoutResult(status ->
+                        expoRefundItemRepository.markRefunded(itemId, LocalDateTime.now()));
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                cancelReservation(item.getReservationId());
+                expoRefundItemRepository.markDone(itemId, LocalDateTime.now());
+            });
+            log.debug("개별 예약 환불 완료 - reservationId: {}, 시도: {}회",
+                    item.getReservationId(), item.getAttemptCount());
+            return true;
+        } catch (Exception e) {
+            scheduleRetry(item, e);
+            return false;
+        }
+    }
+
+    // 결제 서비스 응답을 기다리는 동안 lease 가 만료되어 다른 서버가 같은 항목을 선점하지 않도록 주기적으로 연장
+    private void refundWithLease(ExpoRefundItem item) {
+        long renewSeconds = Math.max(leaseSeconds / 3, 1);
+        ScheduledFuture<?> renewal = leaseRenewer.scheduleAtFixedRate(
+                () -> extendLease(item.getId()), renewSeconds, renewSeconds, TimeUnit.SECONDS);
+        try {
+            refund(item);
+        } finally {
+            renewal.cancel(false);
+        }
+    }
+
+    private void extendLease(Long itemId) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            transactionTemplate.executeWithoutResult(status ->
+                    expoRefundItemRepository.extendLease(itemId, now, now.plusSeconds(leaseSeconds)));
+        } catch (Exception e) {
+            // 연장에 실패해도 다음 주기에 다시 시도 (예외를 던지면 이후 연장이 중단됨)
+            log.warn("박람회 취소 환불 lease 연장 실패 - itemId: {}, 오류: {}", itemId, e.getMessage());
+        }
+    }
+
+    // 결제 서비스 전액 환불
+    private void refund(ExpoRefundItem item) {
+        Long reservationId = item.getReservationId();
+
+        // 이전 시도(또는 lease 만료 후 다른 서버)에서 환불은 되었지만 결과 기록 전에 중단된 경우 다시 환불하지 않음
+        if (isAlreadyRefunded(reservationId)) {
+            log.info("이미 환불된 예약 - reservationId: {}, key: {}", reservationId, item.getIdempotencyKey());
+            return;
+        }
+
+        String impUid = refundInternalService.getImpUid(PaymentTargetType.RESERVATION, reservationId);
+        PaymentRefundRequest refundRequest = PaymentRefundRequest.builder()
+                .impUid(impUid)
+                .cancelAmount(null) // null = 전액 환불
+                .reason(REFUND_REASON)
+                .idempotencyKey(item.getIdempotencyKey())
+                .build();
+        paymentRefundService.refundPayment(refundRequest);
+    }
+
+    private boolean isAlreadyRefunded(Long reservationId) {
+        try {
+            RefundInternalResponse refund =
+                    refundInternalService.getRefundByTarget(PaymentTargetType.RESERVATION, reservationId);
+            return refund.getStatus() == RefundStatus.REFUNDED;
+        } catch (CustomException e) {
+            if (e.getErrorCode() == CustomErrorCode.REFUND_NOT_FOUND) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    // 예약 취소 + 결제 정보 환불 처리 + 티켓 재고 복구 (확정 상태일 때만 재고 복구하여 재시도 시 중복 복구 방지)
+    private void cancelReservation(Long reservationId) {
+        Reservation reservation = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new CustomException(CustomErrorCode.RESERVATION_NOT_FOUND));
+
+        if (reservation.getStatus() == ReservationStatus.CONFIRMED) {
+            reservation.updateStatus(ReservationStatus.CANCELLED);
+            // 재고 복구 UPDATE 가 영속성 컨텍스트를 비우므로 상태 변경을 먼저 반영
+            reservationRepository.saveAndFlush(reservation);
+            expoTicketService.restoreTicketQuantity(reservation.getTicket().getId(), reservation.getQuantity());
+        }
+
+        ReservationPaymentInfo paymentInfo = reservationPaymentInfoRepository.findByReservationId(reservationId)
+                .orElseThrow(() -> new CustomException(CustomErrorCode.PAYMENT_INFO_NOT_FOUND));
+        paymentInfo.setStatus(PaymentStatus.REFUNDED);
+    }
+
+    private void completeFinishedJobs() {
+        for (Long jobId : expoRefundJobRepository.findIdsByStatus(ExpoRefundJobStatus.RUNNING)) {
+            Map<ExpoRefundItemStatus, Long> counts = countByStatus(jobId);
+            if (counts.getOrDefault(ExpoRefundItemStatus.PENDING, 0L) > 0) {
+                continue;
+            }
+
+            long failedCount = counts.getOrDefault(ExpoRefundItemStatus.FAILED, 0L);
+            ExpoRefundJobStatus jobStatus = failedCount > 0
+                    ? ExpoRefundJobStatus.COMPLETED_WITH_FAILURES
+                    : ExpoRefundJobStatus.COMPLETED;
+            Integer updated = transactionTemplate.execute(status ->
+                    expoRefundJobRepository.complete(jobId, jobStatus, LocalDateTime.now()));
+            if (updated != null && updated > 0) {
+                log.info("박람회 취소 환불 작업 종료 - jobId: {}, 상태: {}, 완료: {}건, 실패: {}건",
+                        jobId, jobStatus, counts.getOrDefault(ExpoRefundItemStatus.DONE, 0L), failedCount);
+            }
+        }
+    }
+
+    private Map<ExpoRefundItemStatus, Long> countByStatus(Long jobId) {
+        Map<ExpoRefundItemStatus, Long> counts = new EnumMap<>(ExpoRefundItemStatus.class);
+        for (Object[] row : expoRefundItemRepository.countByJobIdGroupByStatus(jobId)) {
+            counts.put((ExpoRefundItemStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    private void scheduleRetry(ExpoRefundItem item, Exception e) {
+        int attemptCount = item.getAttemptCount();
+        String lastError = truncate(e.getClass().getSimpleName() + ": " + e.getMessage());
+        LocalDateTime now = LocalDateTime.now();
+
+        if (attemptCount >= maxAttempts) {
+            transactionTemplate.executeWithoutResult(status -> expoRefundItemRepository.markRetry(
+                    item.getId(), ExpoRefundItemStatus.FAILED, now, lastError, now));
+            log.error("개별 예약 환불 최종 실패 - reservationId: {}, 시도: {}회",
+                    item.getReservationId(), attemptCount, e);
+            return;
+        }
+
+        LocalDateTime nextAttemptAt = now.plusSeconds(backoffSeconds(attemptCount));
+        transactionTemplate.executeWithoutResult(status -> expoRefundItemRepository.markRetry(
+                item.getId(), ExpoRefundItemStatus.PENDING, nextAttemptAt, lastError, now));
+        log.warn("개별 예약 환불 실패 (재시도 예정) - reservationId: {}, 시도: {}회, 다음 시도: {}, 오류: {}",
+                item.getReservationId(), attemptCount, nextAttemptAt, e.getMessage());
+    }
+
+    // 30초, 60초, 120초 ... 최대 max-backoff-minutes
+    private long backoffSeconds(int attemptCount) {
+        long maxBackoffSeconds = maxBackoffMinutes * 60;
+        int exponent = Math.min(Math.max(attemptCount - 1, 0), 20);
+        return Math.min(baseBackoffSeconds << exponent, maxBackoffSeconds);
+    }
+
+    private String truncate(String message) {
+        return message.length() <= LAST_ERROR_MAX_LENGTH ? message : message.substring(0, LAST_ERROR_MAX_LENGTH);
+    }
+}
@@ -50,6 +50,7 @@ public class PaymentRefundServiceImpl implements PaymentRefundService {
                 .refundBank(request.getRefundBank())
                 .refundAccount(request.getRefundAccount())
                 .refundTel(request.getRefundTel())
+                .idempotencyKey(request.getIdempotencyKey())
                 .build();
 
         // 2) payment internal에 환불 처리 위임 (PortOne 호출/Refund 저장은 payment에서)
@@ -10,17 +10,19 @@ import com.myce.payment.dto.*;
 import com.myce.payment.entity.AdPaymentInfo;
 import com.myce.payment.entity.ExpoPaymentInfo;
 import com.myce.payment.entity.ReservationPaymentInfo;
+import com.myce.payment.entity.type.PaymentOutboxType;
 import com.myce.payment.entity.type.PaymentStatus;
 import com.myce.payment.entity.type.PaymentTargetType;
 import com.myce.payment.repository.AdPaymentInfoRepository;
 import com.myce.payment.repository.ExpoPaymentInfoRepository;
 import com.myce.payment.repository.ReservationPaymentInfoRepository;
-import com.myce.payment.service.impl.PaymentCommonService;
 import com.myce.payment.service.mapper.PaymentMapper;
+import com.myce.payment.service.outbox.PaymentOutboxService;
 import com.myce.payment.service.verification.PaymentVerificationService;
 import com.myce.reservation.entity.Reservation;
 import com.myce.reservation.entity.code.UserType;
 import com.myce.reservation.repository.ReservationRepository;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
@@ -42,7 +44,7 @@ public class PaymentVerificationServiceImpl implements PaymentVerificationServic
     private final PaymentMapper paymentMapper;
     private final MemberExpoService memberExpoService;
     private final MemberAdService memberAdService;
-    private final PaymentCommonService paymentCommonService;
+    private final PaymentOutboxService paymentOutboxService;
 
     // 카드 결제 검증 및 저장
     @Override
@@ -196,9 +198,12 @@ public class PaymentVerificationServiceImpl implements PaymentVerificationServic
                 reservation, paidAmount, paymentStatus, verifyInfo.getUsedMileage(), verifyInfo.getSavedMileage());
         reservationPaymentInfo = reservationPaymentInfoRepository.save(reservationPaymentInfo);
 
-        // 결제 완료 시 알림 발송 (회원만)
+        // 결제 완료 시 알림 발송 (회원만, 커밋 이후 outbox 에서 처리)
         if (paymentStatus.equals(PaymentStatus.SUCCESS) && reservation.getUserType().equals(UserType.MEMBER)) {
-            paymentCommonService.sendAlert(reservation, paidAmount);
+            PaymentOutboxPayload payload = PaymentOutboxPayload.of(reservation, paidAmount,
+                    Objects.requireNonNullElse(verifyInfo.getUsedMileage(), 0),
+                    Objects.requireNonNullElse(verifyInfo.getSavedMileage(), 0), null);
+            paymentOutboxService.enqueue(PaymentOutboxType.PAYMENT_ALERT, reservation.getId(), payload);
         }
 
         return reservationPaymentInfo;
@@ -3,17 +3,19 @@ package com.myce.payment.service.webhook.impl;
 import com.myce.client.payment.service.PaymentInternalService;
 import com.myce.common.exception.CustomErrorCode;
 import com.myce.common.exception.CustomException;
+import com.myce.payment.dto.PaymentOutboxPayload;
 import com.myce.payment.dto.PaymentWebhookInternalRequest;
 import com.myce.payment.dto.PaymentWebhookInternalResponse;
 import com.myce.payment.dto.PortOneWebhookRequest;
 import com.myce.payment.entity.AdPaymentInfo;
 import com.myce.payment.entity.ExpoPaymentInfo;
 import com.myce.payment.entity.ReservationPaymentInfo;
+import com.myce.payment.entity.type.PaymentOutboxType;
 import com.myce.payment.entity.type.PaymentStatus;
 import com.myce.payment.repository.AdPaymentInfoRepository;
 import com.myce.payment.repository.ExpoPaymentInfoRepository;
 import com.myce.payment.repository.ReservationPaymentInfoRepository;
-import com.myce.payment.service.impl.PaymentCommonService;
+import com.myce.payment.service.outbox.PaymentOutboxService;
 import com.myce.payment.service.webhook.PaymentWebhookService;
 import com.myce.reservation.entity.Reservation;
 import com.myce.reservation.entity.code.ReservationStatus;
@@ -35,7 +37,7 @@ public class PaymentWebhookServiceImpl implements PaymentWebhookService {
     private final AdPaymentInfoRepository adPaymentInfoRepository;
     private final ExpoPaymentInfoRepository expoPaymentInfoRepository;
     private final ReservationPaymentInfoRepository reservationPaymentInfoRepository;
-    private final PaymentCommonService paymentCommonService;
+    private final PaymentOutboxService paymentOutboxService;
 
     // 가상계좌 입금 처리 웹훅
     @Override
@@ -113,17 +115,17 @@ public class PaymentWebhookServiceImpl implements PaymentWebhookService {
 
         reservation.updateStatus(ReservationStatus.CONFIRMED);
 
-        // QR 코드 생성 시도
-        paymentCommonService.issueQrForReservation(reservation);
-
-        UserType userType = reservation.getUserType();
-        if (userType.equals(UserType.MEMBER)) {
-            // 가상계좌 입금 완료 시 마일리지 및 등급 업데이트 (회원만)
-            int usedMileage = Objects.requireNonNullElse(reservationPaymentInfo.getUsedMileage(), 0);
-            int savedMileage = Objects.requireNonNullElse(reservationPaymentInfo.getSavedMileage(), 0);
-            paymentCommonService.processMileage(usedMileage, savedMileage, reservation.getUserId());
-            // 결제 완료 알림 발송 (회원만)
-            paymentCommonService.sendAlert(reservation, paidAmount);
+        // QR 발급, 마일리지/등급, 알림(회원만)은 outbox 에 등록하고 커밋 이후 비동기 처리
+        Long reservationId = reservation.getId();
+        int usedMileage = Objects.requireNonNullElse(reservationPaymentInfo.getUsedMileage(), 0);
+        int savedMileage = Objects.requireNonNullElse(reservationPaymentInfo.getSavedMileage(), 0);
+        PaymentOutboxPayload payload =
+                PaymentOutboxPayload.of(reservation, paidAmount, usedMileage, savedMileage, null);
+
+        paymentOutboxService.enqueue(PaymentOutboxType.QR_ISSUE, reservationId, payload);
+        if (reservation.getUserType().equals(UserType.MEMBER)) {
+            paymentOutboxService.enqueue(PaymentOutboxType.MILEAGE, reservationId, payload);
+            paymentOutboxService.enqueue(PaymentOutboxType.PAYMENT_ALERT, reservationId, payload);
         }
 
         reservationPaymentInfoRepository.save(reservationPaymentInfo);
@@ -1,11 +1,15 @@
 package com.myce.qrcode.controller;
 
 import com.myce.auth.dto.CustomUserDetails;
+import com.myce.qrcode.dto.QrImageResponse;
 import com.myce.qrcode.dto.QrTokenRequest;
 import com.myce.qrcode.dto.QrUseResponse;
 import com.myce.qrcode.dto.QrVerifyResponse;
 import com.myce.qrcode.service.QrCodeService;
+import com.myce.qrcode.service.QrImageRenderService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,6 +25,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class QrCodeController {
 
     private final QrCodeService qrCodeService;
+    private final QrImageRenderService qrImageRenderService;
 
     @PostMapping("/issue/{reserverId}")
     public ResponseEntity<Void> issue(@PathVariable Long reserverId) {
@@ -67,6 +72,17 @@ public class QrCodeController {
         return ResponseEntity.ok(url);
     }
 
+    // QR 이미지 요청 시 렌더링 (format: png, svg)
+    @GetMapping("/image/{token}.{format}")
+    public ResponseEntity<byte[]> getQrImage(@PathVariable String token, @PathVariable String format) {
+        QrImageResponse response = qrImageRenderService.render(token, format);
+        // 인증 없이 토큰만으로 조회되는 입장 자격 이미지이므로 공유 캐시(CDN/프록시)와 브라우저 저장 금지
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(response.getContentType()))
+                .cacheControl(CacheControl.noStore().cachePrivate())
+                .body(response.getImage());
+    }
+
     @PostMapping("/verify")
     public ResponseEntity<QrVerifyResponse> verifyQrCode(@RequestBody QrTokenRequest request,
             @AuthenticationPrincipal CustomUserDetails customUserDetails) {
@@ -0,0 +1,46 @@
+package com.myce.qrcode.controller;
+
+import com.myce.auth.dto.CustomUserDetails;
+import com.myce.qrcode.dto.QrBulkCheckinRequest;
+import com.myce.qrcode.dto.QrBulkCheckinResponse;
+import com.myce.qrcode.dto.QrGateSyncResponse;
+import com.myce.qrcode.service.QrGateService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/expos/{expoId}/gate")
+public class QrGateController {
+
+    private final QrGateService qrGateService;
+
+    // 입장 스캐너 일괄 체크인 (스캔별 결과 반환, batchId 재전송 시 처음 결과 반환)
+    @PostMapping("/checkins")
+    public ResponseEntity<QrBulkCheckinResponse> checkinAll(@PathVariable Long expoId,
+                                                            @Valid @RequestBody QrBulkCheckinRequest request,
+                                                            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        QrBulkCheckinResponse response = qrGateService.checkinAll(expoId, request,
+                customUserDetails.getMemberId(), customUserDetails.getLoginType());
+        return ResponseEntity.ok(response);
+    }
+
+    // 게이트 단말 동기화 (since 는 단말이 마지막으로 받은 버전, 최초 0)
+    @GetMapping("/sync")
+    public ResponseEntity<QrGateSyncResponse> sync(@PathVariable Long expoId,
+                                                   @RequestParam(defaultValue = "0") long since,
+                                                   @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        QrGateSyncResponse response = qrGateService.sync(expoId, since,
+                customUserDetails.getMemberId(), customUserDetails.getLoginType());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,26 @@
+package com.myce.qrcode.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 입장 스캐너 일괄 체크인 요청
+ * - batchId 가 있으면 같은 batchId 재전송 시 처음 처리 결과를 그대로 반환
+ * - replay 는 오프라인 중 단말에서 이미 입장시킨 스캔을 나중에 올리는 경우 (스캔 시각 기준으로 처리)
+ */
+@Getter
+@NoArgsConstructor
+public class QrBulkCheckinRequest {
+    private String batchId;
+
+    private boolean replay;
+
+    @Valid
+    @NotEmpty
+    @Size(max = 1000)
+    private List<QrScanEvent> scans;
+}
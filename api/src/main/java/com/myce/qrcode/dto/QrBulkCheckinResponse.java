@@ -0,0 +1,24 @@
+package com.myce.qrcode.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QrBulkCheckinResponse {
+    private String batchId;
+    // 이전에 처리된 batchId 라서 저장된 결과를 반환한 경우
+    private boolean replayed;
+    private int checkedInCount;
+    private int rejectedCount;
+    private List<QrScanResult> results;
+
+    public QrBulkCheckinResponse asReplayed() {
+        return new QrBulkCheckinResponse(batchId, true, checkedInCount, rejectedCount, results);
+    }
+}
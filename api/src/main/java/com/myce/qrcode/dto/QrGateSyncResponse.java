@@ -0,0 +1,25 @@
+package com.myce.qrcode.dto;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 게이트 단말 동기화 응답
+ * - fullSync 면 서명 키와 전체 사용 비트맵을 내려주고 단말 상태를 교체
+ *   (비트맵: 예약자 ID - usedBaseId 위치의 비트, java.util.BitSet#toByteArray 형식을 base64 인코딩)
+ * - 아니면 since 이후 사용 처리된 예약자 ID 와 무효화 세대만 내려주고 단말 상태에 더함
+ */
+@Getter
+@Builder
+public class QrGateSyncResponse {
+    private Long expoId;
+    private long version;
+    private boolean fullSync;
+    private String verificationKey;
+    private Long usedBaseId;
+    private String usedBitmap;
+    private List<Long> usedReserverIds;
+    private Map<Long, Integer> revocations;
+}
@@ -0,0 +1,11 @@
+package com.myce.qrcode.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class QrImageResponse {
+    private byte[] image;
+    private String contentType;
+}
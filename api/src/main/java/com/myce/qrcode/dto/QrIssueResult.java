@@ -0,0 +1,17 @@
+package com.myce.qrcode.dto;
+
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class QrIssueResult {
+    private int successCount;
+    private int failCount;
+    private int skippedCount;
+    // QR 이 새로 발급된 예약 ID
+    private Set<Long> issuedReservationIds;
+    // 렌더링/업로드 실패로 발급되지 않은 예약자 ID
+    private Set<Long> failedReserverIds;
+}
@@ -0,0 +1,20 @@
+package com.myce.qrcode.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class QrScanEvent {
+    @NotBlank
+    private String token;
+
+    private String deviceId;
+
+    // 단말에서 스캔한 시각 (재전송 모드에서는 이 시각으로 입장 기간을 판단하고 사용 시각으로 기록)
+    @NotNull
+    private LocalDateTime scannedAt;
+}
@@ -0,0 +1,22 @@
+package com.myce.qrcode.dto;
+
+import com.myce.qrcode.dto.type.QrCheckinResult;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class QrScanResult {
+    // 요청 scans 목록의 위치
+    private int index;
+    private Long reserverId;
+    private String deviceId;
+    private QrCheckinResult result;
+    private String message;
+
+    public static QrScanResult of(int index, Long reserverId, String deviceId, QrCheckinResult result) {
+        return new QrScanResult(index, reserverId, deviceId, result, result.getMessage());
+    }
+}
@@ -0,0 +1,20 @@
+package com.myce.qrcode.dto;
+
+import java.time.Instant;
+
+/**
+ * 서명 QR 토큰에 담긴 정보
+ * - generation: 재발급 세대 (재발급 시 이전 세대 토큰은 무효화)
+ * - notBefore ~ notAfter: 입장 가능 기간 (티켓 사용 기간)
+ */
+public record SignedQrToken(Long expoId, Long reserverId, Long ticketId, int generation,
+                            Instant notBefore, Instant notAfter) {
+
+    public boolean isBeforeWindow(Instant now) {
+        return now.isBefore(notBefore);
+    }
+
+    public boolean isAfterWindow(Instant now) {
+        return !now.isBefore(notAfter);
+    }
+}
@@ -0,0 +1,22 @@
+package com.myce.qrcode.dto.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum QrCheckinResult {
+    CHECKED_IN(true, "입장 처리되었습니다"),
+    ALREADY_USED(false, "이미 사용된 QR 코드 입니다"),
+    DUPLICATE_IN_BATCH(false, "같은 요청에 중복된 QR 코드입니다"),
+    REVOKED(false, "재발급되었거나 취소된 QR 코드입니다"),
+    NOT_ACTIVE(false, "QR 코드가 활성화 되지 않았습니다"),
+    EXPIRED(false, "만료된 QR 코드 입니다"),
+    INVALID_TOKEN(false, "위조되었거나 손상된 QR 코드입니다"),
+    OTHER_EXPO(false, "다른 박람회의 QR 코드입니다"),
+    NOT_FOUND(false, "QR 코드를 찾을 수 없습니다"),
+    INVALID_SCANNED_AT(false, "스캔 시각이 올바르지 않습니다");
+
+    private final boolean success;
+    private final String message;
+}
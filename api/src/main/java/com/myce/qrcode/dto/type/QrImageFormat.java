@@ -0,0 +1,24 @@
+package com.myce.qrcode.dto.type;
+
+import com.myce.common.exception.CustomErrorCode;
+import com.myce.common.exception.CustomException;
+import java.util.Arrays;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum QrImageFormat {
+    PNG("png", "image/png"),
+    SVG("svg", "image/svg+xml");
+
+    private final String extension;
+    private final String contentType;
+
+    public static QrImageFormat fromExtension(String extension) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equalsIgnoreCase(extension))
+                .findFirst()
+                .orElseThrow(() -> new CustomException(CustomErrorCode.QR_IMAGE_FORMAT_INVALID));
+    }
+}
@@ -9,4 +9,16 @@ import com.myce.reservation.entity.Reserver;
 public interface QrCodeGenerateService {
 
     QrCode createQrCode(Reserver reserver);
+
+    // 재발급 시 세대를 올려서 생성 (이전 세대 토큰은 게이트에서 무효 처리)
+    QrCode createQrCode(Reserver reserver, int generation);
+
+    // 박람회/예약자/티켓/입장 기간을 담은 서명 토큰 생성
+    String generateToken(Reserver reserver, int generation);
+
+    // 토큰의 이미지 조회 URL (요청 시 렌더링 엔드포인트)
+    String resolveImageUrl(String token);
+
+    // 이미지 URL 이 정해진 토큰으로 QR 코드 엔티티 생성 (일괄 발급용)
+    QrCode buildQrCode(Reserver reserver, String token, String imageUrl);
 }
@@ -0,0 +1,40 @@
+package com.myce.qrcode.service;
+
+import com.myce.auth.dto.type.LoginType;
+import com.myce.qrcode.dto.QrBulkCheckinRequest;
+import com.myce.qrcode.dto.QrBulkCheckinResponse;
+import com.myce.qrcode.dto.QrGateSyncResponse;
+import com.myce.qrcode.dto.QrUseResponse;
+import com.myce.qrcode.dto.QrVerifyResponse;
+import com.myce.qrcode.dto.SignedQrToken;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 입장 게이트 서비스
+ * - 서명 토큰은 DB 조회 없이 Redis 의 박람회별 사용/무효화 상태로 검증하고 사용 처리
+ * - 사용 처리분은 대기 목록에 쌓았다가 스케줄러가 일괄로 DB 에 반영
+ * - 입장 스캐너는 스캔을 모아 일괄 체크인으로 올리고, 한 번의 Lua 호출과 UPDATE 로 처리
+ * - 게이트 단말은 sync 로 서명 키와 사용/무효화 변경분을 받아 오프라인에서도 검증
+ */
+public interface QrGateService {
+
+    // 게이트 상태를 사용할 수 없으면 empty (DB 조회 경로로 처리)
+    Optional<QrVerifyResponse> verify(SignedQrToken token, Long adminId, LoginType loginType);
+
+    Optional<QrUseResponse> use(SignedQrToken token, Long adminId, LoginType loginType);
+
+    // 입장 스캐너 일괄 체크인 (박람회 권한은 요청당 한 번 확인)
+    QrBulkCheckinResponse checkinAll(Long expoId, QrBulkCheckinRequest request, Long adminId, LoginType loginType);
+
+    // DB 경로(수동 체크인, 기존 토큰)로 사용 처리된 예약자를 커밋 후 게이트 상태에 반영
+    void recordUsed(Long expoId, Long reserverId, LocalDateTime usedAt);
+
+    // 재발급 시 이전 세대 토큰 무효화 (커밋 후 반영)
+    void revoke(Long expoId, Long reserverId, int minGeneration);
+
+    QrGateSyncResponse sync(Long expoId, long sinceVersion, Long adminId, LoginType loginType);
+
+    // 대기 중인 사용 처리분 DB 일괄 반영, 반영 건수 반환
+    int flushUsed();
+}
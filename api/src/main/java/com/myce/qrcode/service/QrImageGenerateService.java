@@ -6,4 +6,7 @@ package com.myce.qrcode.service;
 public interface QrImageGenerateService {
 
     byte[] generateQrImage(String token);
+
+    // 모듈 단위 벡터 이미지 (PNG 대비 용량이 작음)
+    byte[] generateQrSvg(String token);
 }
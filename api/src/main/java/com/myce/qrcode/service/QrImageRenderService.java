@@ -0,0 +1,11 @@
+package com.myce.qrcode.service;
+
+import com.myce.qrcode.dto.QrImageResponse;
+
+/**
+ * QR 이미지 요청 시 렌더링 서비스 (S3 사전 업로드 대신 최초 요청 시 생성 후 캐시)
+ */
+public interface QrImageRenderService {
+
+    QrImageResponse render(String token, String extension);
+}
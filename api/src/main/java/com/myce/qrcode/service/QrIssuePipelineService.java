@@ -0,0 +1,19 @@
+package com.myce.qrcode.service;
+
+import com.myce.expo.entity.Expo;
+import com.myce.qrcode.dto.QrIssueResult;
+import com.myce.reservation.entity.Reserver;
+import java.util.List;
+
+/**
+ * QR 코드 일괄 발급 파이프라인
+ * - 이미지 렌더링과 S3 업로드는 워커 풀에서 병렬 처리, 저장은 JDBC 배치
+ */
+public interface QrIssuePipelineService {
+
+    // 예약자 목록 QR 일괄 발급 (이미 발급된 예약자는 제외, 알림 없음)
+    QrIssueResult issue(List<Reserver> reservers);
+
+    // 박람회 전체 예약자 QR 일괄 발급 및 알림 전송 (중단 시 체크포인트부터 재개)
+    QrIssueResult issueForExpo(Expo expo);
+}
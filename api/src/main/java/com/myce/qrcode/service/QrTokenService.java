@@ -0,0 +1,19 @@
+package com.myce.qrcode.service;
+
+import com.myce.qrcode.dto.SignedQrToken;
+import java.util.Optional;
+
+/**
+ * 서명 QR 토큰 서비스
+ * - 박람회/예약자/티켓/세대/입장 기간을 담고 HMAC 으로 서명한 토큰을 발급하여 DB 조회 없이 검증
+ */
+public interface QrTokenService {
+
+    String issue(SignedQrToken token);
+
+    // 서명 토큰이 아니면(기존 UUID 토큰) empty, 서명이 맞지 않으면 예외
+    Optional<SignedQrToken> parse(String token);
+
+    // 게이트 단말 오프라인 검증용 박람회별 서명 키
+    byte[] verificationKey(Long expoId);
+}
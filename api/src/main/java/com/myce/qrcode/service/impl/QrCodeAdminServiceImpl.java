@@ -5,12 +5,14 @@ import com.myce.common.exception.CustomErrorCode;
 import com.myce.common.exception.CustomException;
 import com.myce.common.permission.ExpoAdminAccessValidate;
 import com.myce.common.permission.ExpoAdminPermission;
+import com.myce.dashboard.service.expo.ExpoStatsCounterService;
 import com.myce.qrcode.dto.ExpoAdminQrReissueRequest;
 import com.myce.qrcode.entity.QrCode;
 import com.myce.qrcode.entity.code.QrCodeStatus;
 import com.myce.qrcode.repository.QrCodeRepository;
 import com.myce.qrcode.service.QrCodeAdminService;
 import com.myce.qrcode.service.QrCodeService;
+import com.myce.qrcode.service.QrGateService;
 import com.myce.reservation.dto.ExpoAdminReservationResponse;
 import com.myce.reservation.entity.Reserver;
 import com.myce.reservation.repository.ReserverRepository;
@@ -28,6 +30,8 @@ public class QrCodeAdminServiceImpl implements QrCodeAdminService {
     private final QrCodeRepository  qrCodeRepository;
     private final ReserverRepository reserverRepository;
     private final QrCodeService qrCodeService;
+    private final ExpoStatsCounterService expoStatsCounterService;
+    private final QrGateService qrGateService;
 
     @Override
     @Transactional
@@ -42,6 +46,8 @@ public class QrCodeAdminServiceImpl implements QrCodeAdminService {
         if(qrCode != null){
             if (qrCode.getStatus() == QrCodeStatus.ACTIVE || qrCode.getStatus() == QrCodeStatus.APPROVED) {
                 qrCode.markAsUsed();
+                expoStatsCounterService.recordCheckin(expoId, qrCode.getUsedAt());
+                qrGateService.recordUsed(expoId, reserverId, qrCode.getUsedAt());
             }else{
                 throw new CustomException(CustomErrorCode.QR_NOT_MANUAL_CHECK_IN);
             }
@@ -51,6 +57,8 @@ public class QrCodeAdminServiceImpl implements QrCodeAdminService {
             QrCode newQrCode = qrCodeRepository.findByReserverId(reserverId)
                     .orElseThrow(() -> new CustomException(CustomErrorCode.QR_NOT_FOUND));
             newQrCode.markAsUsed();
+            expoStatsCounterService.recordCheckin(expoId, newQrCode.getUsedAt());
+            qrGateService.recordUsed(expoId, reserverId, newQrCode.getUsedAt());
         }
         return reserverRepository.findOneResponsesByReserverId(reserverId,expoId);
     }
@@ -3,18 +3,22 @@ package com.myce.qrcode.service.impl;
 import com.myce.common.exception.CustomErrorCode;
 import com.myce.common.exception.CustomException;
 import com.myce.common.service.S3Service;
+import com.myce.qrcode.dto.SignedQrToken;
 import com.myce.qrcode.entity.QrCode;
 import com.myce.qrcode.entity.code.QrCodeStatus;
 import com.myce.qrcode.service.QrCodeGenerateService;
 import com.myce.qrcode.service.QrImageGenerateService;
 import com.myce.qrcode.service.QrStatusService;
+import com.myce.qrcode.service.QrTokenService;
+import com.myce.reservation.entity.Reservation;
 import com.myce.reservation.entity.Reserver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.time.ZoneId;
 
 /**
  * QR 코드 생성 서비스 구현체
@@ -26,32 +30,66 @@ public class QrCodeGenerateServiceImpl implements QrCodeGenerateService {
 
     private final QrImageGenerateService qrImageGenerateService;
     private final QrStatusService qrStatusService;
+    private final QrTokenService qrTokenService;
     private final S3Service s3Service;
 
+    @Value("${qr-image.pre-upload:false}")
+    private boolean preUpload;
+
+    @Value("${qr-image.base-url:}")
+    private String imageBaseUrl;
+
     @Override
     public QrCode createQrCode(Reserver reserver) {
-            // 고유 토큰 생성
-            String token = UUID.randomUUID().toString();
-
-            // QR 이미지 생성
-            byte[] image = qrImageGenerateService.generateQrImage(token);
-
-            // S3 업로드
-            String imageUrl = s3Service.uploadQrImage(image, token);
-
-            // 상태 및 시간 계산
-            LocalDateTime activatedAt = qrStatusService.calculateActivatedAt(reserver);
-            LocalDateTime expiredAt = qrStatusService.calculateExpiredAt(reserver);
-            QrCodeStatus status = qrStatusService.determineInitialStatus(activatedAt, expiredAt);
-
-            // QR 코드 엔티티 생성
-            return QrCode.builder()
-                    .reserver(reserver)
-                    .qrToken(token)
-                    .qrImageUrl(imageUrl)
-                    .status(status)
-                    .activatedAt(activatedAt)
-                    .expiredAt(expiredAt)
-                    .build();
+        return createQrCode(reserver, 0);
+    }
+
+    @Override
+    public QrCode createQrCode(Reserver reserver, int generation) {
+            // 서명 토큰 생성
+            String token = generateToken(reserver, generation);
+
+            // 이미지는 최초 조회 시 렌더링 (사전 업로드 설정 시에만 S3 업로드)
+            String imageUrl = preUpload
+                    ? s3Service.uploadQrImage(qrImageGenerateService.generateQrImage(token), token)
+                    : resolveImageUrl(token);
+
+            return buildQrCode(reserver, token, imageUrl);
+    }
+
+    @Override
+    public String generateToken(Reserver reserver, int generation) {
+        Reservation reservation = reserver.getReservation();
+        ZoneId zone = ZoneId.systemDefault();
+        return qrTokenService.issue(new SignedQrToken(
+                reservation.getExpo().getId(),
+                reserver.getId(),
+                reservation.getTicket().getId(),
+                generation,
+                qrStatusService.calculateActivatedAt(reserver).atZone(zone).toInstant(),
+                qrStatusService.calculateExpiredAt(reserver).atZone(zone).toInstant()));
+    }
+
+    @Override
+    public String resolveImageUrl(String token) {
+        return imageBaseUrl + "/api/qrcodes/image/" + token + ".png";
+    }
+
+    @Override
+    public QrCode buildQrCode(Reserver reserver, String token, String imageUrl) {
+        // 상태 및 시간 계산
+        LocalDateTime activatedAt = qrStatusService.calculateActivatedAt(reserver);
+        LocalDateTime expiredAt = qrStatusService.calculateExpiredAt(reserver);
+        QrCodeStatus status = qrStatusService.determineInitialStatus(activatedAt, expiredAt);
+
+        // QR 코드 엔티티 생성
+        return QrCode.builder()
+                .reserver(reserver)
+                .qrToken(token)
+                .qrImageUrl(imageUrl)
+                .status(status)
+                .activatedAt(activatedAt)
+                .expiredAt(expiredAt)
+                .build();
     }
 }
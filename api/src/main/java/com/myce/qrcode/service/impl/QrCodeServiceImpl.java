@@ -1,20 +1,26 @@
 package com.myce.qrcode.service.impl;
 
 import com.myce.auth.dto.type.LoginType;
+import com.myce.dashboard.service.expo.ExpoStatsCounterService;
 import com.myce.common.exception.CustomErrorCode;
 import com.myce.common.exception.CustomException;
 import com.myce.expo.entity.AdminCode;
 import com.myce.expo.entity.Expo;
 import com.myce.expo.repository.AdminCodeRepository;
 import com.myce.client.notification.service.NotificationService;
+import com.myce.qrcode.dto.QrIssueResult;
 import com.myce.qrcode.dto.QrUseResponse;
 import com.myce.qrcode.dto.QrVerifyResponse;
+import com.myce.qrcode.dto.SignedQrToken;
 import com.myce.qrcode.entity.QrCode;
 import com.myce.qrcode.entity.code.QrCodeStatus;
 import com.myce.qrcode.repository.QrCodeRepository;
 import com.myce.qrcode.service.QrCodeService;
 import com.myce.qrcode.service.QrCodeGenerateService;
+import com.myce.qrcode.service.QrGateService;
+import com.myce.qrcode.service.QrIssuePipelineService;
 import com.myce.qrcode.service.QrNotificationService;
+import com.myce.qrcode.service.QrTokenService;
 import com.myce.qrcode.service.mapper.QrResponseMapper;
 import com.myce.reservation.entity.Reserver;
 import com.myce.reservation.entity.Reservation;
@@ -28,6 +34,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -40,8 +47,12 @@ public class QrCodeServiceImpl implements QrCodeService {
     private final AdminCodeRepository adminCodeRepository;
     private final QrResponseMapper qrResponseMapper;
     private final QrCodeGenerateService qrCodeGenerateService;
+    private final QrIssuePipelineService qrIssuePipelineService;
     private final QrNotificationService qrNotificationService;
     private final NotificationService notificationService;
+    private final ExpoStatsCounterService expoStatsCounterService;
+    private final QrTokenService qrTokenService;
+    private final QrGateService qrGateService;
 
     @Override
     @Transactional
@@ -98,13 +109,17 @@ public class QrCodeServiceImpl implements QrCodeService {
             throw new CustomException(CustomErrorCode.QR_INVALID_STATUS);
         }
 
+        // 세대를 올려서 발급하고 이전 세대 토큰은 게이트에서 무효화
+        int generation = currentGeneration(existing.getQrToken()) + 1;
+
         log.info("기존 QR 코드 삭제 처리 - QR ID: {}", existing.getId());
         qrCodeRepository.delete(existing);
         qrCodeRepository.flush();
 
-        QrCode qrCode = qrCodeGenerateService.createQrCode(reserver);
+        QrCode qrCode = qrCodeGenerateService.createQrCode(reserver, generation);
         qrCodeRepository.save(qrCode);
-        log.info("QR 코드 재발급 완료 - 예약자 ID: {}", reserverId);
+        qrGateService.revoke(reserver.getReservation().getExpo().getId(), reserverId, generation);
+        log.info("QR 코드 재발급 완료 - 예약자 ID: {}, 세대: {}", reserverId, generation);
 
         // QR 재발급 성공 알림 전송 (try-catch로 예외 허용)
         qrNotificationService.sendQrIssuedNotification(reserver, true);
@@ -116,6 +131,15 @@ public class QrCodeServiceImpl implements QrCodeService {
     public QrUseResponse updateQrAsUsed(String qrToken, Long adminMemberId, LoginType loginType) {
         log.info("QR 코드 사용 처리 시작 - 토큰: {}, 관리자 ID: {}, 로그인 타입: {}", qrToken, adminMemberId, loginType);
 
+        // 서명 토큰은 게이트 상태로 처리 (게이트 상태를 쓸 수 없으면 아래 DB 경로로 처리)
+        Optional<SignedQrToken> signedToken = qrTokenService.parse(qrToken);
+        if (signedToken.isPresent()) {
+            Optional<QrUseResponse> gateResponse = qrGateService.use(signedToken.get(), adminMemberId, loginType);
+            if (gateResponse.isPresent()) {
+                return gateResponse.get();
+            }
+        }
+
         QrCode qr = qrCodeRepository.findByQrToken(qrToken)
                 .orElseThrow(() -> new CustomException(CustomErrorCode.QR_NOT_FOUND));
 
@@ -126,6 +150,9 @@ public class QrCodeServiceImpl implements QrCodeService {
 
         if (wasActive) {
             qr.markAsUsed();
+            Long expoId = qr.getReserver().getReservation().getExpo().getId();
+            expoStatsCounterService.recordCheckin(expoId, qr.getUsedAt());
+            qrGateService.recordUsed(expoId, qr.getReserver().getId(), qr.getUsedAt());
         }
         log.info("QR 코드 사용 처리 완료 - QR ID: {}, 예약자 ID: {}, 사용처리됨: {}",
                 qr.getId(), qr.getReserver().getId(), wasActive);
@@ -158,6 +185,15 @@ public class QrCodeServiceImpl implements QrCodeService {
         return qrCode.getQrImageUrl();
     }
 
+    // 현재 QR 토큰의 세대 (기존 UUID 토큰은 0)
+    private int currentGeneration(String qrToken) {
+        try {
+            return qrTokenService.parse(qrToken).map(SignedQrToken::generation).orElse(0);
+        } catch (CustomException e) {
+            return 0;
+        }
+    }
+
     private void validateAdminPermission(Long adminId, Reserver reserver, LoginType loginType) {
         Long expoId = reserver.getReservation().getExpo().getId();
 
@@ -188,6 +224,14 @@ public class QrCodeServiceImpl implements QrCodeService {
     public QrVerifyResponse verifyQrCode(String token, Long adminMemberId, LoginType loginType) {
         log.info("QR 코드 검증 시작 - token: {}, adminId: {}, 로그인 타입: {}", token, adminMemberId, loginType);
 
+        Optional<SignedQrToken> signedToken = qrTokenService.parse(token);
+        if (signedToken.isPresent()) {
+            Optional<QrVerifyResponse> gateResponse = qrGateService.verify(signedToken.get(), adminMemberId, loginType);
+            if (gateResponse.isPresent()) {
+                return gateResponse.get();
+            }
+        }
+
         QrCode qrCode = qrCodeRepository.findByQrToken(token)
                 .orElseThrow(() -> new CustomException(CustomErrorCode.QR_NOT_FOUND));
 
@@ -228,32 +272,10 @@ public class QrCodeServiceImpl implements QrCodeService {
             log.info("박람회 시작 2일 전 이후 예매 감지 - 즉시 QR 생성. 박람회: {}, 시작일: {}, 오늘: {}",
                     expo.getTitle(), expoStartDate, today);
 
-            int successCount = 0;
-            int failCount = 0;
-            boolean shouldSendNotification = false;
-
-            // 1단계: 모든 reserver에 대해 QR 생성
-            for (Reserver reserver : reservers) {
-                try {
-                    // 기존 QR이 있는지 확인
-                    if (qrCodeRepository.findByReserver(reserver).isPresent()) {
-                        log.debug("이미 QR 코드가 존재함 - 예약자 ID: {}", reserver.getId());
-                        continue;
-                    }
-
-                    // 날짜에 따라 적절한 상태로 QR 코드 생성
-                    QrCode qrCode = qrCodeGenerateService.createQrCode(reserver);
-                    qrCodeRepository.save(qrCode);
-                    log.debug("즉시 QR 코드 생성 완료 - 예약자 ID: {}", reserver.getId());
-
-                    successCount++;
-
-                } catch (Exception e) {
-                    log.error("즉시 QR 코드 생성 실패 - 예약자 ID: {}, 오류: {}",
-                            reserver.getId(), e.getMessage(), e);
-                    failCount++;
-                }
-            }
+            // 1단계: 모든 reserver에 대해 QR 일괄 생성 (이미 QR이 있는 예약자는 제외)
+            QrIssueResult result = qrIssuePipelineService.issue(reservers);
+            int successCount = result.getSuccessCount();
+            int failCount = result.getFailCount();
 
             // 2단계: QR 생성이 성공한 경우에만 예약별 알림 전송 (1회)
             // 알림 전송 실패해도 진행한다.
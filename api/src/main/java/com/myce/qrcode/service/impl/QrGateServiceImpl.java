@@ -0,0 +1,663 @@
+package com.myce.qrcode.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.myce.auth.dto.type.LoginType;
+import com.myce.common.exception.CustomErrorCode;
+import com.myce.common.exception.CustomException;
+import com.myce.common.permission.ExpoAdminAccessValidate;
+import com.myce.dashboard.service.expo.ExpoStatsCounterService;
+import com.myce.expo.entity.Expo;
+import com.myce.expo.entity.Ticket;
+import com.myce.expo.repository.ExpoRepository;
+import com.myce.expo.repository.TicketRepository;
+import com.myce.qrcode.dto.QrBulkCheckinRequest;
+import com.myce.qrcode.dto.QrBulkCheckinResponse;
+import com.myce.qrcode.dto.QrGateSyncResponse;
+import com.myce.qrcode.dto.QrScanEvent;
+import com.myce.qrcode.dto.QrScanResult;
+import com.myce.qrcode.dto.QrUseResponse;
+import com.myce.qrcode.dto.QrVerifyResponse;
+import com.myce.qrcode.dto.SignedQrToken;
+import com.myce.qrcode.dto.type.QrCheckinResult;
+import com.myce.qrcode.entity.code.QrCodeStatus;
+import com.myce.qrcode.repository.QrCodeRepository;
+import com.myce.qrcode.repository.QrGateStateRepository;
+import com.myce.qrcode.repository.QrGateStateRepository.GateChange;
+import com.myce.qrcode.repository.QrGateStateRepository.GateMark;
+import com.myce.qrcode.repository.QrGateStateRepository.PendingUsage;
+import com.myce.qrcode.service.QrGateService;
+import com.myce.qrcode.service.QrTokenService;
+import com.myce.qrcode.service.mapper.QrResponseMapper;
+import com.myce.reservation.entity.Reserver;
+import com.myce.reservation.entity.code.ReservationStatus;
+import com.myce.reservation.event.ReservationStatusChangedEvent;
+import com.myce.reservation.repository.ReserverRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 입장 게이트 서비스 구현체
+ * - 스캔 시 DB 대신 Redis 게이트 상태(Lua 1회)로 검증/사용 처리하고, 응답용 박람회/티켓 이름은 로컬 캐시에서 조회
+ * - 게이트 상태는 박람회별로 처음 필요할 때 DB 기준으로 적재 (적재 중이거나 Redis 장애 시 기존 DB 경로로 처리)
+ * - 사용 처리분은 대기 목록에 쌓고 스케줄러가 일괄 UPDATE 로 DB 에 반영
+ * - 일괄 체크인은 요청 단위로 권한 확인/Lua 호출/UPDATE 를 한 번씩만 실행하고 batchId 로 재전송을 멱등 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QrGateServiceImpl implements QrGateService {
+
+    // 취소된 예약의 모든 세대 토큰 무효화
+    private static final int REVOKED_ALL = Integer.MAX_VALUE;
+    private static final String REVOKED_STATUS = "REVOKED";
+
+    private final QrGateStateRepository qrGateStateRepository;
+    private final QrCodeRepository qrCodeRepository;
+    private final ReserverRepository reserverRepository;
+    private final ExpoRepository expoRepository;
+    private final TicketRepository ticketRepository;
+    private final QrTokenService qrTokenService;
+    private final QrResponseMapper qrResponseMapper;
+    private final ExpoAdminAccessValidate expoAdminAccessValidate;
+    private final ExpoStatsCounterService expoStatsCounterService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${qr-gate.state-ttl-hours:72}")
+    private long stateTtlHours;
+
+    @Value("${qr-gate.load-lock-seconds:30}")
+    private long loadLockSeconds;
+
+    @Value("${qr-gate.flush-batch-size:1000}")
+    private int flushBatchSize;
+
+    @Value("${qr-gate.flush-max-batches:20}")
+    private int flushMaxBatches;
+
+    @Value("${qr-gate.manifest-ttl-minutes:10}")
+    private long manifestTtlMinutes;
+
+    @Value("${qr-gate.checkin-batch-ttl-hours:24}")
+    private long checkinBatchTtlHours;
+
+    @Value("${qr-gate.clock-skew-seconds:300}")
+    private long clockSkewSeconds;
+
+    private Cache<Long, GateManifest> manifests;
+
+    @PostConstruct
+    public void init() {
+        manifests = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(Duration.ofMinutes(manifestTtlMinutes))
+                .build();
+    }
+
+    @Override
+    public Optional<QrVerifyResponse> verify(SignedQrToken token, Long adminId, LoginType loginType) {
+        validateAdmin(token.expoId(), adminId, loginType);
+
+        QrCodeStatus windowStatus = windowStatus(token);
+        if (windowStatus != null) {
+            return Optional.of(QrVerifyResponse.fail(windowStatus.getMessage(), windowStatus.name()));
+        }
+
+        Long result = executeOnGate(token.expoId(), () -> qrGateStateRepository.check(
+                token.expoId(), token.reserverId(), token.generation()));
+        if (result == null) {
+            return Optional.empty();
+        }
+
+        if (result == QrGateStateRepository.REVOKED) {
+            return Optional.of(QrVerifyResponse.fail(QrCheckinResult.REVOKED.getMessage(), REVOKED_STATUS));
+        }
+        if (result == QrGateStateRepository.ALREADY_USED) {
+            return Optional.of(QrVerifyResponse.fail(QrCodeStatus.USED.getMessage(), QrCodeStatus.USED.name()));
+        }
+
+        // 예약자 이름은 DB 조회가 필요하므로 게이트 경로에서는 제외
+        GateManifest manifest = manifest(token.expoId());
+        return Optional.of(QrVerifyResponse.success(QrCodeStatus.ACTIVE.getMessage(), null,
+                manifest.expoTitle(), manifest.ticketName(token.ticketId()), QrCodeStatus.ACTIVE.name()));
+    }
+
+    @Override
+    public Optional<QrUseResponse> use(SignedQrToken token, Long adminId, LoginType loginType) {
+        validateAdmin(token.expoId(), adminId, loginType);
+
+        QrCodeStatus windowStatus = windowStatus(token);
+        if (windowStatus != null) {
+            return Optional.of(QrUseResponse.fail(windowStatus.getMessage()));
+        }
+
+        long usedAtMillis = System.currentTimeMillis();
+        Long result = executeOnGate(token.expoId(), () -> qrGateStateRepository.markUsed(
+                token.expoId(), token.reserverId(), token.generation(), true, usedAtMillis, true));
+        if (result == null) {
+            return Optional.empty();
+        }
+
+        if (result == QrGateStateRepository.REVOKED) {
+            return Optional.of(QrUseResponse.fail(QrCheckinResult.REVOKED.getMessage()));
+        }
+        if (result == QrGateStateRepository.ALREADY_USED) {
+            return Optional.of(QrUseResponse.fail(QrCodeStatus.USED.getMessage()));
+        }
+
+        expoStatsCounterService.recordCheckin(token.expoId(), toLocalDateTime(usedAtMillis));
+        log.info("게이트 QR 사용 처리 - expoId: {}, 예약자 ID: {}", token.expoId(), token.reserverId());
+        return Optional.of(qrResponseMapper.toUseSuccessResponse(
+                manifest(token.expoId()).ticketName(token.ticketId())));
+    }
+
+    @Override
+    public QrBulkCheckinResponse checkinAll(Long expoId, QrBulkCheckinRequest request,
+                                            Long adminId, LoginType loginType) {
+        validateAdmin(expoId, adminId, loginType);
+
+        String batchId = request.getBatchId();
+        if (batchId != null) {
+            QrBulkCheckinResponse previous = findCheckinBatch(expoId, batchId);
+            if (previous != null) {
+                log.info("일괄 체크인 재전송 - expoId: {}, batchId: {}", expoId, batchId);
+                return previous.asReplayed();
+            }
+        }
+        if (!ensureLoaded(expoId)) {
+            throw new CustomException(CustomErrorCode.QR_GATE_NOT_READY);
+        }
+
+        List<QrScanEvent> scans = request.getScans();
+        QrScanResult[] results = new QrScanResult[scans.size()];
+        List<ScanCandidate> candidates = resolveCandidates(expoId, request, results);
+
+        // 같은 예약자 스캔은 요청 안에서 첫 건만 처리
+        Set<Long> seenReserverIds = new HashSet<>();
+        List<ScanCandidate> marks = new ArrayList<>();
+        for (ScanCandidate candidate : candidates) {
+            if (seenReserverIds.add(candidate.reserverId())) {
+                marks.add(candidate);
+            } else {
+                results[candidate.index()] = QrScanResult.of(candidate.index(), candidate.reserverId(),
+                        candidate.deviceId(), QrCheckinResult.DUPLICATE_IN_BATCH);
+            }
+        }
+
+        List<Long> markResults = qrGateStateRepository.markUsedAll(expoId, marks.stream()
+                .map(mark -> new GateMark(mark.reserverId(), mark.generation(), mark.checkRevoked()))
+                .toList());
+
+        Map<Long, LocalDateTime> usedAtByReserverId = new HashMap<>();
+        List<LocalDateTime> usedAts = new ArrayList<>();
+        for (int i = 0; i < marks.size(); i++) {
+            ScanCandidate mark = marks.get(i);
+            long markResult = markResults.get(i);
+            if (markResult == QrGateStateRepository.NOT_LOADED) {
+                // 요청 처리 중 게이트 상태가 만료됨 (아무 것도 반영되지 않았으므로 단말이 재시도)
+                throw new CustomException(CustomErrorCode.QR_GATE_NOT_READY);
+            }
+
+            QrCheckinResult result = markResult == QrGateStateRepository.OK ? QrCheckinResult.CHECKED_IN
+                    : markResult == QrGateStateRepository.REVOKED ? QrCheckinResult.REVOKED
+                    : QrCheckinResult.ALREADY_USED;
+            results[mark.index()] = QrScanResult.of(mark.index(), mark.reserverId(), mark.deviceId(), result);
+            if (result == QrCheckinResult.CHECKED_IN) {
+                usedAtByReserverId.put(mark.reserverId(), mark.usedAt());
+                usedAts.add(mark.usedAt());
+            }
+        }
+
+        writeUsed(expoId, usedAtByReserverId);
+        expoStatsCounterService.recordCheckins(expoId, usedAts);
+
+        List<QrScanResult> resultList = List.of(results);
+        QrBulkCheckinResponse response = QrBulkCheckinResponse.builder()
+                .batchId(batchId)
+                .replayed(false)
+                .checkedInCount(usedAts.size())
+                .rejectedCount(resultList.size() - usedAts.size())
+                .results(resultList)
+                .build();
+        if (batchId != null) {
+            saveCheckinBatch(expoId, batchId, response);
+        }
+
+        log.info("일괄 체크인 처리 - expoId: {}, batchId: {}, 재전송 모드: {}, 요청: {}건, 입장: {}건",
+                expoId, batchId, request.isReplay(), scans.size(), usedAts.size());
+        return response;
+    }
+
+    @Override
+    public void recordUsed(Long expoId, Long reserverId, LocalDateTime usedAt) {
+        long usedAtMillis = usedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        // DB 에는 이미 반영되었으므로 대기 목록에는 넣지 않음 (적재 전이면 다음 적재 때 DB 에서 읽힘)
+        runAfterCommit(() -> qrGateStateRepository.markUsed(
+                expoId, reserverId, 0, false, usedAtMillis, false));
+    }
+
+    @Override
+    public void revoke(Long expoId, Long reserverId, int minGeneration) {
+        runAfterCommit(() -> qrGateStateRepository.revoke(expoId, reserverId, minGeneration));
+    }
+
+    // 확정 예약이 취소되면 해당 예약자 토큰 전체 무효화
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onReservationStatusChanged(ReservationStatusChangedEvent event) {
+        if (event.before() != ReservationStatus.CONFIRMED || event.after() != ReservationStatus.CANCELLED) {
+            return;
+        }
+        try {
+            if (!qrGateStateRepository.isLoaded(event.expoId())) {
+                return;
+            }
+            for (Reserver reserver : reserverRepository.findByReservationId(event.reservationId())) {
+                qrGateStateRepository.revoke(event.expoId(), reserver.getId(), REVOKED_ALL);
+            }
+        } catch (Exception e) {
+            // 상태 만료 후 재적재 시 DB 기준으로 반영됨
+            log.warn("게이트 QR 무효화 실패 - reservationId: {}, 오류: {}", event.reservationId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public QrGateSyncResponse sync(Long expoId, long sinceVersion, Long adminId, LoginType loginType) {
+        expoAdminAccessValidate.ensureAdmin(expoId, adminId, loginType);
+        if (!ensureLoaded(expoId)) {
+            throw new CustomException(CustomErrorCode.QR_GATE_NOT_READY);
+        }
+
+        long floorVersion = qrGateStateRepository.findFloorVersion(expoId);
+        long version = qrGateStateRepository.findVersion(expoId);
+        if (sinceVersion > 0 && sinceVersion >= floorVersion && sinceVersion <= version) {
+            QrGateSyncResponse delta = buildDelta(expoId, sinceVersion);
+            if (delta != null) {
+                return delta;
+            }
+        }
+        return buildFull(expoId, version);
+    }
+
+    @Override
+    public int flushUsed() {
+        int flushedCount = 0;
+        for (int batch = 0; batch < flushMaxBatches; batch++) {
+            List<PendingUsage> usages = qrGateStateRepository.popPendingUsages(flushBatchSize);
+            if (usages.isEmpty()) {
+                break;
+            }
+
+            // 같은 예약자가 여러 번 들어 있으면 가장 이른 사용 시각으로 반영
+            Map<Long, LocalDateTime> usedAtByReserverId = new HashMap<>();
+            for (PendingUsage usage : usages) {
+                usedAtByReserverId.merge(usage.reserverId(), toLocalDateTime(usage.usedAtMillis()),
+                        (current, next) -> current.isBefore(next) ? current : next);
+            }
+
+            try {
+                flushedCount += qrCodeRepository.bulkMarkUsed(usedAtByReserverId);
+            } catch (Exception e) {
+                qrGateStateRepository.pushPendingUsages(usages);
+                log.error("게이트 QR 사용 처리 DB 반영 실패 (다음 실행에서 재시도) - 건수: {}, 오류: {}",
+                        usages.size(), e.getMessage());
+                break;
+            }
+
+            if (usages.size() < flushBatchSize) {
+                break;
+            }
+        }
+        return flushedCount;
+    }
+
+    // 토큰 해석과 입장 기간 확인 (실패한 스캔은 results 에 바로 기록)
+    private List<ScanCandidate> resolveCandidates(Long expoId, QrBulkCheckinRequest request,
+                                                  QrScanResult[] results) {
+        List<QrScanEvent> scans = request.getScans();
+        LocalDateTime now = LocalDateTime.now();
+        List<ScanCandidate> candidates = new ArrayList<>();
+        Map<String, List<Integer>> legacyIndexes = new HashMap<>();
+
+        for (int i = 0; i < scans.size(); i++) {
+            QrScanEvent scan = scans.get(i);
+            // 실시간 전송은 서버 시각, 재전송은 단말 스캔 시각 기준
+            LocalDateTime usedAt = request.isReplay() ? scan.getScannedAt() : now;
+            if (usedAt.isAfter(now.plusSeconds(clockSkewSeconds))) {
+                results[i] = QrScanResult.of(i, null, scan.getDeviceId(), QrCheckinResult.INVALID_SCANNED_AT);
+                continue;
+            }
+
+            Optional<SignedQrToken> signedToken;
+            try {
+                signedToken = qrTokenService.parse(scan.getToken());
+            } catch (CustomException e) {
+                results[i] = QrScanResult.of(i, null, scan.getDeviceId(), QrCheckinResult.INVALID_TOKEN);
+                continue;
+            }
+            if (signedToken.isEmpty()) {
+                legacyIndexes.computeIfAbsent(scan.getToken(), token -> new ArrayList<>()).add(i);
+                continue;
+            }
+
+            SignedQrToken token = signedToken.get();
+            QrCheckinResult rejected = !token.expoId().equals(expoId) ? QrCheckinResult.OTHER_EXPO
+                    : windowResult(token.notBefore(), token.notAfter(), usedAt);
+            if (rejected != null) {
+                results[i] = QrScanResult.of(i, token.reserverId(), scan.getDeviceId(), rejected);
+                continue;
+            }
+            candidates.add(new ScanCandidate(i, token.reserverId(), token.generation(), true,
+                    scan.getDeviceId(), usedAt));
+        }
+
+        if (!legacyIndexes.isEmpty()) {
+            resolveLegacyCandidates(expoId, request, legacyIndexes, now, results, candidates);
+            candidates.sort(Comparator.comparingInt(ScanCandidate::index));
+        }
+        return candidates;
+    }
+
+    // 기존(UUID) 토큰은 한 번에 조회해서 처리
+    private void resolveLegacyCandidates(Long expoId, QrBulkCheckinRequest request,
+                                         Map<String, List<Integer>> legacyIndexes, LocalDateTime now,
+                                         QrScanResult[] results, List<ScanCandidate> candidates) {
+        Map<String, Object[]> rows = new HashMap<>();
+        for (Object[] row : qrCodeRepository.findGateTargetsByQrTokens(legacyIndexes.keySet())) {
+            rows.put((String) row[0], row);
+        }
+
+        ZoneId zone = ZoneId.systemDefault();
+        legacyIndexes.forEach((qrToken, indexes) -> {
+            Object[] row = rows.get(qrToken);
+            for (int index : indexes) {
+                QrScanEvent scan = request.getScans().get(index);
+                if (row == null) {
+                    results[index] = QrScanResult.of(index, null, scan.getDeviceId(), QrCheckinResult.NOT_FOUND);
+                    continue;
+                }
+
+                Long reserverId = (Long) row[1];
+                LocalDateTime usedAt = request.isReplay() ? scan.getScannedAt() : now;
+                QrCheckinResult rejected = !expoId.equals(row[2]) ? QrCheckinResult.OTHER_EXPO
+                        : row[3] == QrCodeStatus.USED ? QrCheckinResult.ALREADY_USED
+                        : windowResult(((LocalDateTime) row[4]).atZone(zone).toInstant(),
+                                ((LocalDateTime) row[5]).atZone(zone).toInstant(), usedAt);
+                if (rejected != null) {
+                    results[index] = QrScanResult.of(index, reserverId, scan.getDeviceId(), rejected);
+                    continue;
+                }
+                candidates.add(new ScanCandidate(index, reserverId, 0, false, scan.getDeviceId(), usedAt));
+            }
+        });
+    }
+
+    // DB 반영 실패분은 대기 목록으로 넘겨 스케줄러가 재시도 (게이트 상태에는 이미 반영됨)
+    private void writeUsed(Long expoId, Map<Long, LocalDateTime> usedAtByReserverId) {
+        if (usedAtByReserverId.isEmpty()) {
+            return;
+        }
+        try {
+            qrCodeRepository.bulkMarkUsed(usedAtByReserverId);
+        } catch (Exception e) {
+            ZoneId zone = ZoneId.systemDefault();
+            qrGateStateRepository.pushPendingUsages(usedAtByReserverId.entrySet().stream()
+                    .map(entry -> new PendingUsage(expoId, entry.getKey(),
+                            entry.getValue().atZone(zone).toInstant().toEpochMilli()))
+                    .toList());
+            log.warn("일괄 체크인 DB 반영 실패 (스케줄러에서 재시도) - expoId: {}, 건수: {}, 오류: {}",
+                    expoId, usedAtByReserverId.size(), e.getMessage());
+        }
+    }
+
+    private QrBulkCheckinResponse findCheckinBatch(Long expoId, String batchId) {
+        String saved = qrGateStateRepository.findCheckinBatch(expoId, batchId);
+        if (saved == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(saved, QrBulkCheckinResponse.class);
+        } catch (JsonProcessingException e) {
+            log.warn("일괄 체크인 저장 결과 역직렬화 실패 - expoId: {}, batchId: {}", expoId, batchId);
+            return null;
+        }
+    }
+
+    private void saveCheckinBatch(Long expoId, String batchId, QrBulkCheckinResponse response) {
+        try {
+            qrGateStateRepository.saveCheckinBatch(expoId, batchId, objectMapper.writeValueAsString(response),
+                    TimeUnit.HOURS.toSeconds(checkinBatchTtlHours));
+        } catch (Exception e) {
+            // 저장하지 못해도 재전송 시 게이트 상태 기준으로 이미 사용됨으로 처리됨
+            log.warn("일괄 체크인 결과 저장 실패 - expoId: {}, batchId: {}, 오류: {}", expoId, batchId, e.getMessage());
+        }
+    }
+
+    private QrCheckinResult windowResult(Instant notBefore, Instant notAfter, LocalDateTime usedAt) {
+        Instant at = usedAt.atZone(ZoneId.systemDefault()).toInstant();
+        if (at.isBefore(notBefore)) {
+            return QrCheckinResult.NOT_ACTIVE;
+        }
+        if (!at.isBefore(notAfter)) {
+            return QrCheckinResult.EXPIRED;
+        }
+        return null;
+    }
+
+    private QrGateSyncResponse buildDelta(Long expoId, long sinceVersion) {
+        List<GateChange> changes = qrGateStateRepository.findChangesSince(expoId, sinceVersion);
+
+        long expectedVersion = sinceVersion + 1;
+        List<Long> usedReserverIds = new ArrayList<>();
+        Map<Long, Integer> revocations = new LinkedHashMap<>();
+        for (GateChange change : changes) {
+            if (change.version() != expectedVersion++) {
+                // 로그가 잘려 중간 변경분이 없으면 전체 동기화
+                return null;
+            }
+            if (change.used()) {
+                usedReserverIds.add(change.reserverId());
+            } else {
+                revocations.merge(change.reserverId(), change.minGeneration(), Math::max);
+            }
+        }
+
+        return QrGateSyncResponse.builder()
+                .expoId(expoId)
+                .version(expectedVersion - 1)
+                .fullSync(false)
+                .usedReserverIds(usedReserverIds)
+                .revocations(revocations)
+                .build();
+    }
+
+    // 버전을 먼저 읽어서 이후 변경분은 다음 증분 동기화에 다시 포함되도록 함 (중복 반영은 무해)
+    private QrGateSyncResponse buildFull(Long expoId, long version) {
+        Set<Long> usedReserverIds = qrGateStateRepository.findUsedReserverIds(expoId);
+        long baseId = usedReserverIds.isEmpty() ? 0L : Collections.min(usedReserverIds);
+        BitSet bitmap = new BitSet();
+        for (Long reserverId : usedReserverIds) {
+            bitmap.set(Math.toIntExact(reserverId - baseId));
+        }
+
+        return QrGateSyncResponse.builder()
+                .expoId(expoId)
+                .version(version)
+                .fullSync(true)
+                .verificationKey(Base64.getEncoder().encodeToString(qrTokenService.verificationKey(expoId)))
+                .usedBaseId(baseId)
+                .usedBitmap(Base64.getEncoder().encodeToString(bitmap.toByteArray()))
+                .usedReserverIds(List.of())
+                .revocations(qrGateStateRepository.findRevocations(expoId))
+                .build();
+    }
+
+    // 게이트 상태로 처리 (사용할 수 없으면 null)
+    private Long executeOnGate(Long expoId, LongSupplier operation) {
+        try {
+            long result = operation.getAsLong();
+            if (result == QrGateStateRepository.NOT_LOADED) {
+                if (!ensureLoaded(expoId)) {
+                    return null;
+                }
+                result = operation.getAsLong();
+            }
+            return result == QrGateStateRepository.NOT_LOADED ? null : result;
+        } catch (Exception e) {
+            log.warn("게이트 상태 조회 실패 (DB 경로로 처리) - expoId: {}, 오류: {}", expoId, e.getMessage());
+            return null;
+        }
+    }
+
+    // 다른 서버가 적재 중이면 false
+    private boolean ensureLoaded(Long expoId) {
+        if (qrGateStateRepository.isLoaded(expoId)) {
+            return true;
+        }
+        if (!qrGateStateRepository.tryLockLoad(expoId, loadLockSeconds)) {
+            return false;
+        }
+
+        try {
+            long startedAt = System.nanoTime();
+
+            // 대기 목록을 먼저 읽어서 적재 중 DB 에 반영되는 사용분이 빠지지 않도록 함
+            Set<Long> usedReserverIds = new HashSet<>();
+            for (PendingUsage usage : qrGateStateRepository.findPendingUsages()) {
+                if (usage.expoId() == expoId) {
+                    usedReserverIds.add(usage.reserverId());
+                }
+            }
+
+            Map<Long, Integer> revocations = new HashMap<>();
+            for (Object[] row : qrCodeRepository.findGateStatesByExpoId(expoId)) {
+                Long reserverId = (Long) row[0];
+                if (row[2] == QrCodeStatus.USED) {
+                    usedReserverIds.add(reserverId);
+                }
+                if (row[3] == ReservationStatus.CANCELLED) {
+                    revocations.put(reserverId, REVOKED_ALL);
+                    continue;
+                }
+                int generation = currentGeneration((String) row[1]);
+                if (generation > 0) {
+                    revocations.put(reserverId, generation);
+                }
+            }
+
+            qrGateStateRepository.load(expoId, usedReserverIds, revocations, TimeUnit.HOURS.toSeconds(stateTtlHours));
+            log.info("게이트 상태 적재 완료 - expoId: {}, 사용: {}건, 무효화: {}건, 소요: {}ms", expoId,
+                    usedReserverIds.size(), revocations.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            return true;
+        } finally {
+            qrGateStateRepository.unlockLoad(expoId);
+        }
+    }
+
+    // 현재 QR 의 토큰 세대 (기존 UUID 토큰은 0)
+    private int currentGeneration(String qrToken) {
+        try {
+            return qrTokenService.parse(qrToken).map(SignedQrToken::generation).orElse(0);
+        } catch (CustomException e) {
+            return 0;
+        }
+    }
+
+    // 입장 기간 밖이면 해당 상태 (기간 내면 null)
+    private QrCodeStatus windowStatus(SignedQrToken token) {
+        Instant now = Instant.now();
+        if (token.isBeforeWindow(now)) {
+            return QrCodeStatus.APPROVED;
+        }
+        if (token.isAfterWindow(now)) {
+            return QrCodeStatus.EXPIRED;
+        }
+        return null;
+    }
+
+    private void validateAdmin(Long expoId, Long adminId, LoginType loginType) {
+        try {
+            expoAdminAccessValidate.ensureAdmin(expoId, adminId, loginType);
+        } catch (CustomException e) {
+            throw new CustomException(CustomErrorCode.QR_UNAUTHORIZED);
+        }
+    }
+
+    private GateManifest manifest(Long expoId) {
+        return manifests.get(expoId, id -> {
+            Expo expo = expoRepository.findById(id)
+                    .orElseThrow(() -> new CustomException(CustomErrorCode.EXPO_NOT_EXIST));
+            Map<Long, String> ticketNames = new HashMap<>();
+            for (Ticket ticket : ticketRepository.findByExpoId(id)) {
+                ticketNames.put(ticket.getId(), ticket.getName());
+            }
+            return new GateManifest(expo.getTitle(), ticketNames);
+        });
+    }
+
+    private void runAfterCommit(Runnable task) {
+        Runnable safeTask = () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                // 상태 만료 후 재적재 시 DB 기준으로 반영됨
+                log.warn("게이트 상태 반영 실패 - 오류: {}", e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeTask.run();
+                }
+            });
+            return;
+        }
+        safeTask.run();
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private record ScanCandidate(int index, long reserverId, int generation, boolean checkRevoked,
+                                 String deviceId, LocalDateTime usedAt) {
+    }
+
+    // 게이트 응답용 박람회/티켓 이름
+    private record GateManifest(String expoTitle, Map<Long, String> ticketNames) {
+
+        private String ticketName(Long ticketId) {
+            return ticketNames.get(ticketId);
+        }
+    }
+}
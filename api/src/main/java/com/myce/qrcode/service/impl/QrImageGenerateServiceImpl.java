@@ -11,6 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 
 /**
  * ZXing 라이브러리를 사용한 QR 이미지 생성 서비스 구현체
@@ -37,4 +38,44 @@ public class QrImageGenerateServiceImpl implements QrImageGenerateService {
             throw new CustomException(CustomErrorCode.QR_GENERATION_FAILED);
         }
     }
+
+    @Override
+    public byte[] generateQrSvg(String token) {
+        try {
+            // 크기 0 으로 인코딩하면 모듈 1개 = 1px 인 최소 매트릭스(여백 포함)
+            BitMatrix matrix = new MultiFormatWriter()
+                    .encode(token, BarcodeFormat.QR_CODE, 0, 0);
+            int width = matrix.getWidth();
+            int height = matrix.getHeight();
+
+            StringBuilder path = new StringBuilder();
+            for (int y = 0; y < height; y++) {
+                int x = 0;
+                while (x < width) {
+                    if (!matrix.get(x, y)) {
+                        x++;
+                        continue;
+                    }
+                    // 같은 행의 연속된 모듈은 하나의 사각형으로 합침
+                    int start = x;
+                    while (x < width && matrix.get(x, y)) {
+                        x++;
+                    }
+                    int run = x - start;
+                    path.append('M').append(start).append(',').append(y)
+                            .append('h').append(run).append("v1h-").append(run).append('z');
+                }
+            }
+
+            String svg = "<svg xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"0 0 " + width + " " + height
+                    + "\" width=\"" + QR_CODE_SIZE + "\" height=\"" + QR_CODE_SIZE
+                    + "\" shape-rendering=\"crispEdges\">"
+                    + "<rect width=\"100%\" height=\"100%\" fill=\"#fff\"/>"
+                    + "<path fill=\"#000\" d=\"" + path + "\"/></svg>";
+            return svg.getBytes(StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            log.error("QR SVG 이미지 생성 실패 - token: {}", token, e);
+            throw new CustomException(CustomErrorCode.QR_GENERATION_FAILED);
+        }
+    }
 }
@@ -0,0 +1,70 @@
+package com.myce.qrcode.service.impl;
+
+import com.myce.common.exception.CustomErrorCode;
+import com.myce.common.exception.CustomException;
+import com.myce.qrcode.dto.QrImageResponse;
+import com.myce.qrcode.dto.type.QrImageFormat;
+import com.myce.qrcode.repository.QrCodeRepository;
+import com.myce.qrcode.service.QrImageGenerateService;
+import com.myce.qrcode.service.QrImageRenderService;
+import jakarta.annotation.PostConstruct;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * QR 이미지 요청 시 렌더링 서비스 구현체
+ * - 토큰이 같으면 이미지도 같으므로 렌더링 결과를 LRU 캐시에 보관
+ * - 캐시 미스일 때만 토큰 존재 여부를 DB 에서 확인
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QrImageRenderServiceImpl implements QrImageRenderService {
+
+    private final QrCodeRepository qrCodeRepository;
+    private final QrImageGenerateService qrImageGenerateService;
+
+    @Value("${qr-image.cache-size:5000}")
+    private int cacheSize;
+
+    private Map<String, QrImageResponse> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, QrImageResponse> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    @Override
+    public QrImageResponse render(String token, String extension) {
+        QrImageFormat format = QrImageFormat.fromExtension(extension);
+        String cacheKey = format.getExtension() + ":" + token;
+
+        QrImageResponse cached = cache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        if (!qrCodeRepository.existsByQrToken(token)) {
+            throw new CustomException(CustomErrorCode.QR_NOT_FOUND);
+        }
+
+        byte[] image = format == QrImageFormat.SVG
+                ? qrImageGenerateService.generateQrSvg(token)
+                : qrImageGenerateService.generateQrImage(token);
+        QrImageResponse response = new QrImageResponse(image, format.getContentType());
+
+        cache.put(cacheKey, response);
+        log.debug("QR 이미지 렌더링 - 형식: {}, 크기: {} bytes", format, image.length);
+        return response;
+    }
+}
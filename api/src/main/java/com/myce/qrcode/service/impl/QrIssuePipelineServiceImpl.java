@@ -0,0 +1,284 @@
+package com.myce.qrcode.service.impl;
+
+import com.myce.client.notification.dto.NotificationBatchResult;
+import com.myce.client.notification.dto.NotificationCommand;
+import com.myce.client.notification.service.NotificationBatchGateway;
+import com.myce.client.notification.service.NotificationBatcher;
+import com.myce.common.service.S3Service;
+import com.myce.expo.entity.Expo;
+import com.myce.qrcode.dto.QrIssueResult;
+import com.myce.qrcode.entity.QrCode;
+import com.myce.qrcode.repository.QrCodeRepository;
+import com.myce.qrcode.repository.QrIssueCheckpointRepository;
+import com.myce.qrcode.service.QrCodeGenerateService;
+import com.myce.qrcode.service.QrImageGenerateService;
+import com.myce.qrcode.service.QrIssuePipelineService;
+import com.myce.reservation.entity.Reservation;
+import com.myce.reservation.entity.Reserver;
+import com.myce.reservation.repository.ReservationRepository;
+import com.myce.reservation.repository.ReserverRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * QR 코드 일괄 발급 파이프라인 구현체
+ * - 렌더링 풀(CPU)과 업로드 풀(S3 동시 요청 수 제한)을 분리
+ * - 워커 스레드는 토큰/이미지만 다루고, 엔티티 접근과 저장은 호출 스레드에서 처리
+ * - 청크 단위로 조회/저장하여 긴 트랜잭션 없이 진행하고, 청크 저장이 커밋된 뒤 체크포인트 기록
+ * - 렌더링/업로드에 실패한 예약자가 있으면 커서를 첫 실패 예약자 앞에 두고 진행 중 표시를 남겨
+ *   다음 실행에서 재시도 (이미 발급된 예약자는 청크마다 확인해 건너뛰므로 재실행해도 중복 발급 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QrIssuePipelineServiceImpl implements QrIssuePipelineService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final ReserverRepository reserverRepository;
+    private final ReservationRepository reservationRepository;
+    private final QrCodeRepository qrCodeRepository;
+    private final QrIssueCheckpointRepository qrIssueCheckpointRepository;
+    private final QrImageGenerateService qrImageGenerateService;
+    private final QrCodeGenerateService qrCodeGenerateService;
+    private final S3Service s3Service;
+    private final NotificationBatchGateway notificationBatchGateway;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${qr-image.pre-upload:false}")
+    private boolean preUpload;
+
+    @Value("${qr-issue.render-threads:4}")
+    private int renderThreads;
+
+    @Value("${qr-issue.upload-concurrency:16}")
+    private int uploadConcurrency;
+
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService renderExecutor;
+    private ExecutorService uploadExecutor;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        renderExecutor = Executors.newFixedThreadPool(renderThreads,
+                Thread.ofPlatform().name("qr-render-", 0).daemon(true).factory());
+        uploadExecutor = Executors.newFixedThreadPool(uploadConcurrency,
+                Thread.ofPlatform().name("qr-upload-", 0).daemon(true).factory());
+        log.info("QR 일괄 발급 파이프라인 초기화 - 렌더링 스레드: {}, 업로드 동시성: {}", renderThreads, uploadConcurrency);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        renderExecutor.shutdown();
+        uploadExecutor.shutdown();
+        renderExecutor.awaitTermination(30, TimeUnit.SECONDS);
+        uploadExecutor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public QrIssueResult issue(List<Reserver> reservers) {
+        if (reservers.isEmpty()) {
+            return new QrIssueResult(0, 0, 0, Set.of(), Set.of());
+        }
+        return issueChunk(reservers, new StageMetrics());
+    }
+
+    @Override
+    public QrIssueResult issueForExpo(Expo expo) {
+        Long expoId = expo.getId();
+        long lastReserverId = qrIssueCheckpointRepository.findLastReserverId(expoId);
+        if (lastReserverId > 0) {
+            log.info("중단된 QR코드 발급 재개 - 박람회: {}, 마지막 처리 예약자 ID: {}", expo.getTitle(), lastReserverId);
+        }
+
+        StageMetrics metrics = new StageMetrics();
+        long startedAt = System.nanoTime();
+        int successCount = 0;
+        int failCount = 0;
+        int skippedCount = 0;
+        // 실패한 예약자가 생기면 커서를 그 앞에 고정 (중단 후 재개해도 실패한 예약자부터 다시 진행)
+        long retryCursor = -1;
+
+        while (true) {
+            List<Reserver> reservers = reserverRepository.findReserversByExpoAfter(
+                    expoId, lastReserverId, PageRequest.of(0, CHUNK_SIZE));
+            if (reservers.isEmpty()) {
+                break;
+            }
+
+            QrIssueResult chunk = issueChunk(reservers, metrics);
+            lastReserverId = reservers.get(reservers.size() - 1).getId();
+            if (retryCursor < 0 && !chunk.getFailedReserverIds().isEmpty()) {
+                retryCursor = Collections.min(chunk.getFailedReserverIds()) - 1;
+            }
+            qrIssueCheckpointRepository.saveProgress(expoId, retryCursor >= 0 ? retryCursor : lastReserverId,
+                    chunk.getIssuedReservationIds());
+
+            successCount += chunk.getSuccessCount();
+            failCount += chunk.getFailCount();
+            skippedCount += chunk.getSkippedCount();
+            log.info("QR코드 발급 진행 - 박람회: {}, 누적 성공: {} 명, 실패: {} 명, 기발급: {} 명",
+                    expo.getTitle(), successCount, failCount, skippedCount);
+
+            if (reservers.size() < CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        int notificationCount = sendPendingNotifications(expo);
+        if (retryCursor >= 0) {
+            // 실패한 예약자부터 다음 실행에서 재시도 (진행 중 표시와 커서 유지, 기발급 예약자는 건너뜀)
+            log.warn("QR코드 발급 실패 예약자 재시도 예정 - 박람회: {}, 실패: {} 명", expo.getTitle(), failCount);
+        } else if (qrIssueCheckpointRepository.findPendingNotifications(expoId).isEmpty()) {
+            qrIssueCheckpointRepository.clear(expoId);
+        } else {
+            // 전송 실패한 알림은 대기 목록에 남겨 다음 실행에서 재전송 (발급은 기발급 확인으로 건너뜀)
+            qrIssueCheckpointRepository.clearCursor(expoId);
+        }
+
+        log.info("QR코드 발급 단계별 처리량 - 박람회: {}, 전체 {}ms, {}",
+                expo.getTitle(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt),
+                metrics.summary(renderThreads, uploadConcurrency));
+        log.info("박람회 QR코드 생성 완료 - 박람회: {}, 성공: {} 명, 실패: {} 명, 기발급: {} 명, 알림 전송: {} 건",
+                expo.getTitle(), successCount, failCount, skippedCount, notificationCount);
+
+        return new QrIssueResult(successCount, failCount, skippedCount, Set.of(), Set.of());
+    }
+
+    private QrIssueResult issueChunk(List<Reserver> reservers, StageMetrics metrics) {
+        Set<Long> issuedReserverIds = new HashSet<>(
+                qrCodeRepository.findIssuedReserverIds(reservers.stream().map(Reserver::getId).toList()));
+
+        // 1단계: 렌더링 -> 업로드 비동기 실행 (사전 업로드 미사용 시 조회 URL 만 생성)
+        List<PendingQr> pendings = new ArrayList<>();
+        for (Reserver reserver : reservers) {
+            if (issuedReserverIds.contains(reserver.getId())) {
+                continue;
+            }
+            String token = qrCodeGenerateService.generateToken(reserver, 0);
+            if (!preUpload) {
+                pendings.add(new PendingQr(reserver, token,
+                        CompletableFuture.completedFuture(qrCodeGenerateService.resolveImageUrl(token))));
+                continue;
+            }
+            CompletableFuture<String> imageUrl = CompletableFuture
+                    .supplyAsync(() -> metrics.render.record(
+                            () -> qrImageGenerateService.generateQrImage(token)), renderExecutor)
+                    .thenApplyAsync(image -> metrics.upload.record(
+                            () -> s3Service.uploadQrImage(image, token)), uploadExecutor);
+            pendings.add(new PendingQr(reserver, token, imageUrl));
+        }
+
+        // 2단계: 업로드 완료분으로 엔티티 생성
+        List<QrCode> qrCodes = new ArrayList<>();
+        Set<Long> issuedReservationIds = new HashSet<>();
+        Set<Long> failedReserverIds = new HashSet<>();
+        for (PendingQr pending : pendings) {
+            try {
+                String imageUrl = pending.imageUrl().join();
+                qrCodes.add(qrCodeGenerateService.buildQrCode(pending.reserver(), pending.token(), imageUrl));
+                issuedReservationIds.add(pending.reserver().getReservation().getId());
+            } catch (CompletionException e) {
+                log.error("QR코드 생성 실패 - 예약자 ID: {}, 오류: {}",
+                        pending.reserver().getId(), e.getCause().getMessage());
+                failedReserverIds.add(pending.reserver().getId());
+            }
+        }
+
+        // 3단계: JDBC 배치 저장 (청크 단위 트랜잭션 - 일부만 저장된 채 커서가 넘어가지 않도록)
+        metrics.insert.record(() -> transactionTemplate.execute(status -> qrCodeRepository.bulkInsert(qrCodes)),
+                qrCodes.size());
+
+        return new QrIssueResult(qrCodes.size(), failedReserverIds.size(),
+                reservers.size() - pendings.size(), issuedReservationIds, failedReserverIds);
+    }
+
+    private int sendPendingNotifications(Expo expo) {
+        Set<Long> reservationIds = qrIssueCheckpointRepository.findPendingNotifications(expo.getId());
+        if (reservationIds.isEmpty()) {
+            return 0;
+        }
+
+        // 예약별 알림을 bulk API 로 모아서 전송하고, 전송된 예약만 대기 목록에서 제거
+        NotificationBatchResult result;
+        try (NotificationBatcher batcher = notificationBatchGateway.open("qr-issued:" + expo.getId())) {
+            for (Reservation reservation : reservationRepository.findAllById(reservationIds)) {
+                batcher.add(NotificationCommand.qrIssued(
+                        reservation.getUserId(), reservation.getId(), expo.getTitle(), false));
+            }
+            result = batcher.finish();
+        }
+
+        for (String reservationId : result.succeededKeys()) {
+            qrIssueCheckpointRepository.removePendingNotification(expo.getId(), Long.valueOf(reservationId));
+        }
+        if (result.hasFailures()) {
+            log.error("QR 발급 알림 일부 전송 실패 (다음 실행에서 재시도) - 박람회 ID: {}, 실패: {}건",
+                    expo.getId(), result.failedCommandCount());
+        }
+        return result.succeededKeys().size();
+    }
+
+    private record PendingQr(Reserver reserver, String token, CompletableFuture<String> imageUrl) {
+    }
+
+    // 단계별 처리 건수와 누적 소요 시간
+    private static class StageMetrics {
+        private final Stage render = new Stage();
+        private final Stage upload = new Stage();
+        private final Stage insert = new Stage();
+
+        private String summary(int renderThreads, int uploadConcurrency) {
+            return String.format("렌더링: %s, 업로드: %s, 저장: %s",
+                    render.summary(renderThreads), upload.summary(uploadConcurrency), insert.summary(1));
+        }
+    }
+
+    private static class Stage {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private <T> T record(Supplier<T> task) {
+            return record(task, 1);
+        }
+
+        private <T> T record(Supplier<T> task, int items) {
+            long start = System.nanoTime();
+            T result = task.get();
+            nanos.add(System.nanoTime() - start);
+            count.add(items);
+            return result;
+        }
+
+        // 병렬도를 고려한 초당 처리 건수
+        private String summary(int parallelism) {
+            long total = count.sum();
+            long elapsed = nanos.sum();
+            if (total == 0 || elapsed == 0) {
+                return "0건";
+            }
+            double perSecond = total * parallelism / (elapsed / 1_000_000_000.0);
+            return String.format("%d건 (평균 %.1fms, %.1f건/s)", total, elapsed / 1_000_000.0 / total, perSecond);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.myce.qrcode.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.myce.common.exception.CustomErrorCode;
+import com.myce.common.exception.CustomException;
+import com.myce.qrcode.dto.SignedQrToken;
+import com.myce.qrcode.service.QrTokenService;
+import jakarta.annotation.PostConstruct;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 서명 QR 토큰 서비스 구현체
+ * - 형식: version(1) expoId(8) reserverId(8) ticketId(8) generation(2) notBefore(4) notAfter(4) + HMAC-SHA256 앞 16바이트
+ * - base64url 로 인코딩하여 68자 (QR 버전이 커지지 않도록 바이너리로 압축)
+ * - 서명 키는 마스터 키에서 박람회별로 파생하여 게이트 단말에는 해당 박람회 키만 내려줌
+ * - 파생 키 캐시는 크기를 제한하고, 검증 경로에서는 서명이 확인된 박람회만 캐시에 넣음
+ *   (토큰의 expoId 는 서명 확인 전까지 임의 값일 수 있음)
+ */
+@Slf4j
+@Service
+public class QrTokenServiceImpl implements QrTokenService {
+
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final byte TOKEN_VERSION = 1;
+    private static final int CLAIMS_LENGTH = 1 + 8 + 8 + 8 + 2 + 4 + 4;
+    private static final int MAC_LENGTH = 16;
+    private static final int TOKEN_LENGTH = CLAIMS_LENGTH + MAC_LENGTH;
+    private static final int MAX_GENERATION = 0xFFFF;
+    private static final int EXPO_KEY_CACHE_SIZE = 1_000;
+    private static final Pattern LEGACY_TOKEN_PATTERN =
+            Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    @Value("${qr-token.secret}")
+    private String secret;
+
+    private final Cache<Long, byte[]> expoKeys = Caffeine.newBuilder()
+            .maximumSize(EXPO_KEY_CACHE_SIZE)
+            .build();
+    private SecretKeySpec masterKey;
+
+    @PostConstruct
+    public void init() {
+        masterKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), MAC_ALGORITHM);
+    }
+
+    @Override
+    public String issue(SignedQrToken token) {
+        if (token.generation() < 0 || token.generation() > MAX_GENERATION) {
+            throw new IllegalArgumentException("QR 토큰 세대 범위 초과: " + token.generation());
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(TOKEN_LENGTH);
+        buffer.put(TOKEN_VERSION)
+                .putLong(token.expoId())
+                .putLong(token.reserverId())
+                .putLong(token.ticketId())
+                .putShort((short) token.generation())
+                .putInt((int) token.notBefore().getEpochSecond())
+                .putInt((int) token.notAfter().getEpochSecond());
+        byte[] mac = sign(token.expoId(), buffer.array(), CLAIMS_LENGTH);
+        buffer.put(mac, 0, MAC_LENGTH);
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    @Override
+    public Optional<SignedQrToken> parse(String token) {
+        if (token == null || LEGACY_TOKEN_PATTERN.matcher(token).matches()) {
+            return Optional.empty();
+        }
+
+        byte[] bytes;
+        try {
+            bytes = DECODER.decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(CustomErrorCode.QR_INVALID_TOKEN);
+        }
+        if (bytes.length != TOKEN_LENGTH || bytes[0] != TOKEN_VERSION) {
+            throw new CustomException(CustomErrorCode.QR_INVALID_TOKEN);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.get();
+        long expoId = buffer.getLong();
+        long reserverId = buffer.getLong();
+        long ticketId = buffer.getLong();
+        int generation = Short.toUnsignedInt(buffer.getShort());
+        long notBefore = Integer.toUnsignedLong(buffer.getInt());
+        long notAfter = Integer.toUnsignedLong(buffer.getInt());
+
+        byte[] cachedKey = expoKeys.getIfPresent(expoId);
+        byte[] expoKey = cachedKey != null ? cachedKey : deriveExpoKey(expoId);
+        byte[] expected = Arrays.copyOf(hmac(new SecretKeySpec(expoKey, MAC_ALGORITHM), bytes, CLAIMS_LENGTH),
+                MAC_LENGTH);
+        byte[] actual = Arrays.copyOfRange(bytes, CLAIMS_LENGTH, TOKEN_LENGTH);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            log.warn("QR 토큰 서명 불일치 - expoId: {}, reserverId: {}", expoId, reserverId);
+            throw new CustomException(CustomErrorCode.QR_INVALID_TOKEN);
+        }
+        if (cachedKey == null) {
+            expoKeys.put(expoId, expoKey);
+        }
+
+        return Optional.of(new SignedQrToken(expoId, reserverId, ticketId, generation,
+                Instant.ofEpochSecond(notBefore), Instant.ofEpochSecond(notAfter)));
+    }
+
+    @Override
+    public byte[] verificationKey(Long expoId) {
+        return expoKey(expoId).clone();
+    }
+
+    private byte[] sign(Long expoId, byte[] data, int length) {
+        return hmac(new SecretKeySpec(expoKey(expoId), MAC_ALGORITHM), data, length);
+    }
+
+    private byte[] expoKey(Long expoId) {
+        return expoKeys.get(expoId, this::deriveExpoKey);
+    }
+
+    // 박람회별 서명 키 = HMAC(마스터 키, 박람회 ID)
+    private byte[] deriveExpoKey(Long expoId) {
+        byte[] label = ("qr-gate:expo:" + expoId).getBytes(StandardCharsets.UTF_8);
+        return hmac(masterKey, label, label.length);
+    }
+
+    private byte[] hmac(SecretKeySpec key, byte[] data, int length) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(key);
+            mac.update(data, 0, length);
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("QR 토큰 서명 실패", e);
+        }
+    }
+}
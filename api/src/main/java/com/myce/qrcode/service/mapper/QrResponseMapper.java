@@ -30,6 +30,13 @@ public class QrResponseMapper {
         }
     }
 
+    /**
+     * 게이트 상태로 사용 처리된 경우의 성공 응답
+     */
+    public QrUseResponse toUseSuccessResponse(String ticketName) {
+        return QrUseResponse.success(SUCCESS_MESSAGE, ticketName);
+    }
+
     /**
      * QR 사용 응답 생성 (기존 호환성 유지)
      */
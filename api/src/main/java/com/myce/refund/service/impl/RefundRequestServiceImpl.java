@@ -2,7 +2,6 @@ package com.myce.refund.service.impl;
 
 import com.myce.client.payment.service.RefundInternalService;
 import com.myce.expo.entity.Expo;
-import com.myce.expo.entity.Ticket;
 import com.myce.expo.entity.type.ExpoStatus;
 import com.myce.expo.repository.ExpoRepository;
 import com.myce.common.exception.CustomException;
@@ -24,7 +23,7 @@ import com.myce.refund.dto.RefundRequestDto;
 import com.myce.refund.dto.ReservationRefundCalculation;
 import com.myce.refund.service.RefundRequestService;
 import com.myce.refund.service.ReservationRefundCalculationService;
-import com.myce.expo.repository.TicketRepository;
+import com.myce.expo.service.info.ExpoTicketService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -46,7 +45,7 @@ public class RefundRequestServiceImpl implements RefundRequestService {
     private final ReservationRefundCalculationService refundCalculationService;
     private final MemberMileageService memberMileageService;
     private final ReservationPaymentInfoRepository reservationPaymentInfoRepository;
-    private final TicketRepository ticketRepository;
+    private final ExpoTicketService expoTicketService;
 
 
     private final NotificationService notificationService;
@@ -138,10 +137,8 @@ public class RefundRequestServiceImpl implements RefundRequestService {
 
         memberMileageService.revertMileageForReservationRefund(memberId, mileageRequest);
         
-        // 10. 티켓 수량 복원
-        Ticket ticket = reservation.getTicket();
-        ticket.restoreQuantity(reservation.getQuantity());
-        ticketRepository.save(ticket);
+        // 10. 티켓 수량 복원 (DB 와 재고 카운터를 함께 복원)
+        expoTicketService.restoreTicketQuantity(reservation.getTicket().getId(), reservation.getQuantity());
         
         // 11. 예매 상태 변경
         reservation.updateStatus(ReservationStatus.CANCELLED);
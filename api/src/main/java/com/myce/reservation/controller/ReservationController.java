@@ -11,6 +11,8 @@ import com.myce.reservation.dto.ReserverBulkUpdateRequest;
 import com.myce.reservation.dto.GuestReservationRequest;
 import com.myce.reservation.service.ReservationService;
 import com.myce.reservation.service.ReservationGuestService;
+import com.myce.reservation.service.WaitingRoomService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -25,6 +27,7 @@ public class ReservationController {
     
     private final ReservationService reservationService;
     private final ReservationGuestService reservationGuestService;
+    private final WaitingRoomService waitingRoomService;
 
     @GetMapping("/{reservationId}")
     public ResponseEntity<ReservationDetailResponse> getReservationDetail(
@@ -77,9 +80,23 @@ public class ReservationController {
 
     @PostMapping("/pre-reservation")
     public ResponseEntity<PreReservationResponse> savePreReservation(
-        @Valid @RequestBody PreReservationRequest request
+        @Valid @RequestBody PreReservationRequest request,
+        @RequestHeader(value = "X-Waiting-Token", required = false) String waitingToken,
+        @AuthenticationPrincipal CustomUserDetails currentUser,
+        HttpServletRequest httpRequest
     ){
-        return ResponseEntity.status(HttpStatus.CREATED).body(reservationService.savePreReservation(request));
+        // 대기열이 열린 박람회는 입장 처리된 본인 토큰만 통과 (DB 커넥션 사용 전 차단, 성공 시 토큰 소멸)
+        Long memberId = currentUser != null ? currentUser.getMemberId() : null;
+        PreReservationResponse response = waitingRoomService.runWithAdmission(request.getExpoId(), waitingToken,
+                memberId, httpRequest.getRemoteAddr(), () -> reservationService.savePreReservation(request));
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    // 결제 창 이탈 등으로 사전 예약을 취소하는 경우 선점한 재고 반환
+    @DeleteMapping("/pre-reservation/{sessionId}")
+    public ResponseEntity<Void> cancelPreReservation(@PathVariable String sessionId){
+        reservationService.cancelPreReservation(sessionId);
+        return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/payment-summary")
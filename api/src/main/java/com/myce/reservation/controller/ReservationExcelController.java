@@ -2,13 +2,17 @@ package com.myce.reservation.controller;
 
 import com.myce.auth.dto.CustomUserDetails;
 import com.myce.auth.dto.type.LoginType;
+import com.myce.common.dto.ExportJobResponse;
+import com.myce.common.export.ExportFormat;
 import com.myce.reservation.service.ReservationExcelService;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.io.IOException;
@@ -19,24 +23,41 @@ import java.io.IOException;
 public class ReservationExcelController {
 
     private final ReservationExcelService service;
-    private final String EXCEL_FILE_NAME = "예약자_명단_xlsx";
+    private final String EXCEL_FILE_NAME = "예약자_명단";
 
     @GetMapping
     public void downloadMyReservationExcelFile (
             @PathVariable Long expoId,
+            @RequestParam(required = false) String format,
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
             HttpServletResponse httpResponse) throws IOException {
 
         Long memberId = customUserDetails.getMemberId();
         LoginType loginType = customUserDetails.getLoginType();
+        ExportFormat exportFormat = ExportFormat.fromValue(format);
 
-        httpResponse.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
-        httpResponse.setHeader("Content-Disposition", "attachment; filename=\"" + EXCEL_FILE_NAME + "\"");
+        httpResponse.setContentType(exportFormat.getContentType());
+        httpResponse.setHeader("Content-Disposition", exportFormat.contentDisposition(EXCEL_FILE_NAME));
 
         service.downloadMyReservationExcelFile(
                 expoId,
                 memberId,
                 loginType,
+                exportFormat,
                 httpResponse.getOutputStream());
     }
+
+    // 대량 명단은 백그라운드로 생성 후 /api/exports/{jobId} 로 진행 상태 확인 및 다운로드
+    @PostMapping("/jobs")
+    public ExportJobResponse requestMyReservationExport(
+            @PathVariable Long expoId,
+            @RequestParam(required = false) String format,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+
+        return service.requestMyReservationExport(
+                expoId,
+                customUserDetails.getMemberId(),
+                customUserDetails.getLoginType(),
+                ExportFormat.fromValue(format));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.myce.reservation.controller;
+
+import com.myce.auth.dto.CustomUserDetails;
+import com.myce.reservation.dto.WaitingRoomResponse;
+import com.myce.reservation.service.WaitingRoomService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/reservations/waiting-room")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    // 대기열 진입 (대기열이 열려 있지 않으면 바로 ADMITTED)
+    @PostMapping("/{expoId}")
+    public ResponseEntity<WaitingRoomResponse> enter(
+            @PathVariable Long expoId,
+            @AuthenticationPrincipal CustomUserDetails currentUser,
+            HttpServletRequest request) {
+        Long memberId = currentUser != null ? currentUser.getMemberId() : null;
+        return ResponseEntity.ok(waitingRoomService.enter(expoId, memberId, request.getRemoteAddr()));
+    }
+
+    // 대기 순번 폴링
+    @GetMapping("/{expoId}")
+    public ResponseEntity<WaitingRoomResponse> getStatus(
+            @PathVariable Long expoId,
+            @RequestParam String token) {
+        return ResponseEntity.ok(waitingRoomService.getStatus(expoId, token));
+    }
+}
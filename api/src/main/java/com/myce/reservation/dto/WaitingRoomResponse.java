@@ -0,0 +1,19 @@
+package com.myce.reservation.dto;
+
+import com.myce.reservation.dto.type.WaitingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WaitingRoomResponse {
+  private String token;
+  private WaitingStatus status;
+  private Long position;           // 남은 대기 순번 (입장 시 0)
+  private Long waitingCount;       // 전체 대기 인원
+  private Long estimatedWaitSeconds;
+}
@@ -0,0 +1,8 @@
+package com.myce.reservation.dto.type;
+
+public enum WaitingStatus {
+    // 대기 중
+    WAITING,
+    // 입장 완료 (사전 예약 가능)
+    ADMITTED
+}
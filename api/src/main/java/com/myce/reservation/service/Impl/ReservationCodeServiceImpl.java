@@ -2,16 +2,28 @@ package com.myce.reservation.service.Impl;
 
 import com.myce.common.exception.CustomErrorCode;
 import com.myce.common.exception.CustomException;
-import com.myce.reservation.repository.ReservationRepository;
+import com.myce.reservation.repository.ReservationCodeSequenceRepository;
 import com.myce.reservation.service.ReservationCodeService;
-import jakarta.transaction.Transactional;
-import java.security.SecureRandom;
+import jakarta.annotation.PostConstruct;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+/**
+ * DB 조회 없이 중복 없는 예매 코드 생성
+ * - 날짜별 시퀀스를 Redis INCRBY 로 블록 단위 할당받아 노드 메모리에서 소진
+ * - 시퀀스를 비밀 키 기반 Feistel 순열(HMAC-SHA256 라운드 함수)로 Base36 6자리 공간에서 일대일 변환
+ *   키를 모르면 발급된 코드로 다른 코드를 추측할 수 없음
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReservationCodeServiceImpl implements ReservationCodeService {
@@ -19,33 +31,100 @@ public class ReservationCodeServiceImpl implements ReservationCodeService {
   private static final ZoneId ZONE_SEOUL = ZoneId.of("Asia/Seoul");
   private static final DateTimeFormatter DATE_FMT = DateTimeFormatter.ofPattern("yyyyMMdd");
   private static final char[] ALPHANUM_BASE36 = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
-  private static final int RANDOM_LEN = 6; // 충돌 확률/가독성 균형
+  private static final int CODE_LEN = 6; // 충돌 확률/가독성 균형
+  private static final long CODE_SPACE = 2_176_782_336L; // 36^6
+  // 코드 공간을 36^3 x 36^3 두 절반으로 나눠 Feistel 라운드 적용 (모듈러 덧셈이라 항상 일대일 대응)
+  private static final int HALF_SPACE = 46_656; // 36^3
+  private static final int FEISTEL_ROUNDS = 10;
+  private static final String MAC_ALGORITHM = "HmacSHA256";
+  private static final int BLOCK_SIZE = 100;
 
-  private final ReservationRepository reservationRepository;
-  private final SecureRandom random = new SecureRandom();
+  private final ReservationCodeSequenceRepository reservationCodeSequenceRepository;
+
+  @Value("${reservation-code.secret}")
+  private String secret;
+
+  private SecretKeySpec permutationKey;
+
+  private String blockDate;
+  private long nextSequence;
+  private long blockEnd;
+
+  @PostConstruct
+  public void init() {
+    permutationKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), MAC_ALGORITHM);
+  }
 
   @Override
-  @Transactional
   public String generate(Long expoId) {
     if (expoId == null) throw new CustomException(CustomErrorCode.RESERVATION_CODE_INVALID_INPUT);
 
     String datePart = LocalDate.now(ZONE_SEOUL).format(DATE_FMT);
-    String prefix = "RES" + String.format("%03d", expoId) + "-" + datePart + "-";
-
-    // 중복 방지를 위해 여러 번 시도
-    for (int attempt = 0; attempt < 10; attempt++) {
-      String candidate = prefix + randomBase36(RANDOM_LEN);
-      if (!reservationRepository.existsByReservationCode(candidate)) {
-        return candidate; // 현재 시점 기준 미사용 코드
-      }
+    long sequence = nextSequence(datePart);
+
+    return "RES" + String.format("%03d", expoId) + "-" + datePart + "-" + encode(permute(sequence, datePart));
+  }
+
+  private synchronized long nextSequence(String datePart) {
+    if (!datePart.equals(blockDate) || nextSequence > blockEnd) {
+      allocateBlock(datePart);
+    }
+    return nextSequence++;
+  }
+
+  private void allocateBlock(String datePart) {
+    long allocatedEnd;
+    try {
+      allocatedEnd = reservationCodeSequenceRepository.allocateBlock(datePart, BLOCK_SIZE);
+    } catch (Exception e) {
+      log.error("예매 코드 시퀀스 블록 할당 실패 - date: {}", datePart, e);
+      throw new CustomException(CustomErrorCode.RESERVATION_CODE_GENERATION_FAILED);
     }
-    throw new CustomException(CustomErrorCode.RESERVATION_CODE_GENERATION_FAILED);
+
+    // 하루 시퀀스가 코드 공간을 넘으면 중복이 생기므로 생성 중단
+    if (allocatedEnd > CODE_SPACE) {
+      throw new CustomException(CustomErrorCode.RESERVATION_CODE_GENERATION_FAILED);
+    }
+
+    blockDate = datePart;
+    nextSequence = allocatedEnd - BLOCK_SIZE + 1;
+    blockEnd = allocatedEnd;
+  }
+
+  // 날짜를 tweak 으로 사용해 같은 시퀀스라도 날짜마다 다른 코드가 나오도록 함
+  long permute(long sequence, String datePart) {
+    Mac mac;
+    try {
+      mac = Mac.getInstance(MAC_ALGORITHM);
+      mac.init(permutationKey);
+    } catch (Exception e) {
+      log.error("예매 코드 순열 키 초기화 실패", e);
+      throw new CustomException(CustomErrorCode.RESERVATION_CODE_GENERATION_FAILED);
+    }
+    byte[] tweak = datePart.getBytes(StandardCharsets.UTF_8);
+
+    int left = (int) (sequence / HALF_SPACE);
+    int right = (int) (sequence % HALF_SPACE);
+    for (int round = 0; round < FEISTEL_ROUNDS; round++) {
+      int next = Math.floorMod(left + roundValue(mac, tweak, round, right), HALF_SPACE);
+      left = right;
+      right = next;
+    }
+    return (long) left * HALF_SPACE + right;
+  }
+
+  private int roundValue(Mac mac, byte[] tweak, int round, int half) {
+    mac.update(tweak);
+    mac.update(ByteBuffer.allocate(8).putInt(round).putInt(half).array());
+    byte[] digest = mac.doFinal();
+    return Math.floorMod(ByteBuffer.wrap(digest).getInt(), HALF_SPACE);
   }
 
-  private String randomBase36(int len) {
-    char[] buf = new char[len];
-    for (int i = 0; i < len; i++) {
-      buf[i] = ALPHANUM_BASE36[random.nextInt(ALPHANUM_BASE36.length)];
+  private String encode(long value) {
+    char[] buf = new char[CODE_LEN];
+    for (int i = CODE_LEN - 1; i >= 0; i--) {
+      buf[i] = ALPHANUM_BASE36[(int) (value % ALPHANUM_BASE36.length)];
+      value /= ALPHANUM_BASE36.length;
     }
     return new String(buf);
   }
@@ -7,6 +7,7 @@ import com.myce.common.exception.CustomException;
 import com.myce.expo.entity.Ticket;
 import com.myce.expo.repository.ExpoRepository;
 import com.myce.expo.repository.TicketRepository;
+import com.myce.expo.service.info.TicketInventoryService;
 import com.myce.member.entity.Guest;
 import com.myce.member.entity.Member;
 import com.myce.member.entity.MemberGrade;
@@ -56,6 +57,7 @@ public class ReservationServiceImpl implements ReservationService {
 
     private static final DateTimeFormatter DATE_TIME_FORMATTER =
             DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 HH시 mm분 ss초");
+    private static final int PRE_RESERVATION_LIMIT_MINUTES = 10;
     
     private final ReservationRepository reservationRepository;
     private final ReserverRepository reserverRepository;
@@ -70,6 +72,7 @@ public class ReservationServiceImpl implements ReservationService {
     private final PreReservationRepository preReservationRepository;
     private final QrCodeService qrCodeService;
     private final PaymentInternalService paymentInternalService;
+    private final TicketInventoryService ticketInventoryService;
 
     @Override
     public ReservationDetailResponse getReservationDetail(Long reservationId, CustomUserDetails currentUser) {
@@ -161,6 +164,15 @@ public class ReservationServiceImpl implements ReservationService {
         }
     }
 
+    @Transactional
+    @Override
+    public void updateStatusOnlyToConfirm(Long reservationId) {
+        Reservation reservation = reservationRepository.findById(reservationId)
+            .orElseThrow(() -> new CustomException(CustomErrorCode.RESERVATION_NOT_FOUND));
+
+        reservation.updateStatus(ReservationStatus.CONFIRMED);
+    }
+
     @Override
     public ReservationSuccessResponse getReservationCodeAndEmail(Long reservationId) {
         Reservation reservation = reservationRepository.findById(reservationId)
@@ -191,12 +203,15 @@ public class ReservationServiceImpl implements ReservationService {
         Long ticketId = request.getTicketId();
         if(!ticketRepository.existsById(ticketId)) throw new CustomException(CustomErrorCode.TICKET_NOT_EXIST);
 
+        // 재고 선점 (예매 코드 단위, 세션과 동일한 TTL)
+        ticketInventoryService.claim(ticketId, reservationCode, request.getQuantity(), PRE_RESERVATION_LIMIT_MINUTES);
+
         // Redis 캐시용 DTO 생성
         PreReservationCacheDto cacheDto = getPreReservation(request, expoId, ticketId, reservationCode);
 
         // DB에는 저장하지 않고 Redis에만 10분 TTL로 저장 (모든 예매가 고유한 세션 ID 사용)
         try {
-            String sessionId = preReservationRepository.saveWithUniqueKey(cacheDto, 10);
+            String sessionId = preReservationRepository.saveWithUniqueKey(cacheDto, PRE_RESERVATION_LIMIT_MINUTES);
             log.info("결제 세션 Redis 저장 완료 ({}) - 세션 ID: {}, reservationCode: {}",
                     request.getUserType().name(), sessionId, reservationCode);
             
@@ -204,10 +219,24 @@ public class ReservationServiceImpl implements ReservationService {
             return new PreReservationResponse(0L, sessionId);
         } catch (Exception e) {
             log.error("결제 세션 Redis 저장 실패 - reservationCode: {}", reservationCode, e);
+            ticketInventoryService.release(ticketId, reservationCode);
             throw new CustomException(CustomErrorCode.RESERVATION_CODE_GENERATION_FAILED);
         }
     }
 
+    @Override
+    public void cancelPreReservation(String sessionId) {
+        PreReservationCacheDto cachedDto = preReservationRepository.findBySessionId(sessionId);
+        if (cachedDto == null) {
+            // 이미 만료된 세션 (선점은 만료 스케줄러가 해제)
+            return;
+        }
+
+        ticketInventoryService.release(cachedDto.getTicketId(), cachedDto.getReservationCode());
+        preReservationRepository.deleteBySessionId(sessionId);
+        log.info("결제 세션 취소 - 세션 ID: {}, reservationCode: {}", sessionId, cachedDto.getReservationCode());
+    }
+
     private PreReservationCacheDto getPreReservation(
             PreReservationRequest request, Long expoId, Long ticketId, String reservationCode) {
         return PreReservationCacheDto.builder()
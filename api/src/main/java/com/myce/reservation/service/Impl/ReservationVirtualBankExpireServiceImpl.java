@@ -1,21 +1,34 @@
 package com.myce.reservation.service.Impl;
 
-import com.myce.expo.service.info.ExpoTicketService;
-import com.myce.payment.entity.ReservationPaymentInfo;
+import com.myce.expo.repository.TicketRepository;
+import com.myce.expo.repository.TicketStockRepository;
 import com.myce.payment.entity.type.PaymentStatus;
 import com.myce.payment.repository.ReservationPaymentInfoRepository;
-import com.myce.reservation.entity.Reservation;
 import com.myce.reservation.entity.code.ReservationStatus;
 import com.myce.reservation.repository.ReservationRepository;
 import com.myce.reservation.service.ReservationVirtualBankExpireService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
+/**
+ * 입금 기한이 지난 가상계좌 예약 만료 처리
+ * - 예약 id 기준 keyset 청크마다 짧은 트랜잭션으로 처리 (청크 단위로 행 잠금 후 일괄 UPDATE)
+ * - 티켓 재고는 청크 안에서 티켓별로 합산해 티켓당 UPDATE 한 번으로 복구
+ * - 입금 기한은 가상계좌 안내와 동일하게 예약 생성 다음날 자정까지, 기한이 지나면 다음 실행에서 바로 해제
+ * - 결제 대기 예약의 취소는 대시보드/QR 상태 이벤트 대상(확정 예약 변경)이 아니므로 상태 이벤트는 발행하지 않음
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -23,72 +36,83 @@ public class ReservationVirtualBankExpireServiceImpl implements ReservationVirtu
     
     private final ReservationRepository reservationRepository;
     private final ReservationPaymentInfoRepository reservationPaymentInfoRepository;
-    private final ExpoTicketService expoTicketService;
+    private final TicketRepository ticketRepository;
+    private final TicketStockRepository ticketStockRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${virtual-bank-expire.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${virtual-bank-expire.payment-days:1}")
+    private int paymentDays;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     @Override
-    @Transactional
-    public void processExpiredVirtualBankReservations() {
-        // 어제 자정 이전에 생성된 CONFIRMED_PENDING 상태의 예약들 조회
-        LocalDateTime yesterday = LocalDateTime.now().minusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
-        
-        List<Reservation> expiredReservations = reservationRepository.findByStatusAndCreatedAtBefore(
-                ReservationStatus.CONFIRMED_PENDING, yesterday);
-        
-        if (expiredReservations.isEmpty()) {
-            log.info("[VirtualBankExpire] 만료 처리할 가상계좌 예약이 없습니다");
-            return;
-        }
-        
+    public int processExpiredVirtualBankReservations() {
+        // 생성일 + payment-days 의 자정이 지난 예약 (기본: 어제 자정 이전에 생성된 예약)
+        LocalDateTime cutoff = LocalDate.now().minusDays(paymentDays).atStartOfDay();
+
+        long lastId = 0L;
         int cancelledCount = 0;
         int paymentFailedCount = 0;
-        int ticketRestoredCount = 0;
-        
-        for (Reservation reservation : expiredReservations) {
-            try {
-                processExpiredReservation(reservation);
-                cancelledCount++;
-                
-                // 결제 정보 처리
-                if (updatePaymentInfoToFailed(reservation.getId())) {
-                    paymentFailedCount++;
-                }
-                
-                // 티켓 수량 복구
-                restoreTicketQuantity(reservation);
-                ticketRestoredCount++;
-                
-                log.info("[VirtualBankExpire] 가상계좌 만료 처리 완료 - 예약ID: {}, 티켓ID: {}, 복구 수량: {}", 
-                        reservation.getId(), reservation.getTicket().getId(), reservation.getQuantity());
-                        
-            } catch (Exception e) {
-                log.error("[VirtualBankExpire] 가상계좌 만료 처리 실패 - 예약ID: {}, 오류: {}", 
-                        reservation.getId(), e.getMessage(), e);
+        int chunkCount = 0;
+        while (true) {
+            long afterId = lastId;
+            ExpiredChunk chunk = transactionTemplate.execute(status -> expireChunk(cutoff, afterId));
+            if (chunk == null || chunk.reservationCount() == 0) {
+                break;
+            }
+
+            // DB 커밋 이후 실시간 재고 카운터 반영
+            chunk.restoredByTicket().forEach(ticketStockRepository::adjust);
+
+            chunkCount++;
+            cancelledCount += chunk.reservationCount();
+            paymentFailedCount += chunk.paymentFailedCount();
+            lastId = chunk.lastId();
+            if (chunk.reservationCount() < chunkSize) {
+                break;
             }
         }
-        
-        log.info("[VirtualBankExpire] 가상계좌 만료 처리 결과 - 취소된 예약: {}건, 실패 처리된 결제: {}건, 복구된 티켓: {}건", 
-                cancelledCount, paymentFailedCount, ticketRestoredCount);
-    }
-    
-    private void processExpiredReservation(Reservation reservation) {
-        reservation.updateStatus(ReservationStatus.CANCELLED);
-        reservationRepository.save(reservation);
+
+        if (cancelledCount > 0) {
+            log.info("[VirtualBankExpire] 가상계좌 만료 처리 결과 - 취소된 예약: {}건, 실패 처리된 결제: {}건, 청크: {}개",
+                    cancelledCount, paymentFailedCount, chunkCount);
+        }
+        return cancelledCount;
     }
-    
-    private boolean updatePaymentInfoToFailed(Long reservationId) {
-        ReservationPaymentInfo paymentInfo = reservationPaymentInfoRepository.findByReservationId(reservationId)
-                .orElse(null);
-        
-        if (paymentInfo != null && paymentInfo.getStatus() == PaymentStatus.PENDING) {
-            paymentInfo.setStatus(PaymentStatus.FAILED);
-            reservationPaymentInfoRepository.save(paymentInfo);
-            return true;
+
+    private ExpiredChunk expireChunk(LocalDateTime cutoff, long lastId) {
+        List<Object[]> rows = reservationRepository.findExpiredPendingForUpdate(cutoff, lastId, chunkSize);
+        if (rows.isEmpty()) {
+            return new ExpiredChunk(0, 0, lastId, Map.of());
         }
-        return false;
+
+        List<Long> reservationIds = new ArrayList<>(rows.size());
+        // 티켓 id 순서로 갱신해 다른 재고 갱신과 잠금 순서를 맞춤
+        Map<Long, Integer> restoredByTicket = new TreeMap<>();
+        for (Object[] row : rows) {
+            reservationIds.add(((Number) row[0]).longValue());
+            restoredByTicket.merge(((Number) row[1]).longValue(), ((Number) row[2]).intValue(), Integer::sum);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        reservationRepository.updateStatusByIdIn(reservationIds, ReservationStatus.CANCELLED, now);
+        int paymentFailedCount = reservationPaymentInfoRepository.updateStatusByReservationIdIn(
+                reservationIds, PaymentStatus.PENDING, PaymentStatus.FAILED, now);
+        restoredByTicket.forEach(ticketRepository::addRemainingQuantity);
+
+        return new ExpiredChunk(reservationIds.size(), paymentFailedCount,
+                reservationIds.get(reservationIds.size() - 1), restoredByTicket);
     }
-    
-    private void restoreTicketQuantity(Reservation reservation) {
-        Integer quantityToRestore = reservation.getQuantity();
-        expoTicketService.restoreTicketQuantity(reservation.getTicket().getId(), quantityToRestore);
+
+    private record ExpiredChunk(int reservationCount, int paymentFailedCount, long lastId,
+                                Map<Long, Integer> restoredByTicket) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,153 @@
+package com.myce.reservation.service.Impl;
+
+import com.myce.common.exception.CustomErrorCode;
+import com.myce.common.exception.CustomException;
+import com.myce.reservation.dto.WaitingRoomResponse;
+import com.myce.reservation.dto.type.WaitingStatus;
+import com.myce.reservation.repository.WaitingRoomRepository;
+import com.myce.reservation.repository.WaitingRoomRepository.Entry;
+import com.myce.reservation.service.WaitingRoomService;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 인기 박람회 오픈 시 사전 예약 앞단 대기열
+ * - 대기열이 열린 박람회는 입장 처리된 토큰만 사전 예약(DB 접근) 가능
+ * - 스케줄러가 초당 admit-per-second 명씩 입장 처리
+ * - 토큰은 발급받은 회원(비회원은 IP)만 사용할 수 있고, 사전 예약에 성공하면 소멸
+ * - 보유자당 유효한 토큰은 하나만 발급하고, 대기열 진입 요청 횟수를 제한
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitingRoomServiceImpl implements WaitingRoomService {
+
+    private static final long ENTER_LIMIT_WINDOW_SECONDS = 60;
+
+    private final WaitingRoomRepository waitingRoomRepository;
+
+    @Value("${waiting-room.admit-per-second:50}")
+    private int admitPerSecond;
+
+    @Value("${waiting-room.admission-minutes:10}")
+    private int admissionMinutes;
+
+    @Value("${waiting-room.enter-limit-per-minute:10}")
+    private int enterLimitPerMinute;
+
+    @Override
+    public WaitingRoomResponse enter(Long expoId, Long memberId, String clientIp) {
+        if (!waitingRoomRepository.isOpen(expoId)) {
+            return toAdmittedResponse(null);
+        }
+
+        String owner = toOwner(memberId, clientIp);
+        if (waitingRoomRepository.increaseEnterCount(expoId, owner, ENTER_LIMIT_WINDOW_SECONDS) > enterLimitPerMinute) {
+            throw new CustomException(CustomErrorCode.WAITING_ROOM_ENTER_LIMITED);
+        }
+
+        Entry entry = waitingRoomRepository.enqueue(
+                expoId, UUID.randomUUID().toString(), owner, System.currentTimeMillis());
+        if (entry.position() == 0) {
+            return toAdmittedResponse(entry.token());
+        }
+        return toWaitingResponse(expoId, entry.token(), entry.position());
+    }
+
+    @Override
+    public WaitingRoomResponse getStatus(Long expoId, String token) {
+        if (!waitingRoomRepository.isOpen(expoId)) {
+            return toAdmittedResponse(token);
+        }
+        if (waitingRoomRepository.isAdmitted(expoId, token, System.currentTimeMillis())) {
+            return toAdmittedResponse(token);
+        }
+
+        Long position = waitingRoomRepository.findPosition(expoId, token);
+        if (position == null) {
+            // 입장 유효 시간이 지났거나 존재하지 않는 토큰
+            throw new CustomException(CustomErrorCode.WAITING_ROOM_TOKEN_INVALID);
+        }
+        return toWaitingResponse(expoId, token, position);
+    }
+
+    @Override
+    public <T> T runWithAdmission(Long expoId, String token, Long memberId, String clientIp, Supplier<T> action) {
+        if (!waitingRoomRepository.isOpen(expoId)) {
+            return action.get();
+        }
+        if (token == null) {
+            throw new CustomException(CustomErrorCode.WAITING_ROOM_NOT_ADMITTED);
+        }
+
+        // 토큰을 먼저 사용 처리해 같은 토큰으로 동시에 들어온 요청은 하나만 통과
+        long admissionExpireAt = waitingRoomRepository.claimAdmission(
+                expoId, token, toOwner(memberId, clientIp), System.currentTimeMillis());
+        if (admissionExpireAt < 0) {
+            throw new CustomException(CustomErrorCode.WAITING_ROOM_TOKEN_INVALID);
+        }
+        if (admissionExpireAt == 0) {
+            throw new CustomException(CustomErrorCode.WAITING_ROOM_NOT_ADMITTED);
+        }
+
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            waitingRoomRepository.restoreAdmission(expoId, token, admissionExpireAt);
+            throw e;
+        }
+    }
+
+    @Override
+    public void open(Long expoId) {
+        waitingRoomRepository.open(expoId);
+        log.info("예매 대기열 시작 - expoId: {}", expoId);
+    }
+
+    @Override
+    public void close(Long expoId) {
+        waitingRoomRepository.close(expoId);
+        log.info("예매 대기열 종료 - expoId: {}", expoId);
+    }
+
+    @Override
+    public int admitWaitingUsers() {
+        long now = System.currentTimeMillis();
+        long admissionExpireAt = now + TimeUnit.MINUTES.toMillis(admissionMinutes);
+
+        int admittedCount = 0;
+        for (Long expoId : waitingRoomRepository.findOpenExpoIds()) {
+            admittedCount += waitingRoomRepository.admit(expoId, admitPerSecond, admissionExpireAt, now);
+        }
+        return admittedCount;
+    }
+
+    private WaitingRoomResponse toWaitingResponse(Long expoId, String token, long position) {
+        return WaitingRoomResponse.builder()
+                .token(token)
+                .status(WaitingStatus.WAITING)
+                .position(position)
+                .waitingCount(waitingRoomRepository.countWaiting(expoId))
+                .estimatedWaitSeconds((position + admitPerSecond - 1) / admitPerSecond)
+                .build();
+    }
+
+    private WaitingRoomResponse toAdmittedResponse(String token) {
+        return WaitingRoomResponse.builder()
+                .token(token)
+                .status(WaitingStatus.ADMITTED)
+                .position(0L)
+                .waitingCount(0L)
+                .estimatedWaitSeconds(0L)
+                .build();
+    }
+
+    private String toOwner(Long memberId, String clientIp) {
+        return memberId != null ? "member:" + memberId : "ip:" + clientIp;
+    }
+}
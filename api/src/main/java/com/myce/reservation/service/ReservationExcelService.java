@@ -1,9 +1,16 @@
 package com.myce.reservation.service;
 
 import com.myce.auth.dto.type.LoginType;
+import com.myce.common.dto.ExportJobResponse;
+import com.myce.common.export.ExportFormat;
 
 import java.io.OutputStream;
 
 public interface ReservationExcelService {
-    void downloadMyReservationExcelFile(Long expoId, Long memberId, LoginType loginType, OutputStream outputStream);
+    void downloadMyReservationExcelFile(Long expoId, Long memberId, LoginType loginType,
+                                       ExportFormat format, OutputStream outputStream);
+
+    // 대량 예약자 명단은 백그라운드 작업으로 생성
+    ExportJobResponse requestMyReservationExport(Long expoId, Long memberId, LoginType loginType,
+                                                 ExportFormat format);
 }
@@ -17,10 +17,15 @@ public interface ReservationService {
 
     void updateStatusToConfirm(Long reservationId);
 
+    // 결제 완료용 - 상태만 변경 (QR 발급은 결제 outbox 에서 커밋 이후 처리)
+    void updateStatusOnlyToConfirm(Long reservationId);
+
     ReservationSuccessResponse getReservationCodeAndEmail(Long reservationId);
 
     PreReservationResponse savePreReservation(PreReservationRequest request);
 
+    void cancelPreReservation(String sessionId);
+
     ReservationPaymentSummaryResponse getPaymentSummary(Long reservationId);
     
     ReservationPaymentSummaryResponse getPaymentSummaryBySessionId(String sessionId);
@@ -7,6 +7,8 @@ public interface ReservationVirtualBankExpireService {
      * - CONFIRMED_PENDING 상태의 예약을 CANCELLED로 변경
      * - 관련 결제 정보를 FAILED로 변경  
      * - 티켓 수량 복구
+     *
+     * @return 취소된 예약 수
      */
-    void processExpiredVirtualBankReservations();
-}
\ No newline at end of file
+    int processExpiredVirtualBankReservations();
+}
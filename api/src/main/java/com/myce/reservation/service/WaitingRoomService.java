@@ -0,0 +1,21 @@
+package com.myce.reservation.service;
+
+import com.myce.reservation.dto.WaitingRoomResponse;
+import java.util.function.Supplier;
+
+public interface WaitingRoomService {
+
+    // 토큰은 회원이면 회원 ID, 비회원이면 접속 IP 에 묶어서 발급
+    WaitingRoomResponse enter(Long expoId, Long memberId, String clientIp);
+
+    WaitingRoomResponse getStatus(Long expoId, String token);
+
+    // 대기열이 열린 박람회는 입장 처리된 본인 토큰을 사용 처리한 뒤에만 action 실행 (실패 시 토큰 복구)
+    <T> T runWithAdmission(Long expoId, String token, Long memberId, String clientIp, Supplier<T> action);
+
+    void open(Long expoId);
+
+    void close(Long expoId);
+
+    int admitWaitingUsers();
+}
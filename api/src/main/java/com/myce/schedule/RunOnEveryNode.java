@@ -0,0 +1,15 @@
+package com.myce.schedule;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 서버마다 로컬 상태(인메모리 색인, 로컬 필터 등)를 갱신해야 하는 스케줄러
+ * - 분산 임대 없이 모든 서버에서 실행
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RunOnEveryNode {
+}
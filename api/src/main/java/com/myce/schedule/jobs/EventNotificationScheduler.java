@@ -3,7 +3,10 @@ package com.myce.schedule.jobs;
 import com.myce.expo.entity.Expo;
 import com.myce.expo.entity.Event;
 import com.myce.expo.repository.EventRepository;
-import com.myce.client.notification.service.NotificationService;
+import com.myce.client.notification.dto.NotificationBatchResult;
+import com.myce.client.notification.dto.NotificationCommand;
+import com.myce.client.notification.service.NotificationBatchGateway;
+import com.myce.client.notification.service.NotificationBatcher;
 import com.myce.reservation.repository.ReservationRepository;
 import com.myce.schedule.TaskScheduler;
 import jakarta.annotation.PostConstruct;
@@ -29,7 +32,7 @@ public class EventNotificationScheduler implements TaskScheduler {
     private final EventRepository eventRepository;
     private final ReservationRepository reservationRepository;
 
-    private final NotificationService notificationService;
+    private final NotificationBatchGateway notificationBatchGateway;
 
     @Value("${scheduler.event-notification:0 0,30 * * * *}")
     private String cronExpression;
@@ -75,37 +78,37 @@ public class EventNotificationScheduler implements TaskScheduler {
                 .map(event -> event.getExpo().getId())
                 .collect(Collectors.toSet());
 
-        // 각 박람회에 대해 한 번씩만 알림 전송
-        for (Long expoId : processedExpoIds) {
-            // 해당 박람회의 이벤트 정보 수집
-            List<Event> expoEvents = upcomingEvents.stream()
-                    .filter(event -> event.getExpo().getId().equals(expoId))
-                    .collect(Collectors.toList());
+        // 각 박람회에 대해 한 번씩만 알림 전송 (bulk API 로 모아서 전송)
+        try (NotificationBatcher batcher = notificationBatchGateway.open("event-reminder")) {
+            for (Long expoId : processedExpoIds) {
+                // 해당 박람회의 이벤트 정보 수집
+                List<Event> expoEvents = upcomingEvents.stream()
+                        .filter(event -> event.getExpo().getId().equals(expoId))
+                        .collect(Collectors.toList());
 
-            if (expoEvents.isEmpty()) continue;
+                if (expoEvents.isEmpty()) continue;
 
-            Event firstEvent = expoEvents.get(0);
-            Expo expo = firstEvent.getExpo();
+                Event firstEvent = expoEvents.get(0);
+                Expo expo = firstEvent.getExpo();
 
-            String expoTitle = expo.getTitle();
-            String eventNames = expoEvents.stream()
-                    .map(Event::getName)
-                    .collect(Collectors.joining(", "));
+                String expoTitle = expo.getTitle();
+                String eventNames = expoEvents.stream()
+                        .map(Event::getName)
+                        .collect(Collectors.joining(", "));
+                String startTime = firstEvent.getStartTime().toString();
 
-            List<Long> memberIds =
-                    reservationRepository.findDistinctUserIdsByExpoId(expoId);
+                List<Long> memberIds =
+                        reservationRepository.findDistinctUserIdsByExpoId(expoId);
 
-            notificationService.notifyEventHourReminder(
-                    memberIds,
-                    expoId,
-                    expoTitle,
-                    eventNames,
-                    firstEvent.getStartTime().toString()
-            );
+                batcher.addPerMemberChunk(memberIds, chunk -> NotificationCommand.eventReminder(
+                        chunk, expoId, expoTitle, eventNames, startTime));
 
-                log.info("[Scheduler] 행사 1시간 전 알림 전송 완료 - 박람회: {}, 이벤트: {}",
-                        firstEvent.getExpo().getTitle(), eventNames);
+                log.info("[Scheduler] 행사 1시간 전 알림 등록 - 박람회: {}, 이벤트: {}", expoTitle, eventNames);
             }
+
+            NotificationBatchResult result = batcher.finish();
+            log.info("[Scheduler] 행사 1시간 전 알림 전송 완료 - 박람회: {}개, 요청: {}건, 실패 요청: {}건",
+                    processedExpoIds.size(), result.batchCount(), result.failedBatchCount());
         }
     }
-
+}
@@ -3,7 +3,10 @@ package com.myce.schedule.jobs;
 import com.myce.expo.entity.Expo;
 import com.myce.expo.entity.type.ExpoStatus;
 import com.myce.expo.repository.ExpoRepository;
-import com.myce.client.notification.service.NotificationService;
+import com.myce.client.notification.dto.NotificationBatchResult;
+import com.myce.client.notification.dto.NotificationCommand;
+import com.myce.client.notification.service.NotificationBatchGateway;
+import com.myce.client.notification.service.NotificationBatcher;
 import com.myce.reservation.repository.ReservationRepository;
 import com.myce.schedule.TaskScheduler;
 import jakarta.annotation.PostConstruct;
@@ -23,7 +26,7 @@ import java.util.List;
 public class ExpoNotificationScheduler implements TaskScheduler {
 
     private final ExpoRepository expoRepository;
-    private final NotificationService notificationService;
+    private final NotificationBatchGateway notificationBatchGateway;
     private final ReservationRepository reservationRepository;
 
     @Value("${scheduler.expo-notification:0 0 9 * * *}")
@@ -59,14 +62,19 @@ public class ExpoNotificationScheduler implements TaskScheduler {
             return;
         }
 
-        // 각 박람회에 대해 시작 알림 전송
-        for (Expo expo : exposStartingTomorrow) {
+        // 각 박람회에 대해 시작 알림 전송 (bulk API 로 모아서 전송)
+        try (NotificationBatcher batcher = notificationBatchGateway.open("expo-start")) {
+            for (Expo expo : exposStartingTomorrow) {
+                List<Long> userIds =
+                        reservationRepository.findDistinctUserIdsByExpoId(expo.getId());
 
-            List<Long> userIds =
-                    reservationRepository.findDistinctUserIdsByExpoId(expo.getId());
+                batcher.addPerMemberChunk(userIds,
+                        memberIds -> NotificationCommand.expoStarted(memberIds, expo.getId(), expo.getTitle()));
+            }
 
-            notificationService.notifyExpoStart(userIds, expo.getId(), expo.getTitle());
-            log.info("[Scheduler] 박람회 시작 알림 전송 완료 - 박람회: {}", expo.getTitle());
+            NotificationBatchResult result = batcher.finish();
+            log.info("[Scheduler] 박람회 시작 알림 전송 완료 - 박람회: {}개, 요청: {}건, 실패 요청: {}건",
+                    exposStartingTomorrow.size(), result.batchCount(), result.failedBatchCount());
         }
     }
 }
@@ -1,42 +1,32 @@
 package com.myce.schedule.jobs;
 
-import com.myce.common.exception.CustomException;
 import com.myce.expo.entity.Expo;
 import com.myce.expo.entity.type.ExpoStatus;
 import com.myce.expo.repository.ExpoRepository;
-import com.myce.client.notification.service.NotificationService;
-import com.myce.qrcode.repository.QrCodeRepository;
-import com.myce.qrcode.service.QrCodeService;
-import com.myce.reservation.entity.Reservation;
-import com.myce.reservation.entity.Reserver;
-import com.myce.reservation.repository.ReservationRepository;
-import com.myce.reservation.repository.ReserverRepository;
+import com.myce.qrcode.repository.QrIssueCheckpointRepository;
+import com.myce.qrcode.service.QrIssuePipelineService;
 import com.myce.schedule.TaskScheduler;
 import jakarta.annotation.PostConstruct;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import static com.myce.common.exception.CustomErrorCode.RESERVATION_NOT_FOUND;
-
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ExpoQrGenerateScheduler implements TaskScheduler {
 
     private final ExpoRepository expoRepository;
-    private final ReserverRepository reserverRepository;
-    private final ReservationRepository reservationRepository;
-    private final QrCodeService qrCodeService;
-    private final QrCodeRepository qrCodeRepository;
-
-    private final NotificationService notificationService;
+    private final QrIssueCheckpointRepository qrIssueCheckpointRepository;
+    private final QrIssuePipelineService qrIssuePipelineService;
 
     @Value("${scheduler.expo-qr-generate:0 0 0 * * *}")
     private String cronExpression;
@@ -62,74 +52,31 @@ public class ExpoQrGenerateScheduler implements TaskScheduler {
         // 이틀 후 시작하는 게시된 박람회들 조회
         LocalDate twoDaysLater = LocalDate.now().plusDays(2);
         
-        List<Expo> targetExpos = expoRepository.findByStartDateAndStatus(twoDaysLater, ExpoStatus.PUBLISHED);
-        
-        log.info("QR코드 생성 대상 박람회 수: {} 개 ({})", targetExpos.size(), twoDaysLater);
-        
-        for (Expo expo : targetExpos) {
-            generateQrCodesForExpo(expo);
-        }
-        
-        log.info("박람회 QR코드 일괄 생성 프로세스 완료");
-    }
-
-    private void generateQrCodesForExpo(Expo expo) {
-        log.info("박람회 QR코드 생성 시작 - 박람회: {} (ID: {})", expo.getTitle(), expo.getId());
+        List<Expo> targetExpos = new ArrayList<>(
+                expoRepository.findByStartDateAndStatus(twoDaysLater, ExpoStatus.PUBLISHED));
 
-        List<Reserver> reservers = reserverRepository.findReserversByExpo(expo.getId());
-        
-        if (reservers.isEmpty()) {
-            log.info("QR코드 생성 대상이 없습니다 - 박람회: {}", expo.getTitle());
-            return;
+        // 이전 실행에서 중단된 박람회는 체크포인트부터 이어서 진행
+        Set<Long> targetExpoIds = targetExpos.stream().map(Expo::getId).collect(Collectors.toSet());
+        Set<Long> resumeExpoIds = new HashSet<>(qrIssueCheckpointRepository.findInProgressExpoIds());
+        resumeExpoIds.removeAll(targetExpoIds);
+        if (!resumeExpoIds.isEmpty()) {
+            log.info("중단된 QR코드 발급 재개 대상 박람회 수: {} 개", resumeExpoIds.size());
+            targetExpos.addAll(expoRepository.findAllById(resumeExpoIds));
         }
         
-        log.info("QR코드 생성 시작 - 박람회: {}, 대상 예약자 수: {} 명", 
-                expo.getTitle(), reservers.size());
-        
-        int successCount = 0;
-        int failCount = 0;
-        
-        // QR 생성이 성공한 예약 ID들을 수집
-        Set<Long> processedReservations = new HashSet<>();
+        log.info("QR코드 생성 대상 박람회 수: {} 개 ({})", targetExpos.size(), twoDaysLater);
         
-        // 1단계: 모든 reserver에 대해 QR 생성
-        for (Reserver reserver : reservers) {
+        for (Expo expo : targetExpos) {
             try {
-                // 이미 QR이 있는지 먼저 확인
-                if (qrCodeRepository.findByReserver(reserver).isPresent()) {
-                    log.debug("QR코드 이미 존재 - 예약자 ID: {}", reserver.getId());
-                    continue; // 이미 있으면 건너뛰고 알림도 보내지 않음
-                }
-                
-                // QR 생성 (알림 없음)
-                qrCodeService.issueQrWithoutNotification(reserver.getId());
-                log.debug("QR코드 발급 완료 - 예약자 ID: {}", reserver.getId());
-                
-                // QR 생성 성공한 예약 ID 수집
-                processedReservations.add(reserver.getReservation().getId());
-                successCount++;
+                log.info("박람회 QR코드 생성 시작 - 박람회: {} (ID: {})", expo.getTitle(), expo.getId());
+                qrIssuePipelineService.issueForExpo(expo);
             } catch (Exception e) {
-                log.error("QR코드 생성 실패 - 예약자 ID: {}, 오류: {}", reserver.getId(), e.getMessage());
-                failCount++;
+                // 체크포인트가 남아 있으므로 다음 실행에서 이어서 진행
+                log.error("박람회 QR코드 생성 중단 - 박람회 ID: {}, 오류: {}", expo.getId(), e.getMessage(), e);
             }
         }
         
-        // 2단계: QR 생성이 성공한 예약들에 대해 알림 전송
-        int notificationCount = 0;
-        for (Long reservationId : processedReservations) {
-            Reservation reservation = reservationRepository.findById(reservationId)
-                    .orElseThrow(() -> new CustomException(RESERVATION_NOT_FOUND));
-
-            Long memberId = reservation.getUserId();
-            String expoTitle = reservation.getExpo().getTitle();
-
-            notificationService.sendQrIssuedNotification(memberId, reservationId, expoTitle,false);
-            notificationCount++;
-        }
-
-        
-        log.info("박람회 QR코드 생성 완료 - 박람회: {}, 성공: {} 명, 실패: {} 명, 알림 전송: {} 건", 
-                expo.getTitle(), successCount, failCount, notificationCount);
+        log.info("박람회 QR코드 일괄 생성 프로세스 완료");
     }
 
-}
\ No newline at end of file
+}
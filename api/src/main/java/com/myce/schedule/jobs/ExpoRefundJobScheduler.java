@@ -0,0 +1,44 @@
+package com.myce.schedule.jobs;
+
+import com.myce.payment.service.refund.ExpoRefundJobService;
+import com.myce.schedule.TaskScheduler;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpoRefundJobScheduler implements TaskScheduler {
+
+    private final ExpoRefundJobService expoRefundJobService;
+
+    @Value("${scheduler.expo-refund-job}")
+    private String cronExpression;
+
+    @PostConstruct
+    public void init() {
+        log.info("Expo refund job scheduler has been registered. cron: {}", cronExpression);
+    }
+
+    @Override
+    @Scheduled(cron = "${scheduler.expo-refund-job}")
+    public void run() {
+        try {
+            this.process();
+        } catch (Exception e) {
+            log.error("Error occurred during expo refund job scheduler execution", e);
+        }
+    }
+
+    @Override
+    public void process() {
+        int count = expoRefundJobService.processDue();
+        if (count > 0) {
+            log.info("Expo cancellation refunds processed: {}", count);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.myce.schedule.jobs;
+
+import com.myce.expo.service.search.ExpoSearchService;
+import com.myce.schedule.RunOnEveryNode;
+import com.myce.schedule.TaskScheduler;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RunOnEveryNode
+@RequiredArgsConstructor
+public class ExpoSearchIndexRebuildScheduler implements TaskScheduler {
+
+    private final ExpoSearchService expoSearchService;
+
+    @Value("${scheduler.expo-search-rebuild}")
+    private String cronExpression;
+
+    @PostConstruct
+    public void init() {
+        log.info("Expo search index rebuild scheduler has been registered. cron: {}", cronExpression);
+    }
+
+    @Override
+    @Scheduled(cron = "${scheduler.expo-search-rebuild}")
+    public void run() {
+        try {
+            this.process();
+        } catch (Exception e) {
+            log.error("Error occurred during expo search index rebuild scheduler execution", e);
+        }
+    }
+
+    @Override
+    public void process() {
+        int count = expoSearchService.rebuild();
+        if (count > 0) {
+            log.info("Expo search index rebuilt - documents: {}", count);
+        }
+    }
+}
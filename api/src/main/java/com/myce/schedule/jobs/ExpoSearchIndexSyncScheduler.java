@@ -0,0 +1,46 @@
+package com.myce.schedule.jobs;
+
+import com.myce.expo.service.search.ExpoSearchService;
+import com.myce.schedule.RunOnEveryNode;
+import com.myce.schedule.TaskScheduler;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RunOnEveryNode
+@RequiredArgsConstructor
+public class ExpoSearchIndexSyncScheduler implements TaskScheduler {
+
+    private final ExpoSearchService expoSearchService;
+
+    @Value("${scheduler.expo-search-sync}")
+    private String cronExpression;
+
+    @PostConstruct
+    public void init() {
+        log.info("Expo search index sync scheduler has been registered. cron: {}", cronExpression);
+    }
+
+    @Override
+    @Scheduled(cron = "${scheduler.expo-search-sync}")
+    public void run() {
+        try {
+            this.process();
+        } catch (Exception e) {
+            log.error("Error occurred during expo search index sync scheduler execution", e);
+        }
+    }
+
+    @Override
+    public void process() {
+        int count = expoSearchService.syncChanges();
+        if (count > 0) {
+            log.info("Expo search index synced - changed expos: {}", count);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.myce.schedule.jobs;
+
+import com.myce.dashboard.service.expo.ExpoStatsCounterService;
+import com.myce.schedule.TaskScheduler;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpoStatsReconcileScheduler implements TaskScheduler {
+
+    private final ExpoStatsCounterService expoStatsCounterService;
+
+    @Value("${scheduler.expo-stats-reconcile}")
+    private String cronExpression;
+
+    @PostConstruct
+    public void init() {
+        log.info("Expo dashboard counter reconciliation scheduler has been registered. cron: {}", cronExpression);
+    }
+
+    @Override
+    @Scheduled(cron = "${scheduler.expo-stats-reconcile}")
+    public void run() {
+        try {
+            this.process();
+        } catch (Exception e) {
+            log.error("Error occurred during expo dashboard counter reconciliation scheduler execution", e);
+        }
+    }
+
+    @Override
+    public void process() {
+        int count = expoStatsCounterService.reconcileAll();
+        if (count > 0) {
+            log.info("Expo dashboard counters reconciled with DB: {}", count);
+        }
+    }
+}
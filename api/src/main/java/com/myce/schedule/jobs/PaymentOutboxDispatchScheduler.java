@@ -0,0 +1,44 @@
+package com.myce.schedule.jobs;
+
+import com.myce.payment.service.outbox.PaymentOutboxService;
+import com.myce.schedule.TaskScheduler;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentOutboxDispatchScheduler implements TaskScheduler {
+
+    private final PaymentOutboxService paymentOutboxService;
+
+    @Value("${scheduler.payment-outbox-dispatch}")
+    private String cronExpression;
+
+    @PostConstruct
+    public void init() {
+        log.info("Payment outbox dispatch scheduler has been registered. cron: {}", cronExpression);
+    }
+
+    @Override
+    @Scheduled(cron = "${scheduler.payment-outbox-dispatch}")
+    public void run() {
+        try {
+            this.process();
+        } catch (Exception e) {
+            log.error("Error occurred during payment outbox dispatch scheduler execution", e);
+        }
+    }
+
+    @Override
+    public void process() {
+        int count = paymentOutboxService.dispatchDue();
+        if (count > 0) {
+            log.info("Payment outbox entries dispatched: {}", count);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.myce.schedule.jobs;
+
+import com.myce.qrcode.service.QrGateService;
+import com.myce.schedule.TaskScheduler;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QrUsedFlushScheduler implements TaskScheduler {
+
+    private final QrGateService qrGateService;
+
+    @Value("${scheduler.qr-used-flush}")
+    private String cronExpression;
+
+    @PostConstruct
+    public void init() {
+        log.info("QR used flush scheduler has been registered. cron: {}", cronExpression);
+    }
+
+    @Override
+    @Scheduled(cron = "${scheduler.qr-used-flush}")
+    public void run() {
+        try {
+            this.process();
+        } catch (Exception e) {
+            log.error("Error occurred during QR used flush scheduler execution", e);
+        }
+    }
+
+    @Override
+    public void process() {
+        int count = qrGateService.flushUsed();
+        if (count > 0) {
+            log.info("Gate QR usages flushed to database: {}", count);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.myce.schedule.jobs;
+
+import com.myce.dashboard.service.platform.RevenueRollupService;
+import com.myce.schedule.TaskScheduler;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevenueRollupTodayScheduler implements TaskScheduler {
+
+    private final RevenueRollupService revenueRollupService;
+
+    @Value("${scheduler.revenue-rollup-today}")
+    private String cronExpression;
+
+    @PostConstruct
+    public void init() {
+        log.info("Revenue rollup today scheduler has been registered. cron: {}", cronExpression);
+    }
+
+    @Override
+    @Scheduled(cron = "${scheduler.revenue-rollup-today}")
+    public void run() {
+        try {
+            this.process();
+        } catch (Exception e) {
+            log.error("Error occurred during revenue rollup today scheduler execution", e);
+        }
+    }
+
+    @Override
+    public void process() {
+        revenueRollupService.refreshToday();
+    }
+}
@@ -0,0 +1,44 @@
+package com.myce.schedule.jobs;
+
+import com.myce.expo.service.info.TicketInventoryService;
+import com.myce.schedule.TaskScheduler;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketStockReconcileScheduler implements TaskScheduler {
+
+    private final TicketInventoryService ticketInventoryService;
+
+    @Value("${scheduler.ticket-stock-reconcile}")
+    private String cronExpression;
+
+    @PostConstruct
+    public void init() {
+        log.info("Ticket stock reconciliation scheduler has been registered. cron: {}", cronExpression);
+    }
+
+    @Override
+    @Scheduled(cron = "${scheduler.ticket-stock-reconcile}")
+    public void run() {
+        try {
+            this.process();
+        } catch (Exception e) {
+            log.error("Error occurred during ticket stock reconciliation scheduler execution", e);
+        }
+    }
+
+    @Override
+    public void process() {
+        int count = ticketInventoryService.reconcile();
+        if (count > 0) {
+            log.info("Ticket stock counters reconciled with DB: {}", count);
+        }
+    }
+}
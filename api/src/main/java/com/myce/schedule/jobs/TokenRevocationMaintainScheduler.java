@@ -0,0 +1,43 @@
+package com.myce.schedule.jobs;
+
+import com.myce.auth.service.TokenRevocationService;
+import com.myce.schedule.RunOnEveryNode;
+import com.myce.schedule.TaskScheduler;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RunOnEveryNode
+@RequiredArgsConstructor
+public class TokenRevocationMaintainScheduler implements TaskScheduler {
+
+    private final TokenRevocationService tokenRevocationService;
+
+    @Value("${scheduler.token-revocation-maintain}")
+    private String cronExpression;
+
+    @PostConstruct
+    public void init() {
+        log.info("Token revocation maintain scheduler has been registered. cron: {}", cronExpression);
+    }
+
+    @Override
+    @Scheduled(cron = "${scheduler.token-revocation-maintain}")
+    public void run() {
+        try {
+            this.process();
+        } catch (Exception e) {
+            log.error("Error occurred during token revocation maintain scheduler execution", e);
+        }
+    }
+
+    @Override
+    public void process() {
+        tokenRevocationService.maintain();
+    }
+}
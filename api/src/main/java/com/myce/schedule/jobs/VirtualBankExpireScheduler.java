@@ -5,6 +5,7 @@ import com.myce.schedule.TaskScheduler;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -15,18 +16,19 @@ public class VirtualBankExpireScheduler implements TaskScheduler {
     
     private final ReservationVirtualBankExpireService reservationVirtualBankExpireService;
 
+    @Value("${scheduler.virtual-bank-expire}")
+    private String cronExpression;
+
     @PostConstruct
     public void init() {
-        log.info("[Scheduler] 가상계좌 만료 처리 스케줄러 등록 완료");
+        log.info("[Scheduler] 가상계좌 만료 처리 스케줄러 등록 완료. cron: {}", cronExpression);
     }
 
     @Override
-    @Scheduled(cron = "0 0 0 * * *") // 매일 자정에 실행
+    @Scheduled(cron = "${scheduler.virtual-bank-expire}")
     public void run() {
         try {
-            log.info("[VirtualBankExpireScheduler] 가상계좌 만료 처리 시작");
             this.process();
-            log.info("[VirtualBankExpireScheduler] 가상계좌 만료 처리 완료");
         } catch (Exception e) {
             log.error("[VirtualBankExpireScheduler] 가상계좌 만료 처리 실패", e);
         }
@@ -36,4 +38,4 @@ public class VirtualBankExpireScheduler implements TaskScheduler {
     public void process() {
         reservationVirtualBankExpireService.processExpiredVirtualBankReservations();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package com.myce.schedule.jobs;
+
+import com.myce.reservation.service.WaitingRoomService;
+import com.myce.schedule.TaskScheduler;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitingRoomAdmitScheduler implements TaskScheduler {
+
+    private final WaitingRoomService waitingRoomService;
+
+    @Value("${scheduler.waiting-room-admit}")
+    private String cronExpression;
+
+    @PostConstruct
+    public void init() {
+        log.info("Waiting room admission scheduler has been registered. cron: {}", cronExpression);
+    }
+
+    @Override
+    @Scheduled(cron = "${scheduler.waiting-room-admit}")
+    public void run() {
+        try {
+            this.process();
+        } catch (Exception e) {
+            log.error("Error occurred during waiting room admission scheduler execution", e);
+        }
+    }
+
+    @Override
+    public void process() {
+        int admitted = waitingRoomService.admitWaitingUsers();
+        if (admitted > 0) {
+            log.debug("Waiting room users admitted: {}", admitted);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.myce.schedule.repository;
+
+public interface SchedulerLockRepository {
+
+    // 임대 획득 시 임대 token (획득할 때마다 1씩 증가) 반환, 다른 서버가 보유 중이면 0
+    long tryAcquire(String jobName, String owner, long leaseMillis);
+
+    // 자신이 보유한 임대(owner + token 일치)만 만료 시간 재설정
+    boolean renew(String jobName, String owner, long leaseToken, long leaseMillis);
+
+    void release(String jobName, String owner, long leaseToken);
+
+    // 실행 이력 (최근 maxSize 건만 유지)
+    void saveHistory(String jobName, String entry, int maxSize);
+
+}
@@ -0,0 +1,65 @@
+package com.myce.schedule.repository.impl;
+
+import com.myce.schedule.repository.SchedulerLockRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class SchedulerLockRepositoryImpl implements SchedulerLockRepository {
+
+    private static final String LOCK_PREFIX = "scheduler:lock:";
+    private static final String TOKEN_PREFIX = "scheduler:token:";
+    private static final String HISTORY_PREFIX = "scheduler:history:";
+
+    // KEYS: lock, token / ARGV: owner, leaseMillis
+    private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            local token = redis.call('INCR', KEYS[2])
+            redis.call('SET', KEYS[1], ARGV[1] .. ':' .. token, 'PX', ARGV[2])
+            return token
+            """, Long.class);
+
+    // KEYS: lock / ARGV: owner:token, leaseMillis
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end
+            return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            """, Long.class);
+
+    // KEYS: lock / ARGV: owner:token
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public long tryAcquire(String jobName, String owner, long leaseMillis) {
+        Long token = stringRedisTemplate.execute(ACQUIRE_SCRIPT,
+                List.of(LOCK_PREFIX + jobName, TOKEN_PREFIX + jobName), owner, String.valueOf(leaseMillis));
+        return token == null ? 0 : token;
+    }
+
+    @Override
+    public boolean renew(String jobName, String owner, long leaseToken, long leaseMillis) {
+        Long result = stringRedisTemplate.execute(RENEW_SCRIPT,
+                List.of(LOCK_PREFIX + jobName), owner + ":" + leaseToken, String.valueOf(leaseMillis));
+        return result != null && result == 1;
+    }
+
+    @Override
+    public void release(String jobName, String owner, long leaseToken) {
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_PREFIX + jobName), owner + ":" + leaseToken);
+    }
+
+    @Override
+    public void saveHistory(String jobName, String entry, int maxSize) {
+        String key = HISTORY_PREFIX + jobName;
+        stringRedisTemplate.opsForList().leftPush(key, entry);
+        stringRedisTemplate.opsForList().trim(key, 0, maxSize - 1);
+    }
+}
@@ -0,0 +1,108 @@
+package com.myce.auth.security.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CountingBloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함으로 판단 (미탐 없음)")
+    void addedDigestsAreAlwaysContained() {
+        CountingBloomFilter filter = new CountingBloomFilter(1_000, 0.01);
+
+        for (int i = 0; i < 1_000; i++) {
+            filter.add(digest("token-" + i));
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(filter.mightContain(digest("token-" + i))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("삭제하면 더 이상 포함되지 않고, 다른 값은 그대로 유지")
+    void removeClearsOnlyThatDigest() {
+        CountingBloomFilter filter = new CountingBloomFilter(1_000, 0.01);
+        byte[] removed = digest("removed");
+        byte[] kept = digest("kept");
+        filter.add(removed);
+        filter.add(kept);
+
+        filter.remove(removed);
+
+        assertThat(filter.mightContain(removed)).isFalse();
+        assertThat(filter.mightContain(kept)).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 값을 두 번 추가하면 한 번 삭제해도 포함 유지")
+    void countsDuplicateAdds() {
+        CountingBloomFilter filter = new CountingBloomFilter(1_000, 0.01);
+        byte[] digest = digest("duplicate");
+        filter.add(digest);
+        filter.add(digest);
+
+        filter.remove(digest);
+        assertThat(filter.mightContain(digest)).isTrue();
+
+        filter.remove(digest);
+        assertThat(filter.mightContain(digest)).isFalse();
+    }
+
+    @Test
+    @DisplayName("포화된 카운터는 감소하지 않아 미탐이 생기지 않음")
+    void saturatedCountersStaySet() {
+        CountingBloomFilter filter = new CountingBloomFilter(1_000, 0.01);
+        byte[] digest = digest("hot");
+        for (int i = 0; i < 300; i++) {
+            filter.add(digest);
+        }
+
+        for (int i = 0; i < 300; i++) {
+            filter.remove(digest);
+        }
+
+        assertThat(filter.mightContain(digest)).isTrue();
+    }
+
+    @Test
+    @DisplayName("오탐률은 설정값 근처로 유지")
+    void falsePositiveRateIsBounded() {
+        CountingBloomFilter filter = new CountingBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(digest("added-" + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(digest("absent-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    @DisplayName("크기와 해시 수는 예상 개수/오탐률로 계산")
+    void sizesFromExpectedInsertions() {
+        CountingBloomFilter filter = new CountingBloomFilter(10_000, 0.01);
+
+        // m = -n ln p / (ln 2)^2 ≈ 95851, k = m/n ln 2 ≈ 7
+        assertThat(filter.size()).isBetween(95_000, 97_000);
+        assertThat(filter.hashCount()).isEqualTo(7);
+    }
+
+    private byte[] digest(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.myce.common.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ExportWriterTest {
+
+    private ExportWriter exportWriter;
+
+    @BeforeEach
+    void setUp() {
+        exportWriter = new ExportWriter();
+        ReflectionTestUtils.setField(exportWriter, "chunkSize", 2);
+        ReflectionTestUtils.setField(exportWriter, "readerThreads", 1);
+        ReflectionTestUtils.setField(exportWriter, "xlsxWindowSize", 10);
+        exportWriter.init();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        exportWriter.shutdown();
+    }
+
+    @Test
+    @DisplayName("수식 시작 문자로 시작하는 문자열은 ' 를 붙여 기록")
+    void neutralizesFormulaPrefixes() throws Exception {
+        List<String> lines = writeCsv(List.of(
+                new Row("=HYPERLINK(\"http://evil\")", BigDecimal.ONE),
+                new Row("+1", BigDecimal.ONE),
+                new Row("-1+2", BigDecimal.ONE),
+                new Row("@SUM(A1)", BigDecimal.ONE),
+                new Row("\tcmd", BigDecimal.ONE)));
+
+        assertThat(lines).containsExactly(
+                "번호,이름,금액",
+                "1,\"'=HYPERLINK(\"\"http://evil\"\")\",1",
+                "2,'+1,1",
+                "3,'-1+2,1",
+                "4,'@SUM(A1),1",
+                "5,'\tcmd,1");
+    }
+
+    @Test
+    @DisplayName("일반 문자열과 음수 금액은 그대로 기록")
+    void keepsPlainValuesAndNegativeNumbers() throws Exception {
+        List<String> lines = writeCsv(List.of(
+                new Row("홍길동", new BigDecimal("-1500.50")),
+                new Row("a,b", BigDecimal.ZERO)));
+
+        assertThat(lines).containsExactly(
+                "번호,이름,금액",
+                "1,홍길동,-1500.50",
+                "2,\"a,b\",0");
+    }
+
+    private List<String> writeCsv(List<Row> rows) throws Exception {
+        ExportSpec<Row> spec = new ExportSpec<>("test", List.of(
+                ExportColumn.rowNumber("번호", 5),
+                ExportColumn.text("이름", 20, Row::name),
+                ExportColumn.currency("금액", 10, Row::amount)),
+                (last, size) -> {
+                    int from = last == null ? 0 : rows.indexOf(last) + 1;
+                    return rows.subList(from, Math.min(from + size, rows.size()));
+                });
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportWriter.write(spec, ExportFormat.CSV, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("\uFEFF");
+        return List.of(csv.substring(1).split("\r\n"));
+    }
+
+    private record Row(String name, BigDecimal amount) {
+    }
+}
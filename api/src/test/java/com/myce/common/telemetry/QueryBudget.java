@@ -0,0 +1,35 @@
+package com.myce.common.telemetry;
+
+import com.myce.common.telemetry.QueryTelemetry.Scope;
+import com.myce.common.telemetry.QueryTelemetry.ScopeType;
+import java.util.function.Supplier;
+
+/**
+ * 서비스 메서드 단위 쿼리 수 확인 (테스트에서 N+1 회귀 검증용)
+ * <pre>
+ * QueryBudget.assertAtMost(3, () -> reservationService.getReservationDetail(id, memberId));
+ * </pre>
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public static <T> Measured<T> measure(Supplier<T> action) {
+        try (Scope scope = QueryTelemetry.open(ScopeType.MANUAL, "budget")) {
+            T result = action.get();
+            return new Measured<>(result, scope.count());
+        }
+    }
+
+    public static <T> T assertAtMost(int maxQueries, Supplier<T> action) {
+        Measured<T> measured = measure(action);
+        if (measured.queryCount() > maxQueries) {
+            throw new AssertionError("Expected at most " + maxQueries + " queries but was " + measured.queryCount());
+        }
+        return measured.result();
+    }
+
+    public record Measured<T>(T result, int queryCount) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.myce.common.telemetry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.myce.common.telemetry.QueryBudget.Measured;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class QueryCountingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new QueryCountingDataSource(
+                new DriverManagerDataSource("jdbc:h2:mem:query-counting;DB_CLOSE_DELAY=-1")));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS item");
+        jdbcTemplate.execute("CREATE TABLE item (id BIGINT PRIMARY KEY, name VARCHAR(20))");
+    }
+
+    @Test
+    @DisplayName("JdbcTemplate 로 실행한 쿼리도 집계")
+    void countsJdbcTemplateStatements() {
+        Measured<Integer> measured = QueryBudget.measure(() -> {
+            jdbcTemplate.update("INSERT INTO item (id, name) VALUES (?, ?)", 1L, "a");
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM item", Integer.class);
+            return jdbcTemplate.queryForObject("SELECT name FROM item WHERE id = ?", String.class, 1L).length();
+        });
+
+        assertThat(measured.queryCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("배치 실행은 준비한 문장 1건으로 집계")
+    void countsBatchAsOneStatement() {
+        Measured<int[]> measured = QueryBudget.measure(() -> jdbcTemplate.batchUpdate(
+                "INSERT INTO item (id, name) VALUES (?, ?)",
+                List.of(new Object[]{1L, "a"}, new Object[]{2L, "b"}, new Object[]{3L, "c"})));
+
+        assertThat(measured.result()).hasSize(3);
+        assertThat(measured.queryCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,65 @@
+package com.myce.common.telemetry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SqlFingerprintTest {
+
+    @Test
+    @DisplayName("문자열/숫자 리터럴은 ? 로 치환하고 소문자로 정규화")
+    void replacesLiterals() {
+        String fingerprint = SqlFingerprint.of("SELECT * FROM ticket WHERE id = 42 AND name = 'abc'");
+
+        assertThat(fingerprint).isEqualTo("select * from ticket where id = ? and name = ?");
+    }
+
+    @Test
+    @DisplayName("작은따옴표가 이스케이프된 문자열도 하나의 리터럴로 치환")
+    void replacesEscapedStringLiteral() {
+        assertThat(SqlFingerprint.of("select * from expo where title = 'it''s' and id = 1"))
+                .isEqualTo("select * from expo where title = ? and id = ?");
+    }
+
+    @Test
+    @DisplayName("별칭/컬럼명에 포함된 숫자는 유지")
+    void keepsDigitsInIdentifiers() {
+        assertThat(SqlFingerprint.of("select t1_0.ticket_id from ticket t1_0 where t1_0.expo_id=?"))
+                .isEqualTo("select t1_0.ticket_id from ticket t1_0 where t1_0.expo_id=?");
+    }
+
+    @Test
+    @DisplayName("IN 목록은 길이와 관계없이 같은 지문")
+    void collapsesInList() {
+        String three = SqlFingerprint.of("select * from expo e where e.expo_id in (1, 2, 3)");
+        String one = SqlFingerprint.of("select * from expo e where e.expo_id in (?)");
+
+        assertThat(three).isEqualTo("select * from expo e where e.expo_id in (?...)");
+        assertThat(one).isEqualTo(three);
+    }
+
+    @Test
+    @DisplayName("여러 행 VALUES 는 첫 행만 남김")
+    void collapsesMultiRowValues() {
+        assertThat(SqlFingerprint.of("insert into favorite (member_id, expo_id) values (1, 10), (1, 11), (2, 'x')"))
+                .isEqualTo("insert into favorite (member_id, expo_id) values (?, ?)...");
+    }
+
+    @Test
+    @DisplayName("공백은 하나로 축소")
+    void collapsesWhitespace() {
+        assertThat(SqlFingerprint.of("  select  *\n   from\texpo  "))
+                .isEqualTo("select * from expo");
+    }
+
+    @Test
+    @DisplayName("같은 지문은 같은 8자리 식별자")
+    void idIsStable() {
+        String fingerprint = SqlFingerprint.of("select * from expo where expo_id = 1");
+
+        assertThat(SqlFingerprint.id(fingerprint))
+                .hasSize(8)
+                .isEqualTo(SqlFingerprint.id(SqlFingerprint.of("select * from expo where expo_id = 2")));
+    }
+}
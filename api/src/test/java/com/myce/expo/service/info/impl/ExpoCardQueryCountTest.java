@@ -0,0 +1,203 @@
+package com.myce.expo.service.info.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.myce.common.repository.BusinessProfileRepository;
+import com.myce.common.telemetry.QueryBudget;
+import com.myce.common.telemetry.QueryBudget.Measured;
+import com.myce.common.telemetry.QueryTelemetryConfig;
+import com.myce.config.QueryDslConfig;
+import com.myce.dashboard.service.expo.ExpoStatsCounterService;
+import com.myce.expo.dto.ExpoCardResponse;
+import com.myce.expo.entity.Expo;
+import com.myce.expo.entity.Ticket;
+import com.myce.expo.entity.type.ExpoStatus;
+import com.myce.expo.entity.type.TicketType;
+import com.myce.expo.repository.BoothRepository;
+import com.myce.expo.repository.CategoryRepository;
+import com.myce.expo.repository.ExpoRepository;
+import com.myce.expo.repository.ReviewRepository;
+import com.myce.expo.repository.TicketRepository;
+import com.myce.expo.service.admin.mapper.BoothMapper;
+import com.myce.expo.service.cache.ExpoDetailCacheService;
+import com.myce.expo.service.search.ExpoSearchService;
+import com.myce.member.entity.Favorite;
+import com.myce.member.entity.Member;
+import com.myce.member.entity.MemberGrade;
+import com.myce.member.entity.type.GradeCode;
+import com.myce.member.entity.type.Role;
+import com.myce.member.repository.FavoriteRepository;
+import com.myce.member.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 박람회 카드 목록 조회 쿼리 수 검증
+ * - 페이지 크기와 관계없이 쿼리 수가 일정해야 함 (박람회별 티켓/북마크 조회가 생기면 실패)
+ * - 검색 자체는 별도 서비스이므로 미리 조회한 페이지를 반환하도록 대체
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, QueryTelemetryConfig.class})
+class ExpoCardQueryCountTest {
+
+    // 티켓 합계 1회 + 북마크 1회
+    private static final int MAX_QUERIES = 2;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ExpoRepository expoRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private FavoriteRepository favoriteRepository;
+
+    private final ExpoSearchService expoSearchService = mock(ExpoSearchService.class);
+
+    private ExpoInfoServiceImpl expoInfoService;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        expoInfoService = new ExpoInfoServiceImpl(
+                memberRepository,
+                expoRepository,
+                mock(CategoryRepository.class),
+                mock(BusinessProfileRepository.class),
+                mock(ExpoStatsCounterService.class),
+                ticketRepository,
+                favoriteRepository,
+                expoSearchService,
+                mock(BoothRepository.class),
+                mock(ReviewRepository.class),
+                mock(BoothMapper.class),
+                mock(ExpoDetailCacheService.class));
+
+        MemberGrade grade = MemberGrade.builder()
+                .gradeCode(GradeCode.BRONZE)
+                .mileageRate(BigDecimal.ONE)
+                .gradeImageUrl("https://example.com/bronze.png")
+                .isActive(true)
+                .build();
+        entityManager.persist(grade);
+
+        member = Member.builder()
+                .memberGrade(grade)
+                .name("테스터")
+                .loginId("tester")
+                .email("tester@example.com")
+                .role(Role.USER)
+                .build();
+        entityManager.persist(member);
+
+        for (int i = 0; i < 20; i++) {
+            Expo expo = createExpo(i);
+            entityManager.persist(ticket(expo, TicketType.GENERAL, 10));
+            entityManager.persist(ticket(expo, TicketType.EARLY_BIRD, i));
+            if (i % 2 == 0) {
+                entityManager.persist(Favorite.builder().member(member).expo(expo).build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 늘어도 카드 목록 조회 쿼리 수는 일정")
+    void queryCountDoesNotGrowWithPageSize() {
+        Measured<Page<ExpoCardResponse>> small = measure(PageRequest.of(0, 2, Sort.by("id")));
+        Measured<Page<ExpoCardResponse>> large = measure(PageRequest.of(0, 20, Sort.by("id")));
+
+        assertThat(small.queryCount()).isLessThanOrEqualTo(MAX_QUERIES);
+        assertThat(large.queryCount()).isEqualTo(small.queryCount());
+    }
+
+    @Test
+    @DisplayName("남은 티켓 수와 북마크 여부는 박람회별로 합산")
+    void aggregatesPerExpo() {
+        List<ExpoCardResponse> cards = measure(PageRequest.of(0, 20, Sort.by("id"))).result().getContent();
+
+        assertThat(cards).hasSize(20);
+        for (int i = 0; i < cards.size(); i++) {
+            assertThat(cards.get(i).getRemainingQuantity()).isEqualTo(10 + i);
+            assertThat(cards.get(i).isBookmark()).isEqualTo(i % 2 == 0);
+        }
+    }
+
+    private Measured<Page<ExpoCardResponse>> measure(Pageable pageable) {
+        Page<Expo> page = expoRepository.findAll(pageable);
+        entityManager.clear();
+        when(expoSearchService.search(isNull(), isNull(), isNull(), isNull(), isNull(), eq(pageable)))
+                .thenReturn(page);
+
+        return QueryBudget.measure(() -> expoInfoService.getExpoCardsFiltered(
+                member.getId(), null, null, null, null, null, pageable));
+    }
+
+    private Expo createExpo(int index) {
+        LocalDate start = LocalDate.now().plusDays(7);
+        Expo expo = Expo.builder()
+                .member(member)
+                .title("박람회 " + index)
+                .thumbnailUrl("https://example.com/expo.png")
+                .description("설명")
+                .location("서울")
+                .locationDetail("코엑스")
+                .maxReserverCount(100)
+                .latitude(BigDecimal.valueOf(37.5))
+                .longitude(BigDecimal.valueOf(127.0))
+                .startDate(start)
+                .endDate(start.plusDays(3))
+                .status(ExpoStatus.PUBLISHED)
+                .displayStartDate(LocalDate.now())
+                .displayEndDate(start.plusDays(3))
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(18, 0))
+                .isPremium(false)
+                .build();
+        entityManager.persist(expo);
+        return expo;
+    }
+
+    private Ticket ticket(Expo expo, TicketType type, int remainingQuantity) {
+        LocalDate today = LocalDate.now();
+        return Ticket.builder()
+                .expo(expo)
+                .name(type.name())
+                .description("티켓")
+                .type(type)
+                .price(10000)
+                .remainingQuantity(remainingQuantity)
+                .totalQuantity(100)
+                .saleStartDate(today)
+                .saleEndDate(today.plusDays(6))
+                .useStartDate(today.plusDays(7))
+                .useEndDate(today.plusDays(10))
+                .build();
+    }
+}
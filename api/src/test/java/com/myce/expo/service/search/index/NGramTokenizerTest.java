@@ -0,0 +1,50 @@
+package com.myce.expo.service.search.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NGramTokenizerTest {
+
+    @Test
+    @DisplayName("색인은 공백으로 나눈 토큰마다 음절 unigram 과 bigram 을 기록")
+    void indexesUnigramsAndBigrams() {
+        assertThat(NGramTokenizer.indexGrams("서울 박람회")).containsOnly(
+                entry("서", 1), entry("울", 1), entry("서울", 1),
+                entry("박", 1), entry("람", 1), entry("회", 1), entry("박람", 1), entry("람회", 1));
+    }
+
+    @Test
+    @DisplayName("반복되는 gram 은 빈도로 누적")
+    void countsRepeatedGrams() {
+        assertThat(NGramTokenizer.indexGrams("아아아")).containsOnly(entry("아", 3), entry("아아", 2));
+    }
+
+    @Test
+    @DisplayName("검색어는 bigram 만 사용하고 토큰 경계를 넘는 bigram 은 만들지 않음")
+    void queryUsesBigramsWithinTokens() {
+        assertThat(NGramTokenizer.queryGrams("박람회")).containsExactly("박람", "람회");
+        assertThat(NGramTokenizer.queryGrams("Food-Expo!")).containsExactly("fo", "oo", "od", "ex", "xp", "po");
+    }
+
+    @Test
+    @DisplayName("한글과 영문/숫자 경계에서 토큰 분리")
+    void splitsOnScriptBoundary() {
+        assertThat(NGramTokenizer.queryGrams("2025서울")).containsExactly("20", "02", "25", "서울");
+    }
+
+    @Test
+    @DisplayName("한 글자 토큰은 unigram 으로 검색하고 전각 문자는 NFKC 로 정규화")
+    void singleCharacterTokenAndNormalization() {
+        assertThat(NGramTokenizer.queryGrams("ＡＩ 전")).containsExactly("ai", "전");
+    }
+
+    @Test
+    @DisplayName("빈 입력은 gram 없음")
+    void emptyInput() {
+        assertThat(NGramTokenizer.queryGrams("  ")).isEmpty();
+        assertThat(NGramTokenizer.indexGrams(null)).isEmpty();
+    }
+}
@@ -0,0 +1,118 @@
+package com.myce.reservation.service.Impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.myce.reservation.repository.ReservationCodeSequenceRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ReservationCodeServiceImplTest {
+
+    private static final long CODE_SPACE = 2_176_782_336L; // 36^6
+    private static final String DATE = "20261018";
+
+    @Test
+    @DisplayName("순열은 코드 공간 안에서 일대일 대응")
+    void permutationIsInjectiveAndInRange() {
+        ReservationCodeServiceImpl service = service("secret-a", new AtomicLong());
+        Set<Long> permuted = new HashSet<>();
+
+        for (long sequence = 1; sequence <= 200_000; sequence++) {
+            long value = service.permute(sequence, DATE);
+            assertThat(value).isBetween(0L, CODE_SPACE - 1);
+            permuted.add(value);
+        }
+
+        assertThat(permuted).hasSize(200_000);
+    }
+
+    @Test
+    @DisplayName("같은 키/날짜면 같은 결과, 키나 날짜가 다르면 다른 결과")
+    void permutationDependsOnKeyAndDate() {
+        ReservationCodeServiceImpl service = service("secret-a", new AtomicLong());
+        ReservationCodeServiceImpl sameKey = service("secret-a", new AtomicLong());
+        ReservationCodeServiceImpl otherKey = service("secret-b", new AtomicLong());
+
+        int keyCollisions = 0;
+        int dateCollisions = 0;
+        for (long sequence = 1; sequence <= 1_000; sequence++) {
+            assertThat(sameKey.permute(sequence, DATE)).isEqualTo(service.permute(sequence, DATE));
+            if (otherKey.permute(sequence, DATE) == service.permute(sequence, DATE)) {
+                keyCollisions++;
+            }
+            if (service.permute(sequence, "20261019") == service.permute(sequence, DATE)) {
+                dateCollisions++;
+            }
+        }
+
+        assertThat(keyCollisions).isLessThanOrEqualTo(1);
+        assertThat(dateCollisions).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("연속 시퀀스는 연속 코드로 드러나지 않음")
+    void consecutiveSequencesAreNotAdjacent() {
+        ReservationCodeServiceImpl service = service("secret-a", new AtomicLong());
+
+        int adjacent = 0;
+        for (long sequence = 1; sequence <= 1_000; sequence++) {
+            if (Math.abs(service.permute(sequence + 1, DATE) - service.permute(sequence, DATE)) <= 1) {
+                adjacent++;
+            }
+        }
+
+        assertThat(adjacent).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 노드가 시퀀스 저장소를 공유하면 동시에 발급해도 코드가 중복되지 않음")
+    void codesAreUniqueAcrossNodes() throws Exception {
+        AtomicLong sharedSequence = new AtomicLong();
+        List<ReservationCodeServiceImpl> nodes = List.of(
+                service("secret-a", sharedSequence),
+                service("secret-a", sharedSequence),
+                service("secret-a", sharedSequence),
+                service("secret-a", sharedSequence));
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 16; i++) {
+                ReservationCodeServiceImpl node = nodes.get(i % nodes.size());
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 500; j++) {
+                        codes.add(node.generate(1L));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(codes).hasSize(16 * 500);
+        assertThat(codes).allMatch(code -> code.matches("RES001-\\d{8}-[0-9A-Z]{6}"));
+    }
+
+    private ReservationCodeServiceImpl service(String secret, AtomicLong sequence) {
+        ReservationCodeSequenceRepository repository = (date, blockSize) -> sequence.addAndGet(blockSize);
+        ReservationCodeServiceImpl service = new ReservationCodeServiceImpl(repository);
+        ReflectionTestUtils.setField(service, "secret", secret);
+        service.init();
+        return service;
+    }
+}
@@ -53,6 +53,9 @@ public enum CustomErrorCode {
     QR_REISSUE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "Q009", "QR 코드 재발급 중 오류가 발생했습니다."),
     QR_APPROVED(HttpStatus.BAD_REQUEST, "Q010", "QR 코드 발급 기간이 아닙니다."),
     QR_NOT_MANUAL_CHECK_IN(HttpStatus.BAD_REQUEST, "Q011", "입장 전(APPROVE, ACTIVE) 상태의 QR만 수기입장 처리가 가능합니다."),
+    QR_IMAGE_FORMAT_INVALID(HttpStatus.BAD_REQUEST, "Q012", "지원하지 않는 QR 이미지 형식입니다."),
+    QR_INVALID_TOKEN(HttpStatus.BAD_REQUEST, "Q013", "위조되었거나 손상된 QR 코드입니다."),
+    QR_GATE_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "Q014", "입장 게이트 정보를 준비 중입니다. 잠시 후 다시 시도해주세요."),
 
     // S3 S
     S3_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "S001", "S3 파일 업로드에 실패했습니다."),
@@ -121,6 +124,9 @@ public enum CustomErrorCode {
     RESERVER_INFO_NOT_FOUND(HttpStatus.BAD_REQUEST, "R003", "예매자 개인정보들은 비어 있을 수 없습니다."),
     RESERVATION_CODE_INVALID_INPUT(HttpStatus.BAD_REQUEST, "R004", "예매 코드를 만들기 위한 값이 유효하지 않습니다."),
     RESERVATION_CODE_GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "R005", "예매 코드 생성에 실패했습니다."),
+    WAITING_ROOM_NOT_ADMITTED(HttpStatus.TOO_MANY_REQUESTS, "R006", "아직 예매 대기 순서가 아닙니다. 대기열에서 입장 후 다시 시도해주세요."),
+    WAITING_ROOM_TOKEN_INVALID(HttpStatus.BAD_REQUEST, "R007", "유효하지 않거나 만료된 대기열 토큰입니다."),
+    WAITING_ROOM_ENTER_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "R008", "대기열 진입 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     // 정산 S
     FEE_SETTING_NOT_FOUND(HttpStatus.NOT_FOUND, "F001" , "요금 설정이 없습니다"),
@@ -137,6 +143,7 @@ public enum CustomErrorCode {
     REFUND_SEVEN_DAY_RULE_VIOLATION(HttpStatus.BAD_REQUEST, "RF003", "개최 7일 전에는 환불이 불가능합니다."),
     ALREADY_REFUNDED(HttpStatus.NOT_FOUND, "RF001", "이미 환불이 완료된 결제 입니다."),
     REFUND_NOT_ALLOWED( HttpStatus.NOT_ACCEPTABLE, "RF004", "환불이 불가능한 날짜입니다"),
+    EXPO_REFUND_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "RF005", "박람회 취소 환불 작업이 존재하지 않습니다."),
 
     // 리뷰 RV
     REVIEW_NOT_FOUND(HttpStatus.NOT_FOUND, "RV001", "리뷰를 찾을 수 없습니다."),
@@ -155,6 +162,10 @@ public enum CustomErrorCode {
 
     // 엑셀 EX
     EXCEL_EXPORT_FAILED(HttpStatus.NOT_FOUND, "EX001", "엑셀 추출에 실패하였습니다."),
+    INVALID_EXPORT_FORMAT(HttpStatus.BAD_REQUEST, "EX002", "지원하지 않는 내보내기 형식입니다."),
+    EXPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "EX003", "내보내기 작업이 존재하지 않습니다."),
+    EXPORT_JOB_NOT_READY(HttpStatus.CONFLICT, "EX004", "내보내기 파일이 아직 준비되지 않았습니다."),
+    EXPORT_JOB_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "EX005", "내보내기 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     // 이메일 EM
     INVALID_EMAIL_LOG(HttpStatus.NOT_FOUND, "EM001", "유효하지 않은 이메일 로그 입니다."),
@@ -0,0 +1,41 @@
+package com.myce.common.repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 백그라운드 내보내기 작업 상태 저장소 (서버 간 공유)
+ */
+public interface ExportJobRepository {
+
+    void create(ExportJob job, Duration ttl);
+
+    Optional<ExportJob> findById(String jobId);
+
+    void markRunning(String jobId);
+
+    void updateProgress(String jobId, long rowCount);
+
+    void complete(String jobId, long rowCount, String artifactKey);
+
+    void fail(String jobId, String error);
+
+    enum Status {
+        QUEUED, RUNNING, DONE, FAILED
+    }
+
+    record ExportJob(
+            String id,
+            String ownerKey,
+            String fileName,
+            String contentType,
+            Status status,
+            long rowCount,
+            String artifactKey,
+            String error,
+            LocalDateTime createdAt,
+            LocalDateTime finishedAt
+    ) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.myce.common.repository.impl;
+
+import com.myce.common.repository.ExportJobRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ExportJobRepositoryImpl implements ExportJobRepository {
+
+    private static final String KEY_PREFIX = "export:job:";
+
+    private static final String OWNER = "owner";
+    private static final String FILE_NAME = "fileName";
+    private static final String CONTENT_TYPE = "contentType";
+    private static final String STATUS = "status";
+    private static final String ROW_COUNT = "rowCount";
+    private static final String ARTIFACT_KEY = "artifactKey";
+    private static final String ERROR = "error";
+    private static final String CREATED_AT = "createdAt";
+    private static final String FINISHED_AT = "finishedAt";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void create(ExportJob job, Duration ttl) {
+        String key = key(job.id());
+        Map<String, String> fields = new HashMap<>();
+        fields.put(OWNER, job.ownerKey());
+        fields.put(FILE_NAME, job.fileName());
+        fields.put(CONTENT_TYPE, job.contentType());
+        fields.put(STATUS, job.status().name());
+        fields.put(ROW_COUNT, String.valueOf(job.rowCount()));
+        fields.put(CREATED_AT, job.createdAt().toString());
+        stringRedisTemplate.opsForHash().putAll(key, fields);
+        stringRedisTemplate.expire(key, ttl);
+    }
+
+    @Override
+    public Optional<ExportJob> findById(String jobId) {
+        Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(key(jobId));
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new ExportJob(
+                jobId,
+                (String) fields.get(OWNER),
+                (String) fields.get(FILE_NAME),
+                (String) fields.get(CONTENT_TYPE),
+                Status.valueOf((String) fields.get(STATUS)),
+                Long.parseLong((String) fields.getOrDefault(ROW_COUNT, "0")),
+                (String) fields.get(ARTIFACT_KEY),
+                (String) fields.get(ERROR),
+                parse((String) fields.get(CREATED_AT)),
+                parse((String) fields.get(FINISHED_AT))));
+    }
+
+    @Override
+    public void markRunning(String jobId) {
+        stringRedisTemplate.opsForHash().put(key(jobId), STATUS, Status.RUNNING.name());
+    }
+
+    @Override
+    public void updateProgress(String jobId, long rowCount) {
+        stringRedisTemplate.opsForHash().put(key(jobId), ROW_COUNT, String.valueOf(rowCount));
+    }
+
+    @Override
+    public void complete(String jobId, long rowCount, String artifactKey) {
+        stringRedisTemplate.opsForHash().putAll(key(jobId), Map.of(
+                STATUS, Status.DONE.name(),
+                ROW_COUNT, String.valueOf(rowCount),
+                ARTIFACT_KEY, artifactKey,
+                FINISHED_AT, LocalDateTime.now().toString()));
+    }
+
+    @Override
+    public void fail(String jobId, String error) {
+        String message = error == null ? "" : error;
+        stringRedisTemplate.opsForHash().putAll(key(jobId), Map.of(
+                STATUS, Status.FAILED.name(),
+                ERROR, message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message,
+                FINISHED_AT, LocalDateTime.now().toString()));
+    }
+
+    private LocalDateTime parse(String value) {
+        return value == null ? null : LocalDateTime.parse(value);
+    }
+
+    private String key(String jobId) {
+        return KEY_PREFIX + jobId;
+    }
+}
@@ -3,6 +3,7 @@ package com.myce.expo.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import com.myce.expo.entity.listener.ExpoChangeListener;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
@@ -16,7 +17,7 @@ import java.time.LocalDateTime;
                         columnNames = {"category_id", "expo_id"})
         }
 )
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, ExpoChangeListener.class})
 public class ExpoCategory {
 
     @Id
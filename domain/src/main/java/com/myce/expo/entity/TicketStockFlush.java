@@ -0,0 +1,27 @@
+package com.myce.expo.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DB 에 반영이 끝난 판매 수량 flush 기록
+ * - 판매 수량 반영과 같은 트랜잭션에서 저장해, Redis 정리 전에 장애가 나도 같은 flush 를 다시 반영하지 않음
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "ticket_stock_flush")
+public class TicketStockFlush {
+
+    @Id
+    @Column(name = "flush_id", length = 36)
+    private String flushId;
+
+    @Column(name = "applied_at", nullable = false, columnDefinition = "TIMESTAMP")
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,33 @@
+package com.myce.expo.entity.listener;
+
+import com.myce.expo.entity.Expo;
+import com.myce.expo.entity.ExpoCategory;
+import com.myce.expo.event.ExpoChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 박람회/박람회 카테고리 변경 시 ExpoChangedEvent 발행
+ * - 더티 체킹으로 반영되는 모든 변경(상태 변경 포함)을 한 곳에서 감지
+ */
+@Component
+@RequiredArgsConstructor
+public class ExpoChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof Expo expo) {
+            eventPublisher.publishEvent(new ExpoChangedEvent(expo.getId()));
+        } else if (entity instanceof ExpoCategory expoCategory) {
+            eventPublisher.publishEvent(new ExpoChangedEvent(expoCategory.getExpo().getId()));
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.myce.expo.event;
+
+/**
+ * 박람회 생성/수정/상태 변경/삭제 이벤트 (검색 색인 갱신용)
+ */
+public record ExpoChangedEvent(Long expoId) {
+}
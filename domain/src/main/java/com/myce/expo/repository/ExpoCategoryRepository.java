@@ -3,13 +3,23 @@ package com.myce.expo.repository;
 import com.myce.expo.entity.Expo;
 import com.myce.expo.entity.ExpoCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ExpoCategoryRepository extends JpaRepository<ExpoCategory, Long> {
     // 특정 Expo에 연결된 모든 ExpoCategory 엔티티를 찾습니다.
     List<ExpoCategory> findByExpoId(Long expoId);
 
+    // 검색 색인용 - 박람회별 카테고리 ID (expoId, categoryId)
+    @Query("SELECT ec.expo.id, ec.category.id FROM ExpoCategory ec")
+    List<Object[]> findAllExpoCategoryIds();
+
+    @Query("SELECT ec.expo.id, ec.category.id FROM ExpoCategory ec WHERE ec.expo.id IN :expoIds")
+    List<Object[]> findExpoCategoryIdsByExpoIdIn(@Param("expoIds") Collection<Long> expoIds);
+
     // 특정 Expo에 연결된 모든 ExpoCategory 엔티티를 삭제합니다.
     void deleteAllByExpo(Expo expo);
 }
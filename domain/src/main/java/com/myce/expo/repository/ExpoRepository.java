@@ -25,6 +25,9 @@ public interface ExpoRepository extends JpaRepository<Expo, Long> {
     """)
     Optional<Long> findMemberIdById(Long expoId);
 
+    // 검색 색인 동기화용 - 마지막 동기화 이후 변경된 박람회
+    List<Expo> findByUpdatedAtAfter(LocalDateTime updatedAt);
+
     // AI 상담용 - 최신 박람회 5개 조회
     @Query("SELECT e FROM Expo e "
             + "ORDER BY e.createdAt DESC "
@@ -97,6 +100,10 @@ public interface ExpoRepository extends JpaRepository<Expo, Long> {
     
     // 스케줄러용 - 게시 중인 박람회 중 게시 종료일이 오늘 이전인 것들 조회  
     List<Expo> findAllByDisplayEndDateLessThanAndStatus(LocalDate date, ExpoStatus status);
+
+    // 상세 캐시 갱신용 - 게시 시작/종료 경계에 걸린 박람회 ID
+    @Query("SELECT e.id FROM Expo e WHERE e.displayStartDate = :startDate OR e.displayEndDate = :endDate")
+    List<Long> findIdsByDisplayBoundary(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
     
     // 현재 박람회 관리용 - 여러 상태 조회
     Page<Expo> findByStatusIn(List<ExpoStatus> statuses, Pageable pageable);
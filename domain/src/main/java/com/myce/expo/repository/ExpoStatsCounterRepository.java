@@ -0,0 +1,30 @@
+package com.myce.expo.repository;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 박람회 대시보드 실시간 집계 카운터 (Redis)
+ * - 박람회별 해시 하나에 필드 단위로 카운터를 보관
+ * - 예약 확정/취소, 체크인 시 증감하고 주기적으로 DB 기준으로 재계산
+ */
+public interface ExpoStatsCounterRepository {
+
+    // 카운터가 적재되어 있을 때만 증감 (미적재 시 다음 조회에서 DB 기준으로 적재)
+    boolean increment(Long expoId, Map<String, Long> deltas);
+
+    // DB 기준 값으로 전체 적재 (ttlSeconds 동안 유지)
+    void load(Long expoId, Map<String, Long> counters, long ttlSeconds);
+
+    // DB 기준 값으로 재계산 (남은 유지 시간은 그대로, 이미 만료된 카운터는 되살리지 않음)
+    boolean reconcile(Long expoId, Map<String, Long> counters);
+
+    // 적재되지 않았으면 null
+    Map<String, Long> findAll(Long expoId);
+
+    boolean exists(Long expoId);
+
+    Set<Long> findLoadedExpoIds();
+
+    void evict(Long expoId);
+}
@@ -2,12 +2,15 @@ package com.myce.expo.repository;
 
 import com.myce.expo.entity.Ticket;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TicketRepository extends JpaRepository<Ticket,Long> {
@@ -15,6 +18,15 @@ public interface TicketRepository extends JpaRepository<Ticket,Long> {
     List<Ticket> findByExpoIdOrderByTypeAscSaleStartDateAsc(Long expoId);
     List<Ticket> findByExpoIdOrderByCreatedAtAsc(Long expoId);
 
+    // 박람회 목록용 - 박람회별 남은 티켓 수 합계 (expoId, sum)
+    @Query("SELECT t.expo.id, COALESCE(SUM(t.remainingQuantity), 0) FROM Ticket t " +
+            "WHERE t.expo.id IN :expoIds GROUP BY t.expo.id")
+    List<Object[]> sumRemainingQuantityByExpoIds(@Param("expoIds") Collection<Long> expoIds);
+
+    // 박람회 상세용 - 현재 예약 수 (총 발행 수량 - 남은 수량)
+    @Query("SELECT COALESCE(SUM(t.totalQuantity - t.remainingQuantity), 0) FROM Ticket t WHERE t.expo.id = :expoId")
+    Long sumReservedQuantityByExpoId(@Param("expoId") Long expoId);
+
     @Query("""
         select t
         from Ticket t
@@ -23,5 +35,24 @@ public interface TicketRepository extends JpaRepository<Ticket,Long> {
     """)
     List<Ticket> findAllByExpoIdAndDateContains(@Param("expoId") Long expoId,
                                                 @Param("today") LocalDate today);
-}
 
+    // === 재고 카운터 적재/정합성 맞춤용 ===
+
+    @Query("SELECT t.remainingQuantity FROM Ticket t WHERE t.id = :ticketId")
+    Optional<Integer> findRemainingQuantityById(@Param("ticketId") Long ticketId);
+
+    @Query("SELECT t.id, t.remainingQuantity FROM Ticket t WHERE t.id IN :ticketIds")
+    List<Object[]> findRemainingQuantitiesByIdIn(@Param("ticketIds") Collection<Long> ticketIds);
+
+    // 남은 수량이 충분할 때만 차감 (영향받은 행이 0이면 매진)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Ticket t SET t.remainingQuantity = t.remainingQuantity - :quantity " +
+            "WHERE t.id = :ticketId AND t.remainingQuantity >= :quantity")
+    int decreaseRemainingQuantity(@Param("ticketId") Long ticketId, @Param("quantity") int quantity);
+
+    // 엔티티 조회 없이 수량 증감 (음수면 차감)
+    // 같은 트랜잭션에서 변경된 엔티티가 clear 로 유실되지 않도록 먼저 flush
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Ticket t SET t.remainingQuantity = t.remainingQuantity + :delta WHERE t.id = :ticketId")
+    int addRemainingQuantity(@Param("ticketId") Long ticketId, @Param("delta") int delta);
+}
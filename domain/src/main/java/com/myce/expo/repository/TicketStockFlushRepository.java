@@ -0,0 +1,23 @@
+package com.myce.expo.repository;
+
+import com.myce.expo.entity.TicketStockFlush;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TicketStockFlushRepository extends JpaRepository<TicketStockFlush, String> {
+
+    // 처음 반영하는 flush 면 1, 이미 반영된 flush 면 0
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO ticket_stock_flush (flush_id, applied_at) VALUES (:flushId, :now)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("flushId") String flushId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM TicketStockFlush f WHERE f.appliedAt < :before")
+    int deleteAppliedBefore(@Param("before") LocalDateTime before);
+}
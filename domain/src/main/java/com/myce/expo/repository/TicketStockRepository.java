@@ -0,0 +1,65 @@
+package com.myce.expo.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 티켓 실시간 재고 카운터 (Redis)
+ * - 판매 가능 수량은 Redis 카운터에서 Lua 스크립트로 원자적으로 차감
+ * - MySQL remaining_quantity 는 확정 판매분만 배치로 반영되는 원본 데이터
+ */
+public interface TicketStockRepository {
+
+    // Redis 에 해당 티켓 카운터가 아직 적재되지 않음
+    long NOT_LOADED = -2L;
+
+    // 남은 수량 부족
+    long SOLD_OUT = -1L;
+
+    // 재고 선점 (성공 시 선점 후 남은 수량 반환)
+    long claim(Long ticketId, String holdId, int quantity, long expireAtMillis);
+
+    // 선점 해제 (해제된 수량 반환, 이미 해제/확정된 선점이면 0)
+    int release(Long ticketId, String holdId);
+
+    // 선점 확정 (선점이 만료된 경우 재고에서 직접 차감 시도)
+    long confirm(Long ticketId, String holdId, int quantity);
+
+    // 결제 트랜잭션 동안 선점 유지 (만료 시각 연장, 이미 만료됐으면 다시 선점, 성공 시 선점 수량 반환)
+    long pin(Long ticketId, String holdId, int quantity, long expireAtMillis);
+
+    // 완료된 flush 횟수 - DB 수량을 읽기 전에 조회해 load/reconcile 에 전달
+    long flushGeneration();
+
+    // DB 수량 기준으로 카운터 적재 (이미 적재되어 있거나, DB 조회 이후 flush 가 끝났으면 무시)
+    boolean load(Long ticketId, int dbRemainingQuantity, long flushGeneration);
+
+    // DB 수량 기준으로 카운터 재계산 (flush 진행 중이거나, DB 조회 이후 flush 가 끝났으면 무시)
+    boolean reconcile(Long ticketId, int dbRemainingQuantity, long flushGeneration);
+
+    // 카운터가 적재되어 있을 때만 수량 증감
+    void adjust(Long ticketId, int delta);
+
+    // 카운터 제거 (다음 선점 시 DB 에서 재적재)
+    void evict(Long ticketId);
+
+    Set<Long> findLoadedTicketIds();
+
+    List<String> findExpiredHoldIds(long nowMillis, int limit);
+
+    Long findHoldTicketId(String holdId);
+
+    // 선점 정보 없이 만료 목록에만 남은 항목 정리
+    void removeExpiredHold(String holdId);
+
+    // DB 미반영 판매 수량을 flushing 영역으로 옮기고 flush id 와 함께 반환 (반영할 것이 없으면 null)
+    // 이전 flush 가 정리되지 않았으면 같은 id 로 다시 반환
+    SoldFlush beginFlush();
+
+    // DB 반영이 끝난 flushing 영역 정리 후 flush 세대 증가
+    void completeFlush();
+
+    record SoldFlush(String flushId, Map<Long, Integer> soldQuantities) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.myce.expo.repository.impl;
+
+import com.myce.expo.repository.ExpoStatsCounterRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ExpoStatsCounterRepositoryImpl implements ExpoStatsCounterRepository {
+
+    private static final String COUNTER_KEY_FORMAT = "expo:stats:%d:live";
+    private static final String LOADED_EXPOS_KEY = "expo:stats:live:expos";
+
+    // 빈 카운터도 적재 여부를 구분할 수 있도록 항상 남겨두는 필드
+    private static final String LOADED_FIELD = "_loaded";
+
+    // KEYS: counter / ARGV: field, delta, field, delta ...
+    private static final DefaultRedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            for i = 1, #ARGV, 2 do
+                redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS: counter, loaded / ARGV: ttlSeconds(-1 이면 기존 유지), expoId, field, value ...
+    private static final DefaultRedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+            local ttl = tonumber(ARGV[1])
+            if ttl < 0 then
+                ttl = redis.call('TTL', KEYS[1])
+                if ttl < 0 then return 0 end
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], '_loaded', '1')
+            for i = 3, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ttl)
+            redis.call('SADD', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public boolean increment(Long expoId, Map<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return false;
+        }
+        List<String> args = new ArrayList<>();
+        deltas.forEach((field, delta) -> {
+            args.add(field);
+            args.add(delta.toString());
+        });
+        Long result = stringRedisTemplate.execute(INCREMENT_SCRIPT,
+                List.of(counterKey(expoId)), args.toArray());
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public void load(Long expoId, Map<String, Long> counters, long ttlSeconds) {
+        executeReplace(expoId, counters, ttlSeconds);
+    }
+
+    @Override
+    public boolean reconcile(Long expoId, Map<String, Long> counters) {
+        return executeReplace(expoId, counters, -1);
+    }
+
+    @Override
+    public Map<String, Long> findAll(Long expoId) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(counterKey(expoId));
+        if (entries.isEmpty()) {
+            return null;
+        }
+        Map<String, Long> counters = new HashMap<>();
+        entries.forEach((field, value) -> {
+            if (!LOADED_FIELD.equals(field)) {
+                counters.put(field.toString(), Long.valueOf(value.toString()));
+            }
+        });
+        return counters;
+    }
+
+    @Override
+    public boolean exists(Long expoId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(counterKey(expoId)));
+    }
+
+    @Override
+    public Set<Long> findLoadedExpoIds() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(LOADED_EXPOS_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    @Override
+    public void evict(Long expoId) {
+        stringRedisTemplate.delete(counterKey(expoId));
+        stringRedisTemplate.opsForSet().remove(LOADED_EXPOS_KEY, expoId.toString());
+    }
+
+    private boolean executeReplace(Long expoId, Map<String, Long> counters, long ttlSeconds) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttlSeconds));
+        args.add(expoId.toString());
+        counters.forEach((field, value) -> {
+            args.add(field);
+            args.add(value.toString());
+        });
+        Long result = stringRedisTemplate.execute(REPLACE_SCRIPT,
+                List.of(counterKey(expoId), LOADED_EXPOS_KEY), args.toArray());
+        return result != null && result == 1L;
+    }
+
+    private String counterKey(Long expoId) {
+        return String.format(COUNTER_KEY_FORMAT, expoId);
+    }
+}
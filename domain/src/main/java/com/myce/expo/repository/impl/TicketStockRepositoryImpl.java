@@ -0,0 +1,264 @@
+package com.myce.expo.repository.impl;
+
+import com.myce.expo.repository.TicketStockRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class TicketStockRepositoryImpl implements TicketStockRepository {
+
+    private static final String STOCK_KEY_FORMAT = "ticket:stock:%d";
+    private static final String LOADED_TICKETS_KEY = "ticket:stock:tickets";
+    private static final String HELD_KEY = "ticket:stock:held";
+    private static final String SOLD_KEY = "ticket:stock:sold";
+    private static final String FLUSHING_KEY = "ticket:stock:sold:flushing";
+    private static final String FLUSH_ID_KEY = "ticket:stock:sold:flushing:id";
+    private static final String FLUSH_GENERATION_KEY = "ticket:stock:sold:flush:generation";
+    private static final String HOLD_KEY_FORMAT = "ticket:hold:%s";
+    private static final String HOLD_EXPIRY_KEY = "ticket:hold:expiry";
+
+    // KEYS: stock, held, hold, expiry / ARGV: ticketId, quantity, holdId, expireAt
+    private static final DefaultRedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local stock = redis.call('GET', KEYS[1])
+            if not stock then return -2 end
+            local quantity = tonumber(ARGV[2])
+            if tonumber(stock) < quantity then return -1 end
+            redis.call('DECRBY', KEYS[1], quantity)
+            redis.call('HINCRBY', KEYS[2], ARGV[1], quantity)
+            redis.call('HSET', KEYS[3], 'ticketId', ARGV[1], 'quantity', quantity)
+            redis.call('ZADD', KEYS[4], ARGV[4], ARGV[3])
+            return tonumber(stock) - quantity
+            """, Long.class);
+
+    // KEYS: stock, held, hold, expiry / ARGV: ticketId, holdId
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local quantity = redis.call('HGET', KEYS[3], 'quantity')
+            if not quantity then
+                redis.call('ZREM', KEYS[4], ARGV[2])
+                return 0
+            end
+            redis.call('DEL', KEYS[3])
+            redis.call('ZREM', KEYS[4], ARGV[2])
+            redis.call('HINCRBY', KEYS[2], ARGV[1], -tonumber(quantity))
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('INCRBY', KEYS[1], quantity)
+            end
+            return tonumber(quantity)
+            """, Long.class);
+
+    // KEYS: stock, held, hold, expiry, sold / ARGV: ticketId, holdId, quantity
+    private static final DefaultRedisScript<Long> CONFIRM_SCRIPT = new DefaultRedisScript<>("""
+            local quantity = redis.call('HGET', KEYS[3], 'quantity')
+            if quantity then
+                redis.call('DEL', KEYS[3])
+                redis.call('ZREM', KEYS[4], ARGV[2])
+                redis.call('HINCRBY', KEYS[2], ARGV[1], -tonumber(quantity))
+            else
+                local stock = redis.call('GET', KEYS[1])
+                if not stock then return -2 end
+                quantity = ARGV[3]
+                if tonumber(stock) < tonumber(quantity) then return -1 end
+                redis.call('DECRBY', KEYS[1], quantity)
+            end
+            redis.call('HINCRBY', KEYS[5], ARGV[1], quantity)
+            return tonumber(quantity)
+            """, Long.class);
+
+    // KEYS: stock, held, hold, expiry / ARGV: ticketId, holdId, quantity, expireAt
+    // 선점을 유지한 채 만료 시각만 연장, 선점이 이미 만료/해제됐으면 재고에서 다시 선점
+    private static final DefaultRedisScript<Long> PIN_SCRIPT = new DefaultRedisScript<>("""
+            local quantity = redis.call('HGET', KEYS[3], 'quantity')
+            if quantity then
+                redis.call('ZADD', KEYS[4], ARGV[4], ARGV[2])
+                return tonumber(quantity)
+            end
+            local stock = redis.call('GET', KEYS[1])
+            if not stock then return -2 end
+            quantity = tonumber(ARGV[3])
+            if tonumber(stock) < quantity then return -1 end
+            redis.call('DECRBY', KEYS[1], quantity)
+            redis.call('HINCRBY', KEYS[2], ARGV[1], quantity)
+            redis.call('HSET', KEYS[3], 'ticketId', ARGV[1], 'quantity', quantity)
+            redis.call('ZADD', KEYS[4], ARGV[4], ARGV[2])
+            return quantity
+            """, Long.class);
+
+    // KEYS: stock, held, sold, flushing, loaded, flushGeneration / ARGV: ticketId, dbRemaining, overwrite, flushGeneration
+    // DB 조회 이후 flush 가 끝났으면 그 판매분이 DB 값과 sold 양쪽에서 빠져 카운터가 부풀려지므로 적재하지 않음
+    private static final DefaultRedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if ARGV[3] == '0' and redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            if ARGV[3] == '1' and redis.call('EXISTS', KEYS[4]) == 1 then return 0 end
+            if (redis.call('GET', KEYS[6]) or '0') ~= ARGV[4] then return 0 end
+            local held = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0')
+            local sold = tonumber(redis.call('HGET', KEYS[3], ARGV[1]) or '0')
+            local flushing = tonumber(redis.call('HGET', KEYS[4], ARGV[1]) or '0')
+            redis.call('SET', KEYS[1], tonumber(ARGV[2]) - held - sold - flushing)
+            redis.call('SADD', KEYS[5], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // KEYS: stock / ARGV: delta
+    private static final DefaultRedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            redis.call('INCRBY', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // KEYS: sold, flushing, flushId / ARGV: 새 flush id
+    // 이전 flush 가 정리되지 않았으면 같은 영역과 id 를 그대로 반환 (DB 에 이미 반영됐는지는 id 로 판별)
+    private static final DefaultRedisScript<String> BEGIN_FLUSH_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                local flushId = redis.call('GET', KEYS[3])
+                if flushId then return flushId end
+                redis.call('SET', KEYS[3], ARGV[1])
+                return ARGV[1]
+            end
+            if redis.call('EXISTS', KEYS[1]) == 0 then return false end
+            redis.call('RENAME', KEYS[1], KEYS[2])
+            redis.call('SET', KEYS[3], ARGV[1])
+            return ARGV[1]
+            """, String.class);
+
+    // KEYS: flushing, flushId, flushGeneration
+    private static final DefaultRedisScript<Long> COMPLETE_FLUSH_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1], KEYS[2])
+            return redis.call('INCR', KEYS[3])
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public long claim(Long ticketId, String holdId, int quantity, long expireAtMillis) {
+        Long result = stringRedisTemplate.execute(CLAIM_SCRIPT,
+                List.of(stockKey(ticketId), HELD_KEY, holdKey(holdId), HOLD_EXPIRY_KEY),
+                ticketId.toString(), String.valueOf(quantity), holdId, String.valueOf(expireAtMillis));
+        return result == null ? NOT_LOADED : result;
+    }
+
+    @Override
+    public int release(Long ticketId, String holdId) {
+        Long result = stringRedisTemplate.execute(RELEASE_SCRIPT,
+                List.of(stockKey(ticketId), HELD_KEY, holdKey(holdId), HOLD_EXPIRY_KEY),
+                ticketId.toString(), holdId);
+        return result == null ? 0 : result.intValue();
+    }
+
+    @Override
+    public long confirm(Long ticketId, String holdId, int quantity) {
+        Long result = stringRedisTemplate.execute(CONFIRM_SCRIPT,
+                List.of(stockKey(ticketId), HELD_KEY, holdKey(holdId), HOLD_EXPIRY_KEY, SOLD_KEY),
+                ticketId.toString(), holdId, String.valueOf(quantity));
+        return result == null ? NOT_LOADED : result;
+    }
+
+    @Override
+    public long pin(Long ticketId, String holdId, int quantity, long expireAtMillis) {
+        Long result = stringRedisTemplate.execute(PIN_SCRIPT,
+                List.of(stockKey(ticketId), HELD_KEY, holdKey(holdId), HOLD_EXPIRY_KEY),
+                ticketId.toString(), holdId, String.valueOf(quantity), String.valueOf(expireAtMillis));
+        return result == null ? NOT_LOADED : result;
+    }
+
+    @Override
+    public long flushGeneration() {
+        String generation = stringRedisTemplate.opsForValue().get(FLUSH_GENERATION_KEY);
+        return generation == null ? 0L : Long.parseLong(generation);
+    }
+
+    @Override
+    public boolean load(Long ticketId, int dbRemainingQuantity, long flushGeneration) {
+        return executeLoad(ticketId, dbRemainingQuantity, false, flushGeneration);
+    }
+
+    @Override
+    public boolean reconcile(Long ticketId, int dbRemainingQuantity, long flushGeneration) {
+        return executeLoad(ticketId, dbRemainingQuantity, true, flushGeneration);
+    }
+
+    @Override
+    public void adjust(Long ticketId, int delta) {
+        stringRedisTemplate.execute(ADJUST_SCRIPT, List.of(stockKey(ticketId)), String.valueOf(delta));
+    }
+
+    @Override
+    public void evict(Long ticketId) {
+        stringRedisTemplate.delete(stockKey(ticketId));
+        stringRedisTemplate.opsForSet().remove(LOADED_TICKETS_KEY, ticketId.toString());
+    }
+
+    @Override
+    public Set<Long> findLoadedTicketIds() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(LOADED_TICKETS_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    @Override
+    public List<String> findExpiredHoldIds(long nowMillis, int limit) {
+        Set<String> holdIds = stringRedisTemplate.opsForZSet()
+                .rangeByScore(HOLD_EXPIRY_KEY, 0, nowMillis, 0, limit);
+        return holdIds == null ? List.of() : new ArrayList<>(holdIds);
+    }
+
+    @Override
+    public Long findHoldTicketId(String holdId) {
+        Object ticketId = stringRedisTemplate.opsForHash().get(holdKey(holdId), "ticketId");
+        return ticketId == null ? null : Long.valueOf(ticketId.toString());
+    }
+
+    @Override
+    public void removeExpiredHold(String holdId) {
+        stringRedisTemplate.opsForZSet().remove(HOLD_EXPIRY_KEY, holdId);
+    }
+
+    @Override
+    public SoldFlush beginFlush() {
+        String flushId = stringRedisTemplate.execute(BEGIN_FLUSH_SCRIPT,
+                List.of(SOLD_KEY, FLUSHING_KEY, FLUSH_ID_KEY), UUID.randomUUID().toString());
+        if (flushId == null) {
+            return null;
+        }
+
+        Map<Long, Integer> soldQuantities = new HashMap<>();
+        stringRedisTemplate.opsForHash().entries(FLUSHING_KEY).forEach((ticketId, quantity) -> {
+            int sold = Integer.parseInt(quantity.toString());
+            if (sold != 0) {
+                soldQuantities.put(Long.valueOf(ticketId.toString()), sold);
+            }
+        });
+        return new SoldFlush(flushId, soldQuantities);
+    }
+
+    @Override
+    public void completeFlush() {
+        stringRedisTemplate.execute(COMPLETE_FLUSH_SCRIPT, List.of(FLUSHING_KEY, FLUSH_ID_KEY, FLUSH_GENERATION_KEY));
+    }
+
+    private boolean executeLoad(Long ticketId, int dbRemainingQuantity, boolean overwrite, long flushGeneration) {
+        Long result = stringRedisTemplate.execute(LOAD_SCRIPT,
+                List.of(stockKey(ticketId), HELD_KEY, SOLD_KEY, FLUSHING_KEY, LOADED_TICKETS_KEY, FLUSH_GENERATION_KEY),
+                ticketId.toString(), String.valueOf(dbRemainingQuantity), overwrite ? "1" : "0",
+                String.valueOf(flushGeneration));
+        return result != null && result == 1L;
+    }
+
+    private String stockKey(Long ticketId) {
+        return String.format(STOCK_KEY_FORMAT, ticketId);
+    }
+
+    private String holdKey(String holdId) {
+        return String.format(HOLD_KEY_FORMAT, holdId);
+    }
+}
@@ -1,7 +1,9 @@
 package com.myce.member.repository;
 
 import com.myce.member.entity.Favorite;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,6 +15,11 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     @Query("SELECT f.expo.id FROM Favorite f WHERE f.member.id = :memberId")
     List<Long> findExpoIdsByMemberId(@Param("memberId") Long memberId);
 
+    // 목록 페이지에 포함된 박람회 중 북마크한 박람회 ID
+    @Query("SELECT f.expo.id FROM Favorite f WHERE f.member.id = :memberId AND f.expo.id IN :expoIds")
+    Set<Long> findExpoIdsByMemberIdAndExpoIdIn(@Param("memberId") Long memberId,
+                                               @Param("expoIds") Collection<Long> expoIds);
+
     boolean existsByMember_IdAndExpo_Id(Long memberId, Long expoId);
 
     void deleteByMember_IdAndExpo_Id(Long memberId, Long expoId);
@@ -0,0 +1,10 @@
+package com.myce.payment.dto;
+
+import com.myce.payment.entity.type.PaymentTargetType;
+import java.time.LocalDateTime;
+
+/**
+ * 결제 내역 keyset 커서 (마지막으로 읽은 행의 정렬 키)
+ */
+public record PaymentLedgerCursor(LocalDateTime createdAt, PaymentTargetType type, Long id) {
+}
@@ -0,0 +1,19 @@
+package com.myce.payment.dto;
+
+import com.myce.payment.entity.type.PaymentTargetType;
+import java.time.LocalDate;
+
+/**
+ * 플랫폼 결제 내역 검색 조건 (null 인 항목은 조건에서 제외)
+ * - keyword: 박람회/광고 제목 포함 검색
+ * - type: EXPO 또는 AD (대소문자 무시)
+ * - startDate ~ endDate: 결제 생성일 기준, 양 끝 포함
+ */
+public record PaymentLedgerFilter(String keyword, String type, LocalDate startDate, LocalDate endDate) {
+
+    public static final PaymentLedgerFilter NONE = new PaymentLedgerFilter(null, null, null, null);
+
+    public boolean includes(PaymentTargetType target) {
+        return type == null || type.isBlank() || target.name().equalsIgnoreCase(type.trim());
+    }
+}
@@ -0,0 +1,27 @@
+package com.myce.payment.dto;
+
+import com.myce.payment.entity.type.PaymentTargetType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 플랫폼 결제 내역 (박람회 등록 결제 + 광고 결제) 한 건
+ * - targetId: 박람회 결제는 expo_id, 광고 결제는 advertisement_id
+ * - commissionRate: 박람회 결제만 존재 (광고 결제는 null)
+ * - 정렬/커서 기준은 (createdAt, type, id)
+ */
+public record PaymentLedgerRow(
+        PaymentTargetType type,
+        Long id,
+        Long targetId,
+        String title,
+        LocalDate serviceStartAt,
+        LocalDate serviceEndAt,
+        LocalDateTime createdAt,
+        Integer deposit,
+        Integer totalAmount,
+        BigDecimal commissionRate,
+        String status
+) {
+}
@@ -0,0 +1,71 @@
+package com.myce.payment.entity;
+
+import com.myce.payment.entity.type.ExpoRefundItemStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 박람회 취소 환불 작업의 예약별 처리 항목
+ * - 작업 생성 시 확정 예약 기준으로 INSERT ... SELECT 로 한 번에 생성
+ * - idempotency_key 로 같은 박람회의 같은 예약이 두 번 등록되지 않도록 보장
+ * - refunded_at 은 결제 서비스 환불 성공 시각으로, 이후 재시도에서는 환불 호출을 건너뜀
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "expo_refund_item",
+        indexes = {
+                @Index(name = "idx_expo_refund_item_status_next", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_expo_refund_item_job_status", columnList = "expo_refund_job_id, status")
+        })
+public class ExpoRefundItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "expo_refund_item_id")
+    private Long id;
+
+    @Column(name = "expo_refund_job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    @Column(name = "idempotency_key", nullable = false, unique = true, length = 100)
+    private String idempotencyKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, columnDefinition = "VARCHAR(20)")
+    private ExpoRefundItemStatus status;
+
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount;
+
+    @Column(name = "next_attempt_at", nullable = false, columnDefinition = "TIMESTAMP")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "refunded_at", columnDefinition = "TIMESTAMP")
+    private LocalDateTime refundedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "processed_at", columnDefinition = "TIMESTAMP")
+    private LocalDateTime processedAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false, columnDefinition = "TIMESTAMP")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "TIMESTAMP")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,68 @@
+package com.myce.payment.entity;
+
+import com.myce.payment.entity.type.ExpoRefundJobStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * 박람회 취소에 따른 예약자 일괄 환불 작업
+ * - 박람회당 하나만 존재 (expo_id unique), 예약별 진행 상태는 ExpoRefundItem 에 저장
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "expo_refund_job")
+@EntityListeners(AuditingEntityListener.class)
+public class ExpoRefundJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "expo_refund_job_id")
+    private Long id;
+
+    @Column(name = "expo_id", nullable = false, unique = true)
+    private Long expoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, columnDefinition = "VARCHAR(30)")
+    private ExpoRefundJobStatus status;
+
+    @Column(name = "total_count", nullable = false)
+    private Integer totalCount;
+
+    @Column(name = "completed_at", columnDefinition = "TIMESTAMP")
+    private LocalDateTime completedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false, columnDefinition = "TIMESTAMP")
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false, columnDefinition = "TIMESTAMP")
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public ExpoRefundJob(Long expoId) {
+        this.expoId = expoId;
+        this.status = ExpoRefundJobStatus.RUNNING;
+        this.totalCount = 0;
+    }
+
+    public void updateTotalCount(int totalCount) {
+        this.totalCount = totalCount;
+    }
+}
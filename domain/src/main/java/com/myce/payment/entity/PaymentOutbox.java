@@ -0,0 +1,88 @@
+package com.myce.payment.entity;
+
+import com.myce.payment.entity.type.PaymentOutboxStatus;
+import com.myce.payment.entity.type.PaymentOutboxType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * 결제 완료 후속 작업 outbox
+ * - 결제/예약 확정과 같은 트랜잭션에서 저장되고, 커밋 이후 디스패처가 꺼내서 처리
+ * - idempotency_key 로 같은 예약의 같은 작업이 중복 등록되지 않도록 보장
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "payment_outbox",
+        indexes = @Index(name = "idx_payment_outbox_status_next", columnList = "status, next_attempt_at"))
+@EntityListeners(AuditingEntityListener.class)
+public class PaymentOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "payment_outbox_id")
+    private Long id;
+
+    @Column(name = "idempotency_key", nullable = false, unique = true, length = 100)
+    private String idempotencyKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, columnDefinition = "VARCHAR(30)")
+    private PaymentOutboxType type;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, columnDefinition = "VARCHAR(20)")
+    private PaymentOutboxStatus status;
+
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount;
+
+    @Column(name = "next_attempt_at", nullable = false, columnDefinition = "TIMESTAMP")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "processed_at", columnDefinition = "TIMESTAMP")
+    private LocalDateTime processedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false, columnDefinition = "TIMESTAMP")
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false, columnDefinition = "TIMESTAMP")
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public PaymentOutbox(String idempotencyKey, PaymentOutboxType type, Long reservationId, String payload) {
+        this.idempotencyKey = idempotencyKey;
+        this.type = type;
+        this.reservationId = reservationId;
+        this.payload = payload;
+        this.status = PaymentOutboxStatus.PENDING;
+        this.attemptCount = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,14 @@
+package com.myce.payment.entity.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExpoRefundJobStatus {
+    RUNNING("환불 진행 중"),
+    COMPLETED("환불 완료"),
+    COMPLETED_WITH_FAILURES("일부 환불 실패");
+
+    private final String label;
+}
@@ -0,0 +1,14 @@
+package com.myce.payment.entity.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PaymentOutboxStatus {
+    PENDING("처리 대기"),
+    DONE("처리 완료"),
+    FAILED("처리 실패");
+
+    private final String label;
+}
@@ -0,0 +1,15 @@
+package com.myce.payment.entity.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PaymentOutboxType {
+    QR_ISSUE("QR 발급"),
+    MILEAGE("마일리지/등급 처리"),
+    PAYMENT_ALERT("결제 완료 알림"),
+    CONFIRM_MAIL("예매 완료 메일");
+
+    private final String label;
+}
@@ -17,10 +17,14 @@ public interface AdPaymentInfoRepository extends JpaRepository<AdPaymentInfo, Lo
     Optional<AdPaymentInfo> findByAdvertisementId(Long advertisementId);
 
     @Query("SELECT SUM(a.totalAmount) FROM AdPaymentInfo a " +
-            "WHERE a.advertisement.status IN :statuses AND a.updatedAt BETWEEN :updatedAtAfter AND :updatedAtBefore")
-    Long sumTotalAmountByStatusAndUpdatedAtBetween(
+            "WHERE a.advertisement.status IN :statuses AND a.createdAt BETWEEN :createdAtAfter AND :createdAtBefore")
+    Long sumTotalAmountByStatusAndCreatedAtBetween(
             @Param("statuses") List<AdvertisementStatus> statuses,
-            @Param("updatedAtAfter") LocalDateTime updatedAtAfter,
-            @Param("updatedAtBefore") LocalDateTime updatedAtBefore
+            @Param("createdAtAfter") LocalDateTime createdAtAfter,
+            @Param("createdAtBefore") LocalDateTime createdAtBefore
     );
+
+    // 결제 정보나 광고 상태가 since 이후 바뀐 결제의 생성 시각 (재집계할 날짜 계산용)
+    @Query("SELECT a.createdAt FROM AdPaymentInfo a WHERE a.updatedAt >= :since OR a.advertisement.updatedAt >= :since")
+    List<LocalDateTime> findCreatedAtChangedSince(@Param("since") LocalDateTime since);
 }
\ No newline at end of file
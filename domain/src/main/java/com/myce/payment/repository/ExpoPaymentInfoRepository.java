@@ -17,10 +17,14 @@ public interface ExpoPaymentInfoRepository extends JpaRepository<ExpoPaymentInfo
     Optional<ExpoPaymentInfo> findByExpoId(Long expoId);
 
     @Query("SELECT SUM(a.totalAmount) FROM ExpoPaymentInfo a " +
-            "WHERE a.expo.status IN :statuses AND a.updatedAt BETWEEN :updatedAtAfter AND :updatedAtBefore")
-    Long sumTotalAmountByStatusesAndUpdatedAtBetween(
+            "WHERE a.expo.status IN :statuses AND a.createdAt BETWEEN :createdAtAfter AND :createdAtBefore")
+    Long sumTotalAmountByStatusesAndCreatedAtBetween(
             @Param("statuses") List<ExpoStatus> statuses,
-            @Param("updatedAtAfter") LocalDateTime updatedAtAfter,
-            @Param("updatedAtBefore") LocalDateTime updatedAtBefore
+            @Param("createdAtAfter") LocalDateTime createdAtAfter,
+            @Param("createdAtBefore") LocalDateTime createdAtBefore
     );
+
+    // 결제 정보나 박람회 상태가 since 이후 바뀐 결제의 생성 시각 (재집계할 날짜 계산용)
+    @Query("SELECT a.createdAt FROM ExpoPaymentInfo a WHERE a.updatedAt >= :since OR a.expo.updatedAt >= :since")
+    List<LocalDateTime> findCreatedAtChangedSince(@Param("since") LocalDateTime since);
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.myce.payment.repository;
+
+import com.myce.payment.entity.ExpoRefundItem;
+import com.myce.payment.entity.type.ExpoRefundItemStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ExpoRefundItemRepository extends JpaRepository<ExpoRefundItem, Long> {
+
+    // 박람회의 확정 예약을 환불 항목으로 일괄 생성 (이미 등록된 예약은 무시, 생성 건수 반환)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO expo_refund_item " +
+            "(expo_refund_job_id, reservation_id, idempotency_key, status, attempt_count, next_attempt_at, " +
+            "created_at, updated_at) " +
+            "SELECT :jobId, r.reservation_id, CONCAT('expo-cancel:', r.expo_id, ':reservation:', r.reservation_id), " +
+            "'PENDING', 0, :now, :now, :now " +
+            "FROM reservation r WHERE r.expo_id = :expoId AND r.status = 'CONFIRMED'",
+            nativeQuery = true)
+    int insertConfirmedReservations(@Param("jobId") Long jobId,
+                                    @Param("expoId") Long expoId,
+                                    @Param("now") LocalDateTime now);
+
+    // 처리 시각이 된 대기 항목 id (오래된 순)
+    @Query("SELECT i.id FROM ExpoRefundItem i " +
+           "WHERE i.status = 'PENDING' AND i.nextAttemptAt <= :now " +
+           "ORDER BY i.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 항목 선점: 다음 시도 시각을 lease 만료 시각으로 미뤄 다른 서버/스레드가 가져가지 못하게 함 (성공 시 1)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ExpoRefundItem i SET i.nextAttemptAt = :leaseUntil, i.attemptCount = i.attemptCount + 1, " +
+           "i.updatedAt = :now " +
+           "WHERE i.id = :id AND i.status = 'PENDING' AND i.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 처리 중인 항목의 lease 연장 (결제 서비스 응답이 늦어져도 다른 서버가 다시 선점하지 않도록)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ExpoRefundItem i SET i.nextAttemptAt = :leaseUntil, i.updatedAt = :now " +
+           "WHERE i.id = :id AND i.status = 'PENDING'")
+    int extendLease(@Param("id") Long id,
+                    @Param("now") LocalDateTime now,
+                    @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 결제 서비스 환불 성공 기록 (이후 재시도에서 환불 호출 생략)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ExpoRefundItem i SET i.refundedAt = :refundedAt, i.updatedAt = :refundedAt WHERE i.id = :id")
+    int markRefunded(@Param("id") Long id, @Param("refundedAt") LocalDateTime refundedAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ExpoRefundItem i SET i.status = 'DONE', i.processedAt = :processedAt, i.lastError = null, " +
+           "i.updatedAt = :processedAt WHERE i.id = :id")
+    int markDone(@Param("id") Long id, @Param("processedAt") LocalDateTime processedAt);
+
+    // 실패 시 다음 시도 시각 지정 (재시도 횟수 초과 시 FAILED)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ExpoRefundItem i SET i.status = :status, i.nextAttemptAt = :nextAttemptAt, " +
+           "i.lastError = :lastError, i.updatedAt = :now WHERE i.id = :id")
+    int markRetry(@Param("id") Long id,
+                  @Param("status") ExpoRefundItemStatus status,
+                  @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                  @Param("lastError") String lastError,
+                  @Param("now") LocalDateTime now);
+
+    // 실패 항목을 시도 횟수 초기화 후 다시 대기 상태로 변경
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ExpoRefundItem i SET i.status = 'PENDING', i.attemptCount = 0, i.nextAttemptAt = :now, " +
+           "i.updatedAt = :now WHERE i.jobId = :jobId AND i.status = 'FAILED'")
+    int resetFailed(@Param("jobId") Long jobId, @Param("now") LocalDateTime now);
+
+    // 작업별 상태 건수 [status, count]
+    @Query("SELECT i.status, COUNT(i) FROM ExpoRefundItem i WHERE i.jobId = :jobId GROUP BY i.status")
+    List<Object[]> countByJobIdGroupByStatus(@Param("jobId") Long jobId);
+
+    // 최근 실패 항목 (관리자 확인용)
+    List<ExpoRefundItem> findByJobIdAndStatusOrderByIdAsc(Long jobId, ExpoRefundItemStatus status, Pageable pageable);
+}
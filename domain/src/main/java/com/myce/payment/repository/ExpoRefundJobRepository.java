@@ -0,0 +1,34 @@
+package com.myce.payment.repository;
+
+import com.myce.payment.entity.ExpoRefundJob;
+import com.myce.payment.entity.type.ExpoRefundJobStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ExpoRefundJobRepository extends JpaRepository<ExpoRefundJob, Long> {
+
+    Optional<ExpoRefundJob> findByExpoId(Long expoId);
+
+    @Query("SELECT j.id FROM ExpoRefundJob j WHERE j.status = :status")
+    List<Long> findIdsByStatus(@Param("status") ExpoRefundJobStatus status);
+
+    // 진행 중인 작업만 종료 처리 (동시에 여러 서버가 종료 처리해도 한 번만 반영)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ExpoRefundJob j SET j.status = :status, j.completedAt = :completedAt " +
+           "WHERE j.id = :id AND j.status = 'RUNNING'")
+    int complete(@Param("id") Long id,
+                 @Param("status") ExpoRefundJobStatus status,
+                 @Param("completedAt") LocalDateTime completedAt);
+
+    // 실패 항목 재시도 시 작업을 다시 진행 중으로 변경
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ExpoRefundJob j SET j.status = 'RUNNING', j.completedAt = null WHERE j.id = :id")
+    int reopen(@Param("id") Long id);
+}
@@ -0,0 +1,22 @@
+package com.myce.payment.repository;
+
+import com.myce.payment.dto.PaymentLedgerCursor;
+import com.myce.payment.dto.PaymentLedgerFilter;
+import com.myce.payment.dto.PaymentLedgerRow;
+import java.util.List;
+
+/**
+ * 박람회 등록 결제와 광고 결제를 하나의 결제 내역으로 조회
+ * - 검색 조건/정렬/페이지 처리는 모두 DB 에서 수행 (전체 적재 후 메모리 정렬 금지)
+ */
+public interface PaymentLedgerRepository {
+
+    // 페이지 번호 기반 조회 (관리 화면 목록)
+    List<PaymentLedgerRow> findPage(PaymentLedgerFilter filter, boolean latestFirst, int offset, int limit);
+
+    // 커서(마지막으로 읽은 행) 이후 조회 (엑셀 등 전체 순회), after 가 null 이면 처음부터
+    List<PaymentLedgerRow> findAfter(PaymentLedgerFilter filter, boolean latestFirst,
+                                     PaymentLedgerCursor after, int limit);
+
+    long count(PaymentLedgerFilter filter);
+}
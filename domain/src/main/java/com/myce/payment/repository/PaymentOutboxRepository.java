@@ -0,0 +1,52 @@
+package com.myce.payment.repository;
+
+import com.myce.payment.entity.PaymentOutbox;
+import com.myce.payment.entity.type.PaymentOutboxStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PaymentOutboxRepository extends JpaRepository<PaymentOutbox, Long> {
+
+    boolean existsByIdempotencyKey(String idempotencyKey);
+
+    // 처리 시각이 된 대기 작업 id (오래된 순)
+    @Query("SELECT o.id FROM PaymentOutbox o " +
+           "WHERE o.status = :status AND o.nextAttemptAt <= :now " +
+           "ORDER BY o.id")
+    List<Long> findDueIds(@Param("status") PaymentOutboxStatus status,
+                          @Param("now") LocalDateTime now,
+                          Pageable pageable);
+
+    // 작업 선점: 다음 시도 시각을 lease 만료 시각으로 미뤄 다른 디스패처가 가져가지 못하게 함 (성공 시 1)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PaymentOutbox o SET o.nextAttemptAt = :leaseUntil, o.attemptCount = o.attemptCount + 1 " +
+           "WHERE o.id = :id AND o.status = 'PENDING' AND o.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 완료 표시: 선점 당시의 시도 횟수가 그대로일 때만 (lease 만료 후 다른 디스패처가 다시 선점했다면 0)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PaymentOutbox o SET o.status = 'DONE', o.processedAt = :processedAt, o.lastError = null " +
+           "WHERE o.id = :id AND o.status = 'PENDING' AND o.attemptCount = :attemptCount")
+    int markDone(@Param("id") Long id,
+                 @Param("attemptCount") int attemptCount,
+                 @Param("processedAt") LocalDateTime processedAt);
+
+    // 실패 시 다음 시도 시각 지정 (재시도 횟수 초과 시 FAILED), 완료 표시와 같은 선점 조건
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PaymentOutbox o SET o.status = :status, o.nextAttemptAt = :nextAttemptAt, o.lastError = :lastError " +
+           "WHERE o.id = :id AND o.status = 'PENDING' AND o.attemptCount = :attemptCount")
+    int markRetry(@Param("id") Long id,
+                  @Param("attemptCount") int attemptCount,
+                  @Param("status") PaymentOutboxStatus status,
+                  @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                  @Param("lastError") String lastError);
+}
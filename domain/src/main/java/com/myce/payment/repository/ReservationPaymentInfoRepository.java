@@ -1,16 +1,19 @@
 package com.myce.payment.repository;
 
 import com.myce.payment.entity.ReservationPaymentInfo;
+import com.myce.payment.entity.type.PaymentStatus;
 import com.myce.reservation.entity.Reservation;
 
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Optional;
 
@@ -20,6 +23,15 @@ public interface ReservationPaymentInfoRepository extends JpaRepository<Reservat
 
     List<ReservationPaymentInfo> findByReservationIdIn(Collection<Long> reservationIds);
 
+    // 예약 결제 정보 상태 일괄 변경 (from 상태인 것만)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReservationPaymentInfo rpi SET rpi.status = :to, rpi.updatedAt = :now " +
+            "WHERE rpi.reservation.id IN :reservationIds AND rpi.status = :from")
+    int updateStatusByReservationIdIn(@Param("reservationIds") Collection<Long> reservationIds,
+                                      @Param("from") PaymentStatus from,
+                                      @Param("to") PaymentStatus to,
+                                      @Param("now") LocalDateTime now);
+
     // === 대시보드 통계용 쿼리 메서드들 ===
 
     // 특정 박람회의 결제 대기 건수
@@ -0,0 +1,188 @@
+package com.myce.payment.repository.impl;
+
+import com.myce.payment.dto.PaymentLedgerCursor;
+import com.myce.payment.dto.PaymentLedgerFilter;
+import com.myce.payment.dto.PaymentLedgerRow;
+import com.myce.payment.entity.type.PaymentTargetType;
+import com.myce.payment.repository.PaymentLedgerRepository;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 결제 내역 UNION 조회 구현체
+ * - 박람회/광고 결제 각각에서 필터와 정렬을 적용하고 필요한 만큼만 LIMIT 한 뒤 합쳐서 다시 정렬
+ * - 커서 조회는 (created_at, type, id) 기준 keyset 으로, 깊은 페이지에서도 읽는 행 수가 일정
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentLedgerRepositoryImpl implements PaymentLedgerRepository {
+
+    private static final Branch EXPO_BRANCH = new Branch(PaymentTargetType.EXPO, """
+            SELECT 'EXPO' AS type, p.expo_payment_info_id AS id, t.expo_id AS target_id, t.title AS title,
+                   t.display_start_date AS service_start_at, t.display_end_date AS service_end_at,
+                   p.created_at AS created_at, p.deposit + p.premium_deposit AS deposit,
+                   p.total_amount AS total_amount, p.commission_rate AS commission_rate, p.status AS status
+            FROM expo_payment_info p
+            JOIN expo t ON t.expo_id = p.expo_id
+            """, """
+            SELECT COUNT(*)
+            FROM expo_payment_info p
+            JOIN expo t ON t.expo_id = p.expo_id
+            """, "p.expo_payment_info_id");
+
+    private static final Branch AD_BRANCH = new Branch(PaymentTargetType.AD, """
+            SELECT 'AD' AS type, p.ad_payment_info_id AS id, t.advertisement_id AS target_id, t.title AS title,
+                   t.display_start_date AS service_start_at, t.display_end_date AS service_end_at,
+                   p.created_at AS created_at, p.total_amount AS deposit,
+                   p.total_amount AS total_amount, NULL AS commission_rate, p.status AS status
+            FROM ad_payment_info p
+            JOIN advertisement t ON t.advertisement_id = p.advertisement_id
+            """, """
+            SELECT COUNT(*)
+            FROM ad_payment_info p
+            JOIN advertisement t ON t.advertisement_id = p.advertisement_id
+            """, "p.ad_payment_info_id");
+
+    private static final List<Branch> BRANCHES = List.of(EXPO_BRANCH, AD_BRANCH);
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public List<PaymentLedgerRow> findPage(PaymentLedgerFilter filter, boolean latestFirst, int offset, int limit) {
+        MapSqlParameterSource params = filterParams(filter)
+                .addValue("window", offset + limit)
+                .addValue("limit", limit)
+                .addValue("offset", offset);
+        return query(filter, latestFirst, null, params, "LIMIT :limit OFFSET :offset");
+    }
+
+    @Override
+    public List<PaymentLedgerRow> findAfter(PaymentLedgerFilter filter, boolean latestFirst,
+                                            PaymentLedgerCursor after, int limit) {
+        MapSqlParameterSource params = filterParams(filter)
+                .addValue("window", limit)
+                .addValue("limit", limit);
+        if (after != null) {
+            params.addValue("cursorCreatedAt", Timestamp.valueOf(after.createdAt()))
+                    .addValue("cursorId", after.id());
+        }
+        return query(filter, latestFirst, after, params, "LIMIT :limit");
+    }
+
+    @Override
+    public long count(PaymentLedgerFilter filter) {
+        List<String> counts = new ArrayList<>();
+        for (Branch branch : includedBranches(filter)) {
+            counts.add("(" + branch.countSql() + where(filter, branch, true, null) + ")");
+        }
+        if (counts.isEmpty()) {
+            return 0;
+        }
+        Long total = namedParameterJdbcTemplate.queryForObject(
+                "SELECT " + String.join(" + ", counts), filterParams(filter), Long.class);
+        return total == null ? 0 : total;
+    }
+
+    private List<PaymentLedgerRow> query(PaymentLedgerFilter filter, boolean latestFirst, PaymentLedgerCursor after,
+                                         MapSqlParameterSource params, String pageClause) {
+        String direction = latestFirst ? "DESC" : "ASC";
+        List<String> selects = new ArrayList<>();
+        for (Branch branch : includedBranches(filter)) {
+            // 각 결제 종류에서 최대 window 건만 읽도록 정렬 + LIMIT 후 합침
+            selects.add("(" + branch.selectSql() + where(filter, branch, latestFirst, after)
+                    + " ORDER BY p.created_at " + direction + ", " + branch.idColumn() + " " + direction
+                    + " LIMIT :window)");
+        }
+        if (selects.isEmpty()) {
+            return List.of();
+        }
+
+        String sql = String.join(" UNION ALL ", selects)
+                + " ORDER BY created_at " + direction + ", type " + direction + ", id " + direction
+                + " " + pageClause;
+        return namedParameterJdbcTemplate.query(sql, params, this::mapRow);
+    }
+
+    private String where(PaymentLedgerFilter filter, Branch branch, boolean latestFirst, PaymentLedgerCursor after) {
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        if (hasText(filter.keyword())) {
+            where.append(" AND t.title LIKE :keyword ESCAPE '!'");
+        }
+        if (filter.startDate() != null) {
+            where.append(" AND p.created_at >= :startAt");
+        }
+        if (filter.endDate() != null) {
+            where.append(" AND p.created_at < :endAt");
+        }
+        if (after != null) {
+            where.append(" AND ").append(cursorCondition(branch, latestFirst, after.type()));
+        }
+        return where.toString();
+    }
+
+    // (created_at, type, id) 커서 이후 조건 - 결제 종류가 분기마다 고정이므로 종류 비교는 미리 계산
+    private String cursorCondition(Branch branch, boolean latestFirst, PaymentTargetType cursorType) {
+        String before = latestFirst ? "<" : ">";
+        int typeOrder = branch.type().name().compareTo(cursorType.name());
+        boolean typeAfterCursor = latestFirst ? typeOrder < 0 : typeOrder > 0;
+
+        if (typeOrder == 0) {
+            return "(p.created_at " + before + " :cursorCreatedAt OR (p.created_at = :cursorCreatedAt AND "
+                    + branch.idColumn() + " " + before + " :cursorId))";
+        }
+        return "p.created_at " + before + (typeAfterCursor ? "= " : " ") + ":cursorCreatedAt";
+    }
+
+    private List<Branch> includedBranches(PaymentLedgerFilter filter) {
+        return BRANCHES.stream()
+                .filter(branch -> filter.includes(branch.type()))
+                .toList();
+    }
+
+    private MapSqlParameterSource filterParams(PaymentLedgerFilter filter) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        if (hasText(filter.keyword())) {
+            params.addValue("keyword", "%" + escapeLike(filter.keyword()) + "%");
+        }
+        if (filter.startDate() != null) {
+            params.addValue("startAt", Timestamp.valueOf(filter.startDate().atStartOfDay()));
+        }
+        if (filter.endDate() != null) {
+            params.addValue("endAt", Timestamp.valueOf(filter.endDate().plusDays(1).atStartOfDay()));
+        }
+        return params;
+    }
+
+    private PaymentLedgerRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new PaymentLedgerRow(
+                PaymentTargetType.valueOf(rs.getString("type")),
+                rs.getLong("id"),
+                rs.getLong("target_id"),
+                rs.getString("title"),
+                rs.getDate("service_start_at").toLocalDate(),
+                rs.getDate("service_end_at").toLocalDate(),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getInt("deposit"),
+                rs.getInt("total_amount"),
+                rs.getBigDecimal("commission_rate"),
+                rs.getString("status"));
+    }
+
+    private boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private record Branch(PaymentTargetType type, String selectSql, String countSql, String idColumn) {
+    }
+}
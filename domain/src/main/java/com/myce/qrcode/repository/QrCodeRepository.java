@@ -2,6 +2,7 @@ package com.myce.qrcode.repository;
 
 import com.myce.qrcode.entity.QrCode;
 import com.myce.qrcode.entity.code.QrCodeStatus;
+import com.myce.qrcode.repository.impl.QrCodeRepositoryCustom;
 import com.myce.reservation.entity.Reserver;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -11,14 +12,17 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface QrCodeRepository extends JpaRepository<QrCode, Long> {
+public interface QrCodeRepository extends JpaRepository<QrCode, Long>, QrCodeRepositoryCustom {
 
     Optional<QrCode> findByQrToken(String token);
 
+    boolean existsByQrToken(String token);
+
     Optional<QrCode> findByReserver(Reserver reserver);
 
     Optional<QrCode> findByReserverId(Long reserverId);
@@ -52,6 +56,24 @@ public interface QrCodeRepository extends JpaRepository<QrCode, Long> {
 
     List<QrCode> findByReserverIdIn(List<Long> reserverIds);
 
+    // 일괄 발급 시 이미 QR 이 발급된 예약자 ID 조회
+    @Query("SELECT qr.reserver.id FROM QrCode qr WHERE qr.reserver.id IN :reserverIds")
+    List<Long> findIssuedReserverIds(@Param("reserverIds") Collection<Long> reserverIds);
+
+    // 게이트 상태 적재용 - 박람회의 QR 별 예약자 ID, 토큰, QR 상태, 예약 상태
+    @Query("SELECT rv.id, qr.qrToken, qr.status, r.status FROM QrCode qr " +
+            "JOIN qr.reserver rv " +
+            "JOIN rv.reservation r " +
+            "WHERE r.expo.id = :expoId")
+    List<Object[]> findGateStatesByExpoId(@Param("expoId") Long expoId);
+
+    // 일괄 체크인용 - 기존(UUID) 토큰의 예약자 ID, 박람회 ID, 상태, 입장 가능 기간
+    @Query("SELECT qr.qrToken, rv.id, r.expo.id, qr.status, qr.activatedAt, qr.expiredAt FROM QrCode qr " +
+            "JOIN qr.reserver rv " +
+            "JOIN rv.reservation r " +
+            "WHERE qr.qrToken IN :tokens")
+    List<Object[]> findGateTargetsByQrTokens(@Param("tokens") Collection<String> tokens);
+
     // === 대시보드 통계용 쿼리 메서드들 ===
 
     // 특정 박람회의 QR 체크인 성공 건수
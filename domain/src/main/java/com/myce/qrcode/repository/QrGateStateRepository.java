@@ -0,0 +1,85 @@
+package com.myce.qrcode.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 입장 게이트 QR 상태 (Redis)
+ * - 박람회별 사용 처리된 예약자 집합, 재발급/취소로 무효화된 토큰 세대, 게이트 단말 동기화용 변경 로그
+ * - 서명 토큰 검증 시 DB 대신 조회하고, 사용 처리분은 대기 목록에 쌓았다가 배치로 DB 에 반영
+ */
+public interface QrGateStateRepository {
+
+    // 박람회 상태가 아직 적재되지 않음
+    long NOT_LOADED = -2L;
+
+    // 재발급/취소로 무효화된 토큰
+    long REVOKED = -1L;
+
+    // 이미 사용 처리된 예약자
+    long ALREADY_USED = 0L;
+
+    long OK = 1L;
+
+    // 사용 가능 여부만 확인
+    long check(Long expoId, Long reserverId, int generation);
+
+    // 사용 처리 (queueForFlush 가 true 면 DB 반영 대기 목록에도 추가)
+    long markUsed(Long expoId, Long reserverId, int generation, boolean checkRevoked,
+                  long usedAtMillis, boolean queueForFlush);
+
+    // 여러 건을 한 번에 사용 처리 (결과는 marks 순서대로, 대기 목록에는 넣지 않음)
+    List<Long> markUsedAll(Long expoId, List<GateMark> marks);
+
+    // minGeneration 미만 세대의 토큰 무효화 (적재되어 있을 때만)
+    void revoke(Long expoId, Long reserverId, int minGeneration);
+
+    boolean isLoaded(Long expoId);
+
+    // 여러 서버가 동시에 적재하지 않도록 선점 (적재가 끝나면 해제)
+    boolean tryLockLoad(Long expoId, long lockSeconds);
+
+    void unlockLoad(Long expoId);
+
+    // DB 기준으로 박람회 상태 적재 (변경 로그는 비우고 현재 버전부터 다시 시작)
+    void load(Long expoId, Collection<Long> usedReserverIds, Map<Long, Integer> revocations, long ttlSeconds);
+
+    // 현재 버전 (변경 로그 마지막 순번)
+    long findVersion(Long expoId);
+
+    // 마지막 적재 시점 버전 (이보다 이전 버전에서의 증분 동기화는 불가)
+    long findFloorVersion(Long expoId);
+
+    // sinceVersion 이후 변경분 (버전 순)
+    List<GateChange> findChangesSince(Long expoId, long sinceVersion);
+
+    Set<Long> findUsedReserverIds(Long expoId);
+
+    Map<Long, Integer> findRevocations(Long expoId);
+
+    // DB 반영 대기 중인 사용 처리분을 꺼냄
+    List<PendingUsage> popPendingUsages(int limit);
+
+    // DB 반영에 실패한 사용 처리분을 대기 목록에 되돌림
+    void pushPendingUsages(List<PendingUsage> usages);
+
+    // 대기 목록 전체 조회 (적재 시 아직 DB 에 반영되지 않은 사용분을 포함하기 위함)
+    List<PendingUsage> findPendingUsages();
+
+    // 처리 완료된 일괄 체크인 결과 (재전송 시 그대로 반환)
+    String findCheckinBatch(Long expoId, String batchId);
+
+    // 이미 저장된 결과가 있으면 false
+    boolean saveCheckinBatch(Long expoId, String batchId, String result, long ttlSeconds);
+
+    record GateMark(long reserverId, int generation, boolean checkRevoked) {
+    }
+
+    record GateChange(long version, boolean used, long reserverId, int minGeneration) {
+    }
+
+    record PendingUsage(long expoId, long reserverId, long usedAtMillis) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.myce.qrcode.repository;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 박람회 QR 일괄 발급 진행 상황 (Redis)
+ * - 마지막으로 처리한 예약자 ID 를 저장해 중단된 발급을 이어서 진행
+ * - QR 저장은 끝났지만 알림이 나가지 않은 예약 ID 보관
+ */
+public interface QrIssueCheckpointRepository {
+
+    // 마지막으로 처리한 예약자 ID (없으면 0)
+    long findLastReserverId(Long expoId);
+
+    // 청크 처리 완료 기록 (알림 대상 예약 ID 추가 후 커서 이동)
+    void saveProgress(Long expoId, long lastReserverId, Collection<Long> issuedReservationIds);
+
+    Set<Long> findPendingNotifications(Long expoId);
+
+    void removePendingNotification(Long expoId, Long reservationId);
+
+    // 발급이 중단된 박람회 ID
+    Set<Long> findInProgressExpoIds();
+
+    // 커서만 제거 (알림 대기 목록과 진행 중 표시는 유지해 다음 실행에서 재시도)
+    void clearCursor(Long expoId);
+
+    // 발급과 알림이 모두 끝난 경우 진행 상황 제거
+    void clear(Long expoId);
+}
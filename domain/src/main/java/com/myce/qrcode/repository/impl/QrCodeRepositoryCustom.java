@@ -0,0 +1,19 @@
+package com.myce.qrcode.repository.impl;
+
+import com.myce.qrcode.entity.QrCode;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface QrCodeRepositoryCustom {
+
+    // QR 코드 일괄 저장 (IDENTITY 전략이라 JPA 배치가 불가하여 JDBC 배치로 처리)
+    @Transactional
+    int bulkInsert(List<QrCode> qrCodes);
+
+    // 게이트에서 사용 처리된 QR 일괄 반영 (예약자 ID -> 사용 시각, 이미 사용/만료된 QR 은 제외)
+    // 청크마다 UPDATE 한 문장으로 처리하고 실제 변경된 행 수 반환
+    @Transactional
+    int bulkMarkUsed(Map<Long, LocalDateTime> usedAtByReserverId);
+}
@@ -0,0 +1,82 @@
+package com.myce.qrcode.repository.impl;
+
+import com.myce.qrcode.entity.QrCode;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class QrCodeRepositoryImpl implements QrCodeRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO qr_code (reserver_id, qr_token, qr_image_url, status, activated_at, expired_at, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // 한 문장으로 처리하는 사용 처리 건수 (파라미터 2개씩)
+    private static final int MARK_USED_CHUNK_SIZE = 500;
+
+    private static final String MARK_USED_SQL = """
+            UPDATE qr_code q
+            JOIN (%s) v ON q.reserver_id = v.reserver_id
+            SET q.status = 'USED', q.used_at = v.used_at
+            WHERE q.status IN ('ACTIVE', 'APPROVED')
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int bulkInsert(List<QrCode> qrCodes) {
+        if (qrCodes.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL, qrCodes, BATCH_SIZE, (ps, qrCode) -> {
+            ps.setLong(1, qrCode.getReserver().getId());
+            ps.setString(2, qrCode.getQrToken());
+            ps.setString(3, qrCode.getQrImageUrl());
+            ps.setString(4, qrCode.getStatus().name());
+            ps.setTimestamp(5, Timestamp.valueOf(qrCode.getActivatedAt()));
+            ps.setTimestamp(6, Timestamp.valueOf(qrCode.getExpiredAt()));
+            ps.setTimestamp(7, createdAt);
+        });
+
+        int inserted = 0;
+        for (int[] batch : results) {
+            inserted += batch.length;
+        }
+        return inserted;
+    }
+
+    @Override
+    public int bulkMarkUsed(Map<Long, LocalDateTime> usedAtByReserverId) {
+        if (usedAtByReserverId.isEmpty()) {
+            return 0;
+        }
+
+        // 예약자별 사용 시각을 파생 테이블로 묶어 청크당 UPDATE 한 번으로 반영
+        List<Map.Entry<Long, LocalDateTime>> entries = List.copyOf(usedAtByReserverId.entrySet());
+        int updated = 0;
+        for (int from = 0; from < entries.size(); from += MARK_USED_CHUNK_SIZE) {
+            List<Map.Entry<Long, LocalDateTime>> chunk =
+                    entries.subList(from, Math.min(from + MARK_USED_CHUNK_SIZE, entries.size()));
+
+            StringBuilder values = new StringBuilder("SELECT ? AS reserver_id, ? AS used_at");
+            values.append(" UNION ALL SELECT ?, ?".repeat(chunk.size() - 1));
+
+            Object[] params = new Object[chunk.size() * 2];
+            for (int i = 0; i < chunk.size(); i++) {
+                params[i * 2] = chunk.get(i).getKey();
+                params[i * 2 + 1] = Timestamp.valueOf(chunk.get(i).getValue());
+            }
+            updated += jdbcTemplate.update(MARK_USED_SQL.formatted(values), params);
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,332 @@
+package com.myce.qrcode.repository.impl;
+
+import com.myce.qrcode.repository.QrGateStateRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class QrGateStateRepositoryImpl implements QrGateStateRepository {
+
+    private static final String KEY_PREFIX = "qr:gate:";
+    private static final String LOADED_SUFFIX = ":loaded";
+    private static final String USED_SUFFIX = ":used";
+    private static final String REVOKED_SUFFIX = ":revoked";
+    private static final String LOG_SUFFIX = ":log";
+    private static final String SEQ_SUFFIX = ":seq";
+    private static final String FLOOR_SUFFIX = ":floor";
+    private static final String LOCK_SUFFIX = ":loading";
+    private static final String PENDING_KEY = "qr:gate:used:pending";
+    private static final String BATCH_PREFIX = "qr:gate:batch:";
+
+    // 박람회당 보관하는 변경 로그 최대 건수 (넘치면 오래된 것부터 제거, 그 이전 버전은 전체 동기화)
+    private static final int LOG_MAX_ENTRIES = 50_000;
+    private static final int LOAD_CHUNK_SIZE = 1_000;
+
+    // KEYS: loaded, used, revoked, log, seq, pending
+    // ARGV: reserverId, generation, checkRevoked, mark, queue, pendingValue, logMax
+    private static final DefaultRedisScript<Long> MARK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -2 end
+            if ARGV[3] == '1' then
+                local minGeneration = redis.call('HGET', KEYS[3], ARGV[1])
+                if minGeneration and tonumber(ARGV[2]) < tonumber(minGeneration) then return -1 end
+            end
+            if ARGV[4] == '0' then
+                if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then return 0 end
+                return 1
+            end
+            if redis.call('SADD', KEYS[2], ARGV[1]) == 0 then return 0 end
+            local seq = redis.call('INCR', KEYS[5])
+            redis.call('ZADD', KEYS[4], seq, 'U:' .. ARGV[1])
+            local size = redis.call('ZCARD', KEYS[4])
+            local logMax = tonumber(ARGV[7])
+            if size > logMax then redis.call('ZREMRANGEBYRANK', KEYS[4], 0, size - logMax - 1) end
+            local ttl = redis.call('TTL', KEYS[1])
+            if ttl > 0 then
+                redis.call('EXPIRE', KEYS[2], ttl)
+                redis.call('EXPIRE', KEYS[4], ttl)
+            end
+            if ARGV[5] == '1' then redis.call('RPUSH', KEYS[6], ARGV[6]) end
+            return 1
+            """, Long.class);
+
+    // KEYS: loaded, used, revoked, log, seq
+    // ARGV: logMax, (reserverId, generation, checkRevoked) 반복
+    private static final DefaultRedisScript<List> MARK_ALL_SCRIPT = new DefaultRedisScript<>("""
+            local results = {}
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                for i = 2, #ARGV, 3 do results[#results + 1] = -2 end
+                return results
+            end
+            local changed = false
+            for i = 2, #ARGV, 3 do
+                local result = 1
+                if ARGV[i + 2] == '1' then
+                    local minGeneration = redis.call('HGET', KEYS[3], ARGV[i])
+                    if minGeneration and tonumber(ARGV[i + 1]) < tonumber(minGeneration) then result = -1 end
+                end
+                if result == 1 then
+                    if redis.call('SADD', KEYS[2], ARGV[i]) == 0 then
+                        result = 0
+                    else
+                        local seq = redis.call('INCR', KEYS[5])
+                        redis.call('ZADD', KEYS[4], seq, 'U:' .. ARGV[i])
+                        changed = true
+                    end
+                end
+                results[#results + 1] = result
+            end
+            if changed then
+                local size = redis.call('ZCARD', KEYS[4])
+                local logMax = tonumber(ARGV[1])
+                if size > logMax then redis.call('ZREMRANGEBYRANK', KEYS[4], 0, size - logMax - 1) end
+                local ttl = redis.call('TTL', KEYS[1])
+                if ttl > 0 then
+                    redis.call('EXPIRE', KEYS[2], ttl)
+                    redis.call('EXPIRE', KEYS[4], ttl)
+                end
+            end
+            return results
+            """, List.class);
+
+    // KEYS: loaded, revoked, log, seq / ARGV: reserverId, minGeneration, logMax
+    private static final DefaultRedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            local current = redis.call('HGET', KEYS[2], ARGV[1])
+            if current and tonumber(current) >= tonumber(ARGV[2]) then return 1 end
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+            local seq = redis.call('INCR', KEYS[4])
+            redis.call('ZADD', KEYS[3], seq, 'R:' .. ARGV[1] .. ':' .. ARGV[2])
+            local size = redis.call('ZCARD', KEYS[3])
+            local logMax = tonumber(ARGV[3])
+            if size > logMax then redis.call('ZREMRANGEBYRANK', KEYS[3], 0, size - logMax - 1) end
+            local ttl = redis.call('TTL', KEYS[1])
+            if ttl > 0 then
+                redis.call('EXPIRE', KEYS[2], ttl)
+                redis.call('EXPIRE', KEYS[3], ttl)
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public long check(Long expoId, Long reserverId, int generation) {
+        return executeMark(expoId, reserverId, generation, true, false, 0L, false);
+    }
+
+    @Override
+    public long markUsed(Long expoId, Long reserverId, int generation, boolean checkRevoked,
+                         long usedAtMillis, boolean queueForFlush) {
+        return executeMark(expoId, reserverId, generation, checkRevoked, true, usedAtMillis, queueForFlush);
+    }
+
+    @Override
+    public List<Long> markUsedAll(Long expoId, List<GateMark> marks) {
+        if (marks.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> args = new ArrayList<>(marks.size() * 3 + 1);
+        args.add(String.valueOf(LOG_MAX_ENTRIES));
+        for (GateMark mark : marks) {
+            args.add(String.valueOf(mark.reserverId()));
+            args.add(String.valueOf(mark.generation()));
+            args.add(mark.checkRevoked() ? "1" : "0");
+        }
+
+        List<?> results = stringRedisTemplate.execute(MARK_ALL_SCRIPT,
+                List.of(key(expoId, LOADED_SUFFIX), key(expoId, USED_SUFFIX), key(expoId, REVOKED_SUFFIX),
+                        key(expoId, LOG_SUFFIX), key(expoId, SEQ_SUFFIX)),
+                args.toArray());
+        if (results == null) {
+            return marks.stream().map(mark -> NOT_LOADED).toList();
+        }
+        return results.stream().map(result -> ((Number) result).longValue()).toList();
+    }
+
+    @Override
+    public void revoke(Long expoId, Long reserverId, int minGeneration) {
+        stringRedisTemplate.execute(REVOKE_SCRIPT,
+                List.of(key(expoId, LOADED_SUFFIX), key(expoId, REVOKED_SUFFIX),
+                        key(expoId, LOG_SUFFIX), key(expoId, SEQ_SUFFIX)),
+                reserverId.toString(), String.valueOf(minGeneration), String.valueOf(LOG_MAX_ENTRIES));
+    }
+
+    @Override
+    public boolean isLoaded(Long expoId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(key(expoId, LOADED_SUFFIX)));
+    }
+
+    @Override
+    public boolean tryLockLoad(Long expoId, long lockSeconds) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                .setIfAbsent(key(expoId, LOCK_SUFFIX), "1", Duration.ofSeconds(lockSeconds)));
+    }
+
+    @Override
+    public void unlockLoad(Long expoId) {
+        stringRedisTemplate.delete(key(expoId, LOCK_SUFFIX));
+    }
+
+    @Override
+    public void load(Long expoId, Collection<Long> usedReserverIds, Map<Long, Integer> revocations,
+                     long ttlSeconds) {
+        String loadedKey = key(expoId, LOADED_SUFFIX);
+        String usedKey = key(expoId, USED_SUFFIX);
+        String revokedKey = key(expoId, REVOKED_SUFFIX);
+        String logKey = key(expoId, LOG_SUFFIX);
+        String seqKey = key(expoId, SEQ_SUFFIX);
+        String floorKey = key(expoId, FLOOR_SUFFIX);
+
+        // 적재 중에는 미적재로 보이도록 표시부터 제거
+        stringRedisTemplate.delete(loadedKey);
+        stringRedisTemplate.delete(List.of(usedKey, revokedKey, logKey));
+
+        List<String> reserverIds = usedReserverIds.stream().map(String::valueOf).toList();
+        for (int from = 0; from < reserverIds.size(); from += LOAD_CHUNK_SIZE) {
+            List<String> chunk = reserverIds.subList(from, Math.min(from + LOAD_CHUNK_SIZE, reserverIds.size()));
+            stringRedisTemplate.opsForSet().add(usedKey, chunk.toArray(String[]::new));
+        }
+        if (!revocations.isEmpty()) {
+            Map<String, String> entries = new HashMap<>();
+            revocations.forEach((reserverId, generation) ->
+                    entries.put(reserverId.toString(), generation.toString()));
+            stringRedisTemplate.opsForHash().putAll(revokedKey, entries);
+        }
+
+        // 버전은 단말이 가진 값과 이어지도록 유지하고, 적재 시점을 하한으로 기록
+        stringRedisTemplate.opsForValue().setIfAbsent(seqKey, "0");
+        String version = stringRedisTemplate.opsForValue().get(seqKey);
+        stringRedisTemplate.opsForValue().set(floorKey, version == null ? "0" : version);
+
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+        for (String key : List.of(usedKey, revokedKey, seqKey, floorKey)) {
+            stringRedisTemplate.expire(key, ttl);
+        }
+        stringRedisTemplate.opsForValue().set(loadedKey, "1", ttl);
+    }
+
+    @Override
+    public long findVersion(Long expoId) {
+        return parseLong(stringRedisTemplate.opsForValue().get(key(expoId, SEQ_SUFFIX)));
+    }
+
+    @Override
+    public long findFloorVersion(Long expoId) {
+        return parseLong(stringRedisTemplate.opsForValue().get(key(expoId, FLOOR_SUFFIX)));
+    }
+
+    @Override
+    public List<GateChange> findChangesSince(Long expoId, long sinceVersion) {
+        Set<ZSetOperations.TypedTuple<String>> entries = stringRedisTemplate.opsForZSet()
+                .rangeByScoreWithScores(key(expoId, LOG_SUFFIX), sinceVersion + 1, Double.POSITIVE_INFINITY);
+        if (entries == null) {
+            return List.of();
+        }
+
+        List<GateChange> changes = new ArrayList<>();
+        for (ZSetOperations.TypedTuple<String> entry : entries) {
+            String[] parts = entry.getValue().split(":");
+            long version = entry.getScore().longValue();
+            boolean used = "U".equals(parts[0]);
+            int minGeneration = used ? 0 : Integer.parseInt(parts[2]);
+            changes.add(new GateChange(version, used, Long.parseLong(parts[1]), minGeneration));
+        }
+        return changes;
+    }
+
+    @Override
+    public Set<Long> findUsedReserverIds(Long expoId) {
+        Set<String> members = stringRedisTemplate.opsForSet().members(key(expoId, USED_SUFFIX));
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    @Override
+    public Map<Long, Integer> findRevocations(Long expoId) {
+        Map<Long, Integer> revocations = new HashMap<>();
+        stringRedisTemplate.opsForHash().entries(key(expoId, REVOKED_SUFFIX)).forEach((reserverId, generation) ->
+                revocations.put(Long.valueOf(reserverId.toString()), Integer.valueOf(generation.toString())));
+        return revocations;
+    }
+
+    @Override
+    public List<PendingUsage> popPendingUsages(int limit) {
+        List<String> values = stringRedisTemplate.opsForList().leftPop(PENDING_KEY, limit);
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream().map(this::parsePendingUsage).toList();
+    }
+
+    @Override
+    public void pushPendingUsages(List<PendingUsage> usages) {
+        if (usages.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForList().rightPushAll(PENDING_KEY,
+                usages.stream().map(this::formatPendingUsage).toList());
+    }
+
+    @Override
+    public List<PendingUsage> findPendingUsages() {
+        List<String> values = stringRedisTemplate.opsForList().range(PENDING_KEY, 0, -1);
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream().map(this::parsePendingUsage).toList();
+    }
+
+    @Override
+    public String findCheckinBatch(Long expoId, String batchId) {
+        return stringRedisTemplate.opsForValue().get(BATCH_PREFIX + expoId + ":" + batchId);
+    }
+
+    @Override
+    public boolean saveCheckinBatch(Long expoId, String batchId, String result, long ttlSeconds) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                .setIfAbsent(BATCH_PREFIX + expoId + ":" + batchId, result, Duration.ofSeconds(ttlSeconds)));
+    }
+
+    private long executeMark(Long expoId, Long reserverId, int generation, boolean checkRevoked,
+                             boolean mark, long usedAtMillis, boolean queue) {
+        Long result = stringRedisTemplate.execute(MARK_SCRIPT,
+                List.of(key(expoId, LOADED_SUFFIX), key(expoId, USED_SUFFIX), key(expoId, REVOKED_SUFFIX),
+                        key(expoId, LOG_SUFFIX), key(expoId, SEQ_SUFFIX), PENDING_KEY),
+                reserverId.toString(), String.valueOf(generation), checkRevoked ? "1" : "0", mark ? "1" : "0",
+                queue ? "1" : "0", formatPendingUsage(new PendingUsage(expoId, reserverId, usedAtMillis)),
+                String.valueOf(LOG_MAX_ENTRIES));
+        return result == null ? NOT_LOADED : result;
+    }
+
+    private String formatPendingUsage(PendingUsage usage) {
+        return usage.expoId() + ":" + usage.reserverId() + ":" + usage.usedAtMillis();
+    }
+
+    private PendingUsage parsePendingUsage(String value) {
+        String[] parts = value.split(":");
+        return new PendingUsage(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+    }
+
+    private long parseLong(String value) {
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    private String key(Long expoId, String suffix) {
+        return KEY_PREFIX + expoId + suffix;
+    }
+}
@@ -0,0 +1,84 @@
+package com.myce.qrcode.repository.impl;
+
+import com.myce.qrcode.repository.QrIssueCheckpointRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class QrIssueCheckpointRepositoryImpl implements QrIssueCheckpointRepository {
+
+    private static final String IN_PROGRESS_KEY = "qr:issue:expos";
+    private static final String CURSOR_KEY_FORMAT = "qr:issue:cursor:%d";
+    private static final String NOTIFY_KEY_FORMAT = "qr:issue:notify:%d";
+    private static final long KEY_TTL_DAYS = 3;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public long findLastReserverId(Long expoId) {
+        String cursor = stringRedisTemplate.opsForValue().get(cursorKey(expoId));
+        return cursor == null ? 0L : Long.parseLong(cursor);
+    }
+
+    @Override
+    public void saveProgress(Long expoId, long lastReserverId, Collection<Long> issuedReservationIds) {
+        if (!issuedReservationIds.isEmpty()) {
+            String notifyKey = notifyKey(expoId);
+            stringRedisTemplate.opsForSet().add(notifyKey,
+                    issuedReservationIds.stream().map(String::valueOf).toArray(String[]::new));
+            stringRedisTemplate.expire(notifyKey, KEY_TTL_DAYS, TimeUnit.DAYS);
+        }
+        stringRedisTemplate.opsForValue()
+                .set(cursorKey(expoId), String.valueOf(lastReserverId), KEY_TTL_DAYS, TimeUnit.DAYS);
+        stringRedisTemplate.opsForSet().add(IN_PROGRESS_KEY, expoId.toString());
+    }
+
+    @Override
+    public Set<Long> findPendingNotifications(Long expoId) {
+        Set<String> members = stringRedisTemplate.opsForSet().members(notifyKey(expoId));
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    @Override
+    public void removePendingNotification(Long expoId, Long reservationId) {
+        stringRedisTemplate.opsForSet().remove(notifyKey(expoId), reservationId.toString());
+    }
+
+    @Override
+    public Set<Long> findInProgressExpoIds() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(IN_PROGRESS_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    @Override
+    public void clearCursor(Long expoId) {
+        stringRedisTemplate.delete(cursorKey(expoId));
+    }
+
+    @Override
+    public void clear(Long expoId) {
+        stringRedisTemplate.delete(List.of(cursorKey(expoId), notifyKey(expoId)));
+        stringRedisTemplate.opsForSet().remove(IN_PROGRESS_KEY, expoId.toString());
+    }
+
+    private String cursorKey(Long expoId) {
+        return String.format(CURSOR_KEY_FORMAT, expoId);
+    }
+
+    private String notifyKey(Long expoId) {
+        return String.format(NOTIFY_KEY_FORMAT, expoId);
+    }
+}
@@ -10,6 +10,7 @@ import java.time.LocalDateTime;
 @Getter
 @Builder
 public class ExcelReservationInfoData {
+    private Long reserverId;
     private String reservationCode;
     private String name;
     private Gender gender;
@@ -4,6 +4,7 @@ import com.myce.expo.entity.Expo;
 import com.myce.expo.entity.Ticket;
 import com.myce.reservation.entity.code.ReservationStatus;
 import com.myce.reservation.entity.code.UserType;
+import com.myce.reservation.entity.listener.ReservationStatusListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -15,7 +16,12 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Transient;
 
 import java.time.LocalDateTime;
 import lombok.Builder;
@@ -28,8 +34,13 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "reservation")
-@EntityListeners(AuditingEntityListener.class)
+@Table(
+        name = "reservation",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_reservation_code", columnNames = "reservation_code")
+        }
+)
+@EntityListeners({AuditingEntityListener.class, ReservationStatusListener.class})
 public class Reservation {
 
     @Id
@@ -70,6 +81,10 @@ public class Reservation {
     @Column(name = "updated_at", nullable = false, columnDefinition = "TIMESTAMP")
     private LocalDateTime updatedAt;
 
+    // 마지막으로 DB 와 동기화된 상태 (상태 변경 이벤트 판단용)
+    @Transient
+    private ReservationStatus loadedStatus;
+
     @Builder
     public Reservation(Expo expo, Ticket ticket, String reservationCode,
             UserType userType, Long userId, Integer quantity, ReservationStatus status) {
@@ -89,4 +104,11 @@ public class Reservation {
     public void updateGuestId(Long guestId) {
         this.userId = guestId;
     }
+
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void syncLoadedStatus() {
+        this.loadedStatus = this.status;
+    }
 }
@@ -0,0 +1,51 @@
+package com.myce.reservation.entity.listener;
+
+import com.myce.reservation.entity.Reservation;
+import com.myce.reservation.entity.code.ReservationStatus;
+import com.myce.reservation.event.ReservationStatusChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 상태가 바뀔 때 ReservationStatusChangedEvent 발행
+ * - 상태를 바꾸는 서비스가 여러 곳이라 더티 체킹 시점에 한 곳에서 감지
+ * - 엔티티 리스너가 엔티티 콜백보다 먼저 호출되므로 loadedStatus 는 변경 전 상태
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationStatusListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Reservation reservation) {
+        if (reservation.getLoadedStatus() == reservation.getStatus()) {
+            return;
+        }
+        publish(reservation, reservation.getLoadedStatus(), reservation.getStatus());
+    }
+
+    @PostRemove
+    public void onRemove(Reservation reservation) {
+        publish(reservation, reservation.getLoadedStatus(), null);
+    }
+
+    private void publish(Reservation reservation, ReservationStatus before, ReservationStatus after) {
+        LocalDate reservedDate = reservation.getCreatedAt() != null
+                ? reservation.getCreatedAt().toLocalDate()
+                : LocalDate.now();
+        eventPublisher.publishEvent(new ReservationStatusChangedEvent(
+                reservation.getId(),
+                reservation.getExpo().getId(),
+                before,
+                after,
+                reservation.getQuantity(),
+                reservedDate));
+    }
+}
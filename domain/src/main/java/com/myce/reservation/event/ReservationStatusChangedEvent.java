@@ -0,0 +1,16 @@
+package com.myce.reservation.event;
+
+import com.myce.reservation.entity.code.ReservationStatus;
+import java.time.LocalDate;
+
+/**
+ * 예약 생성/상태 변경/삭제 이벤트 (대시보드 실시간 집계용)
+ * - 생성 시 before 는 null, 삭제 시 after 는 null
+ */
+public record ReservationStatusChangedEvent(Long reservationId,
+                                            Long expoId,
+                                            ReservationStatus before,
+                                            ReservationStatus after,
+                                            int quantity,
+                                            LocalDate reservedDate) {
+}
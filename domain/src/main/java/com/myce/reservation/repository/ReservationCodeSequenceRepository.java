@@ -0,0 +1,7 @@
+package com.myce.reservation.repository;
+
+public interface ReservationCodeSequenceRepository {
+
+    // 해당 날짜의 예매 코드 시퀀스 블록 할당 (블록의 마지막 번호 반환)
+    long allocateBlock(String date, int blockSize);
+}
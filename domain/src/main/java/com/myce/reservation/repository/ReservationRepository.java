@@ -8,6 +8,7 @@ import com.myce.reservation.entity.code.UserType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,6 +16,7 @@ import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -214,6 +216,14 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
             "AND r.status = 'CONFIRMED'")
     BigDecimal sumTotalRevenueByExpoId(@Param("expoId") Long expoId);
 
+    // 결제 내역 페이지용 - 여러 박람회의 총 수익을 한 번에 집계 (expoId, 총 수익)
+    @Query("SELECT r.expo.id, COALESCE(SUM(r.quantity * t.price), 0) FROM Reservation r " +
+            "JOIN r.ticket t " +
+            "WHERE r.expo.id IN :expoIds " +
+            "AND r.status = 'CONFIRMED' " +
+            "GROUP BY r.expo.id")
+    List<Object[]> sumTotalRevenueByExpoIds(@Param("expoIds") Collection<Long> expoIds);
+
     List<Reservation> findByUserIdAndUserTypeAndStatus(Long userId, UserType userType, ReservationStatus status);
 
     @Query("SELECT COUNT(r) FROM Reservation r WHERE r.status = 'CONFIRMED' " +
@@ -235,6 +245,20 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     Optional<Reservation> findByReservationCodeAndEmail(@Param("reservationCode") String reservationCode, 
                                                         @Param("email") String email);
     
-    // 가상계좌 만료 처리용
-    List<Reservation> findByStatusAndCreatedAtBefore(ReservationStatus status, LocalDateTime createdAt);
+    // 가상계좌 만료 처리용: 입금 기한이 지난 결제 대기 예약 [reservation_id, ticket_id, quantity] (id 기준 keyset)
+    // 행 잠금 후 처리하며, 입금 확인 처리 중이라 잠긴 예약은 건너뛰고 다음 실행에서 다시 확인
+    @Query(value = "SELECT r.reservation_id, r.ticket_id, r.quantity FROM reservation r " +
+            "WHERE r.status = 'CONFIRMED_PENDING' AND r.created_at < :cutoff AND r.reservation_id > :lastId " +
+            "ORDER BY r.reservation_id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Object[]> findExpiredPendingForUpdate(@Param("cutoff") LocalDateTime cutoff,
+                                               @Param("lastId") Long lastId,
+                                               @Param("limit") int limit);
+
+    // 엔티티 조회 없이 상태 일괄 변경 (상태 변경 엔티티 리스너는 호출되지 않음)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.status = :status, r.updatedAt = :now WHERE r.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("status") ReservationStatus status,
+                           @Param("now") LocalDateTime now);
 }
@@ -6,18 +6,14 @@ import com.myce.reservation.dto.ExpoAdminReservationResponse;
 import com.myce.reservation.entity.Reservation;
 import com.myce.reservation.entity.Reserver;
 import com.myce.reservation.repository.impl.ReserverRepositoryCustom;
-import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Stream;
 
 @Repository
 public interface ReserverRepository extends JpaRepository<Reserver, Long>, ReserverRepositoryCustom {
@@ -31,6 +27,18 @@ public interface ReserverRepository extends JpaRepository<Reserver, Long>, Reser
             "AND res.status = 'CONFIRMED'")
     List<Reserver> findReserversByExpo(@Param("expoId") Long expoId);
 
+    // QR코드 일괄 생성용 - 예약자 ID 순으로 청크 단위 조회 (예약/티켓 함께 로딩)
+    @Query("SELECT r FROM Reserver r " +
+            "JOIN FETCH r.reservation res " +
+            "JOIN FETCH res.ticket " +
+            "WHERE res.expo.id = :expoId " +
+            "AND res.status = 'CONFIRMED' " +
+            "AND r.id > :lastReserverId " +
+            "ORDER BY r.id")
+    List<Reserver> findReserversByExpoAfter(@Param("expoId") Long expoId,
+                                            @Param("lastReserverId") Long lastReserverId,
+                                            Pageable pageable);
+
     @Query("""
                   SELECT NEW com.myce.reservation.dto.ExpoAdminReservationResponse(
                     rv.id,
@@ -161,10 +169,10 @@ public interface ReserverRepository extends JpaRepository<Reserver, Long>, Reser
             @Param("reserverIds") List<Long> reserverIds,
             @Param("expoId") Long expoId);
 
-    @Transactional(readOnly = true)
-    @QueryHints(value = @QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    // 엑셀 내보내기용 - 예약자 ID 기준 keyset 청크 조회 (청크마다 짧은 조회로 끝나도록)
     @Query("""
                   SELECT NEW com.myce.reservation.dto.ExcelReservationInfoData(
+                    rv.id,
                     r.reservationCode,
                     rv.name,
                     rv.gender,
@@ -188,11 +196,12 @@ public interface ReserverRepository extends JpaRepository<Reserver, Long>, Reser
                   LEFT JOIN com.myce.qrcode.entity.QrCode qc ON qc.reserver = rv
                   WHERE r.expo.id = :expoId
                     AND r.status = com.myce.reservation.entity.code.ReservationStatus.CONFIRMED
-                  ORDER BY
-                      rv.createdAt ASC,
-                      rv.id ASC
+                    AND rv.id > :lastReserverId
+                  ORDER BY rv.id ASC
             """)
-    Stream<ExcelReservationInfoData> streamAllForExcel(@Param("expoId") Long expoId);
+    List<ExcelReservationInfoData> findExcelRowsAfter(@Param("expoId") Long expoId,
+                                                      @Param("lastReserverId") Long lastReserverId,
+                                                      Pageable pageable);
 
     @Query("""
                 select new com.myce.reservation.dto.ExpoAdminPaymentDetailResponse(r.name, r.gender ,r.birth, r.phone, r.email, t.name)
@@ -276,4 +285,18 @@ public interface ReserverRepository extends JpaRepository<Reserver, Long>, Reser
     List<Object[]> countReserversByAgeGroup(@Param("expoId") Long expoId);
 
     List<Reserver> findByReservationId(Long reservationId);
+
+    // === 대시보드 실시간 집계 재계산용 (확정 예약 기준) ===
+
+    @Query("SELECT rv.gender, COUNT(rv) FROM Reserver rv " +
+            "JOIN rv.reservation r " +
+            "WHERE r.expo.id = :expoId AND r.status = 'CONFIRMED' " +
+            "GROUP BY rv.gender")
+    List<Object[]> countConfirmedReserversByGender(@Param("expoId") Long expoId);
+
+    @Query("SELECT YEAR(rv.birth), COUNT(rv) FROM Reserver rv " +
+            "JOIN rv.reservation r " +
+            "WHERE r.expo.id = :expoId AND r.status = 'CONFIRMED' " +
+            "GROUP BY YEAR(rv.birth)")
+    List<Object[]> countConfirmedReserversByBirthYear(@Param("expoId") Long expoId);
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.myce.reservation.repository;
+
+import java.util.Set;
+
+/**
+ * 박람회별 예매 대기열 (Redis Sorted Set)
+ * - 대기열 진입 순서대로 점수를 부여하고, 스케줄러가 일정 속도로 입장 처리
+ */
+public interface WaitingRoomRepository {
+
+    void open(Long expoId);
+
+    void close(Long expoId);
+
+    boolean isOpen(Long expoId);
+
+    Set<Long> findOpenExpoIds();
+
+    // 대기열 진입 (보유자에게 발급된 유효한 토큰이 있으면 그 토큰 반환, 순번은 1부터 시작하고 입장 상태면 0)
+    Entry enqueue(Long expoId, String token, String owner, long nowMillis);
+
+    // 대기 순번 조회 (대기열에 없으면 null)
+    Long findPosition(Long expoId, String token);
+
+    long countWaiting(Long expoId);
+
+    boolean isAdmitted(Long expoId, String token, long nowMillis);
+
+    // 대기열 앞에서부터 count 명 입장 처리 (입장 인원 반환)
+    int admit(Long expoId, int count, long admissionExpireAtMillis, long nowMillis);
+
+    // 입장 토큰 사용 처리 (성공 시 입장 만료 시각, 다른 보유자의 토큰이면 -1, 입장 전/만료/사용된 토큰이면 0)
+    long claimAdmission(Long expoId, String token, String owner, long nowMillis);
+
+    // 사용 처리한 입장 토큰 되돌리기 (사전 예약 실패 시)
+    void restoreAdmission(Long expoId, String token, long admissionExpireAtMillis);
+
+    // 보유자별 대기열 진입 횟수 증가 (windowSeconds 동안의 누적 횟수 반환)
+    long increaseEnterCount(Long expoId, String owner, long windowSeconds);
+
+    record Entry(String token, long position) {
+    }
+}
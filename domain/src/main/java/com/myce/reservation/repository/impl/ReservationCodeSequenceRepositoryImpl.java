@@ -0,0 +1,31 @@
+package com.myce.reservation.repository.impl;
+
+import com.myce.reservation.repository.ReservationCodeSequenceRepository;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ReservationCodeSequenceRepositoryImpl implements ReservationCodeSequenceRepository {
+
+    private static final String KEY_FORMAT = "reservation:code:seq:%s";
+    private static final long KEY_TTL_DAYS = 2;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public long allocateBlock(String date, int blockSize) {
+        String key = String.format(KEY_FORMAT, date);
+        Long blockEnd = stringRedisTemplate.opsForValue().increment(key, blockSize);
+        if (blockEnd == null) {
+            throw new IllegalStateException("Failed to allocate reservation code sequence block: " + key);
+        }
+        if (blockEnd == blockSize) {
+            // 해당 날짜 첫 할당 시에만 만료 시간 설정
+            stringRedisTemplate.expire(key, KEY_TTL_DAYS, TimeUnit.DAYS);
+        }
+        return blockEnd;
+    }
+}
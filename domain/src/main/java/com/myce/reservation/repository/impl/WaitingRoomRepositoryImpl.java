@@ -0,0 +1,179 @@
+package com.myce.reservation.repository.impl;
+
+import com.myce.reservation.repository.WaitingRoomRepository;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class WaitingRoomRepositoryImpl implements WaitingRoomRepository {
+
+    private static final String OPEN_EXPOS_KEY = "waiting:expos";
+    private static final String QUEUE_KEY_FORMAT = "waiting:queue:%d";
+    private static final String SEQUENCE_KEY_FORMAT = "waiting:seq:%d";
+    private static final String ADMITTED_KEY_FORMAT = "waiting:admitted:%d";
+    // 보유자 -> 토큰, 토큰 -> 보유자
+    private static final String OWNER_TOKEN_KEY_FORMAT = "waiting:owner:%d";
+    private static final String TOKEN_OWNER_KEY_FORMAT = "waiting:token:%d";
+    private static final String ENTER_RATE_KEY_FORMAT = "waiting:enter:rate:%d:%s";
+
+    // KEYS: queue, seq, admitted, ownerToken, tokenOwner / ARGV: 새 token, owner, now
+    // 보유자가 대기 중이거나 입장 유효한 토큰을 이미 가지고 있으면 그 토큰을 반환 (순번 0 이면 입장 상태)
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> ENQUEUE_SCRIPT = new DefaultRedisScript<>("""
+            local existing = redis.call('HGET', KEYS[4], ARGV[2])
+            if existing then
+                local rank = redis.call('ZRANK', KEYS[1], existing)
+                if rank then return {existing, rank + 1} end
+                local expireAt = redis.call('ZSCORE', KEYS[3], existing)
+                if expireAt and tonumber(expireAt) > tonumber(ARGV[3]) then return {existing, 0} end
+                redis.call('HDEL', KEYS[5], existing)
+            end
+            local seq = redis.call('INCR', KEYS[2])
+            redis.call('ZADD', KEYS[1], seq, ARGV[1])
+            redis.call('HSET', KEYS[4], ARGV[2], ARGV[1])
+            redis.call('HSET', KEYS[5], ARGV[1], ARGV[2])
+            return {ARGV[1], redis.call('ZRANK', KEYS[1], ARGV[1]) + 1}
+            """, List.class);
+
+    // KEYS: admitted, tokenOwner / ARGV: token, owner, now
+    // 보유자가 일치하고 입장 유효 시간 내인 토큰만 입장 목록에서 제거하고 만료 시각 반환
+    // -1: 다른 보유자의 토큰, 0: 입장 전이거나 만료/사용된 토큰
+    private static final DefaultRedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[2], ARGV[1]) ~= ARGV[2] then return -1 end
+            local expireAt = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if not expireAt or tonumber(expireAt) <= tonumber(ARGV[3]) then return 0 end
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            return tonumber(expireAt)
+            """, Long.class);
+
+    // KEYS: rate / ARGV: windowSeconds
+    private static final DefaultRedisScript<Long> ENTER_RATE_SCRIPT = new DefaultRedisScript<>("""
+            local count = redis.call('INCR', KEYS[1])
+            if count == 1 then redis.call('EXPIRE', KEYS[1], ARGV[1]) end
+            return count
+            """, Long.class);
+
+    // KEYS: queue, admitted / ARGV: count, admissionExpireAt, now
+    private static final DefaultRedisScript<Long> ADMIT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[3])
+            local popped = redis.call('ZPOPMIN', KEYS[1], ARGV[1])
+            local admitted = 0
+            for i = 1, #popped, 2 do
+                redis.call('ZADD', KEYS[2], ARGV[2], popped[i])
+                admitted = admitted + 1
+            end
+            return admitted
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void open(Long expoId) {
+        stringRedisTemplate.opsForSet().add(OPEN_EXPOS_KEY, expoId.toString());
+    }
+
+    @Override
+    public void close(Long expoId) {
+        stringRedisTemplate.opsForSet().remove(OPEN_EXPOS_KEY, expoId.toString());
+        stringRedisTemplate.delete(List.of(queueKey(expoId), sequenceKey(expoId), admittedKey(expoId),
+                ownerTokenKey(expoId), tokenOwnerKey(expoId)));
+    }
+
+    @Override
+    public boolean isOpen(Long expoId) {
+        Boolean member = stringRedisTemplate.opsForSet().isMember(OPEN_EXPOS_KEY, expoId.toString());
+        return Boolean.TRUE.equals(member);
+    }
+
+    @Override
+    public Set<Long> findOpenExpoIds() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(OPEN_EXPOS_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    @Override
+    public Entry enqueue(Long expoId, String token, String owner, long nowMillis) {
+        List<?> result = stringRedisTemplate.execute(ENQUEUE_SCRIPT,
+                List.of(queueKey(expoId), sequenceKey(expoId), admittedKey(expoId),
+                        ownerTokenKey(expoId), tokenOwnerKey(expoId)),
+                token, owner, String.valueOf(nowMillis));
+        if (result == null || result.size() < 2) {
+            throw new IllegalStateException("Failed to enter waiting room: " + expoId);
+        }
+        return new Entry(result.get(0).toString(), Long.parseLong(result.get(1).toString()));
+    }
+
+    @Override
+    public Long findPosition(Long expoId, String token) {
+        Long rank = stringRedisTemplate.opsForZSet().rank(queueKey(expoId), token);
+        return rank == null ? null : rank + 1;
+    }
+
+    @Override
+    public long countWaiting(Long expoId) {
+        Long size = stringRedisTemplate.opsForZSet().zCard(queueKey(expoId));
+        return size == null ? 0L : size;
+    }
+
+    @Override
+    public boolean isAdmitted(Long expoId, String token, long nowMillis) {
+        Double expireAt = stringRedisTemplate.opsForZSet().score(admittedKey(expoId), token);
+        return expireAt != null && expireAt > nowMillis;
+    }
+
+    @Override
+    public int admit(Long expoId, int count, long admissionExpireAtMillis, long nowMillis) {
+        Long admitted = stringRedisTemplate.execute(ADMIT_SCRIPT,
+                List.of(queueKey(expoId), admittedKey(expoId)),
+                String.valueOf(count), String.valueOf(admissionExpireAtMillis), String.valueOf(nowMillis));
+        return admitted == null ? 0 : admitted.intValue();
+    }
+
+    @Override
+    public long claimAdmission(Long expoId, String token, String owner, long nowMillis) {
+        Long result = stringRedisTemplate.execute(CLAIM_SCRIPT,
+                List.of(admittedKey(expoId), tokenOwnerKey(expoId)), token, owner, String.valueOf(nowMillis));
+        return result == null ? 0L : result;
+    }
+
+    @Override
+    public void restoreAdmission(Long expoId, String token, long admissionExpireAtMillis) {
+        stringRedisTemplate.opsForZSet().add(admittedKey(expoId), token, admissionExpireAtMillis);
+    }
+
+    @Override
+    public long increaseEnterCount(Long expoId, String owner, long windowSeconds) {
+        Long count = stringRedisTemplate.execute(ENTER_RATE_SCRIPT,
+                List.of(String.format(ENTER_RATE_KEY_FORMAT, expoId, owner)), String.valueOf(windowSeconds));
+        return count == null ? 0L : count;
+    }
+
+    private String queueKey(Long expoId) {
+        return String.format(QUEUE_KEY_FORMAT, expoId);
+    }
+
+    private String sequenceKey(Long expoId) {
+        return String.format(SEQUENCE_KEY_FORMAT, expoId);
+    }
+
+    private String admittedKey(Long expoId) {
+        return String.format(ADMITTED_KEY_FORMAT, expoId);
+    }
+
+    private String ownerTokenKey(Long expoId) {
+        return String.format(OWNER_TOKEN_KEY_FORMAT, expoId);
+    }
+
+    private String tokenOwnerKey(Long expoId) {
+        return String.format(TOKEN_OWNER_KEY_FORMAT, expoId);
+    }
+}
@@ -0,0 +1,49 @@
+package com.myce.settlement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 플랫폼 수익 일별 집계
+ * - 하루 단위로 박람회 수익(티켓 정산 + 등록금), 광고 수익, 환불, 정산 승인 건수를 미리 합산
+ * - 야간 배치가 지난 날짜를 확정 집계하고, 당일 행은 주기적으로 다시 집계하여 덮어씀
+ * - 저장은 RevenueDailyRollupRepository.upsert 로만 수행
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "revenue_daily_rollup")
+public class RevenueDailyRollup {
+
+    @Id
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "expo_revenue", nullable = false)
+    private Long expoRevenue;
+
+    @Column(name = "ad_revenue", nullable = false)
+    private Long adRevenue;
+
+    @Column(name = "expo_refund", nullable = false)
+    private Long expoRefund;
+
+    @Column(name = "ad_refund", nullable = false)
+    private Long adRefund;
+
+    @Column(name = "settlement_count", nullable = false)
+    private Long settlementCount;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "TIMESTAMP")
+    private LocalDateTime updatedAt;
+
+    public long getTotalBenefit() {
+        return expoRevenue + adRevenue - expoRefund - adRefund;
+    }
+}
@@ -0,0 +1,45 @@
+package com.myce.settlement.repository;
+
+import com.myce.settlement.entity.RevenueDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface RevenueDailyRollupRepository extends JpaRepository<RevenueDailyRollup, LocalDate> {
+
+    // 대시보드용 - 기간 내 일별 집계 (한 번의 범위 조회)
+    List<RevenueDailyRollup> findByStatDateBetween(LocalDate from, LocalDate to);
+
+    // 백필용 - 이미 집계된 날짜
+    @Query("SELECT r.statDate FROM RevenueDailyRollup r WHERE r.statDate BETWEEN :from AND :to")
+    List<LocalDate> findStatDatesBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 같은 날짜를 여러 서버가 동시에 집계해도 중복 없이 덮어쓰기
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO revenue_daily_rollup
+                (stat_date, expo_revenue, ad_revenue, expo_refund, ad_refund, settlement_count, updated_at)
+            VALUES (:statDate, :expoRevenue, :adRevenue, :expoRefund, :adRefund, :settlementCount, NOW())
+            ON DUPLICATE KEY UPDATE
+                expo_revenue = VALUES(expo_revenue),
+                ad_revenue = VALUES(ad_revenue),
+                expo_refund = VALUES(expo_refund),
+                ad_refund = VALUES(ad_refund),
+                settlement_count = VALUES(settlement_count),
+                updated_at = NOW()
+            """, nativeQuery = true)
+    int upsert(@Param("statDate") LocalDate statDate,
+               @Param("expoRevenue") long expoRevenue,
+               @Param("adRevenue") long adRevenue,
+               @Param("expoRefund") long expoRefund,
+               @Param("adRefund") long adRefund,
+               @Param("settlementCount") long settlementCount);
+}
@@ -22,13 +22,17 @@ public interface SettlementRepository extends JpaRepository<Settlement, Long> {
     // Refactored to use 'Between' query with a custom JPQL
     @Query("SELECT SUM(s.supplyAmount) " +
             "FROM Settlement s " +
-            "WHERE s.expo.status IN :status AND s.updatedAt BETWEEN :updatedAtAfter AND :updatedAtBefore")
-    Long sumRevenueByStatusAndUpdatedAtBetween(
+            "WHERE s.expo.status IN :status AND s.createdAt BETWEEN :createdAtAfter AND :createdAtBefore")
+    Long sumRevenueByStatusAndCreatedAtBetween(
             @Param("status") List<ExpoStatus> status,
-            @Param("updatedAtAfter") LocalDateTime updatedAtAfter,
-            @Param("updatedAtBefore") LocalDateTime updatedAtBefore
+            @Param("createdAtAfter") LocalDateTime createdAtAfter,
+            @Param("createdAtBefore") LocalDateTime createdAtBefore
     );
 
+    // 정산이나 박람회 상태가 since 이후 바뀐 정산의 생성 시각 (재집계할 날짜 계산용)
+    @Query("SELECT s.createdAt FROM Settlement s WHERE s.updatedAt >= :since OR s.expo.updatedAt >= :since")
+    List<LocalDateTime> findCreatedAtChangedSince(@Param("since") LocalDateTime since);
+
     Optional<Settlement> findByExpoId(Long expoId);
 
     boolean existsByExpoId(Long expoId);
@@ -0,0 +1,189 @@
+package com.myce.expo.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.myce.expo.repository.TicketStockRepository;
+import com.myce.expo.repository.TicketStockRepository.SoldFlush;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 티켓 재고 Lua 스크립트 동시성 검증 (실제 Redis 컨테이너 사용, Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TicketStockRepositoryImplTest {
+
+    private static final long TICKET_ID = 1L;
+    private static final int STOCK = 100;
+    private static final int THREADS = 32;
+    private static final int ATTEMPTS_PER_THREAD = 20;
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private TicketStockRepository ticketStockRepository;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        ticketStockRepository = new TicketStockRepositoryImpl(stringRedisTemplate);
+        ticketStockRepository.load(TICKET_ID, STOCK, ticketStockRepository.flushGeneration());
+    }
+
+    @Test
+    @DisplayName("동시에 선점해도 재고 이상으로 선점되지 않음")
+    void concurrentClaimsNeverOversell() throws Exception {
+        AtomicInteger claimed = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+
+        runConcurrently(() -> {
+            long result = ticketStockRepository.claim(TICKET_ID, UUID.randomUUID().toString(), 1, expireAt());
+            if (result >= 0) {
+                claimed.incrementAndGet();
+            } else if (result == TicketStockRepository.SOLD_OUT) {
+                soldOut.incrementAndGet();
+            }
+        });
+
+        assertThat(claimed.get()).isEqualTo(STOCK);
+        assertThat(soldOut.get()).isEqualTo(THREADS * ATTEMPTS_PER_THREAD - STOCK);
+        assertThat(stock()).isZero();
+    }
+
+    @Test
+    @DisplayName("선점/확정/해제가 섞여도 재고와 판매 수량 합은 보존")
+    void claimConfirmReleaseKeepsTotal() throws Exception {
+        AtomicInteger confirmed = new AtomicInteger();
+
+        runConcurrently(() -> {
+            String holdId = UUID.randomUUID().toString();
+            if (ticketStockRepository.claim(TICKET_ID, holdId, 1, expireAt()) < 0) {
+                return;
+            }
+            if (ThreadLocalRandom.current().nextBoolean()) {
+                ticketStockRepository.release(TICKET_ID, holdId);
+                // 같은 선점을 두 번 해제해도 재고가 늘지 않음
+                ticketStockRepository.release(TICKET_ID, holdId);
+            } else if (ticketStockRepository.confirm(TICKET_ID, holdId, 1) > 0) {
+                confirmed.incrementAndGet();
+            }
+        });
+
+        SoldFlush flush = ticketStockRepository.beginFlush();
+        int sold = flush == null ? 0 : flush.soldQuantities().getOrDefault(TICKET_ID, 0);
+
+        assertThat(sold).isEqualTo(confirmed.get());
+        assertThat(stock() + sold).isEqualTo(STOCK);
+    }
+
+    @Test
+    @DisplayName("정리되지 않은 flush 는 같은 id 로 다시 반환")
+    void unfinishedFlushKeepsId() {
+        String holdId = UUID.randomUUID().toString();
+        ticketStockRepository.claim(TICKET_ID, holdId, 3, expireAt());
+        ticketStockRepository.confirm(TICKET_ID, holdId, 3);
+
+        SoldFlush first = ticketStockRepository.beginFlush();
+        SoldFlush retried = ticketStockRepository.beginFlush();
+
+        assertThat(first.soldQuantities()).containsEntry(TICKET_ID, 3);
+        assertThat(retried.flushId()).isEqualTo(first.flushId());
+        assertThat(retried.soldQuantities()).isEqualTo(first.soldQuantities());
+
+        ticketStockRepository.completeFlush();
+        assertThat(ticketStockRepository.beginFlush()).isNull();
+    }
+
+    @Test
+    @DisplayName("DB 조회 이후 flush 가 끝났으면 재계산하지 않음")
+    void reconcileSkipsWhenFlushCompletedAfterDbRead() {
+        String holdId = UUID.randomUUID().toString();
+        ticketStockRepository.claim(TICKET_ID, holdId, 5, expireAt());
+        ticketStockRepository.confirm(TICKET_ID, holdId, 5);
+
+        // 재계산이 DB 수량(아직 판매분 미반영)을 읽은 뒤 flush 가 DB 반영과 정리를 마친 상황
+        long flushGeneration = ticketStockRepository.flushGeneration();
+        ticketStockRepository.beginFlush();
+        ticketStockRepository.completeFlush();
+
+        assertThat(ticketStockRepository.reconcile(TICKET_ID, STOCK, flushGeneration)).isFalse();
+        assertThat(stock()).isEqualTo(STOCK - 5);
+
+        assertThat(ticketStockRepository.reconcile(TICKET_ID, STOCK - 5,
+                ticketStockRepository.flushGeneration())).isTrue();
+        assertThat(stock()).isEqualTo(STOCK - 5);
+    }
+
+    private void runConcurrently(Runnable attempt) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < ATTEMPTS_PER_THREAD; j++) {
+                        attempt.run();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int stock() {
+        return Integer.parseInt(stringRedisTemplate.opsForValue().get("ticket:stock:" + TICKET_ID));
+    }
+
+    private long expireAt() {
+        return System.currentTimeMillis() + 60_000;
+    }
+}
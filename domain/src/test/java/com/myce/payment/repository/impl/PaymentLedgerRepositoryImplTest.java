@@ -0,0 +1,135 @@
+package com.myce.payment.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.myce.payment.dto.PaymentLedgerCursor;
+import com.myce.payment.dto.PaymentLedgerFilter;
+import com.myce.payment.dto.PaymentLedgerRow;
+import com.myce.payment.entity.type.PaymentTargetType;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * 결제 내역 keyset 커서 조건 검증
+ * - 정렬 키는 (created_at, type, id) 이고 type 은 문자열 순서 ('AD' < 'EXPO')
+ * - 커서와 같은 종류의 분기는 (created_at, id) 비교, 다른 종류의 분기는 created_at 만 비교
+ *   (created_at 이 같을 때 종류 순서상 커서 뒤에 오는 분기만 같은 시각을 포함)
+ */
+class PaymentLedgerRepositoryImplTest {
+
+    private static final LocalDateTime CURSOR_AT = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    private static final String EXPO_KEYSET = "(p.created_at %s :cursorCreatedAt OR (p.created_at = :cursorCreatedAt"
+            + " AND p.expo_payment_info_id %s :cursorId))";
+    private static final String AD_KEYSET = "(p.created_at %s :cursorCreatedAt OR (p.created_at = :cursorCreatedAt"
+            + " AND p.ad_payment_info_id %s :cursorId))";
+
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private PaymentLedgerRepositoryImpl paymentLedgerRepository;
+
+    @BeforeEach
+    void setUp() {
+        namedParameterJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        paymentLedgerRepository = new PaymentLedgerRepositoryImpl(namedParameterJdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("최신순, 커서가 EXPO - EXPO 는 (created_at, id) 비교, AD 는 같은 시각 포함")
+    void latestFirstAfterExpo() {
+        String sql = findAfter(true, PaymentTargetType.EXPO);
+
+        String[] branches = sql.split(" UNION ALL ");
+        assertThat(branches[0]).contains(EXPO_KEYSET.formatted("<", "<"));
+        assertThat(branches[1]).contains("p.created_at <= :cursorCreatedAt").doesNotContain(":cursorId");
+    }
+
+    @Test
+    @DisplayName("최신순, 커서가 AD - AD 는 (created_at, id) 비교, EXPO 는 같은 시각 제외")
+    void latestFirstAfterAd() {
+        String sql = findAfter(true, PaymentTargetType.AD);
+
+        String[] branches = sql.split(" UNION ALL ");
+        assertThat(branches[0]).contains("p.created_at < :cursorCreatedAt").doesNotContain(":cursorId");
+        assertThat(branches[1]).contains(AD_KEYSET.formatted("<", "<"));
+    }
+
+    @Test
+    @DisplayName("오래된순, 커서가 AD - EXPO 는 같은 시각 포함")
+    void oldestFirstAfterAd() {
+        String sql = findAfter(false, PaymentTargetType.AD);
+
+        String[] branches = sql.split(" UNION ALL ");
+        assertThat(branches[0]).contains("p.created_at >= :cursorCreatedAt").doesNotContain(":cursorId");
+        assertThat(branches[1]).contains(AD_KEYSET.formatted(">", ">"));
+    }
+
+    @Test
+    @DisplayName("오래된순, 커서가 EXPO - AD 는 같은 시각 제외")
+    void oldestFirstAfterExpo() {
+        String sql = findAfter(false, PaymentTargetType.EXPO);
+
+        String[] branches = sql.split(" UNION ALL ");
+        assertThat(branches[0]).contains(EXPO_KEYSET.formatted(">", ">"));
+        assertThat(branches[1]).contains("p.created_at > :cursorCreatedAt").doesNotContain(":cursorId");
+    }
+
+    @Test
+    @DisplayName("커서 값은 파라미터로 바인딩")
+    void bindsCursorParameters() {
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+
+        paymentLedgerRepository.findAfter(PaymentLedgerFilter.NONE, true,
+                new PaymentLedgerCursor(CURSOR_AT, PaymentTargetType.EXPO, 42L), 20);
+
+        verify(namedParameterJdbcTemplate).query(any(String.class), params.capture(), any(RowMapper.class));
+        assertThat(params.getValue().getValue("cursorCreatedAt")).isEqualTo(Timestamp.valueOf(CURSOR_AT));
+        assertThat(params.getValue().getValue("cursorId")).isEqualTo(42L);
+        assertThat(params.getValue().getValue("window")).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("첫 페이지(커서 없음)는 커서 조건 없음")
+    void firstPageHasNoCursorCondition() {
+        paymentLedgerRepository.findAfter(PaymentLedgerFilter.NONE, true, null, 20);
+
+        assertThat(capturedSql()).doesNotContain(":cursorCreatedAt").doesNotContain(":cursorId");
+    }
+
+    @Test
+    @DisplayName("종류 필터가 있으면 해당 분기만 조회")
+    void typeFilterKeepsSingleBranch() {
+        paymentLedgerRepository.findAfter(new PaymentLedgerFilter(null, "ad", null, null), true,
+                new PaymentLedgerCursor(CURSOR_AT, PaymentTargetType.AD, 7L), 20);
+
+        String sql = capturedSql();
+        assertThat(sql).doesNotContain(" UNION ALL ").doesNotContain("expo_payment_info");
+        assertThat(sql).contains(AD_KEYSET.formatted("<", "<"));
+    }
+
+    private String findAfter(boolean latestFirst, PaymentTargetType cursorType) {
+        paymentLedgerRepository.findAfter(PaymentLedgerFilter.NONE, latestFirst,
+                new PaymentLedgerCursor(CURSOR_AT, cursorType, 42L), 20);
+        String sql = capturedSql();
+        // 분기 순서는 EXPO, AD
+        assertThat(sql.split(" UNION ALL ")).hasSize(2);
+        return sql;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String capturedSql() {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(namedParameterJdbcTemplate).query(sql.capture(), any(MapSqlParameterSource.class),
+                (RowMapper<PaymentLedgerRow>) any(RowMapper.class));
+        return sql.getValue();
+    }
+}